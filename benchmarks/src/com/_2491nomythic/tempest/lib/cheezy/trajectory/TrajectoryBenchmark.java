@@ -0,0 +1,125 @@
+package com._2491nomythic.tempest.lib.cheezy.trajectory;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for path generation and following. Run with
+ * "ant -f benchmark.xml" from the project root.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrajectoryBenchmark {
+
+  @Param({"2", "4", "8"})
+  public int waypoints;
+
+  @Param({"0.01", "0.02", "0.1"})
+  public double dt;
+
+  private WaypointSequence sequence_;
+  private TrajectoryGenerator.Config config_;
+  private Spline spline_;
+  private double spline_length_;
+  private double distance_;
+  private Trajectory center_;
+  private TrajectoryFollower follower_;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    // Spline.reticulateSplines prints on every call; keep it out of the
+    // results.
+    System.setOut(new PrintStream(new OutputStream() {
+      public void write(int b) {
+      }
+    }));
+
+    // A zig-zag that stays within what a quintic spline can fit.
+    sequence_ = new WaypointSequence(waypoints);
+    for (int i = 0; i < waypoints; ++i) {
+      sequence_.addWaypoint(new WaypointSequence.Waypoint(5.0 * i,
+              (i % 2) * 2.0, 0));
+    }
+
+    config_ = new TrajectoryGenerator.Config();
+    config_.dt = dt;
+    config_.max_vel = 12;
+    config_.max_acc = 10;
+    config_.max_jerk = 60;
+
+    spline_ = new Spline();
+    Spline.reticulateSplines(sequence_.getWaypoint(0),
+            sequence_.getWaypoint(1), spline_, Spline.QuinticHermite);
+    spline_length_ = spline_.calculateLength();
+
+    center_ = PathGenerator.generateFromPath(sequence_, config_);
+
+    follower_ = new TrajectoryFollower();
+    follower_.configure(1.0, 0, 0.1, 1.0 / config_.max_vel, 0.02);
+    follower_.setTrajectory(center_);
+    follower_.reset();
+  }
+
+  @Benchmark
+  public boolean reticulateSplines() {
+    return Spline.reticulateSplines(sequence_.getWaypoint(0),
+            sequence_.getWaypoint(1), spline_, Spline.QuinticHermite);
+  }
+
+  @Benchmark
+  public double calculateLength() {
+    spline_.arc_length_ = -1;
+    return spline_.calculateLength();
+  }
+
+  @Benchmark
+  public double getPercentageForDistance() {
+    distance_ += spline_length_ / 997;
+    if (distance_ > spline_length_) {
+      distance_ -= spline_length_;
+    }
+    return spline_.getPercentageForDistance(distance_);
+  }
+
+  @Benchmark
+  public double getPercentageForDistanceCold() {
+    spline_.length_table_ = null;
+    return spline_.getPercentageForDistance(spline_length_ / 3);
+  }
+
+  @Benchmark
+  public Trajectory generateFromPath() {
+    return PathGenerator.generateFromPath(sequence_, config_);
+  }
+
+  @Benchmark
+  public Trajectory.Pair makeLeftAndRightTrajectories() {
+    return PathGenerator.makeLeftAndRightTrajectories(center_, 2.0);
+  }
+
+  @Benchmark
+  public double followerCalculate() {
+    if (follower_.isFinishedTrajectory()) {
+      follower_.reset();
+    }
+    return follower_.calculate(distance_);
+  }
+}
@@ -0,0 +1,118 @@
+package com._2491nomythic.tempest.lib.cheezytrajectory.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com._2491nomythic.tempest.lib.cheezy.trajectory.Path;
+import com._2491nomythic.tempest.lib.cheezy.trajectory.Trajectory;
+
+/**
+ * JMH benchmarks for writing and reading the text path format. Run with
+ * "ant -f benchmark.xml -Dbenchmark.args='-prof gc TextFileBenchmark'" from
+ * the project root.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextFileBenchmark {
+
+  @Param({"1000", "10000"})
+  public int segments;
+
+  private Path path_;
+  private String serialized_;
+  private TextFileSerializer serializer_;
+  private TextFileDeserializer deserializer_;
+
+  // Counts what is written without keeping it, so writing doesn't pay for
+  // growing a buffer.
+  private static class CountingWriter extends Writer {
+    long count;
+
+    public void write(int c) {
+      ++count;
+    }
+
+    public void write(char[] buffer, int offset, int length) {
+      count += length;
+    }
+
+    public void write(String str, int offset, int length) {
+      count += length;
+    }
+
+    public void flush() {
+    }
+
+    public void close() {
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    // TextFileDeserializer prints on every call; keep it out of the results.
+    System.setOut(new PrintStream(new OutputStream() {
+      public void write(int b) {
+      }
+    }));
+
+    Random random = new Random(2491);
+    Trajectory left = new Trajectory(segments);
+    Trajectory right = new Trajectory(segments);
+    for (Trajectory trajectory : new Trajectory[] {left, right}) {
+      for (int i = 0; i < segments; ++i) {
+        Trajectory.Segment segment = trajectory.getSegment(i);
+        segment.pos = i * .1 + random.nextDouble();
+        segment.vel = random.nextDouble() * 12;
+        segment.acc = random.nextGaussian() * 10;
+        segment.jerk = random.nextGaussian() * 50;
+        segment.heading = random.nextDouble() * 2 * Math.PI;
+        segment.dt = .01;
+        segment.x = random.nextDouble() * 27;
+        segment.y = random.nextDouble() * 54;
+      }
+    }
+    path_ = new Path("Benchmark", new Trajectory.Pair(left, right));
+    serializer_ = new TextFileSerializer();
+    deserializer_ = new TextFileDeserializer();
+    serialized_ = serializer_.serialize(path_);
+  }
+
+  @Benchmark
+  public long serialize() throws IOException {
+    CountingWriter writer = new CountingWriter();
+    serializer_.serialize(path_, writer);
+    return writer.count;
+  }
+
+  @Benchmark
+  public String serializeToString() {
+    return serializer_.serialize(path_);
+  }
+
+  @Benchmark
+  public Path deserialize() throws IOException {
+    return deserializer_.deserialize(new StringReader(serialized_));
+  }
+}
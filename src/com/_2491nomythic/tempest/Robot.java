@@ -19,6 +19,7 @@ import com._2491nomythic.tempest.commands.autonomous.AutomaticAuto.EndPosition;
 import com._2491nomythic.tempest.commands.autonomous.AutomaticAuto.Priority;
 import com._2491nomythic.tempest.commands.autonomous.AutomaticAuto.StartPosition;
 import com._2491nomythic.tempest.commands.autonomous.AutomaticTwoCube;
+import com._2491nomythic.tempest.commands.autonomous.AutonomousTable;
 import com._2491nomythic.tempest.commands.autonomous.AutomaticTwoCube.SecondCube;
 import com._2491nomythic.tempest.commands.drivetrain.DrivePath;
 /*import com._2491nomythic.tempest.commands.autonomous.PlaceOnSwitchLeft;
@@ -33,6 +34,8 @@ import com._2491nomythic.tempest.commands.lights.SerialConnectivityTest;
 import com._2491nomythic.tempest.commands.lights.UpdateLightsPattern;
 import com._2491nomythic.tempest.settings.Constants;
 import com._2491nomythic.tempest.settings.Variables;
+import com._2491nomythic.tempest.subsystems.Pathing;
+import edu.wpi.first.wpilibj.DriverStation;
 import edu.wpi.first.wpilibj.TimedRobot;
 import edu.wpi.first.wpilibj.command.Command;
 import edu.wpi.first.wpilibj.command.Scheduler;
@@ -55,6 +58,8 @@ public class Robot extends TimedRobot {
 	SetCameraMode setCamera;
 	SendAllianceColor sendColor;
 	UpdateDriverstation updateDriverstation;
+	AutonomousTable autonomousTable;
+	String gameData;
 	
 	SendableChooser<StartPosition> m_PositionSelector = new SendableChooser<>();
 	SendableChooser<Priority> m_PrioritySelector = new SendableChooser<>();
@@ -111,6 +116,8 @@ public class Robot extends TimedRobot {
 		SmartDashboard.putData("Crossing", m_CrossingSelector);
 		SmartDashboard.putData("SecondLocation", m_SecondCubeSelector);
 		
+		autonomousTable = new AutonomousTable(StartPosition.LEFT, StartPosition.CENTER, StartPosition.RIGHT, StartPosition.CROSS_LINE);
+		
 		SmartDashboard.putData("DriveStraightToPositionPID", new DriveStraightToPositionPID(5));
 		SmartDashboard.putData("RotateDrivetrainRelative180", new RotateDrivetrainWithGyroPID(180, false));
 		SmartDashboard.putData("RotateDrivetrainRelative-180", new RotateDrivetrainWithGyroPID(-180, false));
@@ -146,6 +153,7 @@ public class Robot extends TimedRobot {
 		isTeleop = false;
 		updateLights.cancel();
 		staticPurple.start();
+		Pathing.preloadPaths();
 	}
 
 	@Override
@@ -153,6 +161,13 @@ public class Robot extends TimedRobot {
 		Scheduler.getInstance().run();
 		
 		setCamera.start();
+		
+		/* Builds the autonomous commands one per loop and keeps the one the choosers and game data pick ready */
+		autonomousTable.buildNext();
+		gameData = DriverStation.getInstance().getGameSpecificMessage();
+		m_autonomousCommand = autonomousTable.get(m_PositionSelector.getSelected(), m_PrioritySelector.getSelected(), m_CrossingSelector.getSelected(), gameData);
+		SmartDashboard.putBoolean("AutoTableBuilt", autonomousTable.isComplete());
+		SmartDashboard.putBoolean("AutoReady", m_autonomousCommand != null);
 	}
 
 	/**
@@ -171,7 +186,13 @@ public class Robot extends TimedRobot {
 		Variables.autoDelay = SmartDashboard.getNumber("AutoDelay", 0);
 		sendColor.start();
 		
-		m_autonomousCommand = new AutomaticAuto(m_PositionSelector.getSelected(), m_PrioritySelector.getSelected(), m_CrossingSelector.getSelected());
+		gameData = DriverStation.getInstance().getGameSpecificMessage();
+		m_autonomousCommand = autonomousTable.get(m_PositionSelector.getSelected(), m_PrioritySelector.getSelected(), m_CrossingSelector.getSelected(), gameData);
+		
+		if (m_autonomousCommand == null) {
+			/* The game data or choices weren't in the table, so pick and build it now */
+			m_autonomousCommand = new AutomaticAuto(m_PositionSelector.getSelected(), m_PrioritySelector.getSelected(), m_CrossingSelector.getSelected());
+		}
 		//m_autonomousCommand = new VelocityTestAuto();
 		//m_autonomousCommand = new AutomaticTwoCube(m_PositionSelector.getSelected(), m_PrioritySelector.getSelected(), m_CrossingSelector.getSelected(), m_SecondCubeSelector.getSelected());
 		//updateLights.start();
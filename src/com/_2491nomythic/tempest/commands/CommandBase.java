@@ -1,7 +1,9 @@
 package com._2491nomythic.tempest.commands;
 
 import com._2491nomythic.tempest.OI;
+import com._2491nomythic.tempest.settings.Constants;
 import com._2491nomythic.tempest.subsystems.*;
+import com._2491nomythic.util.PathReplanner;
 
 import edu.wpi.first.wpilibj.command.Command;
 import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
@@ -18,6 +20,7 @@ public abstract class CommandBase extends Command {
 	protected static SickLights sickLights;
 	protected static Pathing pathing;
 	protected static Climber climber;
+	protected static PathReplanner replanner;
 	
 	public static void init() {
 		oi = new OI();
@@ -30,6 +33,9 @@ public abstract class CommandBase extends Command {
 		pathing = Pathing.getInstance();
 		climber = Climber.getInstance();
 		
+		replanner = new PathReplanner(Constants.kPathTimeStep, Constants.kPathTrackWidth, Constants.kReplanMaxVelocity);
+		replanner.setBudgetMs(Constants.kReplanBudgetMs);
+		
 		oi.init();
 		// This MUST be here. If the OI creates Commands (which it very likely
 		// will), constructing it during the construction of CommandBase (from
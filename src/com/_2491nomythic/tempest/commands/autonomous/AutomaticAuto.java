@@ -7,7 +7,6 @@ import com._2491nomythic.tempest.commands.drivetrain.DriveTime;
 import com._2491nomythic.tempest.commands.shooter.RunShooterCustom;
 import com._2491nomythic.tempest.commands.shooter.SetShooterSpeed;
 import com._2491nomythic.tempest.settings.Constants;
-import com._2491nomythic.tempest.subsystems.Pathing;
 
 import edu.wpi.first.wpilibj.DriverStation;
 import edu.wpi.first.wpilibj.Timer;
@@ -17,13 +16,14 @@ import edu.wpi.first.wpilibj.Timer;
  */
 public class AutomaticAuto extends CommandBase {
 	private double mWaitTime;
+	private int mPathLength;
 	private DrivePath mPath;
 	private DriveTime hitSwitch;
 	private SetShooterSpeed mSetSwitchSpeed, mSetScaleSpeed;
 	private TransportCubeTime mFireCubeScale, mFireCubeSwitch;
 	private RunShooterCustom mRevShoot, mRevShoot2;
 	private String mGameData;
-	private boolean timerSafety;
+	private boolean timerSafety, mPreselected;
 	private Timer mTimer;
 	
 	public static enum StartPosition {
@@ -68,62 +68,80 @@ public class AutomaticAuto extends CommandBase {
     	mFireCubeScale = new TransportCubeTime(1, 1);
     	hitSwitch = new DriveTime(0.2, 0.2, 1);
     }
+    
+    /**
+     * An autonomous whose end position has already been picked, with its path resolved and markers placed, so starting it does no work beyond starting the path
+     * @param position The robot's starting position
+     * @param endPosition Where to drive to, from {@link #selectEndPosition(StartPosition, Priority, Crossing, String)}
+     * @throws IllegalArgumentException if there is no stored path to endPosition
+     */
+    public AutomaticAuto(StartPosition position, EndPosition endPosition) {
+    	this(position, null, null);
+    	mEndPosition = endPosition;
+    	mPreselected = true;
+    	buildPath();
+    }
 
     // Called just before this Command runs the first time
     protected void initialize() {
     	timerSafety = false;
     	
-    	selectEndPosition(mStartPosition);
+    	if(!mPreselected) {
+    		selectEndPosition(mStartPosition);
+    		buildPath();
+    	}
+		mTimer.reset();
+		mTimer.stop();
+		
+		mPath.start();	
+    }
 
+    
+    private void buildPath() {
     	if(mEndPosition == EndPosition.LEFT_SWITCH || mEndPosition == EndPosition.RIGHT_SWITCH || mEndPosition == EndPosition.CROSS_LINE || mEndPosition == EndPosition.SWITCH || mEndPosition == EndPosition.OPPOSITE_SCALE) {
     		mPath = new DrivePath(mStartPosition, mEndPosition, 4, false);
     	}
     	else {
     		mPath = new DrivePath(mStartPosition, mEndPosition, 0, false); //mEndPosition
     	}
-		mTimer.reset();
-		mTimer.stop();
-		
-		mPath.start();	
+    	mPathLength = mPath.getLength();
+    	addMarkers();
+    }
+    
+    /**
+     * Puts the scoring actions on the path's timeline, so they fire once each as the path passes them
+     */
+    private void addMarkers() {
+    	switch(mEndPosition) {
+    	case OPPOSITE_SCALE:
+    		mPath.getTimeline()
+    			.atStep("spin up", mPathLength - 18, this::spinUpShooter)
+    			.atStep("open arms, raise shooter", mPathLength - 13, this::prepareScale);
+    		break;
+    	case SCALE:
+    	case NULL:
+    		mPath.getTimeline()
+    			.atStep("spin up", mPathLength - 86, this::spinUpShooter)
+    			.atStep("open arms, raise shooter", mPathLength - 61, this::prepareScale);
+    		break;
+    	default:
+    		break;
+    	}
+    }
+    
+    private void prepareScale() {
+    	intake.openArms();
+    	shooter.setScalePosition();
+    	mWaitTime = 0.1;
+    }
+    
+    private void spinUpShooter() {
+    	mSetScaleSpeed.start();
+    	mRevShoot.start();
     }
-
     
     // Called repeatedly when this Command is scheduled to run
     protected void execute() {	
-	    switch(mEndPosition) {	    	
-	    	case OPPOSITE_SCALE:
-	    		if(mPath.getCurrentStep() == Pathing.getVelocityArray("leftVelocitiesTO_OPPOSITE_SCALE").length - 12 || mPath.getCurrentStep() == Pathing.getVelocityArray("leftVelocitiesTO_OPPOSITE_SCALE").length - 13) {
-		   			intake.openArms();
-		   			shooter.setScalePosition();
-		   			mWaitTime = 0.1;
-		   		} else if(mPath.getCurrentStep() == Pathing.getVelocityArray("leftVelocitiesTO_OPPOSITE_SCALE").length - 17 || mPath.getCurrentStep() == Pathing.getVelocityArray("leftVelocitiesTO_OPPOSITE_SCALE").length - 18) {
-		   			mSetScaleSpeed.start();
-		   			mRevShoot.start();
-		   		}
-		   		break;
-		   	case SCALE:		    		
-		   		if(mPath.getCurrentStep() == Pathing.getVelocityArray("leftVelocitiesTO_SCALE").length - 60 || mPath.getCurrentStep() == Pathing.getVelocityArray("leftVelocitiesTO_SCALE").length - 61) {	
-		   			intake.openArms();
-		   			shooter.setScalePosition();
-		   			mWaitTime = 0.1;
-		   		} else if(mPath.getCurrentStep() == Pathing.getVelocityArray("leftVelocitiesTO_SCALE").length - 85 || mPath.getCurrentStep() == Pathing.getVelocityArray("leftVelocitiesTO_SCALE").length - 86) {
-		   			mSetScaleSpeed.start();		    			
-	    			mRevShoot.start();
-	    		}
-	    		break;
-	    	case NULL:
-	    		if(mPath.getCurrentStep() == Pathing.getVelocityArray("leftVelocitiesTO_NULL").length - 60 || mPath.getCurrentStep() == Pathing.getVelocityArray("leftVelocitiesTO_NULL").length - 61) {	
-	    			intake.openArms();
-	    			shooter.setScalePosition();
-	    			mWaitTime = 0.1;
-	    		} else if(mPath.getCurrentStep() == Pathing.getVelocityArray("leftVelocitiesTO_NULL").length - 85 || mPath.getCurrentStep() == Pathing.getVelocityArray("leftVelocitiesTO_NULL").length - 86) {
-	    			mSetScaleSpeed.start();
-	    			mRevShoot.start();
-	    		}
-	    	default:
-	    		break;
-	   	}
-    	
     	if(mPath.isCompleted() && !timerSafety) {    		
     		switch(mEndPosition) {
     		case LEFT_SWITCH:
@@ -178,84 +196,68 @@ public class AutomaticAuto extends CommandBase {
     
     private synchronized void selectEndPosition(StartPosition startPosition) {
     	getGameData();
-    	switch(mStartPosition) {
-    	case LEFT:
-    		reverseGameData();
-    		respondToARCADE(mGameData);
-    		break;	
-    	case CENTER:
-    	case RIGHT:
-    		respondToARCADE(mGameData);
-    		break;
-    	case CROSS_LINE:
-    		mEndPosition = EndPosition.CROSS_LINE;
-    		break;
-    	default:
-    		break;
+    	mEndPosition = selectEndPosition(startPosition, mPriority, mCrossing, mGameData);
+    	
+    	if(mEndPosition == null && startPosition != StartPosition.CROSS_LINE) {
+    		System.out.println("Unexpected value for GameSpecificMessage: " + mGameData);
+    		end();
     	}
     	System.out.println("Selected Start Position; " + mStartPosition);
+    	System.out.println("Selected EndPosition: " + mEndPosition);
     }
     
-    private synchronized void respondToARCADE(String gameData) {
-    	switch(mGameData.substring(0, 2)) {
-    	case "LL":
-			if (mStartPosition == StartPosition.CENTER) {
-				mEndPosition = EndPosition.LEFT_SWITCH;
-			}
-			else if (mCrossing.equals(Crossing.OFF)) {
-				mEndPosition = EndPosition.CROSS_LINE;
-			}
-			else {
-				mEndPosition = EndPosition.OPPOSITE_SCALE;
-			}
-			break;
-			
-		default:
-			System.out.println("Unexpected value for GameSpecificMessage: " + mGameData);
-			end();
-			break;
-		case "LR":
-			if (mStartPosition == StartPosition.CENTER) {
-				mEndPosition = EndPosition.LEFT_SWITCH;
-			}
-			else {
-				mEndPosition = EndPosition.SCALE;
-			}
-			break;
-		case "RL":
-			if (mStartPosition == StartPosition.CENTER) {
-				mEndPosition = EndPosition.RIGHT_SWITCH;
-			}
-			else if (mCrossing.equals(Crossing.FORCE) && mPriority.equals(Priority.SCALE)) {
-				mEndPosition = EndPosition.OPPOSITE_SCALE;
-			}
-			else {
-				mEndPosition = EndPosition.SWITCH;
-			}
-			break;
-		case "RR":
-			if (mStartPosition == StartPosition.CENTER) {
-				mEndPosition = EndPosition.RIGHT_SWITCH;
-			}
-			else if (mPriority == Priority.SCALE) {
-				mEndPosition = EndPosition.SCALE;
-			}
-			else {
-				mEndPosition = EndPosition.SWITCH;
-			}
-			break;
-			
-		}
-    	System.out.println("Selected EndPosition: " + mEndPosition);
+    /**
+     * Picks where to drive to from the ARCADE's layout
+     * <p>
+     * Assumes a right side starting position and mirrors the game data for the left side
+     * @param startPosition The robot's starting position
+     * @param priority Whether to go for the SWITCH or the SCALE when both are ours
+     * @param crossing Whether the robot may cross the field to the opposite SCALE
+     * @param gameData The game specific message from the FMS
+     * @return The position to drive to, or null if the game data or start position doesn't pick one
+     */
+    public static EndPosition selectEndPosition(StartPosition startPosition, Priority priority, Crossing crossing, String gameData) {
+    	if(startPosition == StartPosition.CROSS_LINE) {
+    		return EndPosition.CROSS_LINE;
+    	}
+    	if(gameData == null || gameData.length() < 2 || (startPosition != StartPosition.LEFT && startPosition != StartPosition.CENTER && startPosition != StartPosition.RIGHT)) {
+    		return null;
+    	}
+    	char switchSide = gameData.charAt(0);
+    	char scaleSide = gameData.charAt(1);
+    	
+    	if(startPosition == StartPosition.LEFT) {
+    		switchSide = mirror(switchSide);
+    		scaleSide = mirror(scaleSide);
+    	}
+    	boolean center = startPosition == StartPosition.CENTER;
+    	
+    	if(switchSide == 'L' && scaleSide == 'L') {
+    		if(center) {
+    			return EndPosition.LEFT_SWITCH;
+    		}
+    		return crossing == Crossing.OFF ? EndPosition.CROSS_LINE : EndPosition.OPPOSITE_SCALE;
+    	}
+    	else if(switchSide == 'L' && scaleSide == 'R') {
+    		return center ? EndPosition.LEFT_SWITCH : EndPosition.SCALE;
+    	}
+    	else if(switchSide == 'R' && scaleSide == 'L') {
+    		if(center) {
+    			return EndPosition.RIGHT_SWITCH;
+    		}
+    		return crossing == Crossing.FORCE && priority == Priority.SCALE ? EndPosition.OPPOSITE_SCALE : EndPosition.SWITCH;
+    	}
+    	else if(switchSide == 'R' && scaleSide == 'R') {
+    		if(center) {
+    			return EndPosition.RIGHT_SWITCH;
+    		}
+    		return priority == Priority.SCALE ? EndPosition.SCALE : EndPosition.SWITCH;
+    	}
+    	return null;
     }
     
-    private synchronized void reverseGameData() {
-       String temp = mGameData;
-       temp = temp.replace("L", "G");
-       temp = temp.replace("R", "L");
-       temp = temp.replace("G", "R");
-       mGameData = temp;
-   	   System.out.println("Rev: " + mGameData);
+    private static char mirror(char side) {
+    	return side == 'L' ? 'R' : side == 'R' ? 'L' : side;
     }
     
     private synchronized void getGameData() {
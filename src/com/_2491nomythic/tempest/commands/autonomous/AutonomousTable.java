@@ -0,0 +1,128 @@
+package com._2491nomythic.tempest.commands.autonomous;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+
+import com._2491nomythic.tempest.commands.autonomous.AutomaticAuto.Crossing;
+import com._2491nomythic.tempest.commands.autonomous.AutomaticAuto.EndPosition;
+import com._2491nomythic.tempest.commands.autonomous.AutomaticAuto.Priority;
+import com._2491nomythic.tempest.commands.autonomous.AutomaticAuto.StartPosition;
+
+/**
+ * Every autonomous the choosers and game data can pick, built ahead of time while the robot is disabled
+ * <p>
+ * The end position for each start position, priority, crossing and ARCADE layout is worked out when the table is made.
+ * {@link #buildNext()} then builds one ready to run {@link AutomaticAuto} per call, with its path resolved and its markers placed, so autonomousInit only has to look one up.
+ * Choices that pick the same start and end position share a command.
+ */
+public class AutonomousTable {
+	private static final String[] kLayouts = {"LL", "LR", "RL", "RR"};
+
+	private final EndPosition[][][][] mEndPositions;
+	private final EnumMap<StartPosition, EnumMap<EndPosition, AutomaticAuto>> mCommands = new EnumMap<StartPosition, EnumMap<EndPosition, AutomaticAuto>>(StartPosition.class);
+	private final ArrayList<StartPosition> mToBuildStarts = new ArrayList<StartPosition>();
+	private final ArrayList<EndPosition> mToBuildEnds = new ArrayList<EndPosition>();
+	private int mBuilt;
+
+	/**
+	 *
+	 * @param startPositions The start positions that can be picked
+	 */
+	public AutonomousTable(StartPosition... startPositions) {
+		Priority[] priorities = Priority.values();
+		Crossing[] crossings = Crossing.values();
+		mEndPositions = new EndPosition[StartPosition.values().length][priorities.length][crossings.length][kLayouts.length];
+
+		for(StartPosition start : startPositions) {
+			mCommands.put(start, new EnumMap<EndPosition, AutomaticAuto>(EndPosition.class));
+
+			for(Priority priority : priorities) {
+				for(Crossing crossing : crossings) {
+					for(int layout = 0; layout < kLayouts.length; layout++) {
+						EndPosition end = AutomaticAuto.selectEndPosition(start, priority, crossing, kLayouts[layout]);
+						mEndPositions[start.ordinal()][priority.ordinal()][crossing.ordinal()][layout] = end;
+
+						if(end != null && !contains(start, end)) {
+							mToBuildStarts.add(start);
+							mToBuildEnds.add(end);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private boolean contains(StartPosition start, EndPosition end) {
+		for(int i = 0; i < mToBuildStarts.size(); i++) {
+			if(mToBuildStarts.get(i) == start && mToBuildEnds.get(i) == end) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Builds the next command that hasn't been built yet. Meant to be called once per disabledPeriodic so the work is spread out.
+	 * @return Whether a command was built
+	 */
+	public boolean buildNext() {
+		if(isComplete()) {
+			return false;
+		}
+		StartPosition start = mToBuildStarts.get(mBuilt);
+		EndPosition end = mToBuildEnds.get(mBuilt);
+		mBuilt++;
+
+		try {
+			mCommands.get(start).put(end, new AutomaticAuto(start, end));
+		}
+		catch(IllegalArgumentException e) {
+			System.out.println("No autonomous for " + start + " to " + end + ": " + e.getMessage());
+		}
+		return true;
+	}
+
+	/**
+	 *
+	 * @return Whether every command has been built
+	 */
+	public boolean isComplete() {
+		return mBuilt >= mToBuildStarts.size();
+	}
+
+	/**
+	 * Looks up the autonomous for a set of choices
+	 * @param start The chosen start position
+	 * @param priority The chosen priority
+	 * @param crossing The chosen crossing
+	 * @param gameData The game specific message from the FMS
+	 * @return The prebuilt command, or null if the choices don't pick one or it hasn't been built yet
+	 */
+	public AutomaticAuto get(StartPosition start, Priority priority, Crossing crossing, String gameData) {
+		int layout = layout(gameData);
+
+		if(start == null || priority == null || crossing == null || layout < 0 || !mCommands.containsKey(start)) {
+			return null;
+		}
+		EndPosition end = mEndPositions[start.ordinal()][priority.ordinal()][crossing.ordinal()][layout];
+
+		return end == null ? null : mCommands.get(start).get(end);
+	}
+
+	/**
+	 *
+	 * @return Which of the four ARCADE layouts the game data describes, or -1 if it isn't one of them
+	 */
+	private static int layout(String gameData) {
+		if(gameData == null || gameData.length() < 2) {
+			return -1;
+		}
+		char switchSide = gameData.charAt(0);
+		char scaleSide = gameData.charAt(1);
+
+		if((switchSide != 'L' && switchSide != 'R') || (scaleSide != 'L' && scaleSide != 'R')) {
+			return -1;
+		}
+		return (switchSide == 'R' ? 2 : 0) + (scaleSide == 'R' ? 1 : 0);
+	}
+}
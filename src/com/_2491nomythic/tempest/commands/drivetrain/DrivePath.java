@@ -4,20 +4,36 @@ import com._2491nomythic.tempest.commands.CommandBase;
 import com._2491nomythic.tempest.commands.autonomous.AutomaticAuto.*;
 import com._2491nomythic.tempest.settings.Constants;
 import com._2491nomythic.tempest.settings.Variables;
+import com._2491nomythic.tempest.subsystems.MotionProfileStreamer;
+import com._2491nomythic.tempest.subsystems.PathFollower;
+import com._2491nomythic.tempest.subsystems.PathHandle;
 import com._2491nomythic.tempest.subsystems.Pathing;
 
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
+
 /**
  * A command for streaming a selected TalonSRX Velocity mode path
  */
 public class DrivePath extends CommandBase {
 	private int mCurrentStep, mTimeCounter, mReverseDirection, mSwaped, mLength, stepCounter;
-	private double mInitialHeading, mHeadingDiffrence, mTurnAdjustment, mAdjustedLeftVelocity, mAdjustedRightVelocity;
-	private String mSelectedLeftPath, mSelectedRightPath, mSelectedHeading, mSelectedEndPosition;
-	private boolean mReturn;
+	private double mInitialHeading, mHeadingDiffrence, mTurnAdjustment, mAdjustedLeftVelocity, mAdjustedRightVelocity, mFraction;
+	private PathHandle mPath;
+	private PathPlayback mPlayback;
+	private PathTimeline mTimeline;
+	private PathFollower.Job mJob;
+	private MotionProfileStreamer mStreamer;
+	private boolean mReturn, mTimed, mThreaded, mProfiled;
 	/**
-	 * 
+	 * Drives a stored path one step every stepCounter + 1 scheduler runs
+	 * <p>
+	 * When {@link Variables#useTimedPathPlayback} is set the path follows the FPGA clock instead, so a slow loop doesn't push the rest of the path back, and stepCounter is ignored.
+	 * When {@link Variables#usePathFollowerThread} is set as well the {@link PathFollower} drives the path on its own thread and this command only starts, stops and watches it.
+	 * When {@link Variables#useMotionProfile} is set the path is streamed into the Talons' motion profile buffers instead, which takes precedence over both.
 	 * @param startPosition an robot {@linkplain StartPosition} with respect to the field  
 	 * @param endPosition a robot {@linkplain EndPosition} with respect to the field
+	 * @param stepCounter how many scheduler runs to skip between steps
+	 * @throws IllegalArgumentException if there is no stored path to endPosition
 	 * @author Emilio Lobo
 	 */
     public DrivePath(StartPosition startPosition, EndPosition endPosition, int stepCounter, boolean reverse) {
@@ -25,10 +41,12 @@ public class DrivePath extends CommandBase {
     	requires(drivetrain);
     	
     	this.stepCounter = stepCounter;
-    	this.mSelectedEndPosition = String.valueOf(endPosition.toString());
+    	this.mPath = Pathing.getPath(endPosition.toString());
     	this.mReturn = reverse;
     	
     	setPosition(startPosition);
+    	mPlayback = new PathPlayback(mPath, Constants.kPathTimeStep, reverse);
+    	mTimeline = new PathTimeline(mPath, reverse);
     }
 
     protected void initialize() {
@@ -36,10 +54,42 @@ public class DrivePath extends CommandBase {
     	
     	resetVariables();
     	mTimeCounter = 0;
+    	mTimed = Variables.useTimedPathPlayback;
+    	mProfiled = Variables.useMotionProfile;
+    	mThreaded = !mProfiled && mTimed && Variables.usePathFollowerThread;
+    	mTimeline.start(Timer.getFPGATimestamp());
+    	
+    	if(mProfiled) {
+    		mStreamer = drivetrain.followProfile(mPath, mReverseDirection, mReturn);
+    	}
+    	else if(mThreaded) {
+    		mJob = PathFollower.getInstance().follow(mPath, mSwaped, mReverseDirection, mReturn);
+    	}
+    	else if(mTimed) {
+    		mPlayback.start(Timer.getFPGATimestamp());
+    	}
     }
 
     protected void execute() {
-    	if(mReturn) {
+    	if(mProfiled) {
+    		mCurrentStep = mStreamer.getStep();
+    		
+    	} else if(mThreaded) {
+    		mCurrentStep = mJob.getStep();
+    		
+    	} else if(mTimed) {
+    		mPlayback.update(Timer.getFPGATimestamp());
+    		
+    		if(!mPlayback.isFinished()) {
+    			mCurrentStep = mPlayback.getStep();
+    			mFraction = mPlayback.getFraction();
+    			
+    			adjustVelocities();
+    			
+    			drivetrain.driveVelocity(mAdjustedLeftVelocity, mAdjustedRightVelocity);
+    		}
+    		
+    	} else if(mReturn) {
     		if(mTimeCounter == stepCounter) {
         		
     			adjustVelocities();
@@ -71,15 +121,52 @@ public class DrivePath extends CommandBase {
 				mTimeCounter++;
 			}
     	}
+    	mTimeline.update(getPathTime(), Timer.getFPGATimestamp());
     }
 
     protected boolean isFinished() {
-        return mCurrentStep == mLength;
+    	if(mProfiled) {
+    		return mStreamer.isFinished();
+    	}
+    	if(mThreaded) {
+    		return mJob.isFinished();
+    	}
+        return mTimed ? mPlayback.isFinished() : mCurrentStep == mLength;
     }
 
     protected void end() {
-    	drivetrain.stop();
+    	if(isFinished()) {
+    		mTimeline.update(mPath.getTime(mPath.length() - 1) - mPath.getTime(0), Timer.getFPGATimestamp());
+    	}
+    	if(mProfiled) {
+    		mStreamer.stop();
+    	}
+    	//the follower stops the drivetrain itself, stopping here too could land after the next command's output
+    	if(!mThreaded || !mJob.cancelAndWait(4 * Constants.kPathFollowerPeriod)) {
+    		drivetrain.stop();
+    	}
     	Variables.isPathRunning = false;
+    	
+    	if(mTimeline.size() > 0) {
+    		System.out.println("DrivePath " + mPath.getName() + " markers:\n" + mTimeline);
+    	}
+    	if(mProfiled) {
+    		System.out.println("DrivePath " + mPath.getName() + ": " + mStreamer.getUnderruns() + " motion profile underruns");
+    		SmartDashboard.putNumber("PathProfileUnderruns", mStreamer.getUnderruns());
+    	}
+    	else if(mThreaded) {
+    		if(mJob.isFinished()) {
+    			reportTiming(mJob.getPlayback());
+    		}
+    		SmartDashboard.putNumber("PathMaxTrackingError", mJob.getMaxTrackingError());
+    		SmartDashboard.putNumber("PathRmsTrackingError", mJob.getRmsTrackingError());
+    		SmartDashboard.putNumber("PathMaxPositionError", mJob.getMaxPositionError());
+    		SmartDashboard.putNumber("PathWorstPositionErrorStep", mJob.getWorstPositionErrorStep());
+    		SmartDashboard.putNumber("PathRmsPositionError", mJob.getRmsPositionError());
+    	}
+    	else if(mTimed) {
+    		reportTiming(mPlayback);
+    	}
     }
 
     protected void interrupted() {
@@ -146,13 +233,10 @@ public class DrivePath extends CommandBase {
      */
     private synchronized void configurePath(boolean swaped, boolean reversed) {
     	if (swaped) {
-    		mSelectedLeftPath = "rightVelocitiesTO_" + mSelectedEndPosition;
-        	mSelectedRightPath = "leftVelocitiesTO_" + mSelectedEndPosition;
+    		mPath = mPath.swapped();
         	mSwaped = -1;
     	}
     	else {
-    		mSelectedLeftPath = "leftVelocitiesTO_" + mSelectedEndPosition;
-        	mSelectedRightPath = "rightVelocitiesTO_" + mSelectedEndPosition;
         	mSwaped = 1;
     	}
     	if (reversed) {
@@ -161,7 +245,6 @@ public class DrivePath extends CommandBase {
     	else {
     		mReverseDirection = 1;
     	}
-    	mSelectedHeading = "headingsTO_" + mSelectedEndPosition;
     }
     
     /**
@@ -170,21 +253,71 @@ public class DrivePath extends CommandBase {
      * The heading difference in-between the path and the gyroscope is used to increase or decrease the speed of each drive rail proportionally
      */
     private synchronized void adjustVelocities() {
-    	mHeadingDiffrence = mSwaped * Pathing.getHeading(mCurrentStep, mSelectedHeading) + drivetrain.getRawGyroAngle() - mInitialHeading;
+    	mHeadingDiffrence = mSwaped * mPath.getHeading(mCurrentStep, mFraction) + drivetrain.getRawGyroAngle() - mInitialHeading;
 		mTurnAdjustment = Constants.kVelocitykG * Constants.kVeloctiyUnitConversion * mHeadingDiffrence; 
 		
-		mAdjustedLeftVelocity = mReverseDirection * Pathing.getVelocity(mCurrentStep, mSelectedLeftPath) - mTurnAdjustment;
-		mAdjustedRightVelocity = mReverseDirection * Pathing.getVelocity(mCurrentStep, mSelectedRightPath) + mTurnAdjustment;
+		mAdjustedLeftVelocity = mReverseDirection * mPath.getLeftVelocity(mCurrentStep, mFraction) * Constants.kVeloctiyUnitConversion - mTurnAdjustment;
+		mAdjustedRightVelocity = mReverseDirection * mPath.getRightVelocity(mCurrentStep, mFraction) * Constants.kVeloctiyUnitConversion + mTurnAdjustment;
+    }
+    
+    /**
+     * Prints where the path lost time and puts the numbers on the SmartDashboard
+     */
+    private void reportTiming(PathPlayback playback) {
+    	System.out.println("DrivePath " + mPath.getName() + ": " + playback);
+    	SmartDashboard.putNumber("PathOverruns", playback.getOverruns());
+    	SmartDashboard.putNumber("PathWorstLoop", playback.getWorstLoopTime());
+    	SmartDashboard.putNumber("PathWorstLoopStep", playback.getWorstOverrunStep());
+    	SmartDashboard.putNumber("PathTimeLost", playback.getTimeLost());
+    	SmartDashboard.putNumber("PathSkippedSteps", playback.getSkippedSteps());
+    }
+    
+    /**
+     * @return How many seconds of the path have been played, going by the clock or by the step when the path isn't timed
+     */
+    public double getPathTime() {
+    	if(mThreaded) {
+    		return mJob.getPathTime();
+    	}
+    	if(mTimed && !mProfiled) {
+    		return mPlayback.getPathTime();
+    	}
+    	int last = mPath.length() - 1;
+    	int step = Math.max(0, Math.min(last, mCurrentStep));
+    	
+    	return mReturn ? mPath.getTime(last) - mPath.getTime(step) : mPath.getTime(step) - mPath.getTime(0);
+    }
+    
+    /**
+     * @return The markers fired along this path. Add to it before the path starts.
+     */
+    public PathTimeline getTimeline() {
+    	return mTimeline;
+    }
+    
+    /**
+     * @return The timing of the last time this path was played back by the clock
+     */
+    public PathPlayback getPlayback() {
+    	return mThreaded ? mJob.getPlayback() : mPlayback;
     }
     
     public int getCurrentStep() {
     	return mCurrentStep;
     }
     
+    /**
+     * @return The number of steps in the selected path
+     */
+    public int getLength() {
+    	return mPath.length();
+    }
+    
     private synchronized void resetVariables() {
     	mInitialHeading = drivetrain.getRawGyroAngle();
     	mCurrentStep = 0;
+    	mFraction = 0;
     	mTimeCounter = 4;
-    	mLength = Pathing.getHeadingsArray(mSelectedHeading).length;
+    	mLength = mPath.length();
     }
 }
@@ -0,0 +1,82 @@
+package com._2491nomythic.tempest.commands.drivetrain;
+
+import com._2491nomythic.tempest.commands.CommandBase;
+import com._2491nomythic.tempest.settings.Constants;
+import com._2491nomythic.tempest.settings.Variables;
+import com._2491nomythic.util.PathReplanner.Plan;
+
+/**
+ * Drives the latest plan published by the path replanner, the same way DrivePath drives a stored path
+ */
+public class DriveReplannedPath extends CommandBase {
+	private int mCurrentStep, mLength, mRequestId;
+	private double mInitialHeading, mHeadingDiffrence, mTurnAdjustment, mAdjustedLeftVelocity, mAdjustedRightVelocity;
+	private Plan mPlan;
+
+	/**
+	 * Drives whatever plan is newest when the command starts
+	 */
+	public DriveReplannedPath() {
+		this(0);
+	}
+
+	/**
+	 * @param requestId the id returned by the replanner request this command should drive, or 0 for the newest plan.
+	 * The command ends right away if that plan hasn't been published yet.
+	 */
+	public DriveReplannedPath(int requestId) {
+		requires(drivetrain);
+
+		this.mRequestId = requestId;
+	}
+
+	protected void initialize() {
+		mPlan = mRequestId == 0 ? replanner.getPlan() : replanner.getPlan(mRequestId);
+		mLength = mPlan == null ? 0 : mPlan.length();
+		mCurrentStep = 0;
+		mInitialHeading = drivetrain.getRawGyroAngle();
+
+		Variables.isPathRunning = mLength > 0;
+	}
+
+	protected void execute() {
+		//the scheduler runs execute once before isFinished, even when there's no plan to drive
+		if(mCurrentStep >= mLength) {
+			return;
+		}
+		adjustVelocities();
+
+		drivetrain.driveVelocity(mAdjustedLeftVelocity, mAdjustedRightVelocity);
+		mCurrentStep++;
+	}
+
+	protected boolean isFinished() {
+		return mCurrentStep >= mLength;
+	}
+
+	protected void end() {
+		drivetrain.stop();
+		Variables.isPathRunning = false;
+	}
+
+	protected void interrupted() {
+		end();
+	}
+
+	/**
+	 * Adjusts the plans velocities at every step to account for drivetrain scrub.
+	 * <p>
+	 * Plan headings are counterclockwise and the gyroscope is clockwise, so they cancel out while the robot is on the path
+	 */
+	private void adjustVelocities() {
+		mHeadingDiffrence = mPlan.getHeading(mCurrentStep) - mPlan.getHeading(0) + drivetrain.getRawGyroAngle() - mInitialHeading;
+		mTurnAdjustment = Constants.kVelocitykG * Constants.kVeloctiyUnitConversion * mHeadingDiffrence;
+
+		mAdjustedLeftVelocity = mPlan.getLeftVelocity(mCurrentStep) * Constants.kVeloctiyUnitConversion - mTurnAdjustment;
+		mAdjustedRightVelocity = mPlan.getRightVelocity(mCurrentStep) * Constants.kVeloctiyUnitConversion + mTurnAdjustment;
+	}
+
+	public int getCurrentStep() {
+		return mCurrentStep;
+	}
+}
@@ -0,0 +1,175 @@
+package com._2491nomythic.tempest.commands.drivetrain;
+
+import com._2491nomythic.tempest.subsystems.PathHandle;
+import com._2491nomythic.tempest.subsystems.PathSampler;
+
+/**
+ * Works out where a path should be from how much time has passed rather than how many times the scheduler has run
+ * <p>
+ * Each update finds the step whose time was most recently passed and how far along it is towards the next step with a {@link PathSampler}. After a slow loop it skips straight to where the path should be instead of falling behind. It also keeps track of the slow loops so they can be reported after the path.
+ */
+public class PathPlayback {
+	private final PathHandle mPath;
+	private final PathSampler mSampler;
+	private final double mLoopPeriod;
+	private final boolean mReversed;
+	private double mStartTime, mLastTime, mFraction, mPathTime;
+	private int mStep;
+	private boolean mFinished;
+
+	private int mLoops, mOverruns, mSkippedSteps, mWorstOverrunStep;
+	private double mWorstLoopTime, mTimeLost;
+
+	/**
+	 *
+	 * @param path The path to play back
+	 * @param loopPeriod How often update is expected to be called in seconds. Loops that take more than one and a half of these count as overruns.
+	 * @param reversed Play the path from its end back to its start
+	 */
+	public PathPlayback(PathHandle path, double loopPeriod, boolean reversed) {
+		mPath = path;
+		mSampler = new PathSampler(path);
+		mLoopPeriod = loopPeriod;
+		mReversed = reversed;
+	}
+
+	/**
+	 * Starts the path at the given time and clears the metrics
+	 * @param now FPGA timestamp in seconds
+	 */
+	public void start(double now) {
+		mStartTime = now;
+		mLastTime = now;
+		mStep = mReversed ? mPath.length() - 1 : 0;
+		mFraction = 0;
+		mPathTime = 0;
+		mFinished = mPath.length() == 0;
+
+		mLoops = 0;
+		mOverruns = 0;
+		mSkippedSteps = 0;
+		mWorstOverrunStep = 0;
+		mWorstLoopTime = 0;
+		mTimeLost = 0;
+	}
+
+	/**
+	 * Moves the path to the given time
+	 * @param now FPGA timestamp in seconds
+	 */
+	public void update(double now) {
+		if(mFinished) {
+			return;
+		}
+
+		double loopTime = now - mLastTime;
+		mLastTime = now;
+
+		if(mLoops > 0 && loopTime > 1.5 * mLoopPeriod) {
+			mOverruns++;
+			mTimeLost += loopTime - mLoopPeriod;
+
+			if(loopTime > mWorstLoopTime) {
+				mWorstLoopTime = loopTime;
+				mWorstOverrunStep = mStep;
+			}
+		}
+		mLoops++;
+
+		double elapsed = now - mStartTime;
+		double duration = mPath.getTime(mPath.length() - 1) - mPath.getTime(0);
+		int previousStep = mStep;
+
+		mSampler.seekTo(mReversed ? duration - elapsed : elapsed);
+		mStep = mSampler.getStep();
+		mFraction = mSampler.getFraction();
+		mSkippedSteps += Math.max(0, mReversed ? previousStep - mStep - 1 : mStep - previousStep - 1);
+		mPathTime = Math.min(elapsed, duration);
+		mFinished = elapsed > duration;
+	}
+
+	/**
+	 *
+	 * @return The step the path is on
+	 */
+	public int getStep() {
+		return mStep;
+	}
+
+	/**
+	 *
+	 * @return How far the path is from its step towards the next one, from 0 to 1
+	 */
+	public double getFraction() {
+		return mFraction;
+	}
+
+	/**
+	 *
+	 * @return How many seconds of the path have been played, up to its whole length
+	 */
+	public double getPathTime() {
+		return mPathTime;
+	}
+
+	/**
+	 *
+	 * @return Whether the path's time has run out
+	 */
+	public boolean isFinished() {
+		return mFinished;
+	}
+
+	/**
+	 *
+	 * @return How many loops took more than one and a half loop periods
+	 */
+	public int getOverruns() {
+		return mOverruns;
+	}
+
+	/**
+	 *
+	 * @return The longest loop that counted as an overrun in seconds, or 0 if there weren't any
+	 */
+	public double getWorstLoopTime() {
+		return mWorstLoopTime;
+	}
+
+	/**
+	 *
+	 * @return The step the path was on when the longest loop happened
+	 */
+	public int getWorstOverrunStep() {
+		return mWorstOverrunStep;
+	}
+
+	/**
+	 *
+	 * @return Seconds the overruns added up to beyond the loop period. Counting scheduler runs would have left the path this far behind.
+	 */
+	public double getTimeLost() {
+		return mTimeLost;
+	}
+
+	/**
+	 *
+	 * @return How many steps were skipped over to catch back up
+	 */
+	public int getSkippedSteps() {
+		return mSkippedSteps;
+	}
+
+	/**
+	 *
+	 * @return How many times update has been called since the path started
+	 */
+	public int getLoops() {
+		return mLoops;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d loops, %d overruns, worst %.3f s at step %d, %.3f s lost, %d steps skipped", mLoops, mOverruns, mWorstLoopTime, mWorstOverrunStep, mTimeLost, mSkippedSteps);
+	}
+}
@@ -0,0 +1,174 @@
+package com._2491nomythic.tempest.commands.drivetrain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+
+import com._2491nomythic.tempest.subsystems.PathHandle;
+
+/**
+ * Actions tagged with when along a path they should happen, fired once each as the path passes them
+ * <p>
+ * Markers can be placed at a step, a time or a distance, which are all turned into seconds of playback when they are added.
+ * While the path runs the markers are kept in order and only the next one is checked, so each update is a single comparison unless a marker fires.
+ * A marker fires as soon as the path has passed it, even if a slow loop skipped right over its step.
+ */
+public class PathTimeline {
+	private final PathHandle mPath;
+	private final boolean mReversed;
+	private final ArrayList<Marker> mMarkers = new ArrayList<Marker>();
+	private double mStartTime;
+	private int mNext;
+	private boolean mSorted;
+
+	private static class Marker {
+		final String name;
+		final double time;
+		final Runnable action;
+		double firedAt, firedAtPathTime;
+		boolean fired;
+
+		Marker(String name, double time, Runnable action) {
+			this.name = name;
+			this.time = time;
+			this.action = action;
+		}
+	}
+
+	/**
+	 *
+	 * @param path The path the markers are placed along
+	 * @param reversed Whether the path is played from its end back to its start
+	 */
+	public PathTimeline(PathHandle path, boolean reversed) {
+		mPath = path;
+		mReversed = reversed;
+	}
+
+	/**
+	 * Adds a marker at a step of the path
+	 * @param name What to call the marker in the log
+	 * @param step The step of the path, counted from the start of the path as stored
+	 * @param action What to do when the path passes the step
+	 * @return This timeline, for adding more markers
+	 */
+	public PathTimeline atStep(String name, int step, Runnable action) {
+		int last = mPath.length() - 1;
+		step = Math.max(0, Math.min(last, step));
+
+		return atTime(name, mReversed ? mPath.getTime(last) - mPath.getTime(step) : mPath.getTime(step) - mPath.getTime(0), action);
+	}
+
+	/**
+	 * Adds a marker a number of seconds into the path
+	 * @param name What to call the marker in the log
+	 * @param seconds How long after the path starts to fire
+	 * @param action What to do when the path gets there
+	 * @return This timeline, for adding more markers
+	 */
+	public PathTimeline atTime(String name, double seconds, Runnable action) {
+		mMarkers.add(new Marker(name, seconds, action));
+		mSorted = false;
+		return this;
+	}
+
+	/**
+	 * Adds a marker once the middle of the robot has gone a distance along the path
+	 * @param name What to call the marker in the log
+	 * @param feet How far along the path to fire, going by the average of both drive rails' velocities
+	 * @param action What to do when the path gets there
+	 * @return This timeline, for adding more markers
+	 */
+	public PathTimeline atDistance(String name, double feet, Runnable action) {
+		int last = mPath.length() - 1;
+		double distance = 0;
+		double time = 0;
+
+		for(int i = 0; i < last; i++) {
+			int step = mReversed ? last - i : i;
+			int nextStep = mReversed ? step - 1 : step + 1;
+			double dt = Math.abs(mPath.getTime(nextStep) - mPath.getTime(step));
+			double speed = Math.abs(mPath.getLeftVelocity(step) + mPath.getRightVelocity(step)) / 2;
+			double nextSpeed = Math.abs(mPath.getLeftVelocity(nextStep) + mPath.getRightVelocity(nextStep)) / 2;
+			double stepDistance = (speed + nextSpeed) / 2 * dt;
+
+			if(distance + stepDistance >= feet) {
+				time += stepDistance > 0 ? dt * (feet - distance) / stepDistance : 0;
+				return atTime(name, time, action);
+			}
+			distance += stepDistance;
+			time += dt;
+		}
+		return atTime(name, time, action);
+	}
+
+	/**
+	 * Gets the markers ready to fire again from the start of the path
+	 * @param now FPGA timestamp in seconds
+	 */
+	public void start(double now) {
+		if(!mSorted) {
+			Collections.sort(mMarkers, Comparator.comparingDouble(marker -> marker.time));
+			mSorted = true;
+		}
+		for(Marker marker : mMarkers) {
+			marker.fired = false;
+		}
+		mStartTime = now;
+		mNext = 0;
+	}
+
+	/**
+	 * Fires every marker the path has passed that hasn't fired yet
+	 * @param pathTime How many seconds of the path have been played
+	 * @param now FPGA timestamp in seconds
+	 */
+	public void update(double pathTime, double now) {
+		while(mNext < mMarkers.size() && mMarkers.get(mNext).time <= pathTime) {
+			Marker marker = mMarkers.get(mNext++);
+
+			marker.fired = true;
+			marker.firedAt = now - mStartTime;
+			marker.firedAtPathTime = pathTime;
+			marker.action.run();
+		}
+	}
+
+	/**
+	 *
+	 * @return How many markers have fired since the path started
+	 */
+	public int getFired() {
+		return mNext;
+	}
+
+	/**
+	 *
+	 * @return How many markers there are
+	 */
+	public int size() {
+		return mMarkers.size();
+	}
+
+	/**
+	 *
+	 * @return One line per marker with when it was due and when it actually fired
+	 */
+	@Override
+	public String toString() {
+		StringBuilder log = new StringBuilder();
+
+		for(Marker marker : mMarkers) {
+			if(log.length() > 0) {
+				log.append('\n');
+			}
+			if(marker.fired) {
+				log.append(String.format("%s: due %.3f s, fired %.3f s into the path at path time %.3f s (%+.3f s)", marker.name, marker.time, marker.firedAt, marker.firedAtPathTime, marker.firedAt - marker.time));
+			}
+			else {
+				log.append(String.format("%s: due %.3f s, not fired", marker.name, marker.time));
+			}
+		}
+		return log.toString();
+	}
+}
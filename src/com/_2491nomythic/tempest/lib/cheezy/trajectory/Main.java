@@ -4,6 +4,8 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import com._2491nomythic.tempest.lib.cheezytrajectory.io.JavaSerializer;
 import com._2491nomythic.tempest.lib.cheezytrajectory.io.JavaStringSerializer;
@@ -42,11 +44,22 @@ public class Main {
     return true;
   }
   
+  /**
+   * Usage: Main [--time-optimal] [directory]
+   * <p>
+   * Paths are S-curves unless --time-optimal is given, in which case they are
+   * planned to the wheel limits and each one reports how much time it saved.
+   */
   public static void main(String[] args)
   {
     String directory = "../FRC-2014/paths";
-    if (args.length >= 1) {
-      directory = args[0];
+    boolean time_optimal = false;
+    for (String arg : args) {
+      if (arg.equals("--time-optimal")) {
+        time_optimal = true;
+      } else {
+        directory = arg;
+      }
     }
     
     TrajectoryGenerator.Config config = new TrajectoryGenerator.Config();
@@ -56,6 +69,7 @@ public class Main {
     config.max_vel = 15.0;
     
     final double kWheelbaseWidth = 23/12;
+    List<PathGenerator.Job> jobs = new ArrayList<PathGenerator.Job>();
     {
       config.dt = .1;
       config.max_acc = 15.0;
@@ -75,14 +89,27 @@ public class Main {
       p.addWaypoint(new WaypointSequence.Waypoint(0.0, 0.0, 0.0));
       p.addWaypoint(new WaypointSequence.Waypoint(23.5/12, -26.0/12, 0.0));
 
-      Path path = PathGenerator.makePath(p, config,
-          kWheelbaseWidth, path_name);
+      jobs.add(new PathGenerator.Job(path_name, p, config, kWheelbaseWidth,
+              time_optimal));
+    }
+
+    // Generate every path in parallel, then write them out.
+    long start = System.nanoTime();
+    PathGenerator.makePaths(jobs);
+    System.out.println("Generated " + jobs.size() + " paths in "
+            + (System.nanoTime() - start) / 1.0E6 + " ms");
+
+    for (PathGenerator.Job job : jobs) {
+      System.out.println(job);
+      if (job.getPath() == null) {
+        System.exit(1);
+      }
 
       // Outputs to the directory supplied as the first argument.
       TextFileSerializer js = new TextFileSerializer();
-      String serialized = js.serialize(path);
-      System.out.print(serialized);
-      String fullpath = joinPath(directory, path_name + ".txt");
+      System.out.print(js.serializeReport(job.getPath()));
+      String serialized = js.serialize(job.getPath());
+      String fullpath = joinPath(directory, job.name + ".txt");
       if (!writeFile(fullpath, serialized)) {
         System.err.println(fullpath + " could not be written!!!!1");
         System.exit(1);
@@ -90,5 +117,5 @@ public class Main {
         System.out.println("Wrote " + fullpath);
       }
     }
-    }
   }
+}
@@ -0,0 +1,283 @@
+package com._2491nomythic.tempest.lib.cheezy.trajectory;
+
+/**
+ * Implementation of a Trajectory that stores each segment field in its own
+ * primitive array rather than as an array of Segment objects. Segments can be
+ * read through a reusable Cursor without allocating, which keeps followers
+ * that run every control loop from generating garbage.
+ *
+ * The Segment based API is still available through getSegment and
+ * toTrajectory, which copy into Segment objects.
+ */
+public class PackedTrajectory {
+
+  /**
+   * A reusable view of a single segment of a PackedTrajectory. Moving the
+   * cursor does not allocate. Reading a cursor that is not on a valid segment
+   * returns zeros, the same as Trajectory.getSegment does for an out of range
+   * index.
+   */
+  public static class Cursor {
+
+    private final PackedTrajectory trajectory_;
+    private int index_;
+    private boolean valid_;
+
+    Cursor(PackedTrajectory trajectory) {
+      trajectory_ = trajectory;
+      moveTo(0);
+    }
+
+    /**
+     * @param index The segment to view.
+     * @return Whether the index is a segment of the trajectory.
+     */
+    public boolean moveTo(int index) {
+      index_ = index;
+      valid_ = index >= 0 && index < trajectory_.getNumSegments();
+      return valid_;
+    }
+
+    /**
+     * @return Whether the cursor is still on a segment after advancing.
+     */
+    public boolean next() {
+      return moveTo(index_ + 1);
+    }
+
+    public int getIndex() {
+      return index_;
+    }
+
+    public boolean isValid() {
+      return valid_;
+    }
+
+    public double pos() {
+      return valid_ ? trajectory_.pos_[index_] : 0;
+    }
+
+    public double vel() {
+      return valid_ ? trajectory_.vel_[index_] : 0;
+    }
+
+    public double acc() {
+      return valid_ ? trajectory_.acc_[index_] : 0;
+    }
+
+    public double jerk() {
+      return valid_ ? trajectory_.jerk_[index_] : 0;
+    }
+
+    public double heading() {
+      return valid_ ? trajectory_.getHeading(index_) : 0;
+    }
+
+    public double dt() {
+      return valid_ ? trajectory_.dt_[index_] : 0;
+    }
+
+    public double x() {
+      return valid_ ? trajectory_.x_[index_] : 0;
+    }
+
+    public double y() {
+      return valid_ ? trajectory_.getY(index_) : 0;
+    }
+  }
+
+  double[] pos_;
+  double[] vel_;
+  double[] acc_;
+  double[] jerk_;
+  double[] heading_;
+  double[] dt_;
+  double[] x_;
+  double[] y_;
+  boolean inverted_y_ = false;
+
+  public PackedTrajectory(int length) {
+    pos_ = new double[length];
+    vel_ = new double[length];
+    acc_ = new double[length];
+    jerk_ = new double[length];
+    heading_ = new double[length];
+    dt_ = new double[length];
+    x_ = new double[length];
+    y_ = new double[length];
+  }
+
+  /**
+   * Pack an existing Trajectory. The inverted Y setting is carried over.
+   *
+   * @param trajectory The trajectory to copy.
+   */
+  public PackedTrajectory(Trajectory trajectory) {
+    this(trajectory.getNumSegments());
+    for (int i = 0; i < getNumSegments(); ++i) {
+      setSegment(i, trajectory.segments_[i]);
+    }
+    inverted_y_ = trajectory.inverted_y_;
+  }
+
+  public void setInvertedY(boolean inverted) {
+    inverted_y_ = inverted;
+  }
+
+  public int getNumSegments() {
+    return pos_.length;
+  }
+
+  public Cursor cursor() {
+    return new Cursor(this);
+  }
+
+  public double getPos(int index) {
+    return pos_[index];
+  }
+
+  public double getVel(int index) {
+    return vel_[index];
+  }
+
+  public double getAcc(int index) {
+    return acc_[index];
+  }
+
+  public double getJerk(int index) {
+    return jerk_[index];
+  }
+
+  public double getHeading(int index) {
+    return inverted_y_ ? -heading_[index] : heading_[index];
+  }
+
+  public double getDt(int index) {
+    return dt_[index];
+  }
+
+  public double getX(int index) {
+    return x_[index];
+  }
+
+  public double getY(int index) {
+    return inverted_y_ ? -y_[index] : y_[index];
+  }
+
+  /**
+   * Copy a segment into a caller supplied Segment.
+   *
+   * @param index The segment to read.
+   * @param result The Segment to fill in.
+   * @return result, for chaining.
+   */
+  public Trajectory.Segment getSegment(int index, Trajectory.Segment result) {
+    if (index < getNumSegments()) {
+      result.pos = pos_[index];
+      result.vel = vel_[index];
+      result.acc = acc_[index];
+      result.jerk = jerk_[index];
+      result.heading = getHeading(index);
+      result.dt = dt_[index];
+      result.x = x_[index];
+      result.y = getY(index);
+    } else {
+      result.pos = result.vel = result.acc = result.jerk = 0;
+      result.heading = result.dt = result.x = result.y = 0;
+    }
+    return result;
+  }
+
+  public Trajectory.Segment getSegment(int index) {
+    return getSegment(index, new Trajectory.Segment());
+  }
+
+  public void setSegment(int index, Trajectory.Segment segment) {
+    if (index < getNumSegments()) {
+      pos_[index] = segment.pos;
+      vel_[index] = segment.vel;
+      acc_[index] = segment.acc;
+      jerk_[index] = segment.jerk;
+      heading_[index] = segment.heading;
+      dt_[index] = segment.dt;
+      x_[index] = segment.x;
+      y_[index] = segment.y;
+    }
+  }
+
+  public void scale(double scaling_factor) {
+    for (int i = 0; i < getNumSegments(); ++i) {
+      pos_[i] *= scaling_factor;
+      vel_[i] *= scaling_factor;
+      acc_[i] *= scaling_factor;
+      jerk_[i] *= scaling_factor;
+    }
+  }
+
+  public void append(PackedTrajectory to_append) {
+    pos_ = concat(pos_, to_append.pos_, false);
+    vel_ = concat(vel_, to_append.vel_, false);
+    acc_ = concat(acc_, to_append.acc_, false);
+    jerk_ = concat(jerk_, to_append.jerk_, false);
+    heading_ = concat(heading_, to_append.heading_,
+            inverted_y_ != to_append.inverted_y_);
+    dt_ = concat(dt_, to_append.dt_, false);
+    x_ = concat(x_, to_append.x_, false);
+    y_ = concat(y_, to_append.y_, inverted_y_ != to_append.inverted_y_);
+  }
+
+  public PackedTrajectory copy() {
+    PackedTrajectory cloned = new PackedTrajectory(0);
+    cloned.pos_ = pos_.clone();
+    cloned.vel_ = vel_.clone();
+    cloned.acc_ = acc_.clone();
+    cloned.jerk_ = jerk_.clone();
+    cloned.heading_ = heading_.clone();
+    cloned.dt_ = dt_.clone();
+    cloned.x_ = x_.clone();
+    cloned.y_ = y_.clone();
+    cloned.inverted_y_ = inverted_y_;
+    return cloned;
+  }
+
+  /**
+   * @return A Segment based copy of this trajectory, with the same inverted
+   * Y setting.
+   */
+  public Trajectory toTrajectory() {
+    boolean inverted = inverted_y_;
+    inverted_y_ = false;
+    Trajectory trajectory = new Trajectory(getNumSegments());
+    for (int i = 0; i < getNumSegments(); ++i) {
+      getSegment(i, trajectory.segments_[i]);
+    }
+    inverted_y_ = inverted;
+    trajectory.setInvertedY(inverted);
+    return trajectory;
+  }
+
+  // Append tail to head, negating the appended values if they are stored with
+  // the opposite sign convention.
+  private static double[] concat(double[] head, double[] tail, boolean negate) {
+    double[] result = new double[head.length + tail.length];
+    System.arraycopy(head, 0, result, 0, head.length);
+    for (int i = 0; i < tail.length; ++i) {
+      result[head.length + i] = negate ? -tail[i] : tail[i];
+    }
+    return result;
+  }
+
+  public String toString() {
+    StringBuilder str = new StringBuilder("Segment\tPos\tVel\tAcc\tJerk\tHeading\n");
+    for (int i = 0; i < getNumSegments(); ++i) {
+      str.append(i).append("\t");
+      str.append(pos_[i]).append("\t");
+      str.append(vel_[i]).append("\t");
+      str.append(acc_[i]).append("\t");
+      str.append(jerk_[i]).append("\t");
+      str.append(getHeading(i)).append("\t");
+      str.append("\n");
+    }
+    return str.toString();
+  }
+}
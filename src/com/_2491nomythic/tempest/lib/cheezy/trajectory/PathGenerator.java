@@ -1,5 +1,13 @@
 package com._2491nomythic.tempest.lib.cheezy.trajectory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import com._2491nomythic.tempest.lib.cheezyutil.ChezyMath;
+
 /**
  * Generate a smooth Trajectory from a Path.
  *
@@ -8,6 +16,168 @@ package com._2491nomythic.tempest.lib.cheezy.trajectory;
  * @author Jared341
  */
 public class PathGenerator {
+
+  // How many points the time optimal planner checks the limits at over the
+  // distance covered in one dt at max_vel.
+  private static final int kPlanningPointsPerSegment = 4;
+
+  // How far over a limit a generated path may measure before it counts as
+  // breaking it, to allow for the wheel paths being differenced every dt.
+  private static final double kLimitTolerance = 1.02;
+
+  // Halvings when searching for the fastest S-curve within the limits.
+  private static final int kScaleSearchIterations = 12;
+
+  /**
+   * A named path to be generated by makePaths. After makePaths returns, the
+   * generated path and how long it took are available from the job.
+   */
+  public static class Job {
+
+    public final String name;
+    public final WaypointSequence waypoints;
+    public final TrajectoryGenerator.Config config;
+    public final double wheelbase_width;
+    public final boolean time_optimal;
+
+    private Path path_;
+    private long generation_nanos_;
+    private double duration_;
+    private double baseline_duration_ = Double.NaN;
+
+    public Job(String name, WaypointSequence waypoints,
+            TrajectoryGenerator.Config config, double wheelbase_width) {
+      this(name, waypoints, config, wheelbase_width, false);
+    }
+
+    /**
+     * @param time_optimal Plan the fastest path within the wheel and
+     * centripetal limits instead of one S-curve, and report how much quicker
+     * it is than the fastest S-curve within the same limits.
+     */
+    public Job(String name, WaypointSequence waypoints,
+            TrajectoryGenerator.Config config, double wheelbase_width,
+            boolean time_optimal) {
+      this.name = name;
+      this.waypoints = waypoints;
+      this.wheelbase_width = wheelbase_width;
+      this.time_optimal = time_optimal;
+
+      // Jobs run later, so snapshot the config in case the caller reuses it.
+      this.config = new TrajectoryGenerator.Config();
+      this.config.dt = config.dt;
+      this.config.max_vel = config.max_vel;
+      this.config.max_acc = config.max_acc;
+      this.config.max_jerk = config.max_jerk;
+      this.config.max_centripetal_acc = config.max_centripetal_acc;
+    }
+
+    /**
+     * @return The generated path, or null if it hasn't been generated or the
+     * waypoints couldn't be fit.
+     */
+    public Path getPath() {
+      return path_;
+    }
+
+    /**
+     * @return Wall clock time spent generating this path, in milliseconds.
+     */
+    public double getGenerationTimeMs() {
+      return generation_nanos_ / 1.0E6;
+    }
+
+    /**
+     * @return How long the generated path takes to drive, in seconds.
+     */
+    public double getDuration() {
+      return duration_;
+    }
+
+    /**
+     * @return How much quicker the time optimal path is than the fastest
+     * S-curve that keeps the wheels within the same limits, in seconds, or
+     * NaN if this isn't a time optimal job or no such S-curve was found.
+     */
+    public double getTimeSaved() {
+      return baseline_duration_ - duration_;
+    }
+
+    void run() {
+      long start = System.nanoTime();
+      Trajectory center = time_optimal
+              ? generateTimeOptimalFromPath(waypoints, config, wheelbase_width)
+              : generateFromPath(waypoints, config);
+      if (center != null) {
+        path_ = new Path(name,
+                makeLeftAndRightTrajectories(center, wheelbase_width));
+        duration_ = durationOf(center);
+      }
+      generation_nanos_ = System.nanoTime() - start;
+
+      // Not counted in the generation time, it's only for the report.
+      if (time_optimal && center != null) {
+        Trajectory baseline = generateWithinLimits(waypoints, config,
+                wheelbase_width);
+        if (baseline != null) {
+          baseline_duration_ = durationOf(baseline);
+        }
+      }
+    }
+
+    public String toString() {
+      if (path_ == null) {
+        return name + ": " + getGenerationTimeMs() + " ms (FAILED)";
+      }
+      String report = name + ": " + getGenerationTimeMs() + " ms, "
+              + String.format("%.2f s", duration_);
+      if (time_optimal) {
+        report += Double.isNaN(baseline_duration_)
+                ? " (no S-curve fits the limits)"
+                : String.format(", %.2f s faster than an S-curve within the"
+                        + " same limits", getTimeSaved());
+      }
+      return report;
+    }
+  }
+
+  /**
+   * Generate many paths at once, one per core.
+   *
+   * @param jobs The paths to generate. Each job holds its result when this
+   * returns.
+   */
+  public static void makePaths(Collection<Job> jobs) {
+    ForkJoinPool pool = new ForkJoinPool(
+            Runtime.getRuntime().availableProcessors());
+    try {
+      makePaths(jobs, pool);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Generate many paths at once on the given pool.
+   *
+   * @param jobs The paths to generate. Each job holds its result when this
+   * returns.
+   * @param pool The pool to run the jobs on.
+   */
+  public static void makePaths(Collection<Job> jobs, ForkJoinPool pool) {
+    List<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>(jobs.size());
+    for (final Job job : jobs) {
+      tasks.add(pool.submit(new Runnable() {
+        public void run() {
+          job.run();
+        }
+      }));
+    }
+    for (ForkJoinTask<?> task : tasks) {
+      task.join();
+    }
+  }
+
   /**
    * Generate a path for autonomous driving. 
    * 
@@ -25,6 +195,98 @@ public class PathGenerator {
             generateLeftAndRightFromSeq(waypoints, config, wheelbase_width));
   }
 
+  /**
+   * Generate the fastest path along the waypoints that keeps each wheel
+   * within config.max_vel and config.max_acc and the robot within
+   * config.max_centripetal_acc. Unlike makePath, the wheels stay within the
+   * limits on tight curves, so the limits can be the robot's real ones.
+   * Jerk is not limited.
+   *
+   * @param waypoints The waypoints to drive to (FOR THE "GO LEFT" CASE!!!!)
+   * @param config Trajectory config.
+   * @param wheelbase_width Wheelbase separation; units must be consistent with
+   * config and waypoints.
+   * @param name The name of the new path.
+   * @return The path, or null if the waypoints couldn't be fit.
+   */
+  public static Path makeTimeOptimalPath(WaypointSequence waypoints,
+          TrajectoryGenerator.Config config, double wheelbase_width,
+          String name) {
+    Trajectory center = generateTimeOptimalFromPath(waypoints, config,
+            wheelbase_width);
+    if (center == null) {
+      return null;
+    }
+    return new Path(name,
+            makeLeftAndRightTrajectories(center, wheelbase_width));
+  }
+
+  /**
+   * Generate one path that drives several legs back to back without
+   * stopping between them. Each leg is its own S-curve from the velocity it
+   * is handed to the velocity it hands off, and the legs are spliced into one
+   * trajectory before it is split into left and right wheels.
+   *
+   * @param name The name of the new path.
+   * @param config Trajectory config, used for every leg.
+   * @param wheelbase_width Wheelbase separation; units must be consistent
+   * with config and waypoints.
+   * @param handoff_vels The velocity to pass through between each leg and the
+   * next, one fewer than there are legs. The path starts and ends stopped.
+   * @param legs The waypoints of each leg. Each leg must start at the
+   * waypoint the one before it ended at.
+   * @return The path, or null if a leg couldn't be fit, the legs don't join
+   * up, or a leg is too short to reach its handoff velocity.
+   */
+  public static Path makeChainedPath(String name,
+          TrajectoryGenerator.Config config, double wheelbase_width,
+          double[] handoff_vels, WaypointSequence... legs) {
+    Trajectory center = generateChain(config, handoff_vels, legs);
+    if (center == null) {
+      return null;
+    }
+    return new Path(name,
+            makeLeftAndRightTrajectories(center, wheelbase_width));
+  }
+
+  static Trajectory generateChain(TrajectoryGenerator.Config config,
+          double[] handoff_vels, WaypointSequence... legs) {
+    if (legs.length == 0 || handoff_vels.length != legs.length - 1) {
+      return null;
+    }
+    Trajectory chain = null;
+    for (int i = 0; i < legs.length; ++i) {
+      if (i > 0 && !joins(legs[i - 1], legs[i])) {
+        return null;
+      }
+      double start_vel = i > 0 ? handoff_vels[i - 1] : 0;
+      double goal_vel = i < handoff_vels.length ? handoff_vels[i] : 0;
+      Trajectory leg = generateFromPath(legs[i], config, start_vel, goal_vel);
+      if (leg == null) {
+        return null;
+      }
+      if (chain == null) {
+        chain = leg;
+      } else {
+        // Carry on from where the last leg left off
+        double offset = chain.getSegment(chain.getNumSegments() - 1).pos;
+        for (int j = 0; j < leg.getNumSegments(); ++j) {
+          leg.getSegment(j).pos += offset;
+        }
+        chain.append(leg);
+      }
+    }
+    return chain;
+  }
+
+  private static boolean joins(WaypointSequence leg, WaypointSequence next) {
+    WaypointSequence.Waypoint end = leg.getWaypoint(leg.getNumWaypoints() - 1);
+    WaypointSequence.Waypoint start = next.getWaypoint(0);
+    return end != null && start != null && Math.abs(end.x - start.x) < 1E-6
+            && Math.abs(end.y - start.y) < 1E-6
+            && Math.abs(end.theta - start.theta) < 1E-6;
+  }
+
   static Trajectory.Pair generateLeftAndRightFromSeq(WaypointSequence path,
           TrajectoryGenerator.Config config, double wheelbase_width) {
     return makeLeftAndRightTrajectories(generateFromPath(path, config),
@@ -33,31 +295,291 @@ public class PathGenerator {
 
   static Trajectory generateFromPath(WaypointSequence path,
           TrajectoryGenerator.Config config) {
-    if (path.getNumWaypoints() < 2) {
+    return generateFromPath(path, config, 0.0, 0.0);
+  }
+
+  /**
+   * Generate a trajectory along the waypoints that starts and ends moving.
+   *
+   * @return The trajectory, or null if the waypoints couldn't be fit or
+   * goal_vel can't be reached over the length of the path.
+   */
+  static Trajectory generateFromPath(WaypointSequence path,
+          TrajectoryGenerator.Config config, double start_vel,
+          double goal_vel) {
+    Spline[] splines = fitSplines(path);
+    if (splines == null) {
       return null;
     }
 
-    // Compute the total length of the path by creating splines for each pair
-    // of waypoints.
-    Spline[] splines = new Spline[path.getNumWaypoints() - 1];
+    // Compute the total length of the path from the splines.
     double[] spline_lengths = new double[splines.length];
     double total_distance = 0;
     for (int i = 0; i < splines.length; ++i) {
-      splines[i] = new Spline();
-      if (!Spline.reticulateSplines(path.getWaypoint(i),
-              path.getWaypoint(i + 1), splines[i], Spline.QuinticHermite)) {
-        return null;
-      }
       spline_lengths[i] = splines[i].calculateLength();
       total_distance += spline_lengths[i];
     }
 
     // Generate a smooth trajectory over the total distance.
     Trajectory traj = TrajectoryGenerator.generate(config,
-            TrajectoryGenerator.SCurvesStrategy, 0.0, path.getWaypoint(0).theta,
-            total_distance, 0.0, path.getWaypoint(0).theta);
+            TrajectoryGenerator.SCurvesStrategy, start_vel,
+            path.getWaypoint(0).theta, total_distance, goal_vel,
+            path.getWaypoint(0).theta);
+    if (traj == null) {
+      return null;
+    }
+
+    assignHeadings(traj, splines, spline_lengths);
+    return traj;
+  }
 
-    // Assign headings based on the splines.
+  /**
+   * Generate the fastest trajectory along the waypoints, from stopped to
+   * stopped, that keeps both wheels within max_vel and max_acc and the
+   * robot within max_centripetal_acc.
+   *
+   * The limits are checked at points a small distance apart. Each point's
+   * curvature caps the speed there, and caps the acceleration through it by
+   * how much faster the outer wheel moves and how quickly the curvature is
+   * changing. A forward pass then speeds up as hard as allowed from the start,
+   * and a backward pass slows down as hard as allowed into the end, so the
+   * speed at each point is the highest both passes allow. Speed is treated
+   * as changing at a constant rate between points, which gives the time of
+   * each point and the trajectory is sampled from that every dt.
+   *
+   * @return The trajectory, or null if the waypoints couldn't be fit.
+   */
+  static Trajectory generateTimeOptimalFromPath(WaypointSequence path,
+          TrajectoryGenerator.Config config, double wheelbase_width) {
+    Spline[] splines = fitSplines(path);
+    if (splines == null) {
+      return null;
+    }
+    double[] spline_lengths = new double[splines.length];
+    double total_distance = 0;
+    for (int i = 0; i < splines.length; ++i) {
+      spline_lengths[i] = splines[i].calculateLength();
+      total_distance += spline_lengths[i];
+    }
+
+    // At least one point between the ends, or a short path would have no
+    // speed to move at.
+    int num_points = Math.max(3, 1 + (int) Math.ceil(total_distance
+            * kPlanningPointsPerSegment / (config.max_vel * config.dt)));
+    double ds = total_distance / (num_points - 1);
+
+    // Curvature at each point.
+    double[] curvature = new double[num_points];
+    int cur_spline = 0;
+    double cur_spline_start_pos = 0;
+    for (int i = 0; i < num_points; ++i) {
+      double pos = i * ds;
+      while (cur_spline < splines.length - 1
+              && pos - cur_spline_start_pos > spline_lengths[cur_spline]) {
+        cur_spline_start_pos += spline_lengths[cur_spline];
+        ++cur_spline;
+      }
+      curvature[i] = splines[cur_spline].curvatureAt(
+              splines[cur_spline].getPercentageForDistance(
+                      pos - cur_spline_start_pos));
+    }
+
+    // Speed limit at each point. The outer wheel goes (1 + curvature * half
+    // the wheelbase) times as fast as the middle, and a changing curvature
+    // speeds one wheel up and slows the other down by speed squared times
+    // the rate of change * half the wheelbase, even at a constant speed.
+    double half_width = wheelbase_width / 2;
+    double[] outer = new double[num_points];
+    double[] turning = new double[num_points];
+    double[] max_vel = new double[num_points];
+    for (int i = 0; i < num_points; ++i) {
+      double k = Math.abs(curvature[i]);
+      double dk = Math.max(
+              i > 0 ? Math.abs(curvature[i] - curvature[i - 1]) : 0,
+              i < num_points - 1 ? Math.abs(curvature[i + 1] - curvature[i])
+                      : 0) / ds;
+      outer[i] = 1 + k * half_width;
+      turning[i] = dk * half_width;
+      double vel = config.max_vel / outer[i];
+      if (config.max_centripetal_acc > 0 && k > 0) {
+        vel = Math.min(vel, Math.sqrt(config.max_centripetal_acc / k));
+      }
+      if (turning[i] > 0) {
+        vel = Math.min(vel, Math.sqrt(config.max_acc / turning[i]));
+      }
+      max_vel[i] = vel;
+    }
+
+    // Forward and backward passes. Between two points the wheels can take
+    // acc * outer + vel^2 * turning; solving for the speed at the faster
+    // end of the pair keeps that within max_acc all the way between them.
+    double[] vel = new double[num_points];
+    for (int i = 0; i < num_points - 1; ++i) {
+      vel[i + 1] = Math.min(max_vel[i + 1], nextVel(vel[i], ds,
+              config.max_acc, Math.max(outer[i], outer[i + 1]),
+              Math.max(turning[i], turning[i + 1])));
+    }
+    vel[num_points - 1] = 0;
+    for (int i = num_points - 1; i > 0; --i) {
+      vel[i - 1] = Math.min(vel[i - 1], nextVel(vel[i], ds, config.max_acc,
+              Math.max(outer[i], outer[i - 1]),
+              Math.max(turning[i], turning[i - 1])));
+    }
+
+    Trajectory traj = sampleByTime(vel, ds, config.dt);
+    assignHeadings(traj, splines, spline_lengths);
+    return traj;
+  }
+
+  // The fastest speed a distance on from vel, where the acceleration allowed
+  // is (max_acc - speed^2 * turning) / outer at the faster speed.
+  private static double nextVel(double vel, double ds, double max_acc,
+          double outer, double turning) {
+    return Math.sqrt((vel * vel + 2 * ds * max_acc / outer)
+            / (1 + 2 * ds * turning / outer));
+  }
+
+  // Sample a speed at evenly spaced distances every dt, with the speed
+  // changing at a constant rate between the distances. Like the S-curve
+  // stream, the first segment is one dt in and the last lands on the end,
+  // lasting only whatever time is left.
+  private static Trajectory sampleByTime(double[] vel, double ds, double dt) {
+    int last = vel.length - 1;
+    double[] times = new double[vel.length];
+    for (int i = 0; i < last; ++i) {
+      times[i + 1] = times[i] + 2 * ds / (vel[i] + vel[i + 1]);
+    }
+    double duration = times[last];
+
+    int num_segments = Math.max(1, (int) Math.ceil(duration / dt - 1E-9));
+    Trajectory traj = new Trajectory(num_segments);
+    int i = 0;
+    double last_acc = 0;
+    for (int j = 0; j < num_segments; ++j) {
+      Trajectory.Segment segment = traj.getSegment(j);
+      double time = Math.min((j + 1) * dt, duration);
+      while (i < last - 1 && times[i + 1] <= time) {
+        ++i;
+      }
+      double t = time - times[i];
+      double acc = (vel[i + 1] * vel[i + 1] - vel[i] * vel[i]) / (2 * ds);
+      segment.pos = Math.min(i * ds + vel[i] * t + acc * t * t / 2,
+              last * ds);
+      segment.vel = Math.max(vel[i] + acc * t, 0);
+      segment.acc = acc;
+      segment.jerk = (acc - last_acc) / dt;
+      segment.dt = j < num_segments - 1 ? dt : duration - j * dt;
+      last_acc = acc;
+    }
+    Trajectory.Segment end = traj.getSegment(traj.getNumSegments() - 1);
+    end.pos = last * ds;
+    end.vel = 0;
+    return traj;
+  }
+
+  /**
+   * Generate the fastest S-curve along the waypoints that keeps the wheels
+   * within the limits, by scaling down the velocity, acceleration and jerk
+   * limits of config together. This is what makePath needs to be given to
+   * stay within the limits, so it is what time optimal paths are compared
+   * to.
+   *
+   * @return The trajectory, or null if even a very slow S-curve breaks the
+   * limits.
+   */
+  static Trajectory generateWithinLimits(WaypointSequence path,
+          TrajectoryGenerator.Config config, double wheelbase_width) {
+    Trajectory best = generateFromPath(path, config);
+    if (best == null || isWithinLimits(best, config, wheelbase_width)) {
+      return best;
+    }
+    best = null;
+    double low = 0;
+    double high = 1;
+    for (int i = 0; i < kScaleSearchIterations; ++i) {
+      double scale = (low + high) / 2;
+      TrajectoryGenerator.Config scaled = new TrajectoryGenerator.Config();
+      scaled.dt = config.dt;
+      scaled.max_vel = config.max_vel * scale;
+      scaled.max_acc = config.max_acc * scale;
+      scaled.max_jerk = config.max_jerk * scale;
+      Trajectory traj = generateFromPath(path, scaled);
+      if (traj != null && isWithinLimits(traj, config, wheelbase_width)) {
+        best = traj;
+        low = scale;
+      } else {
+        high = scale;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * @return Whether both wheels of a trajectory stay within max_vel and
+   * max_acc and the middle of the robot within max_centripetal_acc.
+   */
+  static boolean isWithinLimits(Trajectory center,
+          TrajectoryGenerator.Config config, double wheelbase_width) {
+    Trajectory.Pair wheels = makeLeftAndRightTrajectories(center,
+            wheelbase_width);
+    double max_vel = config.max_vel * kLimitTolerance;
+    double max_acc = config.max_acc * kLimitTolerance;
+    double max_centripetal_acc = config.max_centripetal_acc * kLimitTolerance;
+    for (int i = 1; i < center.getNumSegments(); ++i) {
+      Trajectory.Segment left = wheels.left.getSegment(i);
+      Trajectory.Segment right = wheels.right.getSegment(i);
+      if (Math.abs(left.vel) > max_vel || Math.abs(right.vel) > max_vel
+              || Math.abs(left.acc) > max_acc
+              || Math.abs(right.acc) > max_acc) {
+        return false;
+      }
+      Trajectory.Segment current = center.getSegment(i);
+      Trajectory.Segment previous = center.getSegment(i - 1);
+      double dist = current.pos - previous.pos;
+      if (config.max_centripetal_acc > 0 && dist > 0) {
+        double turn = Math.abs(ChezyMath.getDifferenceInAngleRadians(
+                previous.heading, current.heading));
+        double vel = dist / current.dt;
+        if (vel * vel * turn / dist > max_centripetal_acc) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return How long a trajectory takes, in seconds. Every segment counts,
+   * since the first one is already a dt in.
+   */
+  static double durationOf(Trajectory traj) {
+    double duration = 0;
+    for (int i = 0; i < traj.getNumSegments(); ++i) {
+      duration += traj.getSegment(i).dt;
+    }
+    return duration;
+  }
+
+  // A quintic spline between each pair of waypoints, or null if there are
+  // fewer than two waypoints or a pair can't be joined.
+  private static Spline[] fitSplines(WaypointSequence path) {
+    if (path.getNumWaypoints() < 2) {
+      return null;
+    }
+    Spline[] splines = new Spline[path.getNumWaypoints() - 1];
+    for (int i = 0; i < splines.length; ++i) {
+      splines[i] = new Spline();
+      if (!Spline.reticulateSplines(path.getWaypoint(i),
+              path.getWaypoint(i + 1), splines[i], Spline.QuinticHermite)) {
+        return null;
+      }
+    }
+    return splines;
+  }
+
+  // Assign headings and positions to each segment based on the splines.
+  private static void assignHeadings(Trajectory traj, Spline[] splines,
+          double[] spline_lengths) {
     int cur_spline = 0;
     double cur_spline_start_pos = 0;
     double length_of_splines_finished = 0;
@@ -88,8 +610,6 @@ public class PathGenerator {
         }
       }
     }
-
-    return traj;
   }
 
   /**
@@ -47,6 +47,27 @@ public class Spline {
   double theta_offset_;
   double arc_length_;
 
+  // Abscissae and weights for five point Gauss-Legendre quadrature on [-1, 1].
+  private static final double[] kGaussNodes = {
+    -0.9061798459386640, -0.5384693101056831, 0.0,
+    0.5384693101056831, 0.9061798459386640
+  };
+  private static final double[] kGaussWeights = {
+    0.2369268850561891, 0.4786286704993665, 0.5688888888888889,
+    0.4786286704993665, 0.2369268850561891
+  };
+
+  // Relative error tolerance for arc length integration, and a bound on how
+  // many times an interval may be bisected to meet it.
+  private static double length_tolerance_ = 1E-10;
+  private static final int kMaxLengthDepth = 20;
+
+  // Normalized arc length at kLengthTableSize + 1 evenly spaced percentages,
+  // built on the first call to getPercentageForDistance.
+  double[] length_table_;
+  private static final int kLengthTableSize = 64;
+  private static final int kNewtonIterations = 2;
+
   Spline() {
     // All splines should be made via the static interface
     arc_length_ = -1;
@@ -66,6 +87,8 @@ public class Spline {
           double x1, double y1, double theta1, Spline result, Type type) {
     System.out.println("Reticulating splines...");
     result.type_ = type;
+    result.arc_length_ = -1;
+    result.length_table_ = null;
 
     // Transform x to the origin
     result.x_offset_ = x0;
@@ -121,50 +144,106 @@ public class Spline {
       return arc_length_;
     }
 
-    final int kNumSamples = 100000;
-    double arc_length = 0;
-    double t, dydt;
-    double integrand, last_integrand
-            = Math.sqrt(1 + derivativeAt(0) * derivativeAt(0)) / kNumSamples;
-    for (int i = 1; i <= kNumSamples; ++i) {
-      t = ((double) i) / kNumSamples;
-      dydt = derivativeAt(t);
-      integrand = Math.sqrt(1 + dydt * dydt) / kNumSamples;
-      arc_length += (integrand + last_integrand) / 2;
-      last_integrand = integrand;
-    }
-    arc_length_ = knot_distance_ * arc_length;
+    double whole = gaussLegendre(0, 1);
+    arc_length_ = knot_distance_ * adaptiveLength(0, 1, whole,
+            length_tolerance_ * whole, kMaxLengthDepth);
     return arc_length_;
   }
 
+  /**
+   * Set the relative error tolerance used when integrating spline arc
+   * lengths. Only affects lengths calculated after the call.
+   *
+   * @param tolerance Relative error tolerance, e.g. 1E-9.
+   */
+  public static void setLengthTolerance(double tolerance) {
+    length_tolerance_ = tolerance;
+  }
+
+  public static double getLengthTolerance() {
+    return length_tolerance_;
+  }
+
+  // Integrand of the normalized arc length, sqrt(1 + (dy/dx)^2).
+  private double arcLengthIntegrand(double percentage) {
+    double dydt = derivativeAt(percentage);
+    return Math.sqrt(1 + dydt * dydt);
+  }
+
+  // Five point Gauss-Legendre estimate of the normalized arc length between
+  // two percentages.
+  private double gaussLegendre(double t0, double t1) {
+    double half_width = (t1 - t0) / 2;
+    double center = (t1 + t0) / 2;
+    double sum = 0;
+    for (int i = 0; i < kGaussNodes.length; ++i) {
+      sum += kGaussWeights[i]
+              * arcLengthIntegrand(center + half_width * kGaussNodes[i]);
+    }
+    return sum * half_width;
+  }
+
+  // Split the interval in half until both halves agree with the estimate for
+  // the whole interval to within the (absolute) tolerance.
+  private double adaptiveLength(double t0, double t1, double whole,
+          double tolerance, int depth) {
+    double t_mid = (t0 + t1) / 2;
+    double left = gaussLegendre(t0, t_mid);
+    double right = gaussLegendre(t_mid, t1);
+    if (depth <= 0 || Math.abs(left + right - whole) <= tolerance) {
+      return left + right;
+    }
+    return adaptiveLength(t0, t_mid, left, tolerance / 2, depth - 1)
+            + adaptiveLength(t_mid, t1, right, tolerance / 2, depth - 1);
+  }
+
   public double getPercentageForDistance(double distance) {
-    final int kNumSamples = 100000;
-    double arc_length = 0;
-    double t = 0;
-    double last_arc_length = 0;
-    double dydt;
-    double integrand, last_integrand
-            = Math.sqrt(1 + derivativeAt(0) * derivativeAt(0)) / kNumSamples;
+    if (length_table_ == null) {
+      buildLengthTable();
+    }
     distance /= knot_distance_;
-    for (int i = 1; i <= kNumSamples; ++i) {
-      t = ((double) i) / kNumSamples;
-      dydt = derivativeAt(t);
-      integrand = Math.sqrt(1 + dydt * dydt) / kNumSamples;
-      arc_length += (integrand + last_integrand) / 2;
-      if (arc_length > distance) {
-        break;
+    if (distance <= 0) {
+      return 0;
+    }
+    if (distance >= length_table_[kLengthTableSize]) {
+      return 1;
+    }
+
+    // Find the table interval containing the distance.
+    int low = 0;
+    int high = kLengthTableSize;
+    while (high - low > 1) {
+      int mid = (low + high) / 2;
+      if (length_table_[mid] <= distance) {
+        low = mid;
+      } else {
+        high = mid;
       }
-      last_integrand = integrand;
-      last_arc_length = arc_length;
     }
 
-    // Interpolate between samples.
-    double interpolated = t;
-    if (arc_length != last_arc_length) {
-      interpolated += ((distance - last_arc_length)
-              / (arc_length - last_arc_length) - 1) / (double) kNumSamples;
+    // Interpolate within the interval, then refine with Newton's method.
+    // The derivative of arc length with respect to percentage is just the
+    // arc length integrand.
+    double t_low = ((double) low) / kLengthTableSize;
+    double t = t_low + (distance - length_table_[low])
+            / (length_table_[high] - length_table_[low]) / kLengthTableSize;
+    for (int i = 0; i < kNewtonIterations; ++i) {
+      double error = length_table_[low] + gaussLegendre(t_low, t) - distance;
+      t -= error / arcLengthIntegrand(t);
     }
-    return interpolated;
+    return Math.max(Math.min(t, 1), 0);
+  }
+
+  // Tabulate the normalized arc length at evenly spaced percentages so that
+  // distance lookups don't have to integrate from the start of the spline.
+  private void buildLengthTable() {
+    double[] table = new double[kLengthTableSize + 1];
+    for (int i = 1; i <= kLengthTableSize; ++i) {
+      table[i] = table[i - 1] + gaussLegendre(
+              ((double) i - 1) / kLengthTableSize,
+              ((double) i) / kLengthTableSize);
+    }
+    length_table_ = table;
   }
 
   public double[] getXandY(double percentage) {
@@ -221,6 +300,16 @@ public class Spline {
     return angle;
   }
 
+  /**
+   * @return Curvature (one over the turning radius) at a percentage, positive
+   * when the spline turns towards increasing angles.
+   */
+  public double curvatureAt(double percentage) {
+    double yp_hat = derivativeAt(percentage);
+    double ypp_hat = secondDerivativeAt(percentage);
+    return ypp_hat / Math.pow(1 + yp_hat * yp_hat, 1.5);
+  }
+
   public double angleChangeAt(double percentage) {
     return ChezyMath.boundAngleNegPiToPiRadians(
             Math.atan(secondDerivativeAt(percentage)));
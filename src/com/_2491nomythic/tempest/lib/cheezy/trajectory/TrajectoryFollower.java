@@ -13,9 +13,13 @@ public class TrajectoryFollower {
   private double kv_;
   private double ka_;
   private double last_error_;
+  private double setpoint_pos_;
+  private double setpoint_vel_;
   private double current_heading = 0;
   private int current_segment;
-  private Trajectory profile_;
+  private PackedTrajectory profile_;
+  private PackedTrajectory.Cursor cursor_;
+  private TrajectorySampler sampler_;
 
   public TrajectoryFollower() {
 
@@ -34,20 +38,33 @@ public class TrajectoryFollower {
     current_segment = 0;
   }
 
+  /**
+   * Follow a copy of the given trajectory. Later changes to the Trajectory
+   * are not seen by the follower.
+   */
   public void setTrajectory(Trajectory profile) {
+    setTrajectory(new PackedTrajectory(profile));
+  }
+
+  public void setTrajectory(PackedTrajectory profile) {
     profile_ = profile;
+    cursor_ = profile.cursor();
+    sampler_ = new TrajectorySampler(profile);
   }
 
   public double calculate(double distance_so_far) {
     if (current_segment < profile_.getNumSegments()) {
-      Trajectory.Segment segment = profile_.getSegment(current_segment);
-      double error = segment.pos - distance_so_far;
+      PackedTrajectory.Cursor segment = cursor_;
+      segment.moveTo(current_segment);
+      double error = segment.pos() - distance_so_far;
       double output = kp_ * error + kd_ * ((error - last_error_)
-              / segment.dt - segment.vel) + (kv_ * segment.vel
-              + ka_ * segment.acc);
+              / segment.dt() - segment.vel()) + (kv_ * segment.vel()
+              + ka_ * segment.acc());
 
       last_error_ = error;
-      current_heading = segment.heading;
+      setpoint_pos_ = segment.pos();
+      setpoint_vel_ = segment.vel();
+      current_heading = segment.heading();
       current_segment++;
       //System.out.println("so far: " + distance_so_far + "; output: " + output);
       return output;
@@ -56,6 +73,107 @@ public class TrajectoryFollower {
     }
   }
 
+  /**
+   * Calculate the output for a point partway between two segments, for
+   * followers that run faster than the trajectory's dt and work out where the
+   * trajectory should be from a clock. Position, velocity and acceleration are
+   * interpolated towards the next segment, the heading turns the short way
+   * towards the next one, and the derivative term is the change in error over
+   * the time since the last call. Does not allocate.
+   *
+   * @param distance_so_far Distance travelled since the start of the
+   * trajectory.
+   * @param segment The segment the trajectory is on.
+   * @param fraction How far from segment towards the next one, from 0 to 1.
+   * @param dt Seconds since the last call, or 0 on the first call.
+   * @return The output, in the trajectory's velocity units when kv is 1.
+   */
+  public double calculate(double distance_so_far, int segment, double fraction,
+          double dt) {
+    PackedTrajectory.Cursor cursor = cursor_;
+    if (!cursor.moveTo(segment)) {
+      current_segment = profile_.getNumSegments();
+      return 0;
+    }
+    double pos = cursor.pos();
+    double vel = cursor.vel();
+    double acc = cursor.acc();
+    current_heading = cursor.heading();
+
+    if (fraction > 0 && cursor.next()) {
+      pos += fraction * (cursor.pos() - pos);
+      vel += fraction * (cursor.vel() - vel);
+      acc += fraction * (cursor.acc() - acc);
+      current_heading = TrajectorySampler.lerpAngle(current_heading,
+              cursor.heading(), fraction);
+    }
+    double error = pos - distance_so_far;
+    double output = kp_ * error + kv_ * vel + ka_ * acc;
+    if (dt > 0) {
+      output += kd_ * (error - last_error_) / dt;
+    }
+
+    last_error_ = error;
+    setpoint_pos_ = pos;
+    setpoint_vel_ = vel;
+    current_segment = segment;
+    return output;
+  }
+
+  /**
+   * Calculate the output for the setpoint at a time since the start of the
+   * trajectory, found with a TrajectorySampler. Does not allocate.
+   *
+   * @param distance_so_far Distance travelled since the start of the
+   * trajectory.
+   * @param time Seconds since the start of the trajectory.
+   * @param dt Seconds since the last call, or 0 on the first call.
+   * @return The output, in the trajectory's velocity units when kv is 1.
+   */
+  public double calculateAtTime(double distance_so_far, double time,
+          double dt) {
+    if (time > sampler_.getDuration()) {
+      current_segment = profile_.getNumSegments();
+      return 0;
+    }
+    sampler_.seekTo(time);
+    return calculate(distance_so_far, sampler_.getIndex(),
+            sampler_.getFraction(), dt);
+  }
+
+  /**
+   * @return The time of the trajectory's last segment.
+   */
+  public double getDuration() {
+    return sampler_.getDuration();
+  }
+
+  /**
+   * @return The setpoint position minus the distance travelled, from the last
+   * call to calculate.
+   */
+  public double getError() {
+    return last_error_;
+  }
+
+  /**
+   * @return The position the last call to calculate aimed for.
+   */
+  public double getSetpointPos() {
+    return setpoint_pos_;
+  }
+
+  /**
+   * @return The velocity the last call to calculate aimed for.
+   */
+  public double getSetpointVel() {
+    return setpoint_vel_;
+  }
+
+  public int getCurrentSegment() {
+    return current_segment;
+  }
+
   public double getHeading() {
     return current_heading;
   }
@@ -14,6 +14,9 @@ public class TrajectoryGenerator {
     public double max_vel;
     public double max_acc;
     public double max_jerk;
+    // Only used by time optimal paths; 0 for no limit on sideways
+    // acceleration in turns.
+    public double max_centripetal_acc;
   }
 
   public static class Strategy {
@@ -56,8 +59,9 @@ public class TrajectoryGenerator {
           = new Strategy("TrapezoidalStrategy");
 
   // Move from the start tot he goal with a S-curve speed profile.  All limits
-  // are obeyed, but only point-to-point moves (start_vel = goal_vel = 0) are
-  // currently supported.
+  // are obeyed.  Point-to-point moves (start_vel = goal_vel = 0) use the
+  // filter; any other start and goal vel use a jerk limited profile, which
+  // returns null if the goal vel can't be reached in goal_pos.
   public static final Strategy SCurvesStrategy
           = new Strategy("SCurvesStrategy");
 
@@ -97,12 +101,44 @@ public class TrajectoryGenerator {
           double goal_pos,
           double goal_vel,
           double goal_heading) {
+    SegmentStream stream = generateStream(config, strategy, start_vel,
+            start_heading, goal_pos, goal_vel, goal_heading);
+    if (stream == null) {
+      return null;
+    }
+
+    Trajectory traj = new Trajectory(stream.getNumSegments());
+    for (int i = 0; stream.hasNext(); ++i) {
+      stream.next(traj.segments_[i]);
+    }
+    return traj;
+  }
+
+  /**
+   * Generate a trajectory from a start state to a goal state one segment at a
+   * time. The segments are identical to those from generate, but memory use
+   * is proportional to the filter length instead of the trajectory length,
+   * so a follower can consume segments while later ones are still being
+   * computed.
+   *
+   * @see #generate
+   * @return A stream of the trajectory's segments, or null if the inputs
+   * can't be satisfied.
+   */
+  public static SegmentStream generateStream(
+          Config config,
+          Strategy strategy,
+          double start_vel,
+          double start_heading,
+          double goal_pos,
+          double goal_vel,
+          double goal_heading) {
     // Choose an automatic strategy.
     if (strategy == AutomaticStrategy) {
       strategy = chooseStrategy(start_vel, goal_vel, config.max_vel);
     }
 
-    Trajectory traj;
+    SegmentStream stream;
     if (strategy == StepStrategy) {
       double impulse = (goal_pos / config.max_vel) / config.dt;
 
@@ -110,7 +146,7 @@ public class TrajectoryGenerator {
       // This is due to discretization and avoids a strange final
       // velocity.
       int time = (int) (Math.floor(impulse));
-      traj = secondOrderFilter(1, 1, config.dt, config.max_vel,
+      stream = secondOrderFilter(1, 1, config.dt, config.max_vel,
               config.max_vel, impulse, time, TrapezoidalIntegration);
 
     } else if (strategy == TrapezoidalStrategy) {
@@ -139,9 +175,18 @@ public class TrajectoryGenerator {
       double impulse = (goal_pos / adjusted_max_vel) / config.dt
               - start_vel / config.max_acc / config.dt
               + start_discount + end_discount;
-      traj = secondOrderFilter(f1_length, 1, config.dt, start_vel,
+      stream = secondOrderFilter(f1_length, 1, config.dt, start_vel,
               adjusted_max_vel, impulse, time, TrapezoidalIntegration);
 
+    } else if (strategy == SCurvesStrategy
+            && (start_vel != 0 || goal_vel != 0)) {
+      JerkLimitedProfile profile = JerkLimitedProfile.plan(config, start_vel,
+              goal_pos, goal_vel);
+      if (profile == null) {
+        return null;
+      }
+      stream = new SegmentStream(profile, config.dt);
+
     } else if (strategy == SCurvesStrategy) {
       // How fast can we go given maximum acceleration and deceleration?
       double adjusted_max_vel = Math.min(config.max_vel,
@@ -157,26 +202,20 @@ public class TrajectoryGenerator {
               / config.max_jerk) / config.dt);
       double impulse = (goal_pos / adjusted_max_vel) / config.dt;
       int time = (int) (Math.ceil(f1_length + f2_length + impulse));
-      traj = secondOrderFilter(f1_length, f2_length, config.dt, 0,
+      stream = secondOrderFilter(f1_length, f2_length, config.dt, 0,
               adjusted_max_vel, impulse, time, TrapezoidalIntegration);
 
     } else {
       return null;
     }
 
-    // Now assign headings by interpolating along the path.
-    // Don't do any wrapping because we don't know units.
-    double total_heading_change = goal_heading - start_heading;
-    for (int i = 0; i < traj.getNumSegments(); ++i) {
-      traj.segments_[i].heading = start_heading + total_heading_change
-              * (traj.segments_[i].pos)
-              / traj.segments_[traj.getNumSegments() - 1].pos;
+    if (stream != null) {
+      stream.setHeadings(start_heading, goal_heading);
     }
-
-    return traj;
+    return stream;
   }
 
-  private static Trajectory secondOrderFilter(
+  private static SegmentStream secondOrderFilter(
           int f1_length,
           int f2_length,
           double dt,
@@ -188,74 +227,390 @@ public class TrajectoryGenerator {
     if (length <= 0) {
       return null;
     }
-    Trajectory traj = new Trajectory(length);
-
-    Trajectory.Segment last = new Trajectory.Segment();
-    // First segment is easy
-    last.pos = 0;
-    last.vel = start_vel;
-    last.acc = 0;
-    last.jerk = 0;
-    last.dt = dt;
-
-    // f2 is the average of the last f2_length samples from f1, so while we
-    // can recursively compute f2's sum, we need to keep a buffer for f1.
-    double[] f1 = new double[length];
-    f1[0] = (start_vel / max_vel) * f1_length;
-    double f2;
-    for (int i = 0; i < length; ++i) {
+    return new SegmentStream(f1_length, f2_length, dt, start_vel, max_vel,
+            total_impulse, length, integration);
+  }
+
+  /**
+   * The segments of a trajectory, computed one at a time by running the
+   * second order filter forward a step per call to next.
+   */
+  public static class SegmentStream {
+
+    private final int f1_length_;
+    private final int f2_length_;
+    private final double dt_;
+    private final double start_vel_;
+    private final double max_vel_;
+    private final double start_impulse_;
+    private final int length_;
+    private final IntegrationMethod integration_;
+    private final JerkLimitedProfile profile_;
+
+    // f2 is the average of the last f2_length samples from f1, so we keep
+    // those samples in a ring buffer.
+    private final double[] f1_;
+    private double f1_last_;
+    private double total_impulse_;
+    private int index_;
+
+    private final Trajectory.Segment current_ = new Trajectory.Segment();
+    private double last_pos_;
+    private double last_vel_;
+    private double last_acc_;
+
+    // Headings are interpolated by position along the whole trajectory.
+    private double start_heading_;
+    private double total_heading_change_;
+    private double final_pos_;
+
+    SegmentStream(int f1_length, int f2_length, double dt, double start_vel,
+            double max_vel, double total_impulse, int length,
+            IntegrationMethod integration) {
+      f1_length_ = f1_length;
+      f2_length_ = f2_length;
+      dt_ = dt;
+      start_vel_ = start_vel;
+      max_vel_ = max_vel;
+      start_impulse_ = total_impulse;
+      length_ = length;
+      integration_ = integration;
+      profile_ = null;
+      f1_ = new double[Math.max(f2_length, 1)];
+
+      f1_last_ = (start_vel / max_vel) * f1_length;
+      total_impulse_ = total_impulse;
+      index_ = 0;
+
+      // First segment is easy
+      last_pos_ = 0;
+      last_vel_ = start_vel;
+      last_acc_ = 0;
+    }
+
+    SegmentStream(JerkLimitedProfile profile, double dt) {
+      f1_length_ = 0;
+      f2_length_ = 0;
+      dt_ = dt;
+      start_vel_ = profile.getStartVel();
+      max_vel_ = 0;
+      start_impulse_ = 0;
+      // The last segment lands exactly on the end of the profile
+      length_ = (int) Math.ceil(profile.getDuration() / dt - 1E-9);
+      integration_ = null;
+      profile_ = profile;
+      f1_ = null;
+      last_vel_ = start_vel_;
+    }
+
+    /**
+     * @return The total number of segments the stream will produce.
+     */
+    public int getNumSegments() {
+      return length_;
+    }
+
+    /**
+     * @return The index of the segment the next call to next will produce.
+     */
+    public int getIndex() {
+      return index_;
+    }
+
+    public boolean hasNext() {
+      return index_ < length_;
+    }
+
+    /**
+     * Compute the next segment. The returned Segment is reused by the stream
+     * and is only valid until the following call to next.
+     */
+    public Trajectory.Segment next() {
+      if (!hasNext()) {
+        throw new java.util.NoSuchElementException();
+      }
+      int i = index_;
+
+      if (profile_ != null) {
+        return nextFromProfile(i);
+      }
+
       // Apply input
-      double input = Math.min(total_impulse, 1);
+      double input = Math.min(total_impulse_, 1);
       if (input < 1) {
         // The impulse is over, so decelerate
         input -= 1;
-        total_impulse = 0;
+        total_impulse_ = 0;
       } else {
-        total_impulse -= input;
+        total_impulse_ -= input;
       }
 
       // Filter through F1
-      double f1_last;
-      if (i > 0) {
-        f1_last = f1[i - 1];
-      } else {
-        f1_last = f1[0];
-      }
-      f1[i] = Math.max(0.0, Math.min(f1_length, f1_last + input));
+      double f1 = Math.max(0.0, Math.min(f1_length_, f1_last_ + input));
+      f1_[i % f1_.length] = f1;
+      f1_last_ = f1;
 
-      f2 = 0;
+      double f2 = 0;
       // Filter through F2
-      for (int j = 0; j < f2_length; ++j) {
+      for (int j = 0; j < f2_length_; ++j) {
         if (i - j < 0) {
           break;
         }
 
-        f2 += f1[i - j];
+        f2 += f1_[(i - j) % f1_.length];
       }
-      f2 = f2 / f1_length;
+      f2 = f2 / f1_length_;
 
+      Trajectory.Segment segment = current_;
       // Velocity is the normalized sum of f2 * the max velocity
-      traj.segments_[i].vel = f2 / f2_length * max_vel;
+      segment.vel = f2 / f2_length_ * max_vel_;
 
-      if (integration == RectangularIntegration) {
-        traj.segments_[i].pos = traj.segments_[i].vel * dt + last.pos;
-      } else if (integration == TrapezoidalIntegration) {
-        traj.segments_[i].pos = (last.vel
-                + traj.segments_[i].vel) / 2.0 * dt + last.pos;
+      if (integration_ == RectangularIntegration) {
+        segment.pos = segment.vel * dt_ + last_pos_;
+      } else if (integration_ == TrapezoidalIntegration) {
+        segment.pos = (last_vel_ + segment.vel) / 2.0 * dt_ + last_pos_;
       }
-      traj.segments_[i].x = traj.segments_[i].pos;
-      traj.segments_[i].y = 0;
+      segment.x = segment.pos;
+      segment.y = 0;
 
       // Acceleration and jerk are the differences in velocity and
       // acceleration, respectively.
-      traj.segments_[i].acc = (traj.segments_[i].vel - last.vel) / dt;
-      traj.segments_[i].jerk = (traj.segments_[i].acc - last.acc) / dt;
-      traj.segments_[i].dt = dt;
+      segment.acc = (segment.vel - last_vel_) / dt_;
+      segment.jerk = (segment.acc - last_acc_) / dt_;
+      segment.dt = dt_;
+
+      // Now assign headings by interpolating along the path.
+      // Don't do any wrapping because we don't know units.
+      if (total_heading_change_ == 0) {
+        segment.heading = start_heading_;
+      } else {
+        segment.heading = start_heading_ + total_heading_change_
+                * segment.pos / final_pos_;
+      }
 
-      last = traj.segments_[i];
+      last_pos_ = segment.pos;
+      last_vel_ = segment.vel;
+      last_acc_ = segment.acc;
+      ++index_;
+      return segment;
     }
 
-    return traj;
+    private Trajectory.Segment nextFromProfile(int i) {
+      Trajectory.Segment segment = current_;
+      double duration = profile_.getDuration();
+      profile_.sample(Math.min((i + 1) * dt_, duration), segment);
+      segment.x = segment.pos;
+      segment.y = 0;
+      // The last segment is clamped to the end of the profile, so it only
+      // lasts for whatever time is left.
+      segment.dt = i < length_ - 1 ? dt_ : duration - i * dt_;
+      if (total_heading_change_ == 0) {
+        segment.heading = start_heading_;
+      } else {
+        segment.heading = start_heading_ + total_heading_change_
+                * segment.pos / final_pos_;
+      }
+
+      last_pos_ = segment.pos;
+      last_vel_ = segment.vel;
+      last_acc_ = segment.acc;
+      ++index_;
+      return segment;
+    }
+
+    /**
+     * Compute the next segment into a caller supplied Segment.
+     *
+     * @return result, for chaining.
+     */
+    public Trajectory.Segment next(Trajectory.Segment result) {
+      Trajectory.Segment segment = next();
+      result.pos = segment.pos;
+      result.vel = segment.vel;
+      result.acc = segment.acc;
+      result.jerk = segment.jerk;
+      result.heading = segment.heading;
+      result.dt = segment.dt;
+      result.x = segment.x;
+      result.y = segment.y;
+      return result;
+    }
+
+    void setHeadings(double start_heading, double goal_heading) {
+      start_heading_ = start_heading;
+      total_heading_change_ = goal_heading - start_heading;
+      if (profile_ != null) {
+        final_pos_ = profile_.getDistance();
+      } else if (total_heading_change_ != 0) {
+        // Interpolating needs the final position, so run an identical filter
+        // to the end first. This doubles the work but not the memory.
+        SegmentStream dry_run = new SegmentStream(f1_length_, f2_length_, dt_,
+                start_vel_, max_vel_, start_impulse_, length_, integration_);
+        while (dry_run.hasNext()) {
+          final_pos_ = dry_run.next().pos;
+        }
+      }
+    }
+  }
+
+  /**
+   * A jerk limited move from a start velocity to a goal velocity over a
+   * given distance: a velocity change up (or down) to a peak velocity, a
+   * cruise, and a velocity change to the goal velocity. Each velocity change
+   * ramps the acceleration up at max_jerk, holds it at max_acc if there is
+   * time, and ramps it back down, so it covers (v_a + v_b) / 2 * its
+   * duration.  Made of at most seven phases of constant jerk, which are
+   * integrated exactly when sampled.
+   */
+  static class JerkLimitedProfile {
+
+    private final double[] durations_ = new double[7];
+    private final double[] jerks_ = new double[7];
+    private final double[] start_pos_ = new double[7];
+    private final double[] start_vel_ = new double[7];
+    private final double[] start_acc_ = new double[7];
+    private double duration_;
+    private double distance_;
+    private double peak_vel_;
+    private int phase_;
+    private double phase_start_;
+
+    /**
+     * @return A profile from start_vel to goal_vel over goal_pos, or null if
+     * either is over max_vel or goal_vel can't be reached in goal_pos within
+     * the limits.
+     */
+    static JerkLimitedProfile plan(Config config, double start_vel,
+            double goal_pos, double goal_vel) {
+      if (goal_pos <= 0 || start_vel < 0 || goal_vel < 0
+              || start_vel > config.max_vel || goal_vel > config.max_vel
+              || config.max_acc <= 0 || config.max_jerk <= 0) {
+        return null;
+      }
+      double low = Math.max(start_vel, goal_vel);
+      double high = config.max_vel;
+      if (rampDistance(start_vel, low, config)
+              + rampDistance(low, goal_vel, config) > goal_pos + 1E-9) {
+        return null;
+      }
+
+      double peak = high;
+      if (rampDistance(start_vel, high, config)
+              + rampDistance(high, goal_vel, config) > goal_pos) {
+        // Can't reach max_vel, find the peak that uses exactly goal_pos
+        for (int i = 0; i < 60; ++i) {
+          double mid = (low + high) / 2;
+          if (rampDistance(start_vel, mid, config)
+                  + rampDistance(mid, goal_vel, config) > goal_pos) {
+            high = mid;
+          } else {
+            low = mid;
+          }
+        }
+        peak = low;
+      }
+
+      JerkLimitedProfile profile = new JerkLimitedProfile();
+      profile.peak_vel_ = peak;
+      double cruise = goal_pos - rampDistance(start_vel, peak, config)
+              - rampDistance(peak, goal_vel, config);
+      profile.addRamp(0, start_vel, peak, config);
+      profile.durations_[3] = peak > 0 ? Math.max(0, cruise) / peak : 0;
+      profile.addRamp(4, peak, goal_vel, config);
+      profile.integrate(start_vel);
+      profile.distance_ = goal_pos;
+      return profile;
+    }
+
+    private static double rampDistance(double from_vel, double to_vel,
+            Config config) {
+      return (from_vel + to_vel) / 2 * rampDuration(from_vel, to_vel, config);
+    }
+
+    private static double rampDuration(double from_vel, double to_vel,
+            Config config) {
+      double dv = Math.abs(to_vel - from_vel);
+      double jerk_time = config.max_acc / config.max_jerk;
+      if (dv >= config.max_acc * jerk_time) {
+        return 2 * jerk_time + (dv / config.max_acc - jerk_time);
+      }
+      return 2 * Math.sqrt(dv / config.max_jerk);
+    }
+
+    private void addRamp(int first_phase, double from_vel, double to_vel,
+            Config config) {
+      double dv = Math.abs(to_vel - from_vel);
+      double sign = to_vel >= from_vel ? 1 : -1;
+      double jerk_time = config.max_acc / config.max_jerk;
+      double hold_time = 0;
+      if (dv < config.max_acc * jerk_time) {
+        jerk_time = Math.sqrt(dv / config.max_jerk);
+      } else {
+        hold_time = dv / config.max_acc - jerk_time;
+      }
+      durations_[first_phase] = jerk_time;
+      jerks_[first_phase] = sign * config.max_jerk;
+      durations_[first_phase + 1] = hold_time;
+      jerks_[first_phase + 1] = 0;
+      durations_[first_phase + 2] = jerk_time;
+      jerks_[first_phase + 2] = -sign * config.max_jerk;
+    }
+
+    private void integrate(double start_vel) {
+      double pos = 0;
+      double vel = start_vel;
+      double acc = 0;
+      duration_ = 0;
+      for (int i = 0; i < durations_.length; ++i) {
+        start_pos_[i] = pos;
+        start_vel_[i] = vel;
+        start_acc_[i] = acc;
+        double t = durations_[i];
+        double j = jerks_[i];
+        pos += vel * t + acc * t * t / 2 + j * t * t * t / 6;
+        vel += acc * t + j * t * t / 2;
+        acc += j * t;
+        duration_ += t;
+      }
+    }
+
+    /**
+     * Fill in pos, vel, acc and jerk at a time. Times should not go
+     * backwards between calls.
+     */
+    void sample(double time, Trajectory.Segment result) {
+      while (phase_ < durations_.length - 1
+              && time > phase_start_ + durations_[phase_]) {
+        phase_start_ += durations_[phase_];
+        ++phase_;
+      }
+      double t = Math.max(0, Math.min(time - phase_start_,
+              durations_[phase_]));
+      double j = jerks_[phase_];
+      double a = start_acc_[phase_];
+      double v = start_vel_[phase_];
+      result.pos = start_pos_[phase_] + v * t + a * t * t / 2
+              + j * t * t * t / 6;
+      result.vel = v + a * t + j * t * t / 2;
+      result.acc = a + j * t;
+      result.jerk = j;
+    }
+
+    double getStartVel() {
+      return start_vel_[0];
+    }
+
+    double getPeakVel() {
+      return peak_vel_;
+    }
+
+    double getDuration() {
+      return duration_;
+    }
+
+    double getDistance() {
+      return distance_;
+    }
   }
 
   public static Strategy chooseStrategy(double start_vel, double goal_vel,
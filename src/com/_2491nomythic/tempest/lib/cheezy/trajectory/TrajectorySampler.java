@@ -0,0 +1,171 @@
+package com._2491nomythic.tempest.lib.cheezy.trajectory;
+
+import com._2491nomythic.tempest.lib.cheezyutil.ChezyMath;
+
+/**
+ * Samples a trajectory by time instead of by segment index.
+ *
+ * Segment i is at the sum of the dt of the segments before it, so segment 0
+ * is at time 0. A sample between two segments interpolates pos, vel, acc, x
+ * and y linearly; jerk and dt are those of the earlier segment. Headings are
+ * radians from Spline.angleAt, so they turn the short way between the two
+ * segments and come out between 0 and 2 pi. Times before the start or after
+ * the end give the first or last segment.
+ *
+ * The sampler remembers the segment it last found. Playing forward only
+ * steps past the segments in between, so it is amortized O(1) per sample,
+ * and jumps backwards or far ahead are found with a binary search. Sampling
+ * writes into a caller supplied Segment and does not allocate, so followers
+ * can sample at their own rate every control loop.
+ */
+public class TrajectorySampler {
+
+  // Further than this ahead a binary search is quicker than stepping
+  private static final int kMaxLinearSteps = 8;
+
+  private final PackedTrajectory trajectory_;
+  private final double[] times_;
+  private int index_;
+  private double fraction_;
+
+  public TrajectorySampler(PackedTrajectory trajectory) {
+    trajectory_ = trajectory;
+    times_ = new double[trajectory.getNumSegments()];
+    double time = 0;
+    for (int i = 0; i < times_.length; ++i) {
+      times_[i] = time;
+      time += trajectory.getDt(i);
+    }
+  }
+
+  /**
+   * Sample a copy of the given trajectory. Later changes to the Trajectory
+   * are not seen by the sampler.
+   */
+  public TrajectorySampler(Trajectory trajectory) {
+    this(new PackedTrajectory(trajectory));
+  }
+
+  /**
+   * @return The time of the last segment.
+   */
+  public double getDuration() {
+    return times_.length == 0 ? 0 : times_[times_.length - 1];
+  }
+
+  /**
+   * Fill in the setpoint at a time.
+   *
+   * @param time Seconds since the first segment.
+   * @param result The Segment to fill in.
+   * @return result, for chaining.
+   */
+  public Trajectory.Segment sample(double time, Trajectory.Segment result) {
+    int n = times_.length;
+    if (n == 0) {
+      return trajectory_.getSegment(0, result);
+    }
+    seek(time);
+
+    int i = index_;
+    double f = fraction_;
+    int next = f > 0 ? i + 1 : i;
+    result.pos = lerp(trajectory_.getPos(i), trajectory_.getPos(next), f);
+    result.vel = lerp(trajectory_.getVel(i), trajectory_.getVel(next), f);
+    result.acc = lerp(trajectory_.getAcc(i), trajectory_.getAcc(next), f);
+    result.heading = lerpAngle(trajectory_.getHeading(i),
+            trajectory_.getHeading(next), f);
+    result.x = lerp(trajectory_.getX(i), trajectory_.getX(next), f);
+    result.y = lerp(trajectory_.getY(i), trajectory_.getY(next), f);
+    result.jerk = trajectory_.getJerk(i);
+    result.dt = trajectory_.getDt(i);
+    return result;
+  }
+
+  /**
+   * Find the segment at or before a time without sampling it, for callers
+   * that only need getIndex and getFraction.
+   *
+   * @param time Seconds since the first segment.
+   */
+  public void seekTo(double time) {
+    if (times_.length > 0) {
+      seek(time);
+    }
+  }
+
+  /**
+   * @return The segment the last sample was at or after.
+   */
+  public int getIndex() {
+    return index_;
+  }
+
+  /**
+   * @return How far the last sample was from its segment towards the next
+   * one, from 0 to 1.
+   */
+  public double getFraction() {
+    return fraction_;
+  }
+
+  private void seek(double time) {
+    int last = times_.length - 1;
+    if (time <= times_[0]) {
+      index_ = 0;
+      fraction_ = 0;
+      return;
+    }
+    if (time >= times_[last]) {
+      index_ = last;
+      fraction_ = 0;
+      return;
+    }
+
+    int i = index_;
+    if (time < times_[i]) {
+      i = search(time);
+    } else {
+      int steps = 0;
+      while (i < last && times_[i + 1] <= time) {
+        if (++steps > kMaxLinearSteps) {
+          i = search(time);
+          break;
+        }
+        ++i;
+      }
+    }
+    index_ = i;
+    double span = times_[i + 1] - times_[i];
+    fraction_ = span > 0 ? (time - times_[i]) / span : 0;
+  }
+
+  // The last segment at or before time, which is inside the trajectory
+  private int search(double time) {
+    int low = 0;
+    int high = times_.length - 1;
+    while (high - low > 1) {
+      int mid = (low + high) >>> 1;
+      if (times_[mid] <= time) {
+        low = mid;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private static double lerp(double a, double b, double fraction) {
+    return a + fraction * (b - a);
+  }
+
+  // Turn the short way from one heading in radians to another, so 6.2 to
+  // 0.05 passes through 0 instead of pi.
+  static double lerpAngle(double from, double to, double fraction) {
+    if (fraction == 0) {
+      return from;
+    }
+    return ChezyMath.boundAngle0to2PiRadians(from + fraction
+            * ChezyMath.getDifferenceInAngleRadians(from, to));
+  }
+}
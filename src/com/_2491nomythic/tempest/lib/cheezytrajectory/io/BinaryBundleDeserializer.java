@@ -0,0 +1,93 @@
+package com._2491nomythic.tempest.lib.cheezytrajectory.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Opens a bundle written by BinaryBundleSerializer. Only the index is parsed;
+ * path data stays in the mapped file until it is read.
+ */
+public class BinaryBundleDeserializer {
+
+  /**
+   * Memory map a bundle file. The mapping stays valid after this returns.
+   *
+   * @param file The bundle to open.
+   * @return The bundle's paths.
+   * @throws IOException If the file can't be read or isn't a valid bundle.
+   */
+  public PathBundle deserialize(File file) throws IOException {
+    RandomAccessFile stream = new RandomAccessFile(file, "r");
+    try {
+      FileChannel channel = stream.getChannel();
+      return deserialize(channel.map(FileChannel.MapMode.READ_ONLY, 0,
+              channel.size()));
+    } finally {
+      stream.close();
+    }
+  }
+
+  /**
+   * Read the index of a bundle that's already in memory.
+   *
+   * @param buffer The bundle. Its position and byte order are not changed.
+   * @return The bundle's paths, backed by the buffer.
+   * @throws IOException If the buffer isn't a valid bundle.
+   */
+  public PathBundle deserialize(ByteBuffer buffer) throws IOException {
+    ByteBuffer bundle = buffer.duplicate();
+    bundle.position(0);
+    bundle.order(ByteOrder.LITTLE_ENDIAN);
+
+    if (bundle.remaining() < BinaryBundleSerializer.kHeaderBytes
+            || bundle.getInt() != BinaryBundleSerializer.kMagic) {
+      throw new IOException("Not a path bundle");
+    }
+    int version = bundle.getInt();
+    if (version != BinaryBundleSerializer.kVersion) {
+      throw new IOException("Unsupported path bundle version " + version);
+    }
+    int bytes_per_value = bundle.getInt();
+    if (bytes_per_value != 4 && bytes_per_value != 8) {
+      throw new IOException("Invalid value size " + bytes_per_value);
+    }
+    int num_paths = bundle.getInt();
+    if (num_paths < 0 || num_paths > bundle.remaining()
+            / BinaryBundleSerializer.kIndexEntryBytes) {
+      throw new IOException("Invalid path count " + num_paths);
+    }
+
+    PathBundle result = new PathBundle(bundle, bytes_per_value, num_paths);
+    for (int i = 0; i < num_paths; ++i) {
+      // Check against what's left so a corrupt length can't allocate or
+      // read past the index.
+      if (bundle.remaining() < BinaryBundleSerializer.kIndexEntryBytes) {
+        throw new IOException("Index entry " + i + " is truncated");
+      }
+      int name_length = bundle.getInt();
+      if (name_length < 0 || name_length > bundle.remaining()
+              - (BinaryBundleSerializer.kIndexEntryBytes - 4)) {
+        throw new IOException("Invalid name length " + name_length
+                + " for path " + i);
+      }
+      byte[] name = new byte[name_length];
+      bundle.get(name);
+      int num_segments = bundle.getInt();
+      long offset = bundle.getLong();
+      long end = offset + (long) BinaryBundleSerializer.kNumSides
+              * BinaryBundleSerializer.kNumFields * num_segments
+              * bytes_per_value;
+      if (num_segments < 0 || offset < 0 || end > bundle.limit()) {
+        throw new IOException("Path " + i + " extends past end of bundle");
+      }
+      result.setEntry(i, new String(name, StandardCharsets.UTF_8),
+              num_segments, (int) offset);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,179 @@
+package com._2491nomythic.tempest.lib.cheezytrajectory.io;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+import com._2491nomythic.tempest.lib.cheezy.trajectory.Path;
+import com._2491nomythic.tempest.lib.cheezy.trajectory.Trajectory;
+
+/**
+ * Serializes many Paths into a single binary bundle that can be memory mapped
+ * by BinaryBundleDeserializer.
+ *
+ * Format (all values little endian):
+ *   int    magic ("NMPB")
+ *   int    version
+ *   int    bytes per value (8 for doubles, 4 for floats)
+ *   int    number of paths
+ *   For each path, an index entry:
+ *     int    length of name in bytes
+ *     byte[] name, UTF-8
+ *     int    number of segments
+ *     long   offset of the path's data from the start of the bundle
+ *   Then for each path, aligned to 8 bytes, one column per side and field:
+ *     left pos, vel, acc, jerk, heading, dt, x, y
+ *     right pos, vel, acc, jerk, heading, dt, x, y
+ *
+ * Paths are written in the go left orientation.
+ */
+public class BinaryBundleSerializer {
+
+  public static final int kMagic = 0x42504D4E;
+  public static final int kVersion = 1;
+
+  static final int kHeaderBytes = 16;
+  // Name length, segment count and offset; the name itself follows the length.
+  static final int kIndexEntryBytes = 4 + 4 + 8;
+  static final int kNumSides = 2;
+  static final int kNumFields = 8;
+
+  private final int bytes_per_value_;
+
+  public BinaryBundleSerializer() {
+    this(false);
+  }
+
+  /**
+   * @param use_floats Store values as floats, halving the bundle size at the
+   * cost of precision.
+   */
+  public BinaryBundleSerializer(boolean use_floats) {
+    bytes_per_value_ = use_floats ? 4 : 8;
+  }
+
+  /**
+   * @param paths The paths to bundle. Names must be unique.
+   * @return The bundle.
+   */
+  public ByteBuffer serialize(Collection<Path> paths) {
+    byte[][] names = new byte[paths.size()][];
+    int index_bytes = kHeaderBytes;
+    int i = 0;
+    for (Path path : paths) {
+      names[i] = path.getName().getBytes(StandardCharsets.UTF_8);
+      index_bytes += kIndexEntryBytes + names[i].length;
+      ++i;
+    }
+
+    // Lay out each path's columns after the index.
+    long[] offsets = new long[paths.size()];
+    long total_bytes = align(index_bytes);
+    i = 0;
+    for (Path path : paths) {
+      offsets[i] = total_bytes;
+      total_bytes = align(total_bytes + (long) kNumSides * kNumFields
+              * bytes_per_value_ * numSegments(path));
+      ++i;
+    }
+    if (total_bytes > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Bundle would be too large");
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate((int) total_bytes);
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(kMagic);
+    buffer.putInt(kVersion);
+    buffer.putInt(bytes_per_value_);
+    buffer.putInt(paths.size());
+
+    i = 0;
+    for (Path path : paths) {
+      buffer.putInt(names[i].length);
+      buffer.put(names[i]);
+      buffer.putInt(numSegments(path));
+      buffer.putLong(offsets[i]);
+      ++i;
+    }
+
+    i = 0;
+    for (Path path : paths) {
+      buffer.position((int) offsets[i]);
+      path.goLeft();
+      writeTrajectory(buffer, path.getLeftWheelTrajectory());
+      writeTrajectory(buffer, path.getRightWheelTrajectory());
+      ++i;
+    }
+
+    buffer.rewind();
+    return buffer;
+  }
+
+  /**
+   * Write a bundle to a file, replacing it if it exists.
+   *
+   * @param paths The paths to bundle. Names must be unique.
+   * @param file Where to write the bundle.
+   * @throws IOException If the file can't be written.
+   */
+  public void serialize(Collection<Path> paths, File file) throws IOException {
+    ByteBuffer buffer = serialize(paths);
+    FileOutputStream stream = new FileOutputStream(file);
+    try {
+      FileChannel channel = stream.getChannel();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    } finally {
+      stream.close();
+    }
+  }
+
+  private void writeTrajectory(ByteBuffer buffer, Trajectory trajectory) {
+    int length = trajectory.getNumSegments();
+    for (int field = 0; field < kNumFields; ++field) {
+      for (int i = 0; i < length; ++i) {
+        double value = field(trajectory.getSegment(i), field);
+        if (bytes_per_value_ == 8) {
+          buffer.putDouble(value);
+        } else {
+          buffer.putFloat((float) value);
+        }
+      }
+    }
+  }
+
+  static double field(Trajectory.Segment segment, int field) {
+    switch (field) {
+      case PathBundle.kPos:
+        return segment.pos;
+      case PathBundle.kVel:
+        return segment.vel;
+      case PathBundle.kAcc:
+        return segment.acc;
+      case PathBundle.kJerk:
+        return segment.jerk;
+      case PathBundle.kHeading:
+        return segment.heading;
+      case PathBundle.kDt:
+        return segment.dt;
+      case PathBundle.kX:
+        return segment.x;
+      default:
+        return segment.y;
+    }
+  }
+
+  private static int numSegments(Path path) {
+    return path.getPair().left.getNumSegments();
+  }
+
+  private static long align(long offset) {
+    return (offset + 7) & ~7L;
+  }
+}
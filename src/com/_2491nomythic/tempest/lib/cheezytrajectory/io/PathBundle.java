@@ -0,0 +1,176 @@
+package com._2491nomythic.tempest.lib.cheezytrajectory.io;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import com._2491nomythic.tempest.lib.cheezy.trajectory.Path;
+import com._2491nomythic.tempest.lib.cheezy.trajectory.Trajectory;
+
+/**
+ * A set of named paths read from a binary bundle. Path data is read straight
+ * out of the bundle's buffer, which is normally memory mapped, so nothing is
+ * copied onto the heap until a caller asks for a Path.
+ *
+ * @see BinaryBundleSerializer
+ */
+public class PathBundle {
+
+  public static final int kLeft = 0;
+  public static final int kRight = 1;
+
+  public static final int kPos = 0;
+  public static final int kVel = 1;
+  public static final int kAcc = 2;
+  public static final int kJerk = 3;
+  public static final int kHeading = 4;
+  public static final int kDt = 5;
+  public static final int kX = 6;
+  public static final int kY = 7;
+
+  /**
+   * One path in the bundle.
+   */
+  public class Entry {
+
+    private final String name_;
+    private final int num_segments_;
+    private final int offset_;
+
+    Entry(String name, int num_segments, int offset) {
+      name_ = name;
+      num_segments_ = num_segments;
+      offset_ = offset;
+    }
+
+    public String getName() {
+      return name_;
+    }
+
+    public int getNumSegments() {
+      return num_segments_;
+    }
+
+    /**
+     * Read one value without allocating.
+     *
+     * @param side kLeft or kRight
+     * @param field One of kPos through kY
+     * @param index The segment
+     */
+    public double get(int side, int field, int index) {
+      int position = columnOffset(side, field) + index * bytes_per_value_;
+      if (bytes_per_value_ == 8) {
+        return buffer_.getDouble(position);
+      } else {
+        return buffer_.getFloat(position);
+      }
+    }
+
+    /**
+     * A view of one column of a bundle written with doubles. The view
+     * shares the bundle's memory.
+     *
+     * @param side kLeft or kRight
+     * @param field One of kPos through kY
+     */
+    public DoubleBuffer getColumn(int side, int field) {
+      if (bytes_per_value_ != 8) {
+        throw new IllegalStateException("Bundle stores floats; use getFloatColumn");
+      }
+      return column(side, field).asDoubleBuffer();
+    }
+
+    /**
+     * A view of one column of a bundle written with floats. The view shares
+     * the bundle's memory.
+     *
+     * @param side kLeft or kRight
+     * @param field One of kPos through kY
+     */
+    public FloatBuffer getFloatColumn(int side, int field) {
+      if (bytes_per_value_ != 4) {
+        throw new IllegalStateException("Bundle stores doubles; use getColumn");
+      }
+      return column(side, field).asFloatBuffer();
+    }
+
+    /**
+     * @return A heap copy of this entry as a Path.
+     */
+    public Path toPath() {
+      return new Path(name_, new Trajectory.Pair(toTrajectory(kLeft),
+              toTrajectory(kRight)));
+    }
+
+    private Trajectory toTrajectory(int side) {
+      Trajectory trajectory = new Trajectory(num_segments_);
+      for (int i = 0; i < num_segments_; ++i) {
+        Trajectory.Segment segment = trajectory.getSegment(i);
+        segment.pos = get(side, kPos, i);
+        segment.vel = get(side, kVel, i);
+        segment.acc = get(side, kAcc, i);
+        segment.jerk = get(side, kJerk, i);
+        segment.heading = get(side, kHeading, i);
+        segment.dt = get(side, kDt, i);
+        segment.x = get(side, kX, i);
+        segment.y = get(side, kY, i);
+      }
+      return trajectory;
+    }
+
+    private int columnOffset(int side, int field) {
+      return offset_ + (side * BinaryBundleSerializer.kNumFields + field)
+              * num_segments_ * bytes_per_value_;
+    }
+
+    private ByteBuffer column(int side, int field) {
+      ByteBuffer view = buffer_.duplicate();
+      view.position(columnOffset(side, field));
+      view.limit(view.position() + num_segments_ * bytes_per_value_);
+      return view.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+  }
+
+  private final ByteBuffer buffer_;
+  private final int bytes_per_value_;
+  private final Entry[] entries_;
+  private final Map<String, Entry> entries_by_name_;
+
+  PathBundle(ByteBuffer buffer, int bytes_per_value, int num_paths) {
+    buffer_ = buffer;
+    bytes_per_value_ = bytes_per_value;
+    entries_ = new Entry[num_paths];
+    entries_by_name_ = new HashMap<String, Entry>(num_paths * 2);
+  }
+
+  void setEntry(int index, String name, int num_segments, int offset) {
+    entries_[index] = new Entry(name, num_segments, offset);
+    entries_by_name_.put(name, entries_[index]);
+  }
+
+  public int getNumPaths() {
+    return entries_.length;
+  }
+
+  public Entry getEntry(int index) {
+    return entries_[index];
+  }
+
+  /**
+   * @return The named entry, or null if the bundle doesn't contain it.
+   */
+  public Entry getEntry(String name) {
+    return entries_by_name_.get(name);
+  }
+
+  /**
+   * @return Whether values are stored as floats rather than doubles.
+   */
+  public boolean usesFloats() {
+    return bytes_per_value_ == 4;
+  }
+}
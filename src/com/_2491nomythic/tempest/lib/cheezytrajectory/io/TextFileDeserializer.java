@@ -1,62 +1,122 @@
 package com._2491nomythic.tempest.lib.cheezytrajectory.io;
 
-import java.util.StringTokenizer;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
 
 import com._2491nomythic.tempest.lib.cheezy.trajectory.Path;
 import com._2491nomythic.tempest.lib.cheezy.trajectory.Trajectory;
 
 /**
+ * Reads the format written by TextFileSerializer.serialize one line at a
+ * time.
  *
  * @author Jared341
  */
 public class TextFileDeserializer implements IPathDeserializer {
 
+  // Segments are allocated as lines arrive, starting with this many, so a
+  // corrupt count can't allocate more than the path really has.
+  private static final int kInitialSegments = 1024;
+
   public Path deserialize(String serialized) {
-    StringTokenizer tokenizer = new StringTokenizer(serialized, "\n");
     System.out.println("Parsing path string...");
     System.out.println("String has " + serialized.length() + " chars");
-    System.out.println("Found " + tokenizer.countTokens() + " tokens");
-    
-    String name = tokenizer.nextToken();
-    int num_elements = Integer.parseInt(tokenizer.nextToken());
-    
-    Trajectory left = new Trajectory(num_elements);
-    for (int i = 0; i < num_elements; ++i) {
-      Trajectory.Segment segment = new Trajectory.Segment();
-      StringTokenizer line_tokenizer = new StringTokenizer(
-              tokenizer.nextToken(), " ");
-      
-      segment.pos = Double.parseDouble(line_tokenizer.nextToken());
-      segment.vel = Double.parseDouble(line_tokenizer.nextToken());
-      segment.acc = Double.parseDouble(line_tokenizer.nextToken());
-      segment.jerk = Double.parseDouble(line_tokenizer.nextToken());
-      segment.heading = Double.parseDouble(line_tokenizer.nextToken());
-      segment.dt = Double.parseDouble(line_tokenizer.nextToken());
-      segment.x = Double.parseDouble(line_tokenizer.nextToken());
-      segment.y = Double.parseDouble(line_tokenizer.nextToken());
-      
-      left.setSegment(i, segment);
-    }
-    Trajectory right = new Trajectory(num_elements);
-    for (int i = 0; i < num_elements; ++i) {
-      Trajectory.Segment segment = new Trajectory.Segment();
-      StringTokenizer line_tokenizer = new StringTokenizer(
-              tokenizer.nextToken(), " ");
-      
-      segment.pos = Double.parseDouble(line_tokenizer.nextToken());
-      segment.vel = Double.parseDouble(line_tokenizer.nextToken());
-      segment.acc = Double.parseDouble(line_tokenizer.nextToken());
-      segment.jerk = Double.parseDouble(line_tokenizer.nextToken());
-      segment.heading = Double.parseDouble(line_tokenizer.nextToken());
-      segment.dt = Double.parseDouble(line_tokenizer.nextToken());
-      segment.x = Double.parseDouble(line_tokenizer.nextToken());
-      segment.y = Double.parseDouble(line_tokenizer.nextToken());
-      
-      right.setSegment(i, segment);
-    }
-    
+    try {
+      return deserialize(new StringReader(serialized));
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Malformed path: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Read a path from a stream. Only one line is held in memory at a time
+   * apart from the resulting trajectories.
+   *
+   * @param reader The serialized path. Not closed.
+   * @return The path.
+   * @throws IOException If the reader fails or the path is malformed.
+   */
+  public Path deserialize(Reader reader) throws IOException {
+    BufferedReader lines = reader instanceof BufferedReader
+            ? (BufferedReader) reader : new BufferedReader(reader);
+
+    String name = readLine(lines);
+    int num_elements;
+    try {
+      num_elements = Integer.parseInt(readLine(lines).trim());
+    } catch (NumberFormatException e) {
+      throw new IOException("Bad segment count for path " + name);
+    }
+    if (num_elements < 0) {
+      throw new IOException("Negative segment count " + num_elements
+              + " for path " + name);
+    }
+
+    Trajectory left = readTrajectory(lines, num_elements);
+    Trajectory right = readTrajectory(lines, num_elements);
+
     System.out.println("...finished parsing path from string.");
     return new Path(name, new Trajectory.Pair(left, right));
   }
-  
+
+  private Trajectory readTrajectory(BufferedReader lines, int num_elements)
+          throws IOException {
+    Trajectory.Segment[] segments = new Trajectory.Segment[Math.min(
+            num_elements, kInitialSegments)];
+    for (int i = 0; i < num_elements; ++i) {
+      String line = readLine(lines);
+      if (i == segments.length) {
+        segments = Arrays.copyOf(segments, (int) Math.min(num_elements,
+                2L * segments.length));
+      }
+      Trajectory.Segment segment = new Trajectory.Segment();
+      segments[i] = segment;
+      int[] cursor = {0};
+
+      segment.pos = nextDouble(line, cursor);
+      segment.vel = nextDouble(line, cursor);
+      segment.acc = nextDouble(line, cursor);
+      segment.jerk = nextDouble(line, cursor);
+      segment.heading = nextDouble(line, cursor);
+      segment.dt = nextDouble(line, cursor);
+      segment.x = nextDouble(line, cursor);
+      segment.y = nextDouble(line, cursor);
+    }
+    return new Trajectory(segments);
+  }
+
+  private static String readLine(BufferedReader lines) throws IOException {
+    String line = lines.readLine();
+    if (line == null) {
+      throw new IOException("Unexpected end of path");
+    }
+    return line;
+  }
+
+  // Parse the space separated value starting at cursor[0] and move the cursor
+  // past it.
+  private static double nextDouble(String line, int[] cursor)
+          throws IOException {
+    int start = cursor[0];
+    while (start < line.length() && line.charAt(start) == ' ') {
+      ++start;
+    }
+    int end = line.indexOf(' ', start);
+    if (end < 0) {
+      end = line.length();
+    }
+    if (start >= end) {
+      throw new IOException("Missing value in line: " + line);
+    }
+    cursor[0] = end;
+    try {
+      return Double.parseDouble(line.substring(start, end));
+    } catch (NumberFormatException e) {
+      throw new IOException("Bad value in line: " + line);
+    }
+  }
+
 }
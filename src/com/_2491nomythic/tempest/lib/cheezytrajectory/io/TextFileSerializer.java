@@ -1,16 +1,33 @@
 package com._2491nomythic.tempest.lib.cheezytrajectory.io;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
 import com._2491nomythic.tempest.lib.cheezy.trajectory.Path;
 import com._2491nomythic.tempest.lib.cheezy.trajectory.Trajectory;
 import com._2491nomythic.tempest.lib.cheezy.trajectory.Trajectory.Segment;
 
 /**
  * Serializes a Path to a simple space and CR separated text file.
- * 
+ *
  * @author Jared341
  */
 public class TextFileSerializer implements IPathSerializer {
 
+	public enum RETURNTYPE{
+		XVALUE,
+		YVALUE,
+		VELOCITY,
+		DT,
+		DISTANCE,
+		JERK,
+		HEADINGR,
+		HEADINGD,
+		ACCELERATION,
+		PATHDIRECT
+	}
+
   /**
    * Format:
    *   PathName
@@ -21,117 +38,172 @@ public class TextFileSerializer implements IPathSerializer {
    *   RightSegment1
    *   ...
    *   RightSegmentN
-   * 
+   *
    * Each segment is in the format:
    *   pos vel acc jerk heading dt x y
-   * 
+   *
+   * This can be read back with TextFileDeserializer.
+   *
    * @param path The path to serialize.
    * @return A string representation.
    */
-	
-	public enum RETURNTYPE{
-		XVALUE,
-		YVALUE,
-		VELOCITY,
-		DT,
-		DISTANCE,
-		JERK,
-		HEADINGR,
-		HEADINGD,
-		ACCELERATION,
-		PATHDIRECT
-	}
-	
   public String serialize(Path path) {
-    String content = path.getName() + "\n";
+    StringWriter writer = new StringWriter();
+    try {
+      serialize(path, writer);
+    } catch (IOException e) {
+      // StringWriter doesn't throw.
+    }
+    return writer.toString();
+  }
+
+  /**
+   * Stream a path to a Writer in the same format as serialize(Path).
+   *
+   * @param path The path to serialize.
+   * @param writer Where to write it. Not closed or flushed.
+   * @throws IOException If the writer fails.
+   */
+  public void serialize(Path path, Writer writer) throws IOException {
     path.goLeft();
-    content += "THIS PATH RUNS IN " + path.getLeftWheelTrajectory().getNumSegments() * .1 + " SECONDS" + "\n";
-    content += "LEFT_VELOCITY{";
-    content += serializeTrajectory(path.getLeftWheelTrajectory(), RETURNTYPE.VELOCITY);
-    content += "};\nRIGHT_VELOCITY{";
-    content += serializeTrajectory(path.getRightWheelTrajectory(), RETURNTYPE.VELOCITY);
-    content += "};\nHEADING_IN_RADIANS{";
-    content += serializeTrajectory(path.getLeftWheelTrajectory(), RETURNTYPE.HEADINGR);
-    content += "};\nHEADING_IN_DEGREES{";
-    content += serializeTrajectory(path.getLeftWheelTrajectory(), RETURNTYPE.HEADINGD);
-    content += "};\nX_POS_LEFT_SIDE{";
-    content += serializeTrajectory(path.getLeftWheelTrajectory(), RETURNTYPE.XVALUE);
-    content += "};\nY_POS_LEFT_SIDE{";
-    content += serializeTrajectory(path.getLeftWheelTrajectory(), RETURNTYPE.YVALUE);
-    content += "};\nX_POS_RIGHT_SIDE{";
-    content += serializeTrajectory(path.getRightWheelTrajectory(), RETURNTYPE.XVALUE);
-    content += "};\nY_POS_RIGHT_SIDE{";
-    content += serializeTrajectory(path.getRightWheelTrajectory(), RETURNTYPE.YVALUE);
-    content += "};\n";
-    content += "EXCEL READY PATH COORDANATES";
-    content += "\n";
-    content += returnPathCoordanates(path.getLeftWheelTrajectory(),path.getRightWheelTrajectory());
-    return content;
+    writer.write(path.getName());
+    writer.write('\n');
+    writer.write(Integer.toString(
+            path.getLeftWheelTrajectory().getNumSegments()));
+    writer.write('\n');
+    writeSegments(path.getLeftWheelTrajectory(), writer);
+    writeSegments(path.getRightWheelTrajectory(), writer);
   }
-  
-  private String returnPathCoordanates(Trajectory left, Trajectory right) {
-	  String values = "";
+
+  private void writeSegments(Trajectory trajectory, Writer writer)
+          throws IOException {
+    for (int i = 0; i < trajectory.getNumSegments(); ++i) {
+      Segment segment = trajectory.getSegment(i);
+      writer.write(Double.toString(segment.pos));
+      writer.write(' ');
+      writer.write(Double.toString(segment.vel));
+      writer.write(' ');
+      writer.write(Double.toString(segment.acc));
+      writer.write(' ');
+      writer.write(Double.toString(segment.jerk));
+      writer.write(' ');
+      writer.write(Double.toString(segment.heading));
+      writer.write(' ');
+      writer.write(Double.toString(segment.dt));
+      writer.write(' ');
+      writer.write(Double.toString(segment.x));
+      writer.write(' ');
+      writer.write(Double.toString(segment.y));
+      writer.write('\n');
+    }
+  }
+
+  /**
+   * Human readable report of a path, with velocity and heading arrays ready
+   * to paste into Constants and wheel coordinates ready for Excel. This
+   * can't be read back by TextFileDeserializer.
+   *
+   * @param path The path to describe.
+   * @return The report.
+   */
+  public String serializeReport(Path path) {
+    StringWriter writer = new StringWriter();
+    try {
+      serializeReport(path, writer);
+    } catch (IOException e) {
+      // StringWriter doesn't throw.
+    }
+    return writer.toString();
+  }
+
+  /**
+   * Stream the report from serializeReport(Path) to a Writer.
+   *
+   * @param path The path to describe.
+   * @param writer Where to write it. Not closed or flushed.
+   * @throws IOException If the writer fails.
+   */
+  public void serializeReport(Path path, Writer writer) throws IOException {
+    writer.write(path.getName() + "\n");
+    path.goLeft();
+    writer.write("THIS PATH RUNS IN " + path.getLeftWheelTrajectory().getNumSegments() * .1 + " SECONDS" + "\n");
+    writer.write("LEFT_VELOCITY{");
+    serializeTrajectory(path.getLeftWheelTrajectory(), RETURNTYPE.VELOCITY, writer);
+    writer.write("};\nRIGHT_VELOCITY{");
+    serializeTrajectory(path.getRightWheelTrajectory(), RETURNTYPE.VELOCITY, writer);
+    writer.write("};\nHEADING_IN_RADIANS{");
+    serializeTrajectory(path.getLeftWheelTrajectory(), RETURNTYPE.HEADINGR, writer);
+    writer.write("};\nHEADING_IN_DEGREES{");
+    serializeTrajectory(path.getLeftWheelTrajectory(), RETURNTYPE.HEADINGD, writer);
+    writer.write("};\nX_POS_LEFT_SIDE{");
+    serializeTrajectory(path.getLeftWheelTrajectory(), RETURNTYPE.XVALUE, writer);
+    writer.write("};\nY_POS_LEFT_SIDE{");
+    serializeTrajectory(path.getLeftWheelTrajectory(), RETURNTYPE.YVALUE, writer);
+    writer.write("};\nX_POS_RIGHT_SIDE{");
+    serializeTrajectory(path.getRightWheelTrajectory(), RETURNTYPE.XVALUE, writer);
+    writer.write("};\nY_POS_RIGHT_SIDE{");
+    serializeTrajectory(path.getRightWheelTrajectory(), RETURNTYPE.YVALUE, writer);
+    writer.write("};\n");
+    writer.write("EXCEL READY PATH COORDANATES");
+    writer.write("\n");
+    returnPathCoordanates(path.getLeftWheelTrajectory(),path.getRightWheelTrajectory(), writer);
+  }
+
+  private void returnPathCoordanates(Trajectory left, Trajectory right, Writer writer) throws IOException {
 	  for(int i =0; i < left.getNumSegments(); i++) {
 		  Segment leftsegment = left.getSegment(i);
 		  Segment rightsegment = right.getSegment(i);
-		  values += leftsegment.x + "," + leftsegment.y + "," + rightsegment.x + "," + rightsegment.y + "\n";  
+		  writer.write(leftsegment.x + "," + leftsegment.y + "," + rightsegment.x + "," + rightsegment.y + "\n");
 	  }
-	  return values;
   }
-  
-  private String serializeTrajectory(Trajectory trajectory , RETURNTYPE returntype) {
-    String content = "";
+
+  private void serializeTrajectory(Trajectory trajectory , RETURNTYPE returntype, Writer writer) throws IOException {
     for (int i = 0; i < trajectory.getNumSegments(); ++i) {
-      String temp = "";
       Segment segment = trajectory.getSegment(i);
       if(returntype == RETURNTYPE.HEADINGR || returntype == RETURNTYPE.HEADINGD || returntype == RETURNTYPE.VELOCITY) {
-    	  content += "{";
-          content += segment.pos;
-          content += ",";
+    	  writer.write("{");
+          writer.write(Double.toString(segment.pos));
+          writer.write(",");
       }
       switch(returntype) {
       	case VELOCITY:
-      		content += segment.vel;
+      		writer.write(Double.toString(segment.vel));
       		break;
       	case XVALUE:
-      		content += segment.x;
+      		writer.write(Double.toString(segment.x));
       		break;
       	case YVALUE:
-      		content += segment.y;
+      		writer.write(Double.toString(segment.y));
       		break;
       	case JERK:
-      		content += segment.jerk;
+      		writer.write(Double.toString(segment.jerk));
       		break;
       	case DT:
-      		content += segment.dt;
+      		writer.write(Double.toString(segment.dt));
       		break;
       	case HEADINGR:
-      		content += segment.heading;
+      		writer.write(Double.toString(segment.heading));
       		break;
       	case HEADINGD:
       		if(segment.heading * 180/Math.PI > 180) {
-      			content += -(360 - (segment.heading * 180/Math.PI));
+      			writer.write(Double.toString(-(360 - (segment.heading * 180/Math.PI))));
       		}
       		else {
-      			content += segment.heading * 180/Math.PI;
+      			writer.write(Double.toString(segment.heading * 180/Math.PI));
       		}
        		break;
       	case ACCELERATION:
-      		content += segment.acc;
+      		writer.write(Double.toString(segment.acc));
       		break;
       	default:
       		System.out.println("SOMETHING HAS GONE WRONG");
       }
       if (returntype == RETURNTYPE.HEADINGR || returntype == RETURNTYPE.HEADINGD || returntype == RETURNTYPE.VELOCITY) {
-    	  content += "},";
+    	  writer.write("},");
       }else {
-    	  content += ",";
+    	  writer.write(",");
       }
     }
-    if (!(returntype == RETURNTYPE.HEADINGR) && !(returntype == RETURNTYPE.HEADINGD) && !(returntype == RETURNTYPE.VELOCITY)) {
-    	content.substring(0, content.length()-1);
-    }
-    return content;
   }
-  
+
 }
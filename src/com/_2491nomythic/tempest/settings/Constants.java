@@ -78,91 +78,18 @@ public class Constants {
 	
 	/* Auto Paths */
 	public static final double kVelocitykG = 0.05;
+	public static final double kPathTimeStep = 0.02; //seconds, one robot loop
+	public static final double kPathFollowerPeriod = 0.005; //seconds, 200Hz on the PathFollower thread
+	public static final int kPathFollowerThreadPriority = 15; //real-time, 1 to 99, above the robot's main thread
+	public static final double kPathFollowerkP = 1.5; //Ft per Sec per Ft of position error
+	public static final double kPathFollowerkD = 0.0;
+	public static final double kPathFollowerkV = 1.0; //the path's own velocity, the Talons' kF does the rest
+	public static final double kPathFollowerkA = 0.0;
+	public static final double kPathTrackWidth = 2.0; //feet, the same as the generated paths
+	public static final double kReplanMaxVelocity = 10.0; //feet per second, under driveMaxSpeedRPS on 6in wheels
+	public static final double kReplanBudgetMs = 50;
 	public static final String[][][] mOptionsMatrix = {{{"Switch", "Switch", "Scale", "CrossLine"}, {"Scale", "Switch", "Scale", "CrossLine"}},{{"Switch","Switch","Scale","Op Scale"},{"Scale","Switch","Scale","Op Scale"}},{}};
-
-	public static final double[][] leftVelocitiesTO_MAX = {{0.02300185185185185,0.46003703703703697},{0.11500925925926281,0.9200740740741095},{0.3220259259259021,2.070166666666393},{0.6670537037037334,3.450277777778313},{1.150092592592428,4.830388888886945},{1.7711425925918063,6.210499999993783},{2.5302037037021585,7.590611111103522},{3.4272759259234835,8.970722222213249},{4.462359259261124,10.350833333376404},{5.612451851858951,11.500925925978267},{6.831550000012646,12.190981481536953},{7.82291055343703,9.913605534243834},{8.90182063800888,10.789100845718501},{10.036068434291582,11.342477962827026},{10.998784122918835,9.62715688627252},{11.864716528186639,8.659324052678038},{12.666844429507828,8.021279013211894},{13.377167598361043,7.103231688532142},{13.968218961690981,5.910513633299386},{14.423738555812486,4.55519594121504},{14.737172958918244,3.1343440310575854},{14.914972832433035,1.7779987351479172},{14.988677761558897,0.7370492912586236},{15.005509424845721,0.16831663286824944},{15.005509424845721,0.0},};
-	public static final double[][] rightVelocitiesTO_MAX = {{0.02300185185185185,0.46003703703703697},{0.11500925925926281,0.9200740740741095},{0.3220259259259021,2.070166666666393},{0.6670537037037334,3.450277777778313},{1.150092592592428,4.830388888886945},{1.7711425925918063,6.210499999993783},{2.5302037037021585,7.590611111103522},{3.4272759259234835,8.970722222213249},{4.462359259261124,10.350833333376404},{5.612451851858951,11.500925925978267},{6.831550000012646,12.190981481536953},{8.29596895023088,14.644189502182355},{9.679034385208482,13.830654349776008},{10.944054331743002,12.650199465345203},{12.210819736188531,12.667654044455285},{13.335216767974284,11.243970317857533},{14.252132141782434,9.169153738081494},{14.98574888016998,7.336167383875464},{15.562639467320254,5.768905871502732},{15.999036257990216,4.363967906699619},{16.301506744425094,3.024704864348766},{16.475950429969558,1.7444368554446394},{16.549186551066544,0.7323612109698644},{16.566000670416937,0.16814119350394513},{16.566000670416937,0.0},};
-	public static final double[][] headingsTO_MAX = {{0.02300185185185185,0.0},{0.11500925925926281,0.0},{0.3220259259259021,0.0},{0.6670537037037334,0.0},{1.150092592592428,0.0},{1.7711425925918063,0.0},{2.5302037037021585,0.0},{3.4272759259234835,0.0},{4.462359259261124,0.0},{5.612451851858951,0.0},{6.831550000012646,0.0},{7.82291055343703,27.46342101223525},{8.90182063800888,44.999881170699815},{10.036068434291582,52.499629823320575},{10.998784122918835,69.98891698589071},{11.864716528186639,84.84000077132838},{12.666844429507828,91.42071608759406},{13.377167598361043,92.75538410997801},{13.968218961690981,91.94402339383493},{14.423738555812486,90.84835076360486},{14.737172958918244,90.22016141684512},{14.914972832433035,90.0278659152519},{14.988677761558897,90.0010051935136},{15.005509424845721,90.00000000000013},{15.005509424845721,90.00000000000013},};
-	
-	
-	/* CENTER Start Position */
-	//LEFTSWITCH
-	public static final double[][] leftVelocitiesTO_LEFT_SWITCH = {{0.0,0.0},{0.1,0.9886358160087585},{0.2,1.4606305780401971},{0.30000000000000004,1.7153101548976917},{0.4,1.8439844261881615},{0.5,1.8977103184112658},{0.6,1.9057458173005721},{0.7,1.8861627579225184},{0.7999999999999999,1.8515240824653494},{0.8999999999999999,1.8153412428155644},{0.9999999999999999,1.7947443990008392},{1.0999999999999999,1.807802345971868},{1.1999999999999997,1.8789721415901544},{1.2999999999999998,2.0317490712789383},{1.4,2.2695092366190392},{1.5,2.5901463965072806},{1.6,2.9734905167412893},{1.7000000000000002,3.3582400281748757},{1.8000000000000003,3.7071022323013465},{1.9000000000000004,4.004346033020325},{2.0000000000000004,4.240699186047694},{2.1000000000000005,4.415951406256973},{2.2000000000000006,4.534475850521141},{2.3000000000000007,4.600611441346057},{2.400000000000001,4.618450227954056},{2.500000000000001,4.591505684123279},{2.600000000000001,4.523237159196656},{2.700000000000001,4.416162782635814},{2.800000000000001,4.27324202897116},{2.9000000000000012,4.101919276416747},{3.0000000000000013,3.9031107591095435},{3.1000000000000014,3.669199750126452},{3.2000000000000015,3.420860570002544},{3.3000000000000016,3.1705934945653054},{3.4000000000000017,2.9182986327889187},{3.5000000000000018,2.675651620289131},{3.600000000000002,2.4522426713531575},{3.700000000000002,2.251079071457176},{3.800000000000002,2.0750988521809854},{3.900000000000002,1.921069470825321},{4.000000000000002,1.7786901388018626},{4.100000000000001,1.6319233646917328},{4.200000000000001,1.454398877835239},{4.300000000000001,1.2027624479309118},{4.4,0.8048374069621811},{4.5,0.0}};
-	public static final double[][] rightVelocitiesTO_LEFT_SWITCH = {{0.0,0.0},{0.1,1.0312963770674153},{0.2,1.5518607677875502},{0.30000000000000004,1.865044326820318},{0.4,2.0672519144387023},{0.5,2.2150197393121718},{0.6,2.3419984328955286},{0.7,2.468530907854164},{0.7999999999999999,2.6075973974994153},{0.8999999999999999,2.7652662597241076},{0.9999999999999999,2.9416426960584894},{1.0999999999999999,3.1350226471136295},{1.1999999999999997,3.3368698512063886},{1.2999999999999998,3.5357406699394156},{1.4,3.730639589091234},{1.5,3.9146706664458075},{1.6,4.07852938433951},{1.7000000000000002,4.230615139359029},{1.8000000000000003,4.36830712417455},{1.9000000000000004,4.482721580703263},{2.0000000000000004,4.567102978607483},{2.1000000000000005,4.616145675035894},{2.2000000000000006,4.6251410328026905},{2.3000000000000007,4.589686880284673},{2.400000000000001,4.504823672600122},{2.500000000000001,4.3647789818898675},{2.600000000000001,4.163152895570576},{2.700000000000001,3.8948032821766896},{2.800000000000001,3.559828398748019},{2.9000000000000012,3.1655489344613774},{3.0000000000000013,2.735666046126812},{3.1000000000000014,2.320796424316312},{3.2000000000000015,1.9609365994132764},{3.3000000000000016,1.6799240547483845},{3.4000000000000017,1.4918513058684024},{3.5000000000000018,1.3861635954330052},{3.600000000000002,1.3417837623841626},{3.700000000000002,1.338135314071298},{3.800000000000002,1.3530120280927154},{3.900000000000002,1.3683381773065422},{4.000000000000002,1.3695290254479056},{4.100000000000001,1.339781647534528},{4.200000000000001,1.2559223567135436},{4.300000000000001,1.080187212998571},{4.4,0.7461120771065821},{4.5,0.0}};
-	//RIGHTSWITCH
-	public static final double[][] leftVelocitiesTO_RIGHT_SWITCH = {{0.0,0.0},{0.1,1.050554750787697},{0.2,1.5666978271393501},{0.30000000000000004,1.8745299972893588},{0.4,2.0699645382339367},{0.5,2.2089931812735983},{0.6,2.324789683130715},{0.7,2.4373659867485644},{0.7999999999999999,2.559473771712687},{0.8999999999999999,2.697545408068318},{0.9999999999999999,2.8527044435406435},{1.0999999999999999,3.024169217789703},{1.1999999999999997,3.2047907813504386},{1.2999999999999998,3.3837322244110575},{1.4,3.5578815179752765},{1.5,3.7185038130496477},{1.6,3.8554115410960117},{1.7000000000000002,3.9776096914860117},{1.8000000000000003,4.0852721545948265},{1.9000000000000004,4.172385954937904},{2.0000000000000004,4.234474716505126},{2.1000000000000005,4.26759784979892},{2.2000000000000006,4.267849454441956},{2.3000000000000007,4.231489261276937},{2.400000000000001,4.15439847808128},{2.500000000000001,4.032037169606086},{2.600000000000001,3.8596226914319693},{2.700000000000001,3.634552902406822},{2.800000000000001,3.360096753818845},{2.9000000000000012,3.0459809165109535},{3.0000000000000013,2.717860344756654},{3.1000000000000014,2.422629496577536},{3.2000000000000015,2.185858843703433},{3.3000000000000016,2.016731109042937},{3.4000000000000017,1.9167142979568723},{3.5000000000000018,1.8700154001442733},{3.600000000000002,1.857673208524706},{3.700000000000002,1.864281967447418},{3.800000000000002,1.8745380652797137},{3.900000000000002,1.8755032211128284},{4.000000000000002,1.854523374621288},{4.100000000000001,1.7937339278738158},{4.200000000000001,1.664682503986373},{4.300000000000001,1.418365855779409},{4.4,0.9678707193891891},{4.5,0.0}};
-	public static final double[][] rightVelocitiesTO_RIGHT_SWITCH = {{0.0,0.0},{0.1,1.0147199007687022},{0.2,1.4907978420781087},{0.30000000000000004,1.75030791714276},{0.4,1.8848922279334082},{0.5,1.9458983796794826},{0.6,1.962651183933887},{0.7,1.9529012098786234},{0.7999999999999999,1.928434009935534},{0.8999999999999999,1.9009029243037643},{0.9999999999999999,1.8843455971850223},{1.0999999999999999,1.8932939582103223},{1.1999999999999997,1.947867668132844},{1.2999999999999998,2.068432141260302},{1.4,2.2596370870537},{1.5,2.5226913474837582},{1.6,2.8436274648035647},{1.7000000000000002,3.1700626939499306},{1.8000000000000003,3.469237589271979},{1.9000000000000004,3.7271744725734086},{2.0000000000000004,3.93543215381034},{2.1000000000000005,4.0938020661031125},{2.2000000000000006,4.2064453212308175},{2.3000000000000007,4.277727024277698},{2.400000000000001,4.311920993332748},{2.500000000000001,4.312747084489883},{2.600000000000001,4.283732142935},{2.700000000000001,4.226616190561114},{2.800000000000001,4.141804334909625},{2.9000000000000012,4.032298724491086},{3.0000000000000013,3.8925329779354385},{3.1000000000000014,3.708918469253431},{3.2000000000000015,3.5008903471236374},{3.3000000000000016,3.2846713654354973},{3.4000000000000017,3.0669729773968806},{3.5000000000000018,2.8621837293291725},{3.600000000000002,2.6789979983665275},{3.700000000000002,2.5182301035162666},{3.800000000000002,2.378711408916871},{3.900000000000002,2.2536781066322296},{4.000000000000002,2.130048171168052},{4.100000000000001,1.9880129205804977},{4.200000000000001,1.7953640483987894},{4.300000000000001,1.4983961883589134},{4.4,1.005815767945985},{4.5,0.0}};
-	//Auto Paths Angles
-	public static final double[][] headingsTO_LEFT_SWITCH = {{0.0,0.0},{0.1,0.5431527282928591},{0.2,0.7218900889720332},{0.30000000000000004,1.0244419900054806},{0.4,1.4905640998631902},{0.5,2.188356637962446},{0.6,3.20741459468388},{0.7,4.641573794013271},{0.7999999999999999,6.637591406551436},{0.8999999999999999,9.335896211937886},{0.9999999999999999,12.769570154645807},{1.0999999999999999,17.005413628933354},{1.2,21.91839349280541},{1.3,27.001654099808555},{1.4000000000000001,32.00280084987505},{1.5000000000000002,36.517259206083594},{1.6000000000000003,39.80081963325884},{1.7000000000000004,42.11866600130329},{1.8000000000000005,43.77229839920902},{1.9000000000000006,44.880372471869876},{2.0000000000000004,45.596820416834696},{2.1000000000000005,46.02974242308449},{2.2000000000000006,46.22400713595546},{2.3000000000000007,46.2050310235387},{2.400000000000001,45.97164117307035},{2.500000000000001,45.49897266738349},{2.600000000000001,44.71007840147212},{2.700000000000001,43.48368608278521},{2.800000000000001,41.7079704701548},{2.9000000000000012,39.09707996922358},{3.0000000000000013,35.32182440146465},{3.1000000000000014,30.860128155229944},{3.2000000000000015,25.979791680199114},{3.3000000000000016,20.888185247710265},{3.4000000000000017,16.17314219943777},{3.5000000000000018,12.116359402343841},{3.600000000000002,8.776926721367737},{3.700000000000002,6.220617890967125},{3.800000000000002,4.339193697392008},{3.900000000000002,2.9799753822872157},{4.000000000000002,2.0387209221690514},{4.100000000000001,1.4052594905067155},{4.200000000000001,0.9920934451549217},{4.300000000000001,0.7472758407995855},{4.4,0.6341278923388518},{4.5,0.6341278923388518}};
-	public static final double[][] headingsTO_RIGHT_SWITCH = {{0.0,0.0},{0.1,-0.44619997386428434},{0.2,-0.5930369268496526},{0.30000000000000004,-0.841599054235194},{0.4,-1.224572997367518},{0.5,-1.7979924000519998},{0.6,-2.635736394826276},{0.7,-3.8156701856541733},{0.7999999999999999,-5.460526534539149},{0.8999999999999999,-7.691137451794073},{0.9999999999999999,-10.545943108829498},{1.0999999999999999,-14.101876614012975},{1.2,-18.288679215127413},{1.3,-22.710137562957986},{1.4000000000000001,-27.16826346805875},{1.5000000000000002,-31.299399874587277},{1.6000000000000003,-34.37349789651544},{1.7000000000000004,-36.578501383390744},{1.8000000000000005,-38.16606526965679},{1.9000000000000006,-39.2300392746841},{2.0000000000000004,-39.90729907378767},{2.1000000000000005,-40.29507132613636},{2.2000000000000006,-40.43052294511812},{2.3000000000000007,-40.32973224240662},{2.400000000000001,-39.98111978734593},{2.500000000000001,-39.35100567359385},{2.600000000000001,-38.347361599962966},{2.700000000000001,-36.837828466835525},{2.800000000000001,-34.72690554596046},{2.9000000000000012,-31.76062319299287},{3.0000000000000013,-27.732832282582994},{3.1000000000000014,-23.331420233154777},{3.2000000000000015,-18.90803985179538},{3.3000000000000016,-14.66515717160069},{3.4000000000000017,-11.020363418409191},{3.5000000000000018,-8.067399188646242},{3.600000000000002,-5.743979177587204},{3.700000000000002,-4.021931576490315},{3.800000000000002,-2.78218896872773},{3.900000000000002,-1.8997898470625276},{4.000000000000002,-1.2947771752685149},{4.100000000000001,-0.8902446532171598},{4.200000000000001,-0.6274961055168996},{4.300000000000001,-0.4722073418402826},{4.4,-0.40053632348288265},{4.5,-0.40053632348288265}};
-	
-	
-	/* RIGHT Start Position, invert for left start*/
-	//Same side SCALE
-	//public static final double[][] leftVelocitiesTO_SCALE = {{0.0,0.0},{0.1,2.569366922655313},{0.2,3.7080046800630444},{0.30000000000000004,4.360594342920591},{0.4,4.74331907081402},{0.5,4.98057820385151},{0.6,5.145612274957858},{0.7,5.283578083264301},{0.7999999999999999,5.424136502445929},{0.8999999999999999,5.588174142420112},{0.9999999999999999,5.789344777155407},{1.0999999999999999,6.034110814076477},{1.1999999999999997,6.316651401858748},{1.2999999999999998,6.620219883458693},{1.4,6.911362927664323},{1.5,7.165694589450775},{1.6,7.3673583311924915},{1.7000000000000002,7.510053178103613},{1.8000000000000003,7.592693730492761},{1.9000000000000004,7.61730660396055},{2.0000000000000004,7.587276577544985},{2.1000000000000005,7.507678611607939},{2.2000000000000006,7.3862257411332},{2.3000000000000007,7.2358419941326},{2.400000000000001,7.074147261906799},{2.500000000000001,6.923283380252597},{2.600000000000001,6.793341902393179},{2.700000000000001,6.685679721100765},{2.800000000000001,6.592369295760748},{2.9000000000000012,6.499320025832946},{3.0000000000000013,6.384876467445176},{3.1000000000000014,6.216023925581091},{3.2000000000000015,5.9390631698735765},{3.3000000000000016,5.462911187067341},{3.4000000000000017,4.629256611517599},{3.5000000000000018,3.1600744088842694},{3.600000000000002,0.0}};
-	//public static final double[][] rightVelocitiesTO_SCALE = {{0.0,0.0},{0.1,2.5869697947855195},{0.2,3.741963719891295},{0.30000000000000004,4.414247645887385},{0.4,4.821534798456642},{0.5,5.089384032935983},{0.6,5.291482606765293},{0.7,5.472043600911145},{0.7999999999999999,5.6579896319087295},{0.8999999999999999,5.864890550937109},{0.9999999999999999,6.099674131982864},{1.0999999999999999,6.360757917481054},{1.1999999999999997,6.6386230610650125},{1.2999999999999998,6.91584882737951},{1.4,7.173270826976879},{1.5,7.396913078366003},{1.6,7.57895006310213},{1.7000000000000002,7.717345753488063},{1.8000000000000003,7.813449281449089},{1.9000000000000004,7.869979342680682},{2.0000000000000004,7.889475390148195},{2.1000000000000005,7.873197104368148},{2.2000000000000006,7.821401379395672},{2.3000000000000007,7.7328177985917135},{2.400000000000001,7.608530681797799},{2.500000000000001,7.450864096411912},{2.600000000000001,7.278423061129198},{2.700000000000001,7.104179979081208},{2.800000000000001,6.9354544186400275},{2.9000000000000012,6.768575532523926},{3.0000000000000013,6.5886335335159885},{3.1000000000000014,6.3651593480256485},{3.2000000000000015,6.044560108096609},{3.3000000000000016,5.534246221938962},{3.4000000000000017,4.673735354625107},{3.5000000000000018,3.1825684429220087},{3.600000000000002,0.0}};
-	//public static final double [][] leftVelocitiesTO_SCALE = {{0.0,0.0},{0.02,1.9261959621660176},{0.04,2.955288100761992},{0.06,3.537530558390681},{0.08,3.8669862182697208},{0.1,4.053443859792355},{0.12000000000000001,4.159021907143098},{0.14,4.21885955687534},{0.16,4.2528451798221285},{0.18,4.272219678665301},{0.19999999999999998,4.283354205147834},{0.21999999999999997,4.289832353065489},{0.23999999999999996,4.2937087713348285},{0.25999999999999995,4.296136866750678},{0.2799999999999999,4.297799251529062},{0.29999999999999993,4.299073818511696},{0.31999999999999995,4.300209416475128},{0.33999999999999997,4.301327583187929},{0.36,4.302538184383495},{0.38,4.303855073535823},{0.4,4.305337373300791},{0.42000000000000004,4.306927454376376},{0.44000000000000006,4.308708498913741},{0.4600000000000001,4.310688278857479},{0.4800000000000001,4.312996538585093},{0.5,4.315671676818025},{0.52,4.318879258530194},{0.54,4.322633981686222},{0.56,4.327110727260648},{0.5800000000000001,4.332211973632161},{0.6000000000000001,4.3380877475064334},{0.6200000000000001,4.344454314909642},{0.6400000000000001,4.351611998152866},{0.6600000000000001,4.359573662676668},{0.6800000000000002,4.368841720247426},{0.7000000000000002,4.37956202785523},{0.7200000000000002,4.392377839758467},{0.7400000000000002,4.4073417715023595},{0.7600000000000002,4.42511873304402},{0.7800000000000002,4.445316933367414},{0.8000000000000003,4.468469842770056},{0.8200000000000003,4.493458592000953},{0.8400000000000003,4.521322247070468},{0.8600000000000003,4.552080651808409},{0.8800000000000003,4.587501915075563},{0.9000000000000004,4.628114762739093},{0.9200000000000004,4.676118899892221},{0.9400000000000004,4.731692085438851},{0.9600000000000004,4.796908102249136},{0.9800000000000004,4.870349391552239},{1.0000000000000004,4.95319863379954},{1.0200000000000005,5.041523607530547},{1.0400000000000005,5.13725237849632},{1.0600000000000005,5.240206810835928},{1.0800000000000005,5.354452202522577},{1.1000000000000005,5.481640649068207},{1.1200000000000006,5.626480028012398},{1.1400000000000006,5.789573462391791},{1.1600000000000006,5.973429008937884},{1.1800000000000006,6.173618477874028},{1.2000000000000006,6.385968932585211},{1.2200000000000006,6.597418883867352},{1.2400000000000007,6.7972189688656295},{1.2600000000000007,6.979808925322317},{1.2800000000000007,7.142234491438727},{1.3000000000000007,7.285962821398151},{1.3200000000000007,7.412833195876041},{1.3400000000000007,7.526631162910403},{1.3600000000000008,7.629964574444382},{1.3800000000000008,7.725605161868829},{1.4000000000000008,7.8140963238225964},{1.4200000000000008,7.895296442299532},{1.4400000000000008,7.966934975233366},{1.4600000000000009,8.029330086764526},{1.4800000000000009,8.082344968516159},{1.5000000000000009,8.12749798936898},{1.520000000000001,8.165728173472454},{1.540000000000001,8.198746929304601},{1.560000000000001,8.227480896605375},{1.580000000000001,8.253184814806488},{1.600000000000001,8.276093780488141},{1.620000000000001,8.296665952002945},{1.640000000000001,8.314157803993702},{1.660000000000001,8.32886803020046},{1.680000000000001,8.340538790882361},{1.700000000000001,8.349720939454665},{1.720000000000001,8.35637457589224},{1.740000000000001,8.36118735626757},{1.7600000000000011,8.364054477143362},{1.7800000000000011,8.365817896239752},{1.8000000000000012,8.366089172909705},{1.8200000000000012,8.36589744495806},{1.8400000000000012,8.363939334181811},{1.8600000000000012,8.360627665063236},{1.8800000000000012,8.354728312363095},{1.9000000000000012,8.346776140268886},{1.9200000000000013,8.33549034835477},{1.9400000000000013,8.321948399441293},{1.9600000000000013,8.30467525898837},{1.9800000000000013,8.285979646184792},{2.0000000000000013,8.263909640825972},{2.0200000000000014,8.242487358313383},{2.0400000000000014,8.216772499526385},{2.0600000000000014,8.188271256514048},{2.0800000000000014,8.151885873315656},{2.1000000000000014,8.109432952579224},{2.1200000000000014,8.05546630799775},{2.1400000000000015,7.994154026385402},{2.1600000000000015,7.919428530028217},{2.1800000000000015,7.84107704496725},{2.2000000000000015,7.7515440701298415},{2.2200000000000015,7.668805515458703},{2.2400000000000015,7.572874720300699},{2.2600000000000016,7.47094415281503},{2.2800000000000016,7.343161092752974},{2.3000000000000016,7.1985698685812505},{2.3200000000000016,7.017880345136264},{2.3400000000000016,6.822277733837904},{2.3600000000000017,6.594075456474897},{2.3800000000000017,6.3845481347105},{2.4000000000000017,6.177069425651646},{2.4200000000000017,6.0689055779564525},{2.4400000000000017,5.987728671604613},{2.4600000000000017,5.966942742259641},{2.4800000000000018,5.948906071281273},{2.5000000000000018,5.953046183537042},{2.520000000000002,5.943037374324343},{2.540000000000002,5.938062350511662},{2.560000000000002,5.916571669068546},{2.580000000000002,5.9040341701153105},{2.600000000000002,5.885921431364419},{2.620000000000002,5.897100818880124},{2.640000000000002,5.908623346037007},{2.660000000000002,5.933410358032494},{2.680000000000002,5.952092743803904},{2.700000000000002,5.972980805781626},{2.720000000000002,5.985222553626349},{2.740000000000002,5.996158267631958},{2.760000000000002,5.999778888019083},{2.780000000000002,6.0041833401978435},{2.800000000000002,6.0053855314889395},{2.820000000000002,6.013172142363076},{2.840000000000002,6.019830928098693},{2.860000000000002,6.0290953927268935},{2.880000000000002,6.036004716321731},{2.900000000000002,6.042967605508227},{2.920000000000002,6.047281982088744},{2.940000000000002,6.050985124126418},{2.960000000000002,6.052601044323589},{2.980000000000002,6.054261619708399},{3.000000000000002,6.054983518000051},{3.0200000000000022,6.057252932456202},{3.0400000000000023,6.059153111096816},{3.0600000000000023,6.061638860719849},{3.0800000000000023,6.063487590486078},{3.1000000000000023,6.065313908539491},{3.1200000000000023,6.066455925768028},{3.1400000000000023,6.067426483626741},{3.1600000000000024,6.0678638985835045},{3.1800000000000024,6.068295193755821},{3.2000000000000024,6.068475039621294},{3.2200000000000024,6.069005972594058},{3.2400000000000024,6.069402363557292},{3.2600000000000025,6.069869212674923},{3.2800000000000025,6.070055209539699},{3.3000000000000025,6.070016254581109},{3.3200000000000025,6.069424497740483},{3.3400000000000025,6.068107471739276},{3.3600000000000025,6.065454322200212},{3.3800000000000026,6.060662899991711},{3.4000000000000026,6.052036840122191},{3.4200000000000026,6.036818894360379},{3.4400000000000026,6.009775560528857},{3.4600000000000026,5.9618986354732995},{3.4800000000000026,5.877103672295183},{3.5000000000000027,5.727107365998812},{3.5200000000000027,5.461827281066629},{3.5400000000000027,4.992815048496029},{3.5600000000000027,4.163678989153574},{3.5800000000000027,2.6980169636820284},{3.6000000000000028,0.0}};
-	//public static final double [][] rightVelocitiesTO_SCALE = {{0.0,0.0},{0.02,1.9261503539344977},{0.04,2.9551901310712485},{0.06,3.5373764315985134},{0.08,3.8667655975892368},{0.1,4.053150465606976},{0.12000000000000001,4.158639381468623},{0.14,4.218383518879216},{0.16,4.252256839533449},{0.18,4.271526558567964},{0.19999999999999998,4.2825409565036265},{0.21999999999999997,4.288927882890549},{0.23999999999999996,4.2926827803656815},{0.25999999999999995,4.294980503947095},{0.2799999999999999,4.296449123929091},{0.29999999999999993,4.297498553760819},{0.31999999999999995,4.298322189299412},{0.33999999999999997,4.29910355010048},{0.36,4.2998863189429},{0.38,4.3008047722499825},{0.4,4.301819765407231},{0.42000000000000004,4.30306843017658},{0.44000000000000006,4.304382134290171},{0.4600000000000001,4.305861909192485},{0.4800000000000001,4.307409741363991},{0.5,4.309198866092622},{0.52,4.311167888242723},{0.54,4.313587815586349},{0.56,4.316366295275158},{0.5800000000000001,4.319898627746349},{0.6000000000000001,4.323940184790098},{0.6200000000000001,4.3289985943589055},{0.6400000000000001,4.334363235370828},{0.6600000000000001,4.340428571426611},{0.6800000000000002,4.346797322359673},{0.7000000000000002,4.3541680508209035},{0.7200000000000002,4.362306704126701},{0.7400000000000002,4.372305751830148},{0.7600000000000002,4.383816281016918},{0.7800000000000002,4.398410428558538},{0.8000000000000003,4.4151319380853655},{0.8200000000000003,4.435949698526411},{0.8400000000000003,4.458083289126879},{0.8600000000000003,4.4830627353812424},{0.8800000000000003,4.509438924531659},{0.9000000000000004,4.539932251241595},{0.9200000000000004,4.573821585530521},{0.9400000000000004,4.615252178574652},{0.9600000000000004,4.663099332072083},{0.9800000000000004,4.722973235279634},{1.0000000000000004,4.79135741116925},{1.0200000000000005,4.874543218510638},{1.0400000000000005,4.962419925462511},{1.0600000000000005,5.059551701328236},{1.0800000000000005,5.161351558044505},{1.1000000000000005,5.2760768479308675},{1.1200000000000006,5.401959781729828},{1.1400000000000006,5.550297211652449},{1.1600000000000006,5.717288067309875},{1.1800000000000006,5.914811021237395},{1.2000000000000006,6.129205710082598},{1.2200000000000006,6.3674540380085265},{1.2400000000000007,6.594499873854731},{1.2600000000000007,6.809803148085641},{1.2800000000000007,6.998444130929128},{1.3000000000000007,7.166381074190986},{1.3200000000000007,7.310450777725476},{1.3400000000000007,7.438756407989517},{1.3600000000000008,7.5516159440923785},{1.3800000000000008,7.65616403253418},{1.4000000000000008,7.751327950405166},{1.4200000000000008,7.84162900802963},{1.4400000000000008,7.921140380229891},{1.4600000000000009,7.991884921578959},{1.4800000000000009,8.051646032639116},{1.5000000000000009,8.103070295246248},{1.520000000000001,8.146148465637726},{1.540000000000001,8.18345569870733},{1.560000000000001,8.215532349373888},{1.580000000000001,8.244332769548967},{1.600000000000001,8.269955783409957},{1.620000000000001,8.293459997854683},{1.640000000000001,8.313907313014072},{1.660000000000001,8.331782858236556},{1.680000000000001,8.346900847907836},{1.700000000000001,8.359752992466788},{1.720000000000001,8.370626447266979},{1.740000000000001,8.379789828862261},{1.7600000000000011,8.38770322819753},{1.7800000000000011,8.394171039106128},{1.8000000000000012,8.39975201891352},{1.8200000000000012,8.403675005230866},{1.8400000000000012,8.407110436064633},{1.8600000000000012,8.409595536336024},{1.8800000000000012,8.412199875894952},{1.9000000000000012,8.414118138983243},{1.9200000000000013,8.416440161754089},{1.9400000000000013,8.417604973065558},{1.9600000000000013,8.418983940843887},{1.9800000000000013,8.417689949177529},{2.0000000000000013,8.41599911676029},{2.0200000000000014,8.409431661389538},{2.0400000000000014,8.404017687893749},{2.0600000000000014,8.397284777336507},{2.0800000000000014,8.394121174820853},{2.1000000000000014,8.390642966727246},{2.1200000000000014,8.391380804496107},{2.1400000000000015,8.389423163648242},{2.1600000000000015,8.39033144478831},{2.1800000000000015,8.381714622823338},{2.2000000000000015,8.372842085509326},{2.2200000000000015,8.344396972841427},{2.2400000000000015,8.321918053365316},{2.2600000000000016,8.295605682119263},{2.2800000000000016,8.285947892500417},{2.3000000000000016,8.277943691419232},{2.3200000000000016,8.289555978023154},{2.3400000000000016,8.292798279619891},{2.3600000000000017,8.307070579015033},{2.3800000000000017,8.277527220380279},{2.4000000000000017,8.232667478675179},{2.4200000000000017,8.079619830381471},{2.4400000000000017,7.9175654145309196},{2.4600000000000017,7.716070203880479},{2.4800000000000018,7.541770594521222},{2.5000000000000018,7.370186792954704},{2.520000000000002,7.237338361071498},{2.540000000000002,7.117015973935126},{2.560000000000002,7.028583700283454},{2.580000000000002,6.941069303359694},{2.600000000000002,6.868838992367486},{2.620000000000002,6.774538759074905},{2.640000000000002,6.690698568755367},{2.660000000000002,6.602953475231414},{2.680000000000002,6.531461476194283},{2.700000000000002,6.46572805750666},{2.720000000000002,6.415970692166423},{2.740000000000002,6.372738981883739},{2.760000000000002,6.3412644984827695},{2.780000000000002,6.311914942980753},{2.800000000000002,6.288475134619272},{2.820000000000002,6.260427974426332},{2.840000000000002,6.236214188132592},{2.860000000000002,6.211695730450101},{2.880000000000002,6.191991077161841},{2.900000000000002,6.174156992820899},{2.920000000000002,6.160742251744871},{2.940000000000002,6.149202179840992},{2.960000000000002,6.140827440186676},{2.980000000000002,6.133116014476812},{3.000000000000002,6.127001578647277},{3.0200000000000022,6.11981954762623},{3.0400000000000023,6.113660100986589},{3.0600000000000023,6.107470073604436},{3.0800000000000023,6.102510505874986},{3.1000000000000023,6.098037418540015},{3.1200000000000023,6.0946754148019435},{3.1400000000000023,6.091787100736448},{3.1600000000000024,6.089686175009365},{3.1800000000000024,6.087749665638034},{3.2000000000000024,6.086199925693935},{3.2200000000000024,6.084371598613083},{3.2400000000000024,6.082758000200227},{3.2600000000000025,6.081069519224356},{3.2800000000000025,6.079559450786249},{3.3000000000000025,6.077950651606842},{3.3200000000000025,6.076226155759363},{3.3400000000000025,6.073934665670131},{3.3600000000000025,6.070625852469247},{3.3800000000000026,6.065223565242924},{3.4000000000000026,6.056138996398238},{3.4200000000000026,6.040317663861909},{3.4400000000000026,6.012748143569041},{3.4600000000000026,5.9643074206245625},{3.4800000000000026,5.879043050956902},{3.5000000000000027,5.728599399103077},{3.5200000000000027,5.462954099624121},{3.5400000000000027,4.993608198498481},{3.5600000000000027,4.164190357341399},{3.5800000000000027,2.6982656090409938},{3.6000000000000028,0.0}};
-	public static final double[][] leftVelocitiesTO_SCALE = {{0.0,0.0},{0.02,2.440218193820752},{0.04,3.72674550614317},{0.06,4.454698274436995},{0.08,4.866679822510952},{0.1,5.099940251701622},{0.12000000000000001,5.232141390207898},{0.14,5.307213104569189},{0.16,5.3500281946675265},{0.18,5.374642185725331},{0.19999999999999998,5.389046230513114},{0.21999999999999997,5.3977583002722085},{0.23999999999999996,5.40338679311004},{0.25999999999999995,5.407400088556673},{0.2799999999999999,5.410695057585808},{0.29999999999999993,5.413747314518225},{0.31999999999999995,5.416911444261012},{0.33999999999999997,5.420315830848036},{0.36,5.424195772531245},{0.38,5.428668718347251},{0.4,5.43401211245203},{0.42000000000000004,5.440349667715938},{0.44000000000000006,5.448011236937256},{0.4600000000000001,5.457049457840112},{0.4800000000000001,5.467821023828865},{0.5,5.480228263644833},{0.52,5.494833192046531},{0.54,5.511879911962585},{0.56,5.532288431887954},{0.5800000000000001,5.556429394284608},{0.6000000000000001,5.585434082506124},{0.6200000000000001,5.61939004419399},{0.6400000000000001,5.659429485465452},{0.6600000000000001,5.705001913723384},{0.6800000000000002,5.757793634349767},{0.7000000000000002,5.81845736456191},{0.7200000000000002,5.889753464814867},{0.7400000000000002,5.972676924145192},{0.7600000000000002,6.070253817385595},{0.7800000000000002,6.182258341604048},{0.8000000000000003,6.310751128921012},{0.8200000000000003,6.452980774984097},{0.8400000000000003,6.610958822663665},{0.8600000000000003,6.785418637445332},{0.8800000000000003,6.980567698209678},{0.9000000000000004,7.19788252072969},{0.9200000000000004,7.439770761350422},{0.9400000000000004,7.702944034755848},{0.9600000000000004,7.981448153287998},{0.9800000000000004,8.261998703914823},{1.0000000000000004,8.528567426190824},{1.0200000000000005,8.775310602851036},{1.0400000000000005,8.997165237385014},{1.0600000000000005,9.196593309457704},{1.0800000000000005,9.374580101721408},{1.1000000000000005,9.53542246141461},{1.1200000000000006,9.679792427110304},{1.1400000000000006,9.809349228440974},{1.1600000000000006,9.921533941934541},{1.1800000000000006,10.018177762655412},{1.2000000000000006,10.099435035002555},{1.2200000000000006,10.168234164211535},{1.2400000000000007,10.225785445559017},{1.2600000000000007,10.274798378293404},{1.2800000000000007,10.315874405308254},{1.3000000000000007,10.35069958293315},{1.3200000000000007,10.378369865336342},{1.3400000000000007,10.400040569208869},{1.3600000000000008,10.415179842388444},{1.3800000000000008,10.425177342585798},{1.4000000000000008,10.429465640483258},{1.4200000000000008,10.429767129554222},{1.4400000000000008,10.424921516554535},{1.4600000000000009,10.417093964446842},{1.4800000000000009,10.403233035455303},{1.5000000000000009,10.384551044416506},{1.520000000000001,10.35759581628388},{1.540000000000001,10.324342066931136},{1.560000000000001,10.28066177552008},{1.580000000000001,10.23076619348983},{1.600000000000001,10.169023215517063},{1.620000000000001,10.103088343146512},{1.640000000000001,10.020937537356438},{1.660000000000001,9.92680842575362},{1.680000000000001,9.807129927264322},{1.700000000000001,9.669717921014493},{1.720000000000001,9.499170648460222},{1.740000000000001,9.3141394150427},{1.7600000000000011,9.095210225784992},{1.7800000000000011,8.878868337025665},{1.8000000000000012,8.620743348231018},{1.8200000000000012,8.343783850898868},{1.8400000000000012,8.00363774899782},{1.8600000000000012,7.64399403087053},{1.8800000000000012,7.226265557414863},{1.9000000000000012,6.854313734188526},{1.9200000000000013,6.4927803187496265},{1.9400000000000013,6.338183236733912},{1.9600000000000013,6.238320013384296},{1.9800000000000013,6.262140966403803},{2.0000000000000013,6.286290196522429},{2.0200000000000014,6.3581069960403935},{2.0400000000000014,6.401279338694937},{2.0600000000000014,6.473081135375745},{2.0800000000000014,6.526285526878107},{2.1000000000000014,6.634397156986708},{2.1200000000000014,6.729860194740444},{2.1400000000000015,6.843144417638808},{2.1600000000000015,6.931959195695687},{2.1800000000000015,7.018808388726958},{2.2000000000000015,7.081270295964306},{2.2200000000000015,7.141110048818734},{2.2400000000000015,7.185547925632329},{2.2600000000000016,7.237408932742163},{2.2800000000000016,7.279380594548452},{2.3000000000000016,7.321698111730242},{2.3200000000000016,7.353946164078694},{2.3400000000000016,7.383325315985498},{2.3600000000000017,7.404433441791955},{2.3800000000000017,7.423575301175248},{2.4000000000000017,7.437680131616091},{2.4200000000000017,7.452875064839086},{2.4400000000000017,7.464934568554649},{2.4600000000000017,7.476657311516646},{2.4800000000000018,7.485505084650298},{2.5000000000000018,7.493395790294146},{2.520000000000002,7.498998979596454},{2.540000000000002,7.503911824378613},{2.560000000000002,7.507324148806897},{2.580000000000002,7.510666033991269},{2.600000000000002,7.512703208152681},{2.620000000000002,7.513780423073179},{2.640000000000002,7.5126366210011355},{2.660000000000002,7.508609371741072},{2.680000000000002,7.499359851530577},{2.700000000000002,7.481707232764677},{2.720000000000002,7.449149838377386},{2.740000000000002,7.390867960015048},{2.760000000000002,7.286854728501071},{2.780000000000002,7.102318117406103},{2.800000000000002,6.775339051489838},{2.820000000000002,6.19679519505539},{2.840000000000002,5.1735740081151445},{2.860000000000002,3.364480742401304},{2.880000000000002,0.0}};
-	public static final double[][] rightVelocitiesTO_SCALE = {{0.0,0.0},{0.02,2.4401267693953015},{0.04,3.726536619781999},{0.06,4.454364686813168},{0.08,4.86620000901236},{0.1,5.0993031917182225},{0.12000000000000001,5.2313133877323486},{0.14,5.306188169077554},{0.16,5.348763442608005},{0.18,5.373145168935439},{0.19999999999999998,5.387242965582854},{0.21999999999999997,5.395612307814984},{0.23999999999999996,5.400773012867414},{0.25999999999999995,5.40426188996378},{0.2799999999999999,5.406868888748182},{0.29999999999999993,5.4092040745789784},{0.31999999999999995,5.411465411332789},{0.33999999999999997,5.414006962250163},{0.36,5.416724572256701},{0.38,5.419898780839279},{0.4,5.423449237089124},{0.42000000000000004,5.427786683126851},{0.44000000000000006,5.432821168010841},{0.4600000000000001,5.439159793839757},{0.4800000000000001,5.446554566911212},{0.5,5.455829567323387},{0.52,5.466232622431639},{0.54,5.4786811568801825},{0.56,5.492763992885397},{0.5800000000000001,5.510027849079262},{0.6000000000000001,5.5301130245471635},{0.6200000000000001,5.555332529510168},{0.6400000000000001,5.584729191956634},{0.6600000000000001,5.621354781199645},{0.6800000000000002,5.662302036756572},{0.7000000000000002,5.710859466216409},{0.7200000000000002,5.765581407861818},{0.7400000000000002,5.831900818605389},{0.7600000000000002,5.908614257086136},{0.7800000000000002,6.003298229695617},{0.8000000000000003,6.112301482288607},{0.8200000000000003,6.244327583309978},{0.8400000000000003,6.388432561361385},{0.8600000000000003,6.552681847938448},{0.8800000000000003,6.7316965846847925},{0.9000000000000004,6.938022376514639},{0.9200000000000004,7.166234584873722},{0.9400000000000004,7.4297914909738525},{0.9600000000000004,7.712536802681654},{0.9800000000000004,8.0216045355051},{1.0000000000000004,8.316358670827409},{1.0200000000000005,8.596462269558321},{1.0400000000000005,8.844811706510344},{1.0600000000000005,9.069070781325088},{1.0800000000000005,9.26518878636203},{1.1000000000000005,9.442853708471565},{1.1200000000000006,9.600188651268768},{1.1400000000000006,9.744290079206003},{1.1600000000000006,9.868749065827503},{1.1800000000000006,9.977613472820904},{1.2000000000000006,10.0690824393876},{1.2200000000000006,10.147467886253528},{1.2400000000000007,10.213322661246439},{1.2600000000000007,10.27022163321585},{1.2800000000000007,10.318847069789586},{1.3000000000000007,10.361284162767248},{1.3200000000000007,10.397243136455376},{1.3400000000000007,10.42778631606657},{1.3600000000000008,10.453483030247808},{1.3800000000000008,10.474870622246156},{1.4000000000000008,10.493079896356367},{1.4200000000000008,10.507694485036792},{1.4400000000000008,10.520293024966966},{1.4600000000000009,10.529193148101296},{1.4800000000000009,10.53745120679904},{1.5000000000000009,10.543491932077078},{1.520000000000001,10.550414078428531},{1.540000000000001,10.555108622459496},{1.560000000000001,10.561249965879822},{1.580000000000001,10.562933060330765},{1.600000000000001,10.565876897283117},{1.620000000000001,10.560514871646724},{1.640000000000001,10.560177160740093},{1.660000000000001,10.557381646852729},{1.680000000000001,10.564863165108244},{1.700000000000001,10.569509724573475},{1.720000000000001,10.585787931020437},{1.740000000000001,10.589384306999266},{1.7600000000000011,10.602389754211003},{1.7800000000000011,10.584597536336027},{1.8000000000000012,10.590041264382139},{1.8200000000000012,10.590449889406761},{1.8400000000000012,10.633962170462958},{1.8600000000000012,10.66891947245927},{1.8800000000000012,10.7406560703276},{1.9000000000000012,10.742467877218935},{1.9200000000000013,10.730824640113793},{1.9400000000000013,10.517164497458396},{1.9600000000000013,10.290657000115484},{1.9800000000000013,9.983776717715553},{2.0000000000000013,9.72734255022349},{2.0200000000000014,9.464374875585918},{2.0400000000000014,9.267611811449102},{2.0600000000000014,9.070116322969382},{2.0800000000000014,8.91573688389863},{2.1000000000000014,8.725018424809253},{2.1200000000000014,8.564960216303456},{2.1400000000000015,8.400985980158879},{2.1600000000000015,8.273452027145884},{2.1800000000000015,8.156605409112297},{2.2000000000000015,8.071128185757303},{2.2200000000000015,7.993170803228574},{2.2400000000000015,7.934529191762589},{2.2600000000000016,7.871263099811886},{2.2800000000000016,7.820381209779737},{2.3000000000000016,7.771012837690474},{2.3200000000000016,7.73328807498893},{2.3400000000000016,7.699568679936762},{2.3600000000000017,7.6750397856114425},{2.3800000000000017,7.653120172106745},{2.4000000000000017,7.636762494265278},{2.4200000000000017,7.6196882618701185},{2.4400000000000017,7.606096301936993},{2.4600000000000017,7.593095318036893},{2.4800000000000018,7.5831814504801285},{2.5000000000000018,7.574349138011566},{2.520000000000002,7.567859374229824},{2.540000000000002,7.561995843393846},{2.560000000000002,7.55742043098943},{2.580000000000002,7.552443085471731},{2.600000000000002,7.547882908980308},{2.620000000000002,7.542646489724632},{2.640000000000002,7.53669446409391},{2.660000000000002,7.5283846081455295},{2.680000000000002,7.515999083705223},{2.700000000000002,7.49554734659794},{2.720000000000002,7.460868062772849},{2.740000000000002,7.400397668592103},{2.760000000000002,7.294588096422709},{2.780000000000002,7.10831081677136},{2.800000000000002,6.779898699947502},{2.820000000000002,6.200022669592637},{2.840000000000002,5.175665627555304},{2.860000000000002,3.365502623291055},{2.880000000000002,0.0}};
-	
-	//Same side SWITCH
-	public static final double[][] leftVelocitiesTO_SWITCH = {{0.0,0.0},{0.1,1.5462334942163691},{0.2,2.3795621642390214},{0.30000000000000004,2.850131446463565},{0.4,3.115163004706087},{0.5,3.263531122787577},{0.6,3.3454118257520915},{0.7,3.3889778019249843},{0.7999999999999999,3.40993172153171},{0.8999999999999999,3.41690733358771},{0.9999999999999999,3.4145182562129346},{1.0999999999999999,3.4049995425933592},{1.1999999999999997,3.3887980575660066},{1.2999999999999998,3.365309996572105},{1.4,3.333359576708732},{1.5,3.2914894627710094},{1.6,3.2378434388722916},{1.7000000000000002,3.168723360348671},{1.8000000000000003,3.0797063764948187},{1.9000000000000004,2.966863639059411},{2.0000000000000004,2.828050710854201},{2.1000000000000005,2.663011904617601},{2.2000000000000006,2.467065680701325},{2.3000000000000007,2.238556808829286},{2.400000000000001,1.9880722532434987},{2.500000000000001,1.7485054104744748},{2.600000000000001,1.57285369413428},{2.700000000000001,1.4671722111503032},{2.800000000000001,1.415030308418587},{2.9000000000000012,1.398555691233517},{3.0000000000000013,1.4098484571326657},{3.1000000000000014,1.4490534845674257},{3.2000000000000015,1.50130139654568},{3.3000000000000016,1.553266303432161},{3.4000000000000017,1.5980640968628237},{3.5000000000000018,1.6348925970300279},{3.600000000000002,1.6659904108544306},{3.700000000000002,1.6895432949571663},{3.800000000000002,1.703855327831289},{3.900000000000002,1.7083075500278697},{4.000000000000002,1.7032255147593174},{4.100000000000001,1.6891507652248474},{4.200000000000001,1.6647176180507741},{4.300000000000001,1.6278082612691938},{4.4,1.576238194493565},{4.5,1.5083135787546271},{4.6,1.4229313489268176},{4.699999999999999,1.3171751973799521},{4.799999999999999,1.187905646396992},{4.899999999999999,1.0354586275221949},{4.999999999999998,0.8693842870440723},{5.099999999999998,0.7126053413175388},{5.1999999999999975,0.5773216904695572},{5.299999999999997,0.4655526563254088},{5.399999999999997,0.3754677587667437},{5.4999999999999964,0.3088925929027673},{5.599999999999996,0.2734488479702947},{5.699999999999996,0.26353967582730886},{5.799999999999995,0.2692186979134145},{5.899999999999995,0.28252398595915534},{5.999999999999995,0.3004291361399244},{6.099999999999994,0.3236555890976447},{6.199999999999994,0.3482941891909902},{6.299999999999994,0.37080292767045775},{6.399999999999993,0.38956139504267256},{6.499999999999993,0.4048255712724287},{6.5999999999999925,0.417731822060101},{6.699999999999992,0.42773824060794297},{6.799999999999992,0.4340424056508427},{6.8999999999999915,0.43575391514983514},{6.999999999999991,0.43150068914782885},{7.099999999999991,0.418563633015011},{7.19999999999999,0.39118374807446815},{7.29999999999999,0.3389743994735415},{7.39999999999999,0.24351157984049732},{7.499999999999989,0.0}};
-	public static final double[][] rightVelocitiesTO_SWITCH = {{0.0,0.0},{0.1,1.5477132937797407},{0.2,2.382321668551295},{0.30000000000000004,2.8543909168583497},{0.4,3.121242667584818},{0.5,3.2718492820198},{0.6,3.3565267562462027},{0.7,3.403790383641471},{0.7999999999999999,3.429707057820113},{0.8999999999999999,3.443236179423986},{0.9999999999999999,3.4492953986778216},{1.0999999999999999,3.450592247704871},{1.1999999999999997,3.4489216008091543},{1.2999999999999998,3.445108597419201},{1.4,3.4392014046689745},{1.5,3.430777855013809},{1.6,3.4195478932794963},{1.7000000000000002,3.406886647949198},{1.8000000000000003,3.3933845991249623},{1.9000000000000004,3.3783046214962584},{2.0000000000000004,3.3598810312889165},{2.1000000000000005,3.3370780408022522},{2.2000000000000006,3.3165993741190163},{2.3000000000000007,3.300814235593943},{2.400000000000001,3.281679298110187},{2.500000000000001,3.236140827687561},{2.600000000000001,3.1320292587749585},{2.700000000000001,2.9909206633577807},{2.800000000000001,2.841099141001311},{2.9000000000000012,2.699452960570831},{3.0000000000000013,2.5673281648743678},{3.1000000000000014,2.4374565376950024},{3.2000000000000015,2.3187216990561086},{3.3000000000000016,2.218177845797609},{3.4000000000000017,2.136943030622693},{3.5000000000000018,2.0711229006404634},{3.600000000000002,2.014938483606997},{3.700000000000002,1.9675528089242087},{3.800000000000002,1.9282019948951643},{3.900000000000002,1.8951074082206079},{4.000000000000002,1.8656523135539522},{4.100000000000001,1.8371889413297964},{4.200000000000001,1.8090509718869514},{4.300000000000001,1.7804249568866743},{4.4,1.7499605066747719},{4.5,1.7160842270976073},{4.6,1.6779643958832728},{4.699999999999999,1.6382952873594177},{4.799999999999999,1.5986895848057254},{4.899999999999999,1.5579200688232318},{4.999999999999998,1.51011504891862},{5.099999999999998,1.4445018957916844},{5.1999999999999975,1.3690381997100283},{5.299999999999997,1.2933396029381283},{5.399999999999997,1.2223003286475107},{5.4999999999999964,1.1526582620404027},{5.599999999999996,1.07466918538878},{5.699999999999996,0.9930311878976202},{5.799999999999995,0.9152841089673704},{5.899999999999995,0.845912079258086},{5.999999999999995,0.7844220170172864},{6.099999999999994,0.7272892503505656},{6.199999999999994,0.67655646488862},{6.299999999999994,0.6340675213625143},{6.399999999999993,0.5998411981529262},{6.499999999999993,0.5721729711358171},{6.5999999999999925,0.548636197177816},{6.699999999999992,0.5285042480797845},{6.799999999999992,0.5108914886742963},{6.8999999999999915,0.4941359115108628},{6.999999999999991,0.47548075799648903},{7.099999999999991,0.4506786700263145},{7.19999999999999,0.4134319776795708},{7.29999999999999,0.35295771563753686},{7.39999999999999,0.25036518105890176},{7.499999999999989,0.0}};
-	//Opposite SCALE
-	public static final double[][] leftVelocitiesTO_OPPOSITE_SCALE = {{0.0,0.0},{0.1,2.8933762301582813},{0.2,4.4355219711389395},{0.30000000000000004,5.305407512896757},{0.4,5.7940944019618605},{0.5,6.066049367696142},{0.6,6.2140260502122},{0.7,6.289861300996479},{0.7999999999999999,6.3222325966896324},{0.8999999999999999,6.32671836813889},{0.9999999999999999,6.311468190520804},{1.0999999999999999,6.280150648162462},{1.1999999999999997,6.232551603880046},{1.2999999999999998,6.166488203087823},{1.4,6.079114899639934},{1.5,5.967836668954627},{1.6,5.830097005999128},{1.7000000000000002,5.659047441960267},{1.8000000000000003,5.44916892776685},{1.9000000000000004,5.202005109732511},{2.0000000000000004,4.932081666504746},{2.1000000000000005,4.667897101721333},{2.2000000000000006,4.429753502414179},{2.3000000000000007,4.257757917506027},{2.400000000000001,4.2249223364778885},{2.500000000000001,4.417223794756037},{2.600000000000001,4.862967096263119},{2.700000000000001,5.433357157758808},{2.800000000000001,6.016950080792532},{2.9000000000000012,6.557943893923869},{3.0000000000000013,7.040446995155471},{3.1000000000000014,7.463368458396312},{3.2000000000000015,7.815889074253859},{3.3000000000000016,8.096320952967506},{3.4000000000000017,8.31134705982476},{3.5000000000000018,8.471204875669713},{3.600000000000002,8.585028335146712},{3.700000000000002,8.656499816446917},{3.800000000000002,8.687765509695643},{3.900000000000002,8.680052198719576},{4.000000000000002,8.633628723507686},{4.100000000000001,8.547854335266418},{4.200000000000001,8.421008756800036},{4.300000000000001,8.24807609422453},{4.4,8.022081496963017},{4.5,7.737316406026425},{4.6,7.393904576449587},{4.699999999999999,7.003201970415849},{4.799999999999999,6.574949518111451},{4.899999999999999,6.1204319288698885},{4.999999999999998,5.656662791815575},{5.099999999999998,5.202243623839084},{5.1999999999999975,4.813996932675415},{5.299999999999997,4.51695062513067},{5.399999999999997,4.290741738167852},{5.4999999999999964,4.065707358814909},{5.599999999999996,3.7527356915661025},{5.699999999999996,3.3867790683909527},{5.799999999999995,3.040201220458977},{5.899999999999995,2.753860469213165},{5.999999999999995,2.529996949339639},{6.099999999999994,2.352571211193094},{6.199999999999994,2.2178917906583675},{6.299999999999994,2.1204249642259083},{6.399999999999993,2.051945023590867},{6.499999999999993,2.0028800926137977},{6.5999999999999925,1.9640784368627557},{6.699999999999992,1.930858245370303},{6.799999999999992,1.8987019963693383},{6.8999999999999915,1.8612675752503371},{6.999999999999991,1.8086164894390309},{7.099999999999991,1.7246982565919515},{7.19999999999999,1.5834757161810653},{7.29999999999999,1.339652690149058},{7.39999999999999,0.9134669671381874},{7.499999999999989,0.0}};
-	public static final double[][] rightVelocitiesTO_OPPOSITE_SCALE = {{0.0,0.0},{0.1,2.815778793662585},{0.2,4.313467144211269},{0.30000000000000004,5.160960585960131},{0.4,5.6404587528552},{0.5,5.911570674590066},{0.6,6.064606581111839},{0.7,6.150939195812869},{0.7999999999999999,6.199604437993543},{0.8999999999999999,6.226841301669141},{0.9999999999999999,6.241631221639558},{1.0999999999999999,6.249174682046862},{1.1999999999999997,6.253829215231161},{1.2999999999999998,6.258292857308921},{1.4,6.263796654872286},{1.5,6.270801626750203},{1.6,6.280806263176397},{1.7000000000000002,6.301660533901182},{1.8000000000000003,6.33988809160285},{1.9000000000000004,6.398127599057937},{2.0000000000000004,6.47446302360664},{2.1000000000000005,6.56631828516158},{2.2000000000000006,6.69284275806911},{2.3000000000000007,6.859042405346773},{2.400000000000001,7.044268687154548},{2.500000000000001,7.2105687524612785},{2.600000000000001,7.336229903797952},{2.700000000000001,7.4744814600022655},{2.800000000000001,7.645051403559208},{2.9000000000000012,7.840389063566508},{3.0000000000000013,8.042382627305518},{3.1000000000000014,8.230903539624823},{3.2000000000000015,8.395501167268955},{3.3000000000000016,8.531778461466471},{3.4000000000000017,8.638907608103306},{3.5000000000000018,8.716991471224874},{3.600000000000002,8.765325199360886},{3.700000000000002,8.783465634371113},{3.800000000000002,8.770475874493519},{3.900000000000002,8.724355612316513},{4.000000000000002,8.641809541402608},{4.100000000000001,8.518232634220942},{4.200000000000001,8.347247835502804},{4.300000000000001,8.118607885501463},{4.4,7.819435679445111},{4.5,7.437083441209783},{4.6,6.961918365893295},{4.699999999999999,6.384322770452075},{4.799999999999999,5.689315070151829},{4.899999999999999,4.868968448423627},{4.999999999999998,3.94840809709639},{5.099999999999998,3.0191873091142933},{5.1999999999999975,2.1868912095052884},{5.299999999999997,1.5271123717743154},{5.399999999999997,1.092209841909929},{5.4999999999999964,0.8907642625446572},{5.599999999999996,0.7861789229922597},{5.699999999999996,0.8045292068863839},{5.799999999999995,0.9431933856869132},{5.899999999999995,1.122028139793581},{5.999999999999995,1.303531251434027},{6.099999999999994,1.4767284142177743},{6.199999999999994,1.6273772247618628},{6.299999999999994,1.749238167338386},{6.399999999999993,1.8433013512603347},{6.499999999999993,1.914561025912507},{6.5999999999999925,1.9684488251273755},{6.699999999999992,2.005580943253114},{6.799999999999992,2.0248020485229348},{6.8999999999999915,2.02292637709751},{6.999999999999991,1.992852427867991},{7.099999999999991,1.9199970665176083},{7.19999999999999,1.7757980143887968},{7.29999999999999,1.508766332581805},{7.39999999999999,1.02731613556604},{7.499999999999989,0.0}};
-	
-	//public static final double[][] leftVelocitiesTO_OPPOSITE_SCALE = {{0.0,0.0},{0.1,3.9932592250130883},{0.2,6.059863070031124},{0.30000000000000004,7.219121350705245},{0.4,7.860563676245418},{0.5,8.202746897169325},{0.6,8.366969595304038},{0.7,8.418871063541694},{0.7999999999999999,8.391749455895491},{0.8999999999999999,8.300335320867092},{0.9999999999999999,8.14902744575539},{1.0999999999999999,7.936809577756532},{1.1999999999999997,7.664046509313483},{1.2999999999999998,7.339740998866746},{1.4,6.986813704125357},{1.5,6.659611892972553},{1.6,6.4521321639800995},{1.7000000000000002,6.464234261420495},{1.8000000000000003,6.787685193108801},{1.9000000000000004,7.435318561199726},{2.0000000000000004,8.250339148407647},{2.1000000000000005,9.092826631769073},{2.2000000000000006,9.876984262628396},{2.3000000000000007,10.54516443636626},{2.400000000000001,11.076287016377792},{2.500000000000001,11.47077130804063},{2.600000000000001,11.73437288745949},{2.700000000000001,11.875534524692071},{2.800000000000001,11.901106054431526},{2.9000000000000012,11.813413995374505},{3.0000000000000013,11.610351108188569},{3.1000000000000014,11.287650670999012},{3.2000000000000015,10.843201121932184},{3.3000000000000016,10.278732378498418},{3.4000000000000017,9.60931116741696},{3.5000000000000018,8.875949619195246},{3.600000000000002,8.127216830495032},{3.700000000000002,7.406400795877892},{3.800000000000002,6.781432335376879},{3.900000000000002,6.2390841765339475},{4.000000000000002,5.692545697784999},{4.100000000000001,5.132232801592703},{4.200000000000001,4.611997720639449},{4.300000000000001,4.174705392290994},{4.4,3.838929678293611},{4.5,3.593638356640304},{4.6,3.414792806684256},{4.699999999999999,3.279082671935139},{4.799999999999999,3.163252058149654},{4.899999999999999,3.0419327624263115},{4.999999999999998,2.883608110052962},{5.099999999999998,2.641396687242242},{5.1999999999999975,2.2385431781481997},{5.299999999999997,1.5438692831819745},{5.399999999999997,0.0}};
-	//public static final double[][] rightVelocitiesTO_OPPOSITE_SCALE = {{0.0,0.0},{0.1,4.004539964870823},{0.2,6.085700850511565},{0.30000000000000004,7.263598060347351},{0.4,7.930387117490709},{0.5,8.30810575192387},{0.6,8.522526594077839},{0.7,8.645117479829578},{0.7999999999999999,8.717132923738504},{0.8999999999999999,8.762825495899689},{0.9999999999999999,8.797588805214543},{1.0999999999999999,8.833815001930123},{1.1999999999999997,8.881785469042201},{1.2999999999999998,8.951404172020368},{1.4,9.056079307004739},{1.5,9.200785316374123},{1.6,9.378727752671884},{1.7000000000000002,9.59245478357008},{1.8000000000000003,9.829621196536687},{1.9000000000000004,10.083041923206782},{2.0000000000000004,10.39352518671512},{2.1000000000000005,10.749466331497533},{2.2000000000000006,11.109715406635539},{2.3000000000000007,11.43725788261082},{2.400000000000001,11.705693563052918},{2.500000000000001,11.898532113202533},{2.600000000000001,12.006371816948961},{2.700000000000001,12.022659489870465},{2.800000000000001,11.939684613692668},{2.9000000000000012,11.746245499454064},{3.0000000000000013,11.426196356284002},{3.1000000000000014,10.959196518105408},{3.2000000000000015,10.322504704005057},{3.3000000000000016,9.493462272336144},{3.4000000000000017,8.459928401900097},{3.5000000000000018,7.230224308009134},{3.600000000000002,5.847313200161773},{3.700000000000002,4.4341167086803805},{3.800000000000002,3.1615114998016285},{3.900000000000002,2.201148046865232},{4.000000000000002,1.6753526093382696},{4.100000000000001,1.4600685457511346},{4.200000000000001,1.526617495200261},{4.300000000000001,1.7560111833529515},{4.4,2.0265548452705198},{4.5,2.2745735118957175},{4.6,2.475871548472759},{4.699999999999999,2.6215264265388463},{4.799999999999999,2.7086962196526887},{4.899999999999999,2.7323135796661813},{4.999999999999998,2.6767720825297516},{5.099999999999998,2.507859691174392},{5.1999999999999975,2.1588420604863963},{5.299999999999997,1.5061515599314133},{5.399999999999997,0.0}};
-	
-	public static final double[][] leftVelocitiesTO_BACKOUT = {{0.0,0.0},{0.02,1.9675487669369214},{0.04,2.9912073567646105},{0.06,3.5703334561552595},{0.08,3.897969097890338},{0.1,4.083326162313488},{0.12000000000000001,4.18819033743293},{0.14,4.247516348243222},{0.16,4.281079531708164},{0.18,4.300067615733312},{0.19999999999999998,4.310809961786447},{0.21999999999999997,4.316887352040062},{0.23999999999999996,4.3203255834170715},{0.25999999999999995,4.322270733221897},{0.2799999999999999,4.323371184900669},{0.29999999999999993,4.323993755850557},{0.31999999999999995,4.324345969881174},{0.33999999999999997,4.324545231815012},{0.36,4.324657962426759},{0.38,4.324721738701049},{0.4,4.3247578194943355},{0.42000000000000004,4.32477823182122},{0.44000000000000006,4.324789779860561},{0.4600000000000001,4.324796313016536},{0.4800000000000001,4.324800009054886},{0.5,4.324802100026334},{0.52,4.32480328295159},{0.54,4.324803952162888},{0.56,4.324804330749236},{0.5800000000000001,4.324804544920433},{0.6000000000000001,4.32480466607783},{0.6200000000000001,4.32480473461553},{0.6400000000000001,4.324804773385672},{0.6600000000000001,4.324804795316263},{0.6800000000000002,4.324804807720916},{0.7000000000000002,4.324804814737025},{0.7200000000000002,4.324804818705093},{0.7400000000000002,4.324804820949115},{0.7600000000000002,4.324804822218038},{0.7800000000000002,4.324804822935485},{0.8000000000000003,4.324804823341072},{0.8200000000000003,4.324804823570323},{0.8400000000000003,4.324804823699873},{0.8600000000000003,4.324804823773052},{0.8800000000000003,4.324804823814366},{0.9000000000000004,4.324804823837633},{0.9200000000000004,4.3248048238506325},{0.9400000000000004,4.324804823857692},{0.9600000000000004,4.324804823861085},{0.9800000000000004,4.324804823861784},{1.0000000000000004,4.324804823859727},{1.0200000000000005,4.324804823853681},{1.0400000000000005,4.324804823840655},{1.0600000000000005,4.3248048238146986},{1.0800000000000005,4.324804823764458},{1.1000000000000005,4.324804823668799},{1.1200000000000006,4.324804823488922},{1.1400000000000006,4.324804823154123},{1.1600000000000006,4.324804822536489},{1.1800000000000006,4.324804821405952},{1.2000000000000006,4.324804819350485},{1.2200000000000006,4.324804815634851},{1.2400000000000007,4.324804808950738},{1.2600000000000007,4.324804796974881},{1.2800000000000007,4.324804775588033},{1.3000000000000007,4.324804737494649},{1.3200000000000007,4.324804669783354},{1.3400000000000007,4.324804549615612},{1.3600000000000008,4.324804336606059},{1.3800000000000008,4.324803959355224},{1.4000000000000008,4.324803291646472},{1.4200000000000008,4.324802110373611},{1.4400000000000008,4.324800021175667},{1.4600000000000009,4.324796326991159},{1.4800000000000009,4.324789795716937},{1.5000000000000009,4.324778249524494},{1.520000000000001,4.324757838938883},{1.540000000000001,4.324721759705831},{1.560000000000001,4.32465798473476},{1.580000000000001,4.324545255097373},{1.600000000000001,4.324345993746274},{1.620000000000001,4.32399377985786},{1.640000000000001,4.3233712085788305},{1.660000000000001,4.322270756090283},{1.680000000000001,4.32032560500944},{1.700000000000001,4.316887371929003},{1.720000000000001,4.310809979607127},{1.740000000000001,4.30006763120492},{1.7600000000000011,4.281079544651702},{1.7800000000000011,4.247516358594499},{1.8000000000000012,4.18819034524979},{1.8200000000000012,4.083326167776782},{1.8400000000000012,3.897969101298488},{1.8600000000000012,3.570333457912552},{1.8800000000000012,2.991207357363778},{1.9000000000000012,1.9675487669369185},{1.9200000000000013,0.0}};
-	public static final double[][] rightVelocitiesTO_BACKOUT = {{0.0,0.0},{0.02,1.9675487669369214},{0.04,2.9912073567646105},{0.06,3.5703334561552595},{0.08,3.897969097890338},{0.1,4.083326162313488},{0.12000000000000001,4.18819033743293},{0.14,4.247516348243222},{0.16,4.281079531708164},{0.18,4.300067615733312},{0.19999999999999998,4.310809961786447},{0.21999999999999997,4.316887352040062},{0.23999999999999996,4.3203255834170715},{0.25999999999999995,4.322270733221897},{0.2799999999999999,4.323371184900669},{0.29999999999999993,4.323993755850557},{0.31999999999999995,4.324345969881174},{0.33999999999999997,4.324545231815012},{0.36,4.324657962426759},{0.38,4.324721738701049},{0.4,4.3247578194943355},{0.42000000000000004,4.32477823182122},{0.44000000000000006,4.324789779860561},{0.4600000000000001,4.324796313016536},{0.4800000000000001,4.324800009054886},{0.5,4.324802100026334},{0.52,4.32480328295159},{0.54,4.324803952162888},{0.56,4.324804330749236},{0.5800000000000001,4.324804544920433},{0.6000000000000001,4.32480466607783},{0.6200000000000001,4.32480473461553},{0.6400000000000001,4.324804773385672},{0.6600000000000001,4.324804795316263},{0.6800000000000002,4.324804807720916},{0.7000000000000002,4.324804814737025},{0.7200000000000002,4.324804818705093},{0.7400000000000002,4.324804820949115},{0.7600000000000002,4.324804822218038},{0.7800000000000002,4.324804822935485},{0.8000000000000003,4.324804823341072},{0.8200000000000003,4.324804823570323},{0.8400000000000003,4.324804823699873},{0.8600000000000003,4.324804823773052},{0.8800000000000003,4.324804823814366},{0.9000000000000004,4.324804823837633},{0.9200000000000004,4.3248048238506325},{0.9400000000000004,4.324804823857692},{0.9600000000000004,4.324804823861085},{0.9800000000000004,4.324804823861784},{1.0000000000000004,4.324804823859727},{1.0200000000000005,4.324804823853681},{1.0400000000000005,4.324804823840655},{1.0600000000000005,4.3248048238146986},{1.0800000000000005,4.324804823764458},{1.1000000000000005,4.324804823668799},{1.1200000000000006,4.324804823488922},{1.1400000000000006,4.324804823154123},{1.1600000000000006,4.324804822536489},{1.1800000000000006,4.324804821405952},{1.2000000000000006,4.324804819350485},{1.2200000000000006,4.324804815634851},{1.2400000000000007,4.324804808950738},{1.2600000000000007,4.324804796974881},{1.2800000000000007,4.324804775588033},{1.3000000000000007,4.324804737494649},{1.3200000000000007,4.324804669783354},{1.3400000000000007,4.324804549615612},{1.3600000000000008,4.324804336606059},{1.3800000000000008,4.324803959355224},{1.4000000000000008,4.324803291646472},{1.4200000000000008,4.324802110373611},{1.4400000000000008,4.324800021175667},{1.4600000000000009,4.324796326991159},{1.4800000000000009,4.324789795716937},{1.5000000000000009,4.324778249524494},{1.520000000000001,4.324757838938883},{1.540000000000001,4.324721759705831},{1.560000000000001,4.32465798473476},{1.580000000000001,4.324545255097373},{1.600000000000001,4.324345993746274},{1.620000000000001,4.32399377985786},{1.640000000000001,4.3233712085788305},{1.660000000000001,4.322270756090283},{1.680000000000001,4.32032560500944},{1.700000000000001,4.316887371929003},{1.720000000000001,4.310809979607127},{1.740000000000001,4.30006763120492},{1.7600000000000011,4.281079544651702},{1.7800000000000011,4.247516358594499},{1.8000000000000012,4.18819034524979},{1.8200000000000012,4.083326167776782},{1.8400000000000012,3.897969101298488},{1.8600000000000012,3.570333457912552},{1.8800000000000012,2.991207357363778},{1.9000000000000012,1.9675487669369185},{1.9200000000000013,0.0}};
-	public static final double[][] headingsTO_BACKOUT = {{0.0,0.0},{0.02,0.0},{0.04,0.0},{0.06,0.0},{0.08,0.0},{0.1,0.0},{0.12000000000000001,0.0},{0.14,0.0},{0.16,0.0},{0.18,0.0},{0.19999999999999998,0.0},{0.21999999999999997,0.0},{0.23999999999999996,0.0},{0.25999999999999995,0.0},{0.27999999999999997,0.0},{0.3,0.0},{0.32,0.0},{0.34,0.0},{0.36000000000000004,0.0},{0.38000000000000006,0.0},{0.4000000000000001,0.0},{0.4200000000000001,0.0},{0.4400000000000001,0.0},{0.46000000000000013,0.0},{0.48000000000000015,0.0},{0.5000000000000001,0.0},{0.5200000000000001,0.0},{0.5400000000000001,0.0},{0.5600000000000002,0.0},{0.5800000000000002,0.0},{0.6000000000000002,0.0},{0.6200000000000002,0.0},{0.6400000000000002,0.0},{0.6600000000000003,0.0},{0.6800000000000003,0.0},{0.7000000000000003,0.0},{0.7200000000000003,0.0},{0.7400000000000003,0.0},{0.7600000000000003,0.0},{0.7800000000000004,0.0},{0.8000000000000004,0.0},{0.8200000000000004,0.0},{0.8400000000000004,0.0},{0.8600000000000004,0.0},{0.8800000000000004,0.0},{0.9000000000000005,0.0},{0.9200000000000005,0.0},{0.9400000000000005,0.0},{0.9600000000000005,0.0},{0.9800000000000005,0.0},{1.0000000000000004,0.0},{1.0200000000000005,0.0},{1.0400000000000005,0.0},{1.0600000000000005,0.0},{1.0800000000000005,0.0},{1.1000000000000005,0.0},{1.1200000000000006,0.0},{1.1400000000000006,0.0},{1.1600000000000006,0.0},{1.1800000000000006,0.0},{1.2000000000000006,0.0},{1.2200000000000006,0.0},{1.2400000000000007,0.0},{1.2600000000000007,0.0},{1.2800000000000007,0.0},{1.3000000000000007,0.0},{1.3200000000000007,0.0},{1.3400000000000007,0.0},{1.3600000000000008,0.0},{1.3800000000000008,0.0},{1.4000000000000008,0.0},{1.4200000000000008,0.0},{1.4400000000000008,0.0},{1.4600000000000009,0.0},{1.4800000000000009,0.0},{1.5000000000000009,0.0},{1.520000000000001,0.0},{1.540000000000001,0.0},{1.560000000000001,0.0},{1.580000000000001,0.0},{1.600000000000001,0.0},{1.620000000000001,0.0},{1.640000000000001,0.0},{1.660000000000001,0.0},{1.680000000000001,0.0},{1.700000000000001,0.0},{1.720000000000001,0.0},{1.740000000000001,0.0},{1.7600000000000011,0.0},{1.7800000000000011,0.0},{1.8000000000000012,0.0},{1.8200000000000012,0.0},{1.8400000000000012,0.0},{1.8600000000000012,0.0},{1.8800000000000012,0.0},{1.9000000000000012,0.0},{1.9200000000000013,0.0}};
-
-	public static final double[][] leftVelocitiesTO_LEFT_PYRAMID = {{0.0,0.0},{0.02,0.9953965415756987},{0.04,1.5083748312863665},{0.06,1.7992077730073401},{0.08,1.9645613959887989},{0.1,2.0589367106324095},{0.12000000000000001,2.1135084112699634},{0.14,2.145526115150607},{0.16,2.1654221072488},{0.18,2.1785020858239976},{0.19999999999999998,2.188678198094574},{0.21999999999999997,2.1971663044795386},{0.23999999999999996,2.2061115491497967},{0.25999999999999995,2.21504553594449},{0.2799999999999999,2.226386107485326},{0.29999999999999993,2.2391060083530623},{0.31999999999999995,2.256052503795078},{0.33999999999999997,2.274964633808581},{0.36,2.2999195988878802},{0.38,2.3267805368763947},{0.4,2.3631008255522596},{0.42000000000000004,2.4041831588373697},{0.44000000000000006,2.459455825999826},{0.4600000000000001,2.519844344243864},{0.4800000000000001,2.5987189131409276},{0.5,2.679629545409497},{0.52,2.787981986211082},{0.54,2.905569181635594},{0.56,3.0610802771347987},{0.5800000000000001,3.2183904243682173},{0.6000000000000001,3.4142275292545956},{0.6200000000000001,3.581541840786671},{0.6400000000000001,3.7944047361730324},{0.6600000000000001,3.9837383205339614},{0.6800000000000002,4.214648172495522},{0.7000000000000002,4.356618558209466},{0.7200000000000002,4.478534928689644},{0.7400000000000002,4.370473425150017},{0.7600000000000002,4.239032112042351},{0.7800000000000002,4.011246722368465},{0.8000000000000003,3.8218696226361875},{0.8200000000000003,3.602946141337236},{0.8400000000000003,3.428589418839086},{0.8600000000000003,3.220393364754171},{0.8800000000000003,3.051552766893288},{0.9000000000000004,2.883051227870632},{0.9200000000000004,2.755122650300624},{0.9400000000000004,2.6367805752946007},{0.9600000000000004,2.548731962504189},{0.9800000000000004,2.4629807402781827},{1.0000000000000004,2.3985482862857452},{1.0200000000000005,2.3403559753532033},{1.0400000000000005,2.2994714431748804},{1.0600000000000005,2.2646239095291896},{1.0800000000000005,2.242500784710905},{1.1000000000000005,2.2231631089074235},{1.1200000000000006,2.2139898381740735},{1.1400000000000006,2.208655141678367},{1.1600000000000006,2.2131791932145446},{1.1800000000000006,2.2209991875917976},{1.2000000000000006,2.2383674605801316},{1.2200000000000006,2.256673411250897},{1.2400000000000007,2.286486152638535},{1.2600000000000007,2.3195885450729654},{1.2800000000000007,2.367237216428355},{1.3000000000000007,2.4150733731947662},{1.3200000000000007,2.4772258232418625},{1.3400000000000007,2.5284344856270944},{1.3600000000000008,2.5970730895759564},{1.3800000000000008,2.657645514336726},{1.4000000000000008,2.7354442243250303},{1.4200000000000008,2.7817780437343016},{1.4400000000000008,2.823213871565208},{1.4600000000000009,2.77690698963551},{1.4800000000000009,2.722444309193375},{1.5000000000000009,2.627767156803376},{1.520000000000001,2.5480085696671257},{1.540000000000001,2.452971084569128},{1.560000000000001,2.375494718138331},{1.580000000000001,2.27965411445172},{1.600000000000001,2.2002778578835556},{1.620000000000001,2.1192106274601077},{1.640000000000001,2.0571904169625688},{1.660000000000001,1.999338351640757},{1.680000000000001,1.9571863017160769},{1.700000000000001,1.9166203612730572},{1.720000000000001,1.888678436262244},{1.740000000000001,1.865487437081399},{1.7600000000000011,1.8541219566710032},{1.7800000000000011,1.8481187519179127},{1.8000000000000012,1.8525690715963659},{1.8200000000000012,1.8610119200565538},{1.8400000000000012,1.8798524000865302},{1.8600000000000012,1.9044082682929333},{1.8800000000000012,1.9406603694714488},{1.9000000000000012,1.9825197315772511},{1.9200000000000013,2.036568712638916},{1.9400000000000013,2.093873562819127},{1.9600000000000013,2.165141108221133},{1.9800000000000013,2.2420647868925054},{2.0000000000000013,2.3350634778344426},{2.0200000000000014,2.4311780036162705},{2.0400000000000014,2.541896194294965},{2.0600000000000014,2.648961999437975},{2.0800000000000014,2.7714267177261185},{2.1000000000000014,2.8960226707869063},{2.1200000000000014,3.03653696149368},{2.1400000000000015,3.1742621189195237},{2.1600000000000015,3.319090057144589},{2.1800000000000015,3.4461835732740145},{2.2000000000000015,3.5701971003312827},{2.2200000000000015,3.682470335750613},{2.2400000000000015,3.789442382336772},{2.2600000000000016,3.886175959383961},{2.2800000000000016,3.9758006140061823},{2.3000000000000016,4.053826374978999},{2.3200000000000016,4.1226943421595115},{2.3400000000000016,4.181320677789},{2.3600000000000017,4.231983441016503},{2.3800000000000017,4.27478326557248},{2.4000000000000017,4.311452306127563},{2.4200000000000017,4.341928957506289},{2.4400000000000017,4.36744478732292},{2.4600000000000017,4.3883569551645305},{2.4800000000000018,4.405690427200011},{2.5000000000000018,4.419851830231293},{2.520000000000002,4.431554916822996},{2.540000000000002,4.440992064231634},{2.560000000000002,4.4485983463850145},{2.580000000000002,4.454518302670369},{2.600000000000002,4.4589825069737},{2.620000000000002,4.461944600562561},{2.640000000000002,4.46325453268436},{2.660000000000002,4.462321044084957},{2.680000000000002,4.458084791754645},{2.700000000000002,4.448484744467956},{2.720000000000002,4.429851861339202},{2.740000000000002,4.3955703726370565},{2.760000000000002,4.3339185580652515},{2.780000000000002,4.224088349637141},{2.800000000000002,4.029289086077323},{2.820000000000002,3.684441247615839},{2.840000000000002,3.074500377552721},{2.860000000000002,1.9960864187409917},{2.880000000000002,0.0}};
-	public static final double[][] rightVelocitiesTO_LEFT_PYRAMID = {{0.0,0.0},{0.02,0.9929226750173569},{0.04,1.5033095752920782},{0.06,1.7913610701687395},{0.08,1.9534034129280815},{0.1,2.044110602437004},{0.12000000000000001,2.094071682388565},{0.14,2.120964090935446},{0.16,2.134115844561109},{0.18,2.139373239503929},{0.19999999999999998,2.1391304611201005},{0.21999999999999997,2.135699062020638},{0.23999999999999996,2.128930173741747},{0.25999999999999995,2.1203626478751936},{0.2799999999999999,2.1081947872927094},{0.29999999999999993,2.0937042410289544},{0.31999999999999995,2.07418661293823},{0.33999999999999997,2.051848484530496},{0.36,2.022608823979978},{0.38,1.9904218239757037},{0.4,1.9477228774995345},{0.42000000000000004,1.8989240523347375},{0.44000000000000006,1.8345488503845178},{0.4600000000000001,1.7633469732765366},{0.4800000000000001,1.6721224350621078},{0.5,1.5772424642692897},{0.52,1.454233655324297},{0.54,1.3220011846245494},{0.56,1.1543417653272354},{0.5800000000000001,0.9908487176787619},{0.6000000000000001,0.8027443235978057},{0.6200000000000001,0.6695101883859869},{0.6400000000000001,0.5413066754046499},{0.6600000000000001,0.5251345161161344},{0.6800000000000002,0.6259077877013509},{0.7000000000000002,0.7116250955755653},{0.7200000000000002,0.8204072771843713},{0.7400000000000002,0.7292956830812103},{0.7600000000000002,0.6439529252443649},{0.7800000000000002,0.5051489110035805},{0.8000000000000003,0.47677827431140807},{0.8200000000000003,0.54797732276542},{0.8400000000000003,0.6460475257306908},{0.8600000000000003,0.8185479544155527},{0.8800000000000003,0.9739071374060507},{0.9000000000000004,1.1410420459206454},{0.9200000000000004,1.2733994592793543},{0.9400000000000004,1.398900220778666},{0.9600000000000004,1.4947297562889856},{0.9800000000000004,1.5880718283480268},{1.0000000000000004,1.6590741019422386},{1.0200000000000005,1.7226637471340367},{1.0400000000000005,1.7675253964343969},{1.0600000000000005,1.804971515363502},{1.0800000000000005,1.8282545408089246},{1.1000000000000005,1.8473172219285634},{1.1200000000000006,1.8547300906771125},{1.1400000000000006,1.856691856538114},{1.1600000000000006,1.847093667473187},{1.1800000000000006,1.8322243906460278},{1.2000000000000006,1.8057531752231197},{1.2200000000000006,1.7758931063303072},{1.2400000000000007,1.7320996052303554},{1.2600000000000007,1.6819795303228868},{1.2800000000000007,1.6141689487880373},{1.3000000000000007,1.542222860636611},{1.3200000000000007,1.4521930873408813},{1.3400000000000007,1.3686433629271684},{1.3600000000000008,1.2642100837493597},{1.3800000000000008,1.1636284959683045},{1.4000000000000008,1.0424938069138738},{1.4200000000000008,0.9488854416727958},{1.4400000000000008,0.8584375704766829},{1.4600000000000009,0.8545164726816443},{1.4800000000000009,0.8622032777323151},{1.5000000000000009,0.9138677820222335},{1.520000000000001,0.9560230139063152},{1.540000000000001,1.0179911240032002},{1.560000000000001,1.0673118096056795},{1.580000000000001,1.1390348673133386},{1.600000000000001,1.1988349787289727},{1.620000000000001,1.2642054170939163},{1.640000000000001,1.3143996321104405},{1.660000000000001,1.3637495543048817},{1.680000000000001,1.400628786581049},{1.700000000000001,1.438917375415753},{1.720000000000001,1.4676514176027333},{1.740000000000001,1.4948280872257234},{1.7600000000000011,1.5135528987431435},{1.7800000000000011,1.5307639476321213},{1.8000000000000012,1.5416428891900322},{1.8200000000000012,1.5535084623524895},{1.8400000000000012,1.5602674729995099},{1.8600000000000012,1.56807235314951},{1.8800000000000012,1.5717061104846068},{1.9000000000000012,1.579500331050904},{1.9200000000000013,1.585653886097074},{1.9400000000000013,1.6019738806068349},{1.9600000000000013,1.6179372925921722},{1.9800000000000013,1.6459813707882713},{2.0000000000000013,1.6768160793260392},{2.0200000000000014,1.7288738722358314},{2.0400000000000014,1.7903534491684043},{2.0600000000000014,1.8846750563944175},{2.0800000000000014,1.9877074808608641},{2.1000000000000014,2.1186572222246625},{2.1200000000000014,2.259583785317449},{2.1400000000000015,2.4345802592268546},{2.1600000000000015,2.6209731069217397},{2.1800000000000015,2.8409237307444943},{2.2000000000000015,3.0486041131707013},{2.2200000000000015,3.249954489914148},{2.2400000000000015,3.425648791913328},{2.2600000000000016,3.5859652835733877},{2.2800000000000016,3.7235187469646385},{2.3000000000000016,3.8487147627942453},{2.3200000000000016,3.9539093209295064},{2.3400000000000016,4.04534309518086},{2.3600000000000017,4.12035850255507},{2.3800000000000017,4.184363103606777},{2.4000000000000017,4.2367311735772},{2.4200000000000017,4.281711261719653},{2.4400000000000017,4.3182385507088155},{2.4600000000000017,4.348903765408861},{2.4800000000000018,4.373483120476876},{2.5000000000000018,4.393912021712814},{2.520000000000002,4.410264216562928},{2.540000000000002,4.423916653190548},{2.560000000000002,4.434714464494626},{2.580000000000002,4.443435344159956},{2.600000000000002,4.449982949007283},{2.620000000000002,4.454736842100449},{2.640000000000002,4.457377873491342},{2.660000000000002,4.457635555291973},{2.680000000000002,4.454301450047825},{2.700000000000002,4.445488388524576},{2.720000000000002,4.427445811641621},{2.740000000000002,4.393672609758823},{2.760000000000002,4.332406810246918},{2.780000000000002,4.222923540656345},{2.800000000000002,4.028400160089128},{2.820000000000002,3.6838012346855753},{2.840000000000002,3.0740693850053344},{2.860000000000002,1.9958501138226046},{2.880000000000002,0.0}};
-	public static final double[][] headingsTO_LEFT_PYRAMID = {{0.0,0.0},{0.02,-0.024165780485453342},{0.04,-0.026710009975744065},{0.06,-0.030263859513134983},{0.08,-0.036012278372444986},{0.1,-0.04285571902829647},{0.12000000000000001,-0.05307622091022085},{0.14,-0.06433520312663574},{0.16,-0.08038756904201973},{0.18,-0.09831276109419283},{0.19999999999999998,-0.12409089446256442},{0.21999999999999997,-0.15275528438959696},{0.23999999999999996,-0.1938734162088191},{0.25999999999999995,-0.23776632210831422},{0.27999999999999997,-0.29909041350486953},{0.3,-0.3664623431572105},{0.32,-0.46240584379059163},{0.34,-0.5679610475826926},{0.36000000000000004,-0.7184750967660183},{0.38000000000000006,-0.876835248745901},{0.4000000000000001,-1.096128283799435},{0.4200000000000001,-1.3344246462561278},{0.4400000000000001,-1.671912993524991},{0.46000000000000013,-2.0391337529268245},{0.48000000000000015,-2.5602276620616573},{0.5000000000000001,-3.0963069065950366},{0.5200000000000001,-3.8287510532528732},{0.5400000000000001,-4.609983130558331},{0.5600000000000002,-5.706583359815791},{0.5800000000000002,-6.874415023015191},{0.6000000000000002,-8.514403363770505},{0.6200000000000002,-10.113565740993119},{0.6400000000000002,-12.213676064957301},{0.6600000000000003,-14.329325941795096},{0.6800000000000003,-17.177800419138816},{0.7000000000000003,-19.972796884806957},{0.7200000000000003,-23.644655490160225},{0.7400000000000003,-26.493286238043037},{0.7600000000000003,-29.445027383337298},{0.7800000000000004,-31.669490881551766},{0.8000000000000004,-33.904848846691934},{0.8200000000000004,-35.62537048748604},{0.8400000000000004,-37.40646070005994},{0.8600000000000004,-38.68562330964637},{0.8800000000000004,-39.89577339840711},{0.9000000000000005,-40.764359893107425},{0.9200000000000005,-41.58506124715377},{0.9400000000000005,-42.19122347551799},{0.9600000000000005,-42.78687779274361},{0.9800000000000005,-43.21309290712655},{1.0000000000000004,-43.61328509321806},{1.0200000000000005,-43.90522575381209},{1.0400000000000005,-44.18685507919565},{1.0600000000000005,-44.403969549763815},{1.0800000000000005,-44.629242414230475},{1.1000000000000005,-44.80705939037501},{1.1200000000000006,-44.996901369705874},{1.1400000000000006,-45.16171440295268},{1.1600000000000006,-45.35670943161767},{1.1800000000000006,-45.54307550195408},{1.2000000000000006,-45.78347791608689},{1.2200000000000006,-46.01518558863045},{1.2400000000000007,-46.31626674904811},{1.2600000000000007,-46.626149119337676},{1.2800000000000007,-47.0501674954297},{1.3000000000000007,-47.4945558753292},{1.3200000000000007,-48.111787211776786},{1.3400000000000007,-48.710422848743534},{1.3600000000000008,-49.4945785419199},{1.3800000000000008,-50.28564626697791},{1.4000000000000008,-51.35708218064816},{1.4200000000000008,-52.421150896503065},{1.4400000000000008,-53.84665962153989},{1.4600000000000009,-54.98215026241565},{1.4800000000000009,-56.19280711738323},{1.5000000000000009,-57.13283168051942},{1.520000000000001,-58.105318443593866},{1.540000000000001,-58.87557219463017},{1.560000000000001,-59.69518014946393},{1.580000000000001,-60.299893647476814},{1.600000000000001,-60.886139242293005},{1.620000000000001,-61.317168701569386},{1.640000000000001,-61.73411329412967},{1.660000000000001,-62.049827345622155},{1.680000000000001,-62.36837791287247},{1.700000000000001,-62.60392883048544},{1.720000000000001,-62.83428574081569},{1.740000000000001,-63.011772683028504},{1.7600000000000011,-63.195054391084895},{1.7800000000000011,-63.34800184255322},{1.8000000000000012,-63.52095166569199},{1.8200000000000012,-63.670457328060685},{1.8400000000000012,-63.845508701224915},{1.8600000000000012,-64.01090997618483},{1.8800000000000012,-64.21978753479065},{1.9000000000000012,-64.42689732391813},{1.9200000000000013,-64.69710063527471},{1.9400000000000013,-64.95429497674894},{1.9600000000000013,-65.27883313131728},{1.9800000000000013,-65.5975000075625},{2.0000000000000013,-66.00574434066183},{2.0200000000000014,-66.39919987129412},{2.0400000000000014,-66.89250646989476},{2.0600000000000014,-67.31888740401038},{2.0800000000000014,-67.81222346574138},{2.1000000000000014,-68.24738134637597},{2.1200000000000014,-68.755874326735},{2.1400000000000015,-69.18703382256604},{2.1600000000000015,-69.67516490657479},{2.1800000000000015,-70.00612695961661},{2.2000000000000015,-70.31424755244886},{2.2200000000000015,-70.52704263211137},{2.2400000000000015,-70.72661626941796},{2.2600000000000016,-70.8716857812465},{2.2800000000000016,-71.01489767038018},{2.3000000000000016,-71.11374786696784},{2.3200000000000016,-71.20437435683988},{2.3400000000000016,-71.26771980019716},{2.3600000000000017,-71.32623413878906},{2.3800000000000017,-71.36854613285311},{2.4000000000000017,-71.40927185493537},{2.4200000000000017,-71.43774052263169},{2.4400000000000017,-71.46373930456531},{2.4600000000000017,-71.48200355592887},{2.4800000000000018,-71.49874399956234},{2.5000000000000018,-71.5107933433055},{2.520000000000002,-71.52221507160037},{2.540000000000002,-71.53020758307359},{2.560000000000002,-71.53745979508595},{2.580000000000002,-71.54254526714035},{2.600000000000002,-71.54716914423436},{2.620000000000002,-71.55047573571031},{2.640000000000002,-71.55357102883437},{2.660000000000002,-71.5557275571066},{2.680000000000002,-71.5576660399124},{2.700000000000002,-71.55901349362544},{2.720000000000002,-71.5602198129448},{2.740000000000002,-71.56106571669817},{2.760000000000002,-71.56183345270261},{2.780000000000002,-71.56234743846854},{2.800000000000002,-71.56277913301685},{2.820000000000002,-71.56304599833018},{2.840000000000002,-71.56323703805089},{2.860000000000002,-71.56331890711334},{2.880000000000002,-71.56331890711334}};
-
-	
-	//AUTO PATHS ANGLES
-	//public static final double[][] headingsTO_SCALE = {{0.0,0.0},{0.1,0.14834618225127025},{0.2,0.20853779876432402},{0.30000000000000004,0.31199941867813363},{0.4,0.47586206963519856},{0.5,0.7235201392168513},{0.6,1.0854724840987084},{0.7,1.5929888648076718},{0.7999999999999999,2.2762349126792163},{0.8999999999999999,3.1400974718699377},{0.9999999999999999,4.1694172145068205},{1.0999999999999999,5.277279469970419},{1.2,6.377539420439971},{1.3,7.279498237283849},{1.4000000000000001,7.995367690660622},{1.5000000000000002,8.554287169234218},{1.6000000000000003,9.020321883990848},{1.7000000000000004,9.453116141351167},{1.8000000000000005,9.918531995198878},{1.9000000000000006,10.482652895879097},{2.0000000000000004,11.221456824733279},{2.1000000000000005,12.205767045256815},{2.2000000000000006,13.511687272446453},{2.3000000000000007,15.136869735181225},{2.400000000000001,17.03967048522164},{2.500000000000001,18.849766301800127},{2.600000000000001,20.438184041392258},{2.700000000000001,21.704721797421076},{2.800000000000001,22.665601748490772},{2.9000000000000012,23.35697249794514},{3.0000000000000013,23.838814930149105},{3.1000000000000014,24.163259816039968},{3.2000000000000015,24.37563649460199},{3.3000000000000016,24.508804269340942},{3.4000000000000017,24.585953276446496},{3.5000000000000018,24.62115102585434},{3.600000000000002,24.62115102585434}};
-	//public static final double [][] headingsTO_SCALE = {{0.0,0.0},{0.02,5.708988565363725},{0.04,5.708937070630409},{0.06,5.708864643646054},{0.08,5.708747144706472},{0.1,5.708605273056237},{0.12000000000000001,5.708391745615702},{0.14,5.708149407044187},{0.16,5.707797496218563},{0.18,5.70742486371767},{0.19999999999999998,5.706907332588831},{0.21999999999999997,5.706439303468631},{0.23999999999999996,5.705864781279279},{0.25999999999999995,5.705309312185721},{0.27999999999999997,5.704587784668466},{0.3,5.703832579609419},{0.32,5.702792094399311},{0.34,5.701672393731651},{0.36000000000000004,5.700100571375291},{0.38000000000000006,5.698469371086777},{0.4000000000000001,5.696235654220419},{0.4200000000000001,5.694239157318502},{0.4400000000000001,5.691814592800675},{0.46000000000000013,5.689495033480051},{0.48000000000000015,5.686508014273304},{0.5000000000000001,5.683403462410973},{0.5200000000000001,5.67914870408127},{0.5400000000000001,5.674588505189062},{0.5600000000000002,5.668208172890436},{0.5800000000000002,5.661607280972832},{0.6000000000000002,5.6525952092508325},{0.6200000000000002,5.644571302008157},{0.6400000000000002,5.634864138307087},{0.6600000000000003,5.625616914962025},{0.6800000000000003,5.613758480195092},{0.7000000000000003,5.601488857504002},{0.7200000000000003,5.5847520428288915},{0.7400000000000003,5.566913192260713},{0.7600000000000003,5.54210819658462},{0.7800000000000004,5.516652966662547},{0.8000000000000004,5.482205349477607},{0.8200000000000004,5.45193314658977},{0.8400000000000004,5.415782046561094},{0.8600000000000004,5.381849844274953},{0.8800000000000004,5.3389679931039735},{0.9000000000000005,5.295308628988254},{0.9200000000000005,5.2367424557124975},{0.9400000000000005,5.175570956568609},{0.9600000000000005,5.0923680051347935},{0.9800000000000005,5.009468771125543},{1.0000000000000004,4.900708588221166},{1.0200000000000005,4.809697075694655},{1.0400000000000005,4.706035221453425},{1.0600000000000005,4.613909431837914},{1.0800000000000005,4.503299246778619},{1.1000000000000005,4.396679057423143},{1.1200000000000006,4.260816392743414},{1.1400000000000006,4.127343757562474},{1.1600000000000006,3.9561788006579865},{1.1800000000000006,3.799793788960849},{1.2000000000000006,3.610127829378392},{1.2200000000000006,3.4775966940693963},{1.2400000000000007,3.3520471661349958},{1.2600000000000007,3.265808180980801},{1.2800000000000007,3.186869902597533},{1.3000000000000007,3.1304007848836237},{1.3200000000000007,3.076364718561428},{1.3400000000000007,3.034576936749767},{1.3600000000000008,2.9907479230344},{1.3800000000000008,2.9548004416997227},{1.4000000000000008,2.9146611835595535},{1.4200000000000008,2.886021069276828},{1.4400000000000008,2.858961612805578},{1.4600000000000009,2.840260925423533},{1.4800000000000009,2.823486287599185},{1.5000000000000009,2.8119347592801502},{1.520000000000001,2.801676251814857},{1.540000000000001,2.79453883557077},{1.560000000000001,2.788114090577808},{1.580000000000001,2.7836977455732477},{1.600000000000001,2.779804340639435},{1.620000000000001,2.7779253215456934},{1.640000000000001,2.777419198945836},{1.660000000000001,2.7786028186710476},{1.680000000000001,2.7818632144510356},{1.700000000000001,2.786664196304204},{1.720000000000001,2.7946032319266423},{1.740000000000001,2.804063996579871},{1.7600000000000011,2.8181995069136203},{1.7800000000000011,2.833402321905112},{1.8000000000000012,2.8547418611474096},{1.8200000000000012,2.874186781080914},{1.8400000000000012,2.898227017867719},{1.8600000000000012,2.9216287986507057},{1.8800000000000012,2.9522064366469616},{1.9000000000000012,2.9843645935246443},{1.9200000000000013,3.0288545905679016},{1.9400000000000013,3.0768783361768435},{1.9600000000000013,3.1445199452721617},{1.9800000000000013,3.214864487167195},{2.0000000000000013,3.311499148590895},{2.0200000000000014,3.3977882502974563},{2.0400000000000014,3.5025476565952385},{2.0600000000000014,3.602614719519237},{2.0800000000000014,3.73151498402339},{2.1000000000000014,3.8655972065226973},{2.1200000000000014,4.050067433777067},{2.1400000000000015,4.248556701974325},{2.1600000000000015,4.528503255457953},{2.1800000000000015,4.819485111134388},{2.2000000000000015,5.220785576866752},{2.2200000000000015,5.574940416690677},{2.2400000000000015,6.000389030693037},{2.2600000000000016,6.3998223559261564},{2.2800000000000016,6.908270788489003},{2.3000000000000016,7.430945150270115},{2.3200000000000016,8.14833180410735},{2.3400000000000016,8.915905356265906},{2.3600000000000017,10.0048572156631},{2.3800000000000017,11.119371931335795},{2.4000000000000017,12.654000500483617},{2.4200000000000017,13.868014108821434},{2.4400000000000017,15.145433411084532},{2.4600000000000017,16.10563305214749},{2.4800000000000018,17.051769774982624},{2.5000000000000018,17.772847415822564},{2.520000000000002,18.501566914443245},{2.540000000000002,19.093862906234886},{2.560000000000002,19.7448227438884},{2.580000000000002,20.303152557594878},{2.600000000000002,20.95461993311523},{2.620000000000002,21.439969103662847},{2.640000000000002,21.91758086737458},{2.660000000000002,22.26277093055242},{2.680000000000002,22.588617643092846},{2.700000000000002,22.828617106418704},{2.720000000000002,23.061954688174318},{2.740000000000002,23.244935065094754},{2.760000000000002,23.438285214396572},{2.780000000000002,23.598938371581344},{2.800000000000002,23.780372421841125},{2.820000000000002,23.913510139073505},{2.840000000000002,24.042489361216564},{2.860000000000002,24.134787292472204},{2.880000000000002,24.22103584162192},{2.900000000000002,24.284051200951524},{2.920000000000002,24.34478431837189},{2.940000000000002,24.392028189796807},{2.960000000000002,24.441512914912202},{2.980000000000002,24.48233278181692},{3.000000000000002,24.5280892549689},{3.0200000000000022,24.56154303777147},{3.0400000000000023,24.593830444727644},{3.0600000000000023,24.616877948886632},{3.0800000000000023,24.638359825516815},{3.1000000000000023,24.654021091002267},{3.1200000000000023,24.669078851511347},{3.1400000000000023,24.68076474468203},{3.1600000000000024,24.692972971742865},{3.1800000000000024,24.703020659519613},{3.2000000000000024,24.71425671513204},{3.2200000000000024,24.722458331883356},{3.2400000000000024,24.73035848390677},{3.2600000000000025,24.73598448241384},{3.2800000000000025,24.74121116704464},{3.3000000000000025,24.74500402672254},{3.3200000000000025,24.748627148725706},{3.3400000000000025,24.751416020906255},{3.3600000000000025,24.754300199849027},{3.3800000000000026,24.75664950136468},{3.4000000000000026,24.75924700392693},{3.4200000000000026,24.761117067173654},{3.4400000000000026,24.762882994628974},{3.4600000000000026,24.764098993541264},{3.4800000000000026,24.765170369259916},{3.5000000000000027,24.765882181993813},{3.5200000000000027,24.766471691447883},{3.5400000000000027,24.76683505972971},{3.5600000000000027,24.767093405677247},{3.5800000000000027,24.767204125748293},{3.6000000000000028,24.767204125748293}};
-	public static final double[][] headingsTO_SCALE = {{0.0,0.0},{0.02,5.708568260680414},{0.04,5.708450287336405},{0.06,5.708285419975426},{0.08,5.708018716273754},{0.1,5.70770089308837},{0.12000000000000001,5.7072260456871104},{0.14,5.706701778425084},{0.16,5.705953414353463},{0.18,5.7052121211783255},{0.19999999999999998,5.704230896098381},{0.21999999999999997,5.703205561938746},{0.23999999999999996,5.701794583169377},{0.25999999999999995,5.700266919074744},{0.27999999999999997,5.698113972784379},{0.3,5.695819386766905},{0.32,5.692619624515538},{0.34,5.689508971159438},{0.36000000000000004,5.685452019002434},{0.38000000000000006,5.6812659496681315},{0.4000000000000001,5.675559235700064},{0.4200000000000001,5.669428133065184},{0.4400000000000001,5.6608387679367596},{0.46000000000000013,5.651742029369105},{0.48000000000000015,5.639126157072401},{0.5000000000000001,5.626974565589316},{0.5200000000000001,5.611258123200146},{0.5400000000000001,5.595195255289},{0.5600000000000002,5.573486511160701},{0.5800000000000002,5.55040028852521},{0.6000000000000002,5.518378272112549},{0.6200000000000002,5.484942010964083},{0.6400000000000002,5.439216051658876},{0.6600000000000003,5.3962596901439985},{0.6800000000000003,5.341986356026877},{0.7000000000000003,5.288006242217779},{0.7200000000000003,5.2169015198877196},{0.7400000000000003,5.14355337950312},{0.7600000000000003,5.044840149404592},{0.7800000000000004,4.946020983337143},{0.8000000000000004,4.816345426778697},{0.8200000000000004,4.703092595154106},{0.8400000000000004,4.5692881390831905},{0.8600000000000004,4.446111207931581},{0.8800000000000004,4.294663545790283},{0.9000000000000005,4.150382379945837},{0.9200000000000005,3.96947987723372},{0.9400000000000005,3.806333385842432},{0.9600000000000005,3.610520064930384},{0.9800000000000005,3.4733437566802863},{1.0000000000000004,3.342851064334487},{1.0200000000000005,3.2521688770071724},{1.0400000000000005,3.167725830641083},{1.0600000000000005,3.1061661492865182},{1.0800000000000005,3.045728201894012},{1.1000000000000005,2.999310175401383},{1.1200000000000006,2.9509746147734055},{1.1400000000000006,2.917590182901518},{1.1600000000000006,2.8874282227980044},{1.1800000000000006,2.867628894112498},{1.2000000000000006,2.8513023475337613},{1.2200000000000006,2.8415984255704156},{1.2400000000000007,2.8351645943706774},{1.2600000000000007,2.833110203450432},{1.2800000000000007,2.8346952423487455},{1.3000000000000007,2.8395857349942744},{1.3200000000000007,2.8493851386316913},{1.3400000000000007,2.8623753061623516},{1.3600000000000008,2.8828794628480816},{1.3800000000000008,2.906990613175413},{1.4000000000000008,2.9427541563518047},{1.4200000000000008,2.9820106285040224},{1.4400000000000008,3.037875288433642},{1.4600000000000009,3.0928256818604742},{1.4800000000000009,3.1652408360621216},{1.5000000000000009,3.2405608470951437},{1.520000000000001,3.3440295023690965},{1.540000000000001,3.455829566140016},{1.560000000000001,3.6135640904608453},{1.580000000000001,3.78133996157517},{1.600000000000001,4.0157816825287025},{1.620000000000001,4.241348328621299},{1.640000000000001,4.533935872564281},{1.660000000000001,4.833637268836671},{1.680000000000001,5.242170444051516},{1.700000000000001,5.68075806814157},{1.720000000000001,6.300247637274994},{1.740000000000001,6.9564734900024625},{1.7600000000000011,7.877437403998614},{1.7800000000000011,8.743011078996767},{1.8000000000000012,9.84767447670504},{1.8200000000000012,10.952278038746021},{1.8400000000000012,12.440693134104873},{1.8600000000000012,14.010977769813252},{1.8800000000000012,16.22401142786834},{1.9000000000000012,18.49340237507722},{1.9200000000000013,21.62624900863966},{1.9400000000000013,24.137632177275588},{1.9600000000000013,26.811224731884646},{1.9800000000000013,28.85786087054732},{2.0000000000000013,30.923058867004084},{2.0200000000000014,32.539995217824526},{2.0400000000000014,34.232994923795395},{2.0600000000000014,35.61503476416347},{2.0800000000000014,37.14110438116334},{2.1000000000000014,38.26456191386222},{2.1200000000000014,39.353415910192425},{2.1400000000000015,40.14131152631164},{2.1600000000000015,40.88819207659863},{2.1800000000000015,41.44426109976467},{2.2000000000000015,41.99397281581653},{2.2200000000000015,42.42248569732007},{2.2400000000000015,42.87232256824425},{2.2600000000000016,43.19719985683224},{2.2800000000000016,43.50515406381953},{2.3000000000000016,43.7252602218851},{2.3200000000000016,43.93078083817471},{2.3400000000000016,44.081950227201666},{2.3600000000000017,44.229120883413806},{2.3800000000000017,44.34241146863558},{2.4000000000000017,44.459572023291145},{2.4200000000000017,44.54376324939793},{2.4400000000000017,44.62303759395358},{2.4600000000000017,44.67949286094235},{2.4800000000000018,44.73194243478928},{2.5000000000000018,44.77035605895988},{2.520000000000002,44.80753639654461},{2.540000000000002,44.836012037113896},{2.560000000000002,44.865274154567956},{2.580000000000002,44.886240213281866},{2.600000000000002,44.90589828947884},{2.620000000000002,44.919838981965746},{2.640000000000002,44.9327089066864},{2.660000000000002,44.942057682927405},{2.680000000000002,44.951001461462106},{2.700000000000002,44.95775645688606},{2.720000000000002,44.964574292423684},{2.740000000000002,44.96934957916262},{2.760000000000002,44.973674044861056},{2.780000000000002,44.97656811862284},{2.800000000000002,44.97899647589703},{2.820000000000002,44.98049750147779},{2.840000000000002,44.98157153141184},{2.860000000000002,44.98203183050434},{2.880000000000002,44.98203183050434}};
-
-	public static final double[][] headingsTO_SWITCH = {{0.0,0.0},{0.1,0.03504874834480336},{0.2,0.040165889720078625},{0.30000000000000004,0.04872097942065016},{0.4,0.06164762122389161},{0.5,0.07978411862099236},{0.6,0.10298830012759742},{0.7,0.13365520082365032},{0.7999999999999999,0.17574057566746956},{0.8999999999999999,0.2339874114638186},{0.9999999999999999,0.31237618716549914},{1.0999999999999999,0.4101639979951},{1.2,0.5372987769352657},{1.3,0.7102795221659175},{1.4000000000000001,0.9489724301337112},{1.5000000000000002,1.2700235132702606},{1.6000000000000003,1.668987634852068},{1.7000000000000004,2.18661181349907},{1.8000000000000005,2.8931503883198535},{1.9000000000000006,3.8765339568223056},{2.0000000000000004,5.211584988447346},{2.1000000000000005,6.856368650571318},{2.2000000000000006,8.969499966056555},{2.3000000000000007,11.852919266660377},{2.400000000000001,15.882206602875618},{2.500000000000001,21.204428585501898},{2.600000000000001,26.598815173156165},{2.700000000000001,31.505057303083696},{2.800000000000001,35.830448345558395},{2.9000000000000012,39.71645843591208},{3.0000000000000013,43.254475833465555},{3.1000000000000014,46.1027711409063},{3.2000000000000015,48.285386501362964},{3.3000000000000016,49.962020950178015},{3.4000000000000017,51.304053992205},{3.5000000000000018,52.42087342980619},{3.600000000000002,53.279209563135154},{3.700000000000002,53.92629291909485},{3.800000000000002,54.4296028883882},{3.900000000000002,54.85063358549279},{4.000000000000002,55.22924969439183},{4.100000000000001,55.56063393308815},{4.200000000000001,55.87019411160566},{4.300000000000001,56.19631591372874},{4.4,56.58186685391972},{4.5,57.06262980934464},{4.6,57.63057383844942},{4.699999999999999,58.34701092819632},{4.799999999999999,59.33378091763246},{4.899999999999999,60.77313105413895},{4.999999999999998,62.841219149831616},{5.099999999999998,65.20722955584462},{5.1999999999999975,67.67950408135773},{5.299999999999997,70.19746775334411},{5.399999999999997,72.81405491661673},{5.4999999999999964,75.57189572338329},{5.599999999999996,78.11896497897789},{5.699999999999996,80.3094181389997},{5.799999999999995,82.15342053839525},{5.899999999999995,83.73858662750584},{5.999999999999995,85.13269259174264},{6.099999999999994,86.24533784651587},{6.199999999999994,87.09572370849021},{6.299999999999994,87.74579753067174},{6.399999999999993,88.2609228362975},{6.499999999999993,88.68367440964754},{6.5999999999999925,89.00360972657651},{6.699999999999992,89.23791912265493},{6.799999999999992,89.41034264030995},{6.8999999999999915,89.54176214191008},{6.999999999999991,89.64505755771832},{7.099999999999991,89.7189916637386},{7.19999999999999,89.76806564341426},{7.29999999999999,89.79747333741851},{7.39999999999999,89.81115345585071},{7.499999999999989,89.81115345585071}};
-	public static final double[][] headingsTO_OPPOSITE_SCALE = {{0.0,0.0},{0.1,0.12236718312570932},{0.2,0.16515671416950234},{0.30000000000000004,0.23877478784396453},{0.4,0.35508999879429426},{0.5,0.5347552660614378},{0.6,0.8081357255404279},{0.7,1.2156489631136256},{0.7999999999999999,1.8253412552599182},{0.8999999999999999,2.733348308101917},{0.9999999999999999,4.059253694430978},{1.0999999999999999,6.011932151279437},{1.2,8.87651749547161},{1.3,12.953630920803663},{1.4000000000000001,18.77268004212517},{1.5000000000000002,26.826992363477963},{1.6000000000000003,36.8479279265241},{1.7000000000000004,48.37023811692702},{1.8000000000000005,59.815337429954475},{1.9000000000000006,68.38528790822143},{2.0000000000000004,74.38536962189869},{2.1000000000000005,78.60062977596485},{2.2000000000000006,81.42147642264592},{2.3000000000000007,83.31139207078944},{2.400000000000001,84.59385703155391},{2.500000000000001,85.4288392738413},{2.600000000000001,85.946454834956},{2.700000000000001,86.23146399452212},{2.800000000000001,86.32177585324712},{2.9000000000000012,86.22979710299907},{3.0000000000000013,85.94082160687117},{3.1000000000000014,85.41575202875114},{3.2000000000000015,84.54952750171907},{3.3000000000000016,83.15908330672525},{3.4000000000000017,81.00612016259011},{3.5000000000000018,77.47768686531208},{3.600000000000002,71.43891728604912},{3.700000000000002,62.5044756832617},{3.800000000000002,50.0371193273794},{3.900000000000002,34.10771724251499},{4.000000000000002,18.03842582258991},{4.100000000000001,4.854952237840974},{4.200000000000001,-4.744649250306594},{4.300000000000001,-11.167206739334064},{4.4,-15.38827138500514},{4.5,-18.19181919120787},{4.6,-20.02915858006094},{4.699999999999999,-21.235662861244144},{4.799999999999999,-22.035023215631064},{4.899999999999999,-22.555890366081766},{4.999999999999998,-22.891185472926136},{5.099999999999998,-23.10261678741115},{5.1999999999999975,-23.225228166871183},{5.299999999999997,-23.28121674583182},{5.399999999999997,-23.28121674583182}};
-	//public static final double[][] headingsTO_OPPOSITE_SCALE = {{0.0,0.0},{0.1,0.1168529862057147},{0.2,0.1339216710945809},{0.30000000000000004,0.16246254631531512},{0.4,0.20559834529081997},{0.5,0.26614122082571623},{0.6,0.34363811915029235},{0.7,0.4461225835062795},{0.7999999999999999,0.5868832535485121},{0.8999999999999999,0.7819198856602719},{0.9999999999999999,1.044801124624633},{1.0999999999999999,1.3733694130690215},{1.2,1.8015647369671428},{1.3,2.3859593389763307},{1.4000000000000001,3.1955677172615458},{1.5000000000000002,4.289958808917793},{1.6000000000000003,5.657676959713911},{1.7000000000000004,7.442867602282605},{1.8000000000000005,9.89386044430671},{1.9000000000000006,13.31854377630232},{2.0000000000000004,17.956013671583015},{2.1000000000000005,23.576268520656214},{2.2000000000000006,30.50896042831213},{2.3000000000000007,39.2093383489769},{2.400000000000001,49.61486042974599},{2.500000000000001,60.3410616772065},{2.600000000000001,68.43170553393601},{2.700000000000001,74.05689908029348},{2.800000000000001,78.04206681150556},{2.9000000000000012,81.04614453744499},{3.0000000000000013,83.4147303553361},{3.1000000000000014,85.11533111568973},{3.2000000000000015,86.30962926331829},{3.3000000000000016,87.1646505527089},{3.4000000000000017,87.80641136159957},{3.5000000000000018,88.3064353560116},{3.600000000000002,88.66046614697834},{3.700000000000002,88.89327373964143},{3.800000000000002,89.03152517048339},{3.900000000000002,89.09465883973853},{4.000000000000002,89.09238757874031},{4.100000000000001,89.02448776652602},{4.200000000000001,88.8786023997025},{4.300000000000001,88.62951247099376},{4.4,88.23894790508295},{4.5,87.66341435241583},{4.6,86.89784557120703},{4.699999999999999,85.82461033653014},{4.799999999999999,84.1861945375186},{4.899999999999999,81.49372946313373},{4.999999999999998,76.95074657213193},{5.099999999999998,70.59154742728897},{5.1999999999999975,62.31898959701842},{5.299999999999997,51.926894228813005},{5.399999999999997,39.12660533624761},{5.4999999999999964,24.375576339248695},{5.599999999999996,11.083817826703203},{5.699999999999996,0.8675464092881019},{5.799999999999995,-6.57340194666298},{5.899999999999995,-12.11078105363665},{5.999999999999995,-16.37367197769675},{6.099999999999994,-19.408817989859333},{6.199999999999994,-21.530330153086254},{6.299999999999994,-23.045946672152816},{6.399999999999993,-24.186026664011724},{6.499999999999993,-25.083633366831805},{6.5999999999999925,-25.74114802674039},{6.699999999999992,-26.211194563170796},{6.799999999999992,-26.551047337237886},{6.8999999999999915,-26.80670510229694},{6.999999999999991,-27.0056328427201},{7.099999999999991,-27.146937255938226},{7.19999999999999,-27.240235513500675},{7.29999999999999,-27.295957279607798},{7.39999999999999,-27.32183069603828},{7.499999999999989,-27.32183069603828}};	
-	public static final double[][] leftVelocitiesTO_CROSS_LINE = {{0.0,0.0},{0.1,2.8724109769933612},{0.2,3.964062458439215},{0.30000000000000004,4.581399517194431},{0.4,4.930201170054017},{0.5,5.126734632707361},{0.6,5.236511058237731},{0.7,5.296122588073736},{0.7999999999999999,5.32543973237906},{0.8999999999999999,5.334234873346347},{0.9999999999999999,5.325439725829225},{1.0999999999999999,5.29612257552604},{1.2,5.236511040779591},{1.3,5.126734611929114},{1.4000000000000001,4.930201148001371},{1.5000000000000002,4.581399496307013},{1.6000000000000003,3.964062441476352},{1.7000000000000004,2.872410966947841},{1.8000000000000005,0.0}};
-	public static final double[][] rightVelocitiesTO_CROSS_LINE = {{0.0,0.0},{0.1,2.8724109769933612},{0.2,3.964062458439215},{0.30000000000000004,4.581399517194431},{0.4,4.930201170054017},{0.5,5.126734632707361},{0.6,5.236511058237731},{0.7,5.296122588073736},{0.7999999999999999,5.32543973237906},{0.8999999999999999,5.334234873346347},{0.9999999999999999,5.325439725829225},{1.0999999999999999,5.29612257552604},{1.2,5.236511040779591},{1.3,5.126734611929114},{1.4000000000000001,4.930201148001371},{1.5000000000000002,4.581399496307013},{1.6000000000000003,3.964062441476352},{1.7000000000000004,2.872410966947841},{1.8000000000000005,0.0}};
-	//public static final double[][] leftVelocitiesTO_OPPOSITE_SCALE = {{0.0,0.0},{0.02,7.123670944967885},{0.04,11.02395314376195},{0.06,13.229801085857428},{0.08,14.476814196549075},{0.1,15.181276226165275},{0.12000000000000001,15.578467237249226},{0.14,15.80178193370717},{0.16,15.926282077819971},{0.18,15.994950994657643},{0.19999999999999998,16.0312633954947},{0.21999999999999997,16.049061653362315},{0.23999999999999996,16.05529673010391},{0.25999999999999995,16.054706978726085},{0.2799999999999999,16.04881248144175},{0.29999999999999993,16.039858328315383},{0.31999999999999995,16.027313612913783},{0.33999999999999997,16.01317862625355},{0.36,15.994981116938925},{0.38,15.973734107266006},{0.4,15.946351470316571},{0.42000000000000004,15.914459455916715},{0.44000000000000006,15.874241444789298},{0.4600000000000001,15.829280990187286},{0.4800000000000001,15.774304605206511},{0.5,15.715871208862639},{0.52,15.642985707947295},{0.54,15.559431205312443},{0.56,15.452614218648886},{0.5800000000000001,15.32949305823656},{0.6000000000000001,15.175136719166558},{0.6200000000000001,15.005435010271443},{0.6400000000000001,14.800309430880532},{0.6600000000000001,14.589648262213606},{0.6800000000000002,14.330204934502808},{0.7000000000000002,14.041791490570954},{0.7200000000000002,13.678024028471729},{0.7400000000000002,13.277515375987223},{0.7600000000000002,12.79193875281445},{0.7800000000000002,12.310547017224767},{0.8000000000000003,11.77664354528267},{0.8200000000000003,11.359761427040345},{0.8400000000000003,10.912626572083521},{0.8600000000000003,10.570333110929303},{0.8800000000000003,10.214973845388428},{0.9000000000000004,10.073508999921634},{0.9200000000000004,10.055901979016205},{0.9400000000000004,10.513460498889604},{0.9600000000000004,11.262414588766156},{0.9800000000000004,12.643637608141193},{1.0000000000000004,14.090826067986551},{1.0200000000000005,15.637671430637983},{1.0400000000000005,17.011219485845945},{1.0600000000000005,18.291206147165116},{1.0800000000000005,19.381983655263905},{1.1000000000000005,20.385413418319093},{1.1200000000000006,21.25609631034602},{1.1400000000000006,22.08595161593951},{1.1600000000000006,22.795975433662857},{1.1800000000000006,23.42895353493129},{1.2000000000000006,23.95077336547372},{1.2200000000000006,24.399432946569863},{1.2400000000000007,24.765292438805133},{1.2600000000000007,25.08126896725965},{1.2800000000000007,25.342949592955904},{1.3000000000000007,25.57600322067023},{1.3200000000000007,25.76651964939616},{1.3400000000000007,25.92709408664706},{1.3600000000000008,26.051532685650102},{1.3800000000000008,26.149235826649978},{1.4000000000000008,26.218605273094393},{1.4200000000000008,26.266421400517803},{1.4400000000000008,26.2923819819083},{1.4600000000000009,26.300611855638987},{1.4800000000000009,26.289761700829832},{1.5000000000000009,26.2597293602733},{1.520000000000001,26.209135843387646},{1.540000000000001,26.134613370988387},{1.560000000000001,26.03541695279737},{1.580000000000001,25.905336600427866},{1.600000000000001,25.74623658879187},{1.620000000000001,25.549733229067776},{1.640000000000001,25.323971605512103},{1.660000000000001,25.057154443383734},{1.680000000000001,24.751648111567985},{1.700000000000001,24.387270679498492},{1.720000000000001,23.96714307540117},{1.740000000000001,23.464614888177486},{1.7600000000000011,22.89685637171621},{1.7800000000000011,22.234501673139004},{1.8000000000000012,21.53269628524377},{1.8200000000000012,20.764938491210934},{1.8400000000000012,19.975439877578943},{1.8600000000000012,19.12069607449269},{1.8800000000000012,18.265598322019788},{1.9000000000000012,17.340537885204743},{1.9200000000000013,16.47048086080444},{1.9400000000000013,15.46864847266101},{1.9600000000000013,14.640751914540413},{1.9800000000000013,13.830535837181076},{2.0000000000000013,13.280932760733172},{2.0200000000000014,12.77960524470517},{2.0400000000000014,12.52553422164122},{2.0600000000000014,12.200079252620196},{2.0800000000000014,11.967894384168586},{2.1000000000000014,11.336497340753589},{2.1200000000000014,10.70695363558355},{2.1400000000000015,9.88895206689292},{2.1600000000000015,9.209559887790032},{2.1800000000000015,8.53884094774454},{2.2000000000000015,8.04672736946035},{2.2200000000000015,7.593990796064897},{2.2400000000000015,7.264896639513952},{2.2600000000000016,6.914907592267443},{2.2800000000000016,6.64646737261954},{2.3000000000000016,6.39402943203006},{2.3200000000000016,6.2121650730812075},{2.3400000000000016,6.055715890412771},{2.3600000000000017,5.95068897615774},{2.3800000000000017,5.8602848101243845},{2.4000000000000017,5.798936807135364},{2.4200000000000017,5.733012397512053},{2.4400000000000017,5.6833806541609295},{2.4600000000000017,5.63497014226563},{2.4800000000000018,5.6002735153603185},{2.5000000000000018,5.569357005804722},{2.520000000000002,5.548755523064095},{2.540000000000002,5.5302947884042775},{2.560000000000002,5.517680142234835},{2.580000000000002,5.503138201346721},{2.600000000000002,5.491601850956524},{2.620000000000002,5.479345468843001},{2.640000000000002,5.468996430264371},{2.660000000000002,5.457454586197028},{2.680000000000002,5.444910168803262},{2.700000000000002,5.426944721106161},{2.720000000000002,5.399983205167817},{2.740000000000002,5.354341231793623},{2.760000000000002,5.277185976865133},{2.780000000000002,5.143029218015166},{2.800000000000002,4.908856092221134},{2.820000000000002,4.497028761466308},{2.840000000000002,3.7714085857556348},{2.860000000000002,2.4906107895549314},{2.880000000000002,0.0}};
-	//public static final double[][] rightVelocitiesTO_OPPOSITE_SCALE = {{0.0,0.0},{0.02,7.125375527572236},{0.04,11.027548924673564},{0.06,13.235405292737347},{0.08,14.484774438914293},{0.1,15.191771786667383},{0.12000000000000001,15.592043330778283},{0.14,15.818539049275172},{0.16,15.946916564996293},{0.18,16.019349057245773},{0.19999999999999998,16.060628723394846},{0.21999999999999997,16.083998505096762},{0.23999999999999996,16.097846455194404},{0.25999999999999995,16.105817253788913},{0.2799999999999999,16.11117449314109},{0.29999999999999993,16.114008792482434},{0.31999999999999995,16.116354040332098},{0.33999999999999997,16.116584616839585},{0.36,16.117798780946977},{0.38,16.118433734973305},{0.4,16.12136673172129},{0.42000000000000004,16.123690117180594},{0.44000000000000006,16.128718914744947},{0.4600000000000001,16.131178448578957},{0.4800000000000001,16.13621801395685},{0.5,16.1354782907228},{0.52,16.140770550915793},{0.54,16.145511386299635},{0.56,16.161460480950268},{0.5800000000000001,16.17726910650022},{0.6000000000000001,16.206931587361897},{0.6200000000000001,16.22981421796887},{0.6400000000000001,16.267719585177527},{0.6600000000000001,16.287373547233024},{0.6800000000000002,16.338959707822},{0.7000000000000002,16.39856041386909},{0.7200000000000002,16.51686614998179},{0.7400000000000002,16.651383619251106},{0.7600000000000002,16.860648929325},{0.7800000000000002,17.060100163170258},{0.8000000000000003,17.333063520608555},{0.8200000000000003,17.53049251747069},{0.8400000000000003,17.843772702070076},{0.8600000000000003,18.168527539403414},{0.8800000000000003,18.6673966126227},{0.9000000000000004,19.163030188599624},{0.9200000000000004,19.798205257494743},{0.9400000000000004,20.28106474506849},{0.9600000000000004,20.797515021942882},{0.9800000000000004,21.001522767278463},{1.0000000000000004,21.278631004531785},{1.0200000000000005,21.52635538174596},{1.0400000000000005,21.883312482881795},{1.0600000000000005,22.262487007913432},{1.0800000000000005,22.708612467839536},{1.1000000000000005,23.151496740947685},{1.1200000000000006,23.609735361772668},{1.1400000000000006,24.01543369108105},{1.1600000000000006,24.393760464967933},{1.1800000000000006,24.720260962384057},{1.2000000000000006,25.014155128388712},{1.2200000000000006,25.267123668777536},{1.2400000000000007,25.493675276336923},{1.2600000000000007,25.68888468007071},{1.2800000000000007,25.86165101430365},{1.3000000000000007,26.003471664805755},{1.3200000000000007,26.12147384248907},{1.3400000000000007,26.21314814287126},{1.3600000000000008,26.284274504991803},{1.3800000000000008,26.334305580627483},{1.4000000000000008,26.367219438929187},{1.4200000000000008,26.382074482528267},{1.4400000000000008,26.381032237384023},{1.4600000000000009,26.36171441831434},{1.4800000000000009,26.325513399118545},{1.5000000000000009,26.26971905638793},{1.520000000000001,26.19340428750339},{1.540000000000001,26.092610681512863},{1.560000000000001,25.964955203059287},{1.580000000000001,25.805951990521798},{1.600000000000001,25.613542720344736},{1.620000000000001,25.383898395483417},{1.640000000000001,25.11554197596199},{1.660000000000001,24.799610831214256},{1.680000000000001,24.426859159268286},{1.700000000000001,23.98315947885555},{1.720000000000001,23.45608826191503},{1.740000000000001,22.833089407630172},{1.7600000000000011,22.106845215702776},{1.7800000000000011,21.275655186650994},{1.8000000000000012,20.335121457636255},{1.8200000000000012,19.26624253466505},{1.8400000000000012,18.034871803618824},{1.8600000000000012,16.61360684071869},{1.8800000000000012,14.961941653150355},{1.9000000000000012,13.106116974313116},{1.9200000000000013,11.056116081715004},{1.9400000000000013,9.052979996835509},{1.9600000000000013,7.114055956120471},{1.9800000000000013,5.4587206248116145},{2.0000000000000013,3.996294839453692},{2.0200000000000014,2.951615480078079},{2.0400000000000014,2.2422883741891777},{2.0600000000000014,2.0274326580601483},{2.0800000000000014,2.1386239791356014},{2.1000000000000014,1.9380196258090232},{2.1200000000000014,1.7467627375578885},{2.1400000000000015,1.4117276149787716},{2.1600000000000015,1.3510929146020116},{2.1800000000000015,1.5972743067414759},{2.2000000000000015,1.894038239920436},{2.2200000000000015,2.288121273104691},{2.2400000000000015,2.636903099021591},{2.2600000000000016,3.052110855510879},{2.2800000000000016,3.4046048194418965},{2.3000000000000016,3.7482708843983623},{2.3200000000000016,4.018009758634997},{2.3400000000000016,4.25706633691741},{2.3600000000000017,4.4364359640084645},{2.3800000000000017,4.594397815668918},{2.4000000000000017,4.715686974960391},{2.4200000000000017,4.835501295276069},{2.4400000000000017,4.931497160318431},{2.4600000000000017,5.019988895852602},{2.4800000000000018,5.088278954236198},{2.5000000000000018,5.147731030466577},{2.520000000000002,5.1921680555546645},{2.540000000000002,5.230957128417418},{2.560000000000002,5.260595033910945},{2.580000000000002,5.289469278218902},{2.600000000000002,5.312201499771441},{2.620000000000002,5.332492921906651},{2.640000000000002,5.346861786333363},{2.660000000000002,5.357236651305434},{2.680000000000002,5.360715060982128},{2.700000000000002,5.357003096421489},{2.720000000000002,5.34083067050102},{2.740000000000002,5.306279753617342},{2.760000000000002,5.238215149723395},{2.780000000000002,5.112851279873711},{2.800000000000002,4.885910296134661},{2.820000000000002,4.480799150715997},{2.840000000000002,3.7609019783332327},{2.860000000000002,2.4854913477234852},{2.880000000000002,0.0}};
-	//public static final double[][] headingsTO_OPPOSITE_SCALE = {{0.0,0.0},{0.02,0.03255693863705376},{0.04,0.0344550640422436},{0.06,0.03710793558867392},{0.08,0.0414000486720781},{0.1,0.046515800933443104},{0.12000000000000001,0.05416099617282748},{0.14,0.06260457402121712},{0.16,0.07466226029751825},{0.18,0.0866117247462653},{0.19999999999999998,0.10243756942927151},{0.21999999999999997,0.11898548478137573},{0.23999999999999996,0.1417751409874516},{0.25999999999999995,0.16647275827486768},{0.27999999999999997,0.2013204098276269},{0.3,0.23851378987736124},{0.32,0.29047097670320554},{0.34,0.3410840224704356},{0.36000000000000004,0.4072466543837106},{0.38000000000000006,0.47569643484289204},{0.4000000000000001,0.5693090258903942},{0.4200000000000001,0.670267216713166},{0.4400000000000001,0.812376186819464},{0.46000000000000013,0.9637393962206736},{0.48000000000000015,1.1751320798061127},{0.5000000000000001,1.3803795079668222},{0.5200000000000001,1.6482387502975144},{0.5400000000000001,1.9248275834695412},{0.5600000000000002,2.3032253582216256},{0.5800000000000002,2.7115057626192525},{0.6000000000000002,3.2880067593872675},{0.6200000000000002,3.902864244277955},{0.6400000000000002,4.7655572552887655},{0.6600000000000003,5.599613328948173},{0.6800000000000003,6.687077957686632},{0.7000000000000003,7.807087500088058},{0.7200000000000003,9.342829250620282},{0.7400000000000003,11.001482955588537},{0.7600000000000003,13.357457927450074},{0.7800000000000004,15.86298430230713},{0.8000000000000004,19.37988503323997},{0.8200000000000004,22.66621874974726},{0.8400000000000004,26.801780028279236},{0.8600000000000004,30.837031754794754},{0.8800000000000004,36.06105917099413},{0.9000000000000005,41.24976169935051},{0.9200000000000005,47.92767814785968},{0.9400000000000005,53.97977389330357},{0.9600000000000005,61.08774560743619},{0.9800000000000005,65.87007540250423},{1.0000000000000004,70.21454651297887},{1.0200000000000005,73.10416221267167},{1.0400000000000005,75.69759085563025},{1.0600000000000005,77.53301520250481},{1.0800000000000005,79.2947827154774},{1.1000000000000005,80.62522368406248},{1.1200000000000006,81.99406206856744},{1.1400000000000006,82.94072945521505},{1.1600000000000006,83.81291692552966},{1.1800000000000006,84.41781137999605},{1.2000000000000006,84.97172503912478},{1.2200000000000006,85.37200234723498},{1.2400000000000007,85.75750805678624},{1.2600000000000007,86.05093590584863},{1.2800000000000007,86.35215623784234},{1.3000000000000007,86.5649423782149},{1.3200000000000007,86.76214372875194},{1.3400000000000007,86.89928652842704},{1.3600000000000008,87.0229825170383},{1.3800000000000008,87.10977939762913},{1.4000000000000008,87.1889618503277},{1.4200000000000008,87.24502409725045},{1.4400000000000008,87.29679290814201},{1.4600000000000009,87.32806542204577},{1.4800000000000009,87.34929572308869},{1.5000000000000009,87.35498874541334},{1.520000000000001,87.34695979705437},{1.540000000000001,87.32669418962217},{1.560000000000001,87.28715918351298},{1.580000000000001,87.2377950464797},{1.600000000000001,87.16151715540822},{1.620000000000001,87.08279010129012},{1.640000000000001,86.97461370583983},{1.660000000000001,86.85825690728555},{1.680000000000001,86.69296438626236},{1.700000000000001,86.50894243025996},{1.720000000000001,86.23941928558158},{1.740000000000001,85.94296289749565},{1.7600000000000011,85.50814481531697},{1.7800000000000011,85.07893886368501},{1.8000000000000012,84.50005387721733},{1.8200000000000012,83.88332495591062},{1.8400000000000012,82.98571990786716},{1.8600000000000012,81.94466601427719},{1.8800000000000012,80.28228234952668},{1.9000000000000012,78.28407641823577},{1.9200000000000013,74.87276314633905},{1.9400000000000013,71.3832217321359},{1.9600000000000013,66.60736130322573},{1.9800000000000013,61.92075598914458},{2.0000000000000013,55.948426301163764},{2.0200000000000014,50.14669342679458},{2.0400000000000014,42.77162652347763},{2.0600000000000014,35.64309876610257},{2.0800000000000014,26.61065663569469},{2.1000000000000014,19.2990010614664},{2.1200000000000014,11.864292492224145},{2.1400000000000015,6.400749240080905},{2.1600000000000015,1.2547747896158628},{2.1800000000000015,-2.507368559703266},{2.2000000000000015,-6.136306332382657},{2.2200000000000015,-8.887267677808495},{2.2400000000000015,-11.690404593041336},{2.2600000000000016,-13.65604492302148},{2.2800000000000016,-15.47110757894777},{2.3000000000000016,-16.73870530174189},{2.3200000000000016,-17.89948191650534},{2.3400000000000016,-18.73904067607613},{2.3600000000000017,-19.54469939730371},{2.3800000000000017,-20.156992000191973},{2.4000000000000017,-20.782952808084573},{2.4200000000000017,-21.228207959584378},{2.4400000000000017,-21.643971947412115},{2.4600000000000017,-21.93799558913838},{2.4800000000000018,-22.209619574498966},{2.5000000000000018,-22.40761526799868},{2.520000000000002,-22.598498007537245},{2.540000000000002,-22.744188232905447},{2.560000000000002,-22.893448063854372},{2.580000000000002,-23.00010841803491},{2.600000000000002,-23.099900122742866},{2.620000000000002,-23.170542449604508},{2.640000000000002,-23.23566616843392},{2.660000000000002,-23.28291659016383},{2.680000000000002,-23.3280761661575},{2.700000000000002,-23.362155520247306},{2.720000000000002,-23.396527076390303},{2.740000000000002,-23.420586438046566},{2.760000000000002,-23.44236386858526},{2.780000000000002,-23.456932433290874},{2.800000000000002,-23.46915314786166},{2.820000000000002,-23.47670548175512},{2.840000000000002,-23.48210866782542},{2.860000000000002,-23.484424132570638},{2.880000000000002,-23.484424132570638}};
-
-	
-	public static final double[][] headingsTO_CROSS_LINE = {{0.0,0.0},{0.1,0.0},{0.2,0.0},{0.30000000000000004,0.0},{0.4,0.0},{0.5,0.0},{0.6,0.0},{0.7,0.0},{0.7999999999999999,0.0},{0.8999999999999999,0.0},{0.9999999999999999,0.0},{1.0999999999999999,0.0},{1.2,0.0},{1.3,0.0},{1.4000000000000001,0.0},{1.5000000000000002,0.0},{1.6000000000000003,0.0},{1.7000000000000004,0.0},{1.8000000000000005,0.0}};
-	
-	public static final double[][] leftVelocitiesTO_BUMP_COUNTER = {{0.0,0.1},{0.1,0.1},{0.2,0.1},{0.30000000000000004,0.1},{0.4,0.1},{0.5,0.1},{0.6,0.1},{0.7,0.1},{0.7999999999999999,0.1},{0.8999999999999999,0.1},{0.9999999999999999,0.1}};
-	public static final double[][] rightVelocitiesTO_BUMP_COUNTER = {{0.0,0.1},{0.1,0.1},{0.2,0.1},{0.30000000000000004,0.1},{0.4,0.1},{0.5,0.1},{0.6,0.1},{0.7,0.1},{0.7999999999999999,0.1},{0.8999999999999999,0.1},{0.9999999999999999,0.1}};
-	
-	public static final double[][] headingsTO_BUMP_COUNTER = {{0.0,0.0},{0.1,0.0},{0.2,0.0},{0.30000000000000004,0.0},{0.4,0.0},{0.5,0.0},{0.6,0.0},{0.7,0.0},{0.7999999999999999,0.0},{0.8999999999999999,0.0},{0.9999999999999999,0.0}};
-	
-	//public static final double[][] leftVelocitiesTO_CUBE = {{0.0,0.0},{0.02,1.0152618872037318},{0.04,1.5278200955777264},{0.06,1.8181640669376993},{0.08,1.982902445623027},{0.1,2.0765719440965813},{0.12000000000000001,2.130208961275987},{0.14,2.161113101322412},{0.16,2.1794073955956117},{0.18,2.1903633000605427},{0.19999999999999998,2.197666870405159},{0.21999999999999997,2.2028687186481926},{0.23999999999999996,2.2075486969647176},{0.25999999999999995,2.2118426652271905},{0.2799999999999999,2.2167609762199825},{0.29999999999999993,2.2216284601730387},{0.31999999999999995,2.227557508501286},{0.33999999999999997,2.233165294708517},{0.36,2.2406755001364353},{0.38,2.249072189577569},{0.4,2.260692030207175},{0.42000000000000004,2.273720432883238},{0.44000000000000006,2.290919003285302},{0.4600000000000001,2.308756224787314},{0.4800000000000001,2.331242413107446},{0.5,2.352467027375959},{0.52,2.3811802074965427},{0.54,2.413166467780175},{0.56,2.4575420195220397},{0.5800000000000001,2.5068949477584845},{0.6000000000000001,2.571769168516918},{0.6200000000000001,2.6377442746547657},{0.6400000000000001,2.7198569932995587},{0.6600000000000001,2.7939234341281556},{0.6800000000000002,2.8932488463516894},{0.7000000000000002,3.0005655404609333},{0.7200000000000002,3.1485449683238835},{0.7400000000000002,3.3067117152538557},{0.7600000000000002,3.509692181662676},{0.7800000000000002,3.6984834625615632},{0.8000000000000003,3.919473666028726},{0.8200000000000003,4.075995460015423},{0.8400000000000003,4.276910308542127},{0.8600000000000003,4.45675364097034},{0.8800000000000003,4.703259595906126},{0.9000000000000004,4.910887663836532},{0.9200000000000004,5.1530310372212},{0.9400000000000004,5.256527125110696},{0.9600000000000004,5.318695491503907},{0.9800000000000004,5.121150818169453},{1.0000000000000004,4.918151092129318},{1.0200000000000005,4.653361673073502},{1.0400000000000005,4.453977924496352},{1.0600000000000005,4.267262189375065},{1.0800000000000005,4.14660456145137},{1.1000000000000005,4.036594671832828},{1.1200000000000006,3.9646176049634656},{1.1400000000000006,3.8737844412875244},{1.1600000000000006,3.8050054255015966},{1.1800000000000006,3.7346712275709097},{1.2000000000000006,3.685635761272327},{1.2200000000000006,3.6417930555337144},{1.2400000000000007,3.614535576276981},{1.2600000000000007,3.59009491451306},{1.2800000000000007,3.574915754830647},{1.3000000000000007,3.5556016625930673},{1.3200000000000007,3.5412603555680393},{1.3400000000000007,3.5260509439065184},{1.3600000000000008,3.515500985987233},{1.3800000000000008,3.5057406437494985},{1.4000000000000008,3.4997122028607555},{1.4200000000000008,3.494134641410765},{1.4400000000000008,3.4906971436285192},{1.4600000000000009,3.4861820379937734},{1.4800000000000009,3.482822662962103},{1.5000000000000009,3.4791866546087755},{1.520000000000001,3.476646715422963},{1.540000000000001,3.4742501035407303},{1.560000000000001,3.4727285036102606},{1.580000000000001,3.4712627693270433},{1.600000000000001,3.4702476191485303},{1.620000000000001,3.468843593793163},{1.640000000000001,3.467503226938247},{1.660000000000001,3.4657075468770295},{1.680000000000001,3.463497547471682},{1.700000000000001,3.460119699821886},{1.720000000000001,3.4548311140651617},{1.740000000000001,3.4458080960077084},{1.7600000000000011,3.430268236193538},{1.7800000000000011,3.402931595434479},{1.8000000000000012,3.3549163835707274},{1.8200000000000012,3.270224717832086},{1.8400000000000012,3.12079332413198},{1.8600000000000012,2.856846343804294},{1.8800000000000012,2.3905148749754175},{1.9000000000000012,1.566402200858928},{1.9200000000000013,0.0}};
-	//public static final double[][] rightVelocitiesTO_CUBE = {{0.0,0.0},{0.02,1.013794716503272},{0.04,1.524853955423195},{0.06,1.813606284809391},{0.08,1.976477875779694},{0.1,2.0681391323544007},{0.12000000000000001,2.1193367069538698},{0.14,2.147723162236553},{0.16,2.162949898119144},{0.18,2.1709311531826807},{0.19999999999999998,2.1743103838234257},{0.21999999999999997,2.1751148415032255},{0.23999999999999996,2.17378913341389},{0.25999999999999995,2.171338788829118},{0.2799999999999999,2.167399952397199},{0.29999999999999993,2.1630087458023026},{0.31999999999999995,2.1572598569694033},{0.33999999999999997,2.1516473486364736},{0.36,2.144016793263513},{0.38,2.135412253477653},{0.4,2.123515874182734},{0.42000000000000004,2.11013988061174},{0.44000000000000006,2.092527463776723},{0.4600000000000001,2.0741995192406444},{0.4800000000000001,2.0511564918900653},{0.5,2.0293027452225365},{0.52,1.9999183471835222},{0.54,1.9672161787584026},{0.56,1.9221127262030884},{0.5800000000000001,1.8720371475070523},{0.6000000000000001,1.806527416548828},{0.6200000000000001,1.7400983965589882},{0.6400000000000001,1.6579227400578154},{0.6600000000000001,1.5844563584841629},{0.6800000000000002,1.486854757725083},{0.7000000000000002,1.3830464356505707},{0.7200000000000002,1.2414141593028607},{0.7400000000000002,1.0941587011976486},{0.7600000000000002,0.9093574524940552},{0.7800000000000002,0.7504911848398651},{0.8000000000000003,0.5781507282827962},{0.8200000000000003,0.4998963327399468},{0.8400000000000003,0.4262787976624958},{0.8600000000000003,0.44320327432171247},{0.8800000000000003,0.5270922631456182},{0.9000000000000004,0.6177517528692547},{0.9200000000000004,0.7722721516346016},{0.9400000000000004,0.8158823004333908},{0.9600000000000004,0.8680108301375044},{0.9800000000000004,0.7539156575380008},{1.0000000000000004,0.8196058476756238},{1.0200000000000005,1.075001978993422},{1.0400000000000005,1.329902424127883},{1.0600000000000005,1.6054900970089079},{1.0800000000000005,1.8268180226260664},{1.1000000000000005,2.0422996757909884},{1.1200000000000006,2.2169080972872672},{1.1400000000000006,2.406539868128903},{1.1600000000000006,2.564100587223778},{1.1800000000000006,2.713821400829348},{1.2000000000000006,2.8310914865639076},{1.2200000000000006,2.934253497811306},{1.2400000000000007,3.012177458499176},{1.2600000000000007,3.080948943345018},{1.2800000000000007,3.1344561060587965},{1.3000000000000007,3.1875842912648733},{1.3200000000000007,3.2306218805638283},{1.3400000000000007,3.2703814977801873},{1.3600000000000008,3.301359374307987},{1.3800000000000008,3.328394466069484},{1.4000000000000008,3.348843299863321},{1.4200000000000008,3.3667741463012097},{1.4400000000000008,3.380699162404324},{1.4600000000000009,3.394314871460952},{1.4800000000000009,3.405299430508394},{1.5000000000000009,3.4153821843384535},{1.520000000000001,3.4232247280079338},{1.540000000000001,3.430040837865298},{1.560000000000001,3.435171957117407},{1.580000000000001,3.4396147660753456},{1.600000000000001,3.442973982104333},{1.620000000000001,3.446109820064832},{1.640000000000001,3.448365282617906},{1.660000000000001,3.4500041874961203},{1.680000000000001,3.4504079837974935},{1.700000000000001,3.4493555774256106},{1.720000000000001,3.445769141184012},{1.740000000000001,3.438264154839721},{1.7600000000000011,3.4238746318412665},{1.7800000000000011,3.3977234862905523},{1.8000000000000012,3.3506809953991805},{1.8200000000000012,3.2669314867839283},{1.8400000000000012,3.1182755708028957},{1.8600000000000012,2.85504930136282},{1.8800000000000012,2.38933224487544},{1.9000000000000012,1.5657981484024304},{1.9200000000000013,0.0}};
-	//public static final double[][] headingsTO_CUBE = {{0.0,0.0},{0.02,-0.025817717605986404},{0.04,-0.027322649861559252},{0.06,-0.029425877543982886},{0.08,-0.032828494792333546},{0.1,-0.03688371250054461},{0.12000000000000001,-0.04294331899687901},{0.14,-0.0496347780644796},{0.16,-0.05918868079487137},{0.18,-0.06865483613925921},{0.19999999999999998,-0.08118875565779854},{0.21999999999999997,-0.09429085225255004},{0.23999999999999996,-0.11232880571075868},{0.25999999999999995,-0.13186887632267086},{0.27999999999999997,-0.15942521284486916},{0.3,-0.18881821189579334},{0.32,-0.2298471868031023},{0.34,-0.26977950194917694},{0.36000000000000004,-0.3219277135097167},{0.38000000000000006,-0.37581637817196584},{0.4000000000000001,-0.44941289127489614},{0.4200000000000001,-0.5286525577823442},{0.4400000000000001,-0.6399596989656499},{0.46000000000000013,-0.7582200137638208},{0.48000000000000015,-0.9228751150890067},{0.5000000000000001,-1.0821834352955817},{0.5200000000000001,-1.2892667577232553},{0.5400000000000001,-1.502130835068576},{0.5600000000000002,-1.7917732847737564},{0.5800000000000002,-2.1022778088474396},{0.6000000000000002,-2.5372256455935815},{0.6200000000000002,-2.9967036767470194},{0.6400000000000002,-3.633926501535465},{0.6600000000000003,-4.241974487325014},{0.6800000000000003,-5.023365533598645},{0.7000000000000003,-5.815219337822229},{0.7200000000000003,-6.880786249645344},{0.7400000000000003,-8.006973070130442},{0.7600000000000003,-9.566088151841202},{0.7800000000000004,-11.176966207758722},{0.8000000000000004,-13.366411978821874},{0.8200000000000004,-15.348004901513418},{0.8400000000000004,-17.770210016686697},{0.8600000000000004,-20.074417275208678},{0.8800000000000004,-22.998423799361827},{0.9000000000000005,-25.86848187580993},{0.9200000000000005,-29.565374900048372},{0.9400000000000005,-32.9733977973784},{0.9600000000000005,-37.123243031369626},{0.9800000000000005,-40.051811963195846},{1.0000000000000004,-42.84075054209549},{1.0200000000000005,-44.778245877811074},{1.0400000000000005,-46.58236728536861},{1.0600000000000005,-47.90073786909908},{1.0800000000000005,-49.20161860102873},{1.1000000000000005,-50.208656382419335},{1.1200000000000006,-51.268284605907496},{1.1400000000000006,-52.015906190879384},{1.1600000000000006,-52.71607235989395},{1.1800000000000006,-53.20855861618018},{1.2000000000000006,-53.66497036737664},{1.2200000000000006,-53.998438402989024},{1.2400000000000007,-54.32295698138604},{1.2600000000000007,-54.57248489307374},{1.2800000000000007,-54.8312713299966},{1.3000000000000007,-55.01620278167364},{1.3200000000000007,-55.19000828038231},{1.3400000000000007,-55.313357219273584},{1.3600000000000008,-55.4278817566033},{1.3800000000000008,-55.51172280430216},{1.4000000000000008,-55.59302599149439},{1.4200000000000008,-55.655398930383704},{1.4400000000000008,-55.71970850795124},{1.4600000000000009,-55.765800104999435},{1.4800000000000009,-55.809107809054765},{1.5000000000000009,-55.83989518806435},{1.520000000000001,-55.868457812535624},{1.540000000000001,-55.88935228630683},{1.560000000000001,-55.90955620855087},{1.580000000000001,-55.92501687262182},{1.600000000000001,-55.94089273398837},{1.620000000000001,-55.952260301705174},{1.640000000000001,-55.96291312678269},{1.660000000000001,-55.97046440563792},{1.680000000000001,-55.97743327789308},{1.700000000000001,-55.98249405561875},{1.720000000000001,-55.987334458039214},{1.740000000000001,-55.99098954669854},{1.7600000000000011,-55.99467799486735},{1.7800000000000011,-55.99726103969372},{1.8000000000000012,-55.99959995323013},{1.8200000000000012,-56.00116508528667},{1.8400000000000012,-56.00247826507367},{1.8600000000000012,-56.003289931629595},{1.8800000000000012,-56.00387068444704},{1.9000000000000012,-56.00411957376716},{1.9200000000000013,-56.00411957376716}};
-	//public static final double[][] leftVelocitiesTO_CUBE = {{0.0,0.0},{0.02,0.38142203397811447},{0.04,0.5871310201102594},{0.06,0.7039794072613941},{0.08,0.7707011248575887},{0.1,0.8090744382844127},{0.12000000000000001,0.8316368210245153},{0.14,0.8451728449346002},{0.16,0.8538912283556422},{0.18,0.859571122165123},{0.19999999999999998,0.8638784607692429},{0.21999999999999997,0.8667562707052993},{0.23999999999999996,0.8696437692614806},{0.25999999999999995,0.8723973106465379},{0.2799999999999999,0.8761019331013784},{0.29999999999999993,0.8802757552020187},{0.31999999999999995,0.885933378502195},{0.33999999999999997,0.8920206216659623},{0.36,0.8997111400700998},{0.38,0.9069124705544527},{0.4,0.9153463230793923},{0.42000000000000004,0.9216125593656966},{0.44000000000000006,0.930108876773166},{0.4600000000000001,0.9392142761005736},{0.4800000000000001,0.9529166852382319},{0.5,0.9688777290719319},{0.52,0.9910772537720227},{0.54,1.0150583193172826},{0.56,1.045499772540206},{0.5800000000000001,1.0738077834249962},{0.6000000000000001,1.1068644500063602},{0.6200000000000001,1.1308485948382208},{0.6400000000000001,1.163361147325147},{0.6600000000000001,1.1977441630564032},{0.6800000000000002,1.2496527594671547},{0.7000000000000002,1.3094414873337021},{0.7200000000000002,1.3923013294243707},{0.7400000000000002,1.480052183927772},{0.7600000000000002,1.5900739285688092},{0.7800000000000002,1.688099059926778},{0.8000000000000003,1.799444580943184},{0.8200000000000003,1.8706206031824673},{0.8400000000000003,1.9662917523166779},{0.8600000000000003,2.0598094764700483},{0.8800000000000003,2.2038797194079973},{0.9000000000000004,2.3596494000593053},{0.9200000000000004,2.572450768571226},{0.9400000000000004,2.774178522936617},{0.9600000000000004,3.0126300735264473},{0.9800000000000004,3.1761112706131254},{1.0000000000000004,3.3365012182535527},{1.0200000000000005,3.349988215605286},{1.0400000000000005,3.3896076062566216},{1.0600000000000005,3.393510217428128},{1.0800000000000005,3.4684710216723875},{1.1000000000000005,3.5332421469111686},{1.1200000000000006,3.6581243430284838},{1.1400000000000006,3.734872817332235},{1.1600000000000006,3.8322445317658125},{1.1800000000000006,3.8240820465640306},{1.2000000000000006,3.8051850761688955},{1.2200000000000006,3.6530686527976175},{1.2400000000000007,3.53014318279756},{1.2600000000000007,3.4021197565001096},{1.2800000000000007,3.324515547947058},{1.3000000000000007,3.266844989391261},{1.3200000000000007,3.247269299229995},{1.3400000000000007,3.242343317404425},{1.3600000000000008,3.260265171673181},{1.3800000000000008,3.280774424981187},{1.4000000000000008,3.3097054133910997},{1.4200000000000008,3.326047831341591},{1.4400000000000008,3.3431441910675788},{1.4600000000000009,3.353561840478163},{1.4800000000000009,3.3654681260819124},{1.5000000000000009,3.374792905692171},{1.520000000000001,3.3861022279366577},{1.540000000000001,3.3964490330661232},{1.560000000000001,3.40846547094542},{1.580000000000001,3.4190961095178793},{1.600000000000001,3.4299384930340566},{1.620000000000001,3.4371239004170446},{1.640000000000001,3.4433059624490814},{1.660000000000001,3.4470782567673477},{1.680000000000001,3.4501992761458133},{1.700000000000001,3.451950730570314},{1.720000000000001,3.45331458935724},{1.740000000000001,3.4538134253057184},{1.7600000000000011,3.4539338463665206},{1.7800000000000011,3.4532612165278485},{1.8000000000000012,3.4519685996220986},{1.8200000000000012,3.449620545768917},{1.8400000000000012,3.4462953144150807},{1.8600000000000012,3.441789718138043},{1.8800000000000012,3.4358868954241677},{1.9000000000000012,3.4285197409234054},{1.9200000000000013,3.4191895800139527},{1.9400000000000013,3.408114647813346},{1.9600000000000013,3.3945829219630026},{1.9800000000000013,3.3794618447055287},{2.0000000000000013,3.3618263011194918},{2.0200000000000014,3.3434899510282743},{2.0400000000000014,3.322142680595748},{2.0600000000000014,3.2982562876944894},{2.0800000000000014,3.269009772235966},{2.1000000000000014,3.2347945093241735},{2.1200000000000014,3.1922620803861843},{2.1400000000000015,3.142914144029677},{2.1600000000000015,3.0829194315793043},{2.1800000000000015,3.017002137369209},{2.2000000000000015,2.94069560059649},{2.2200000000000015,2.8640231369855016},{2.2400000000000015,2.775329164117323},{2.2600000000000016,2.67757157439956},{2.2800000000000016,2.556572597637144},{2.3000000000000016,2.414844689462282},{2.3200000000000016,2.235821363556896},{2.3400000000000016,2.029322177086173},{2.3600000000000017,1.7781688234537911},{2.3800000000000017,1.5190444046096179},{2.4000000000000017,1.239979569460605},{2.4200000000000017,1.0408187905130422},{2.4400000000000017,0.8652685604224046},{2.4600000000000017,0.7636356276166466},{2.4800000000000018,0.6724920887454137},{2.5000000000000018,0.6218734414740282},{2.520000000000002,0.5574984665741085},{2.540000000000002,0.5085363121326185},{2.560000000000002,0.4352825992981069},{2.580000000000002,0.3836740726542341},{2.600000000000002,0.32514762675452236},{2.620000000000002,0.3361122235065362},{2.640000000000002,0.3547184757558697},{2.660000000000002,0.41284387464203404},{2.680000000000002,0.4614825558285657},{2.700000000000002,0.5210867658693953},{2.720000000000002,0.5605624254363994},{2.740000000000002,0.5990546089338774},{2.760000000000002,0.6181340310838036},{2.780000000000002,0.6408871760408533},{2.800000000000002,0.6547942739394693},{2.820000000000002,0.6895930330365144},{2.840000000000002,0.7208020233196647},{2.860000000000002,0.7600769017101813},{2.880000000000002,0.7911549908027516},{2.900000000000002,0.8218166324201575},{2.920000000000002,0.8430831458196947},{2.940000000000002,0.8617792001908859},{2.960000000000002,0.8730048599114432},{2.980000000000002,0.8840121152636632},{3.000000000000002,0.8914794802533765},{3.0200000000000022,0.9038405706834478},{3.0400000000000023,0.9144475592261779},{3.0600000000000023,0.9265836312325247},{3.0800000000000023,0.9360367569809311},{3.1000000000000023,0.9449967320157524},{3.1200000000000023,0.9512260492868554},{3.1400000000000023,0.9565864556144272},{3.1600000000000024,0.9598820916149406},{3.1800000000000024,0.9630117793930105},{3.2000000000000024,0.965160041431883},{3.2200000000000024,0.9684671991927137},{3.2400000000000024,0.9712741220314705},{3.2600000000000025,0.9744082088066146},{3.2800000000000025,0.9768251935597678},{3.3000000000000025,0.9790617187531789},{3.3200000000000025,0.980548770628523},{3.3400000000000025,0.9816991682891533},{3.3600000000000025,0.9821436706793825},{3.3800000000000026,0.9821896679029366},{3.4000000000000026,0.981382168506737},{3.4200000000000026,0.9797544199379683},{3.4400000000000026,0.9760934112125953},{3.4600000000000026,0.9691168153184414},{3.4800000000000026,0.955987384561719},{3.5000000000000027,0.9322110329282424},{3.5200000000000027,0.889525676010724},{3.5400000000000027,0.8135961752015703},{3.5600000000000027,0.6788990106197705},{3.5800000000000027,0.44043789753692664},{3.6000000000000028,0.0}};
-	//public static final double[][] rightVelocitiesTO_CUBE = {{0.0,0.0},{0.02,0.37969577631395024},{0.04,0.5835718676088406},{0.06,0.6984544991476427},{0.08,0.7628486319180321},{0.1,0.7986745565564779},{0.12000000000000001,0.8181169624606737},{0.14,0.8283796888181203},{0.16,0.8331670804064398},{0.18,0.8351793657776132},{0.19999999999999998,0.8352819059220059},{0.21999999999999997,0.8349669082160507},{0.23999999999999996,0.8336011424911668},{0.25999999999999995,0.8317917788667024},{0.2799999999999999,0.8287147661380865},{0.29999999999999993,0.8250091577771724},{0.31999999999999995,0.8197487279182188},{0.33999999999999997,0.8140490677012886},{0.36,0.8067676895212567},{0.38,0.8000276583391914},{0.4,0.7921120353687982},{0.42000000000000004,0.7864384534035381},{0.44000000000000006,0.7785931421549783},{0.4600000000000001,0.7702221534298995},{0.4800000000000001,0.757347974043126},{0.5,0.7423594958915756},{0.52,0.7213086938691426},{0.54,0.6987292614288128},{0.56,0.6699862166627226},{0.5800000000000001,0.6437808952323504},{0.6000000000000001,0.613282018377727},{0.6200000000000001,0.5924802403315039},{0.6400000000000001,0.5638859949992664},{0.6600000000000001,0.5346010318360822},{0.6800000000000002,0.48960558508364943},{0.7000000000000002,0.4398137251125239},{0.7200000000000002,0.3720081414957866},{0.7400000000000002,0.30794153152890946},{0.7600000000000002,0.23609912312871367},{0.7800000000000002,0.2011884428671844},{0.8000000000000003,0.19567114564124044},{0.8200000000000003,0.19338956988849945},{0.8400000000000003,0.23925619015569924},{0.8600000000000003,0.2949296270602577},{0.8800000000000003,0.40632522158887485},{0.9000000000000004,0.5295642189721854},{0.9200000000000004,0.7069265335905762},{0.9400000000000004,0.8669189568610708},{0.9600000000000004,1.0555683298420941},{0.9800000000000004,1.1582119829215687},{1.0000000000000004,1.2467641568741916},{1.0200000000000005,1.1755506567822442},{1.0400000000000005,1.1215320477575932},{1.0600000000000005,1.0210894552418028},{1.0800000000000005,0.982801144732178},{1.1000000000000005,0.9227950917129502},{1.1200000000000006,0.9154348592181033},{1.1400000000000006,0.8559312761524142},{1.1600000000000006,0.8335827232263969},{1.1800000000000006,0.7530499786492102},{1.2000000000000006,0.7848916647755508},{1.2200000000000006,0.9244837284836376},{1.2400000000000007,1.163226704551912},{1.2600000000000007,1.4691417580969253},{1.2800000000000007,1.7384786681610673},{1.3000000000000007,1.9867097926775745},{1.3200000000000007,2.1830350742139686},{1.3400000000000007,2.352826958222317},{1.3600000000000008,2.4861619276385793},{1.3800000000000008,2.608314203011376},{1.4000000000000008,2.7117760650784413},{1.4200000000000008,2.820016000431385},{1.4400000000000008,2.9132200345978325},{1.4600000000000009,3.0002623954726353},{1.4800000000000009,3.0710673416475043},{1.5000000000000009,3.1326595910538555},{1.520000000000001,3.181086061696543},{1.540000000000001,3.2224051829461104},{1.560000000000001,3.25503751821518},{1.580000000000001,3.2843822038327555},{1.600000000000001,3.3090798222093323},{1.620000000000001,3.3341053285443887},{1.640000000000001,3.355568635211839},{1.660000000000001,3.375438012346717},{1.680000000000001,3.3916194708830685},{1.700000000000001,3.4055721456516155},{1.720000000000001,3.4164812290260995},{1.740000000000001,3.4254921350732626},{1.7600000000000011,3.43236905489409},{1.7800000000000011,3.437963980671323},{1.8000000000000012,3.4422419695975206},{1.8200000000000012,3.445798300460287},{1.8400000000000012,3.448511142395793},{1.8600000000000012,3.4504902898460164},{1.8800000000000012,3.4518151898667506},{1.9000000000000012,3.452235868825428},{1.9200000000000013,3.4520514971054177},{1.9400000000000013,3.450526093071991},{1.9600000000000013,3.448247566743372},{1.9800000000000013,3.443752664842442},{2.0000000000000013,3.4382581447290987},{2.0200000000000014,3.4294857679367317},{2.0400000000000014,3.4207845027660135},{2.0600000000000014,3.4107393304491196},{2.0800000000000014,3.4019555770323753},{2.1000000000000014,3.3920325549089227},{2.1200000000000014,3.383400907940531},{2.1400000000000015,3.371870803666264},{2.1600000000000015,3.3607050947255415},{2.1800000000000015,3.342572785732564},{2.2000000000000015,3.3234573807882746},{2.2200000000000015,3.291889272810828},{2.2400000000000015,3.2647396262418447},{2.2600000000000016,3.2363273442527696},{2.2800000000000016,3.221220457980319},{2.3000000000000016,3.210739273999054},{2.3200000000000016,3.2197224897282886},{2.3400000000000016,3.231031467527192},{2.3600000000000017,3.262897573839312},{2.3800000000000017,3.2742608740092263},{2.4000000000000017,3.288584440236041},{2.4200000000000017,3.2100914958571845},{2.4400000000000017,3.123637784452594},{2.4600000000000017,2.9826103851919252},{2.4800000000000018,2.861206496721362},{2.5000000000000018,2.724609792115113},{2.520000000000002,2.6276188946277728},{2.540000000000002,2.533701791566575},{2.560000000000002,2.4806129816044757},{2.580000000000002,2.4164107766191147},{2.600000000000002,2.3698287370647284},{2.620000000000002,2.261480223800426},{2.640000000000002,2.157919374075101},{2.660000000000002,2.0256601605658457},{2.680000000000002,1.9147851149438062},{2.700000000000002,1.8023107496689925},{2.720000000000002,1.7186178794154263},{2.740000000000002,1.6420833179617063},{2.760000000000002,1.5902253684476573},{2.780000000000002,1.538150986094379},{2.800000000000002,1.4981405163775319},{2.820000000000002,1.4395928066907728},{2.840000000000002,1.3878360931957128},{2.860000000000002,1.3307326451896309},{2.880000000000002,1.2847201726595037},{2.900000000000002,1.2413869363920647},{2.920000000000002,1.209526090202055},{2.940000000000002,1.1817174883530124},{2.960000000000002,1.1626415585859937},{2.980000000000002,1.1446137037164044},{3.000000000000002,1.1308954826353694},{3.0200000000000022,1.1128448559451236},{3.0400000000000023,1.0973088811857132},{3.0600000000000023,1.0808894334587862},{3.0800000000000023,1.0678421629620694},{3.1000000000000023,1.0558275233458436},{3.1200000000000023,1.0470403606136665},{3.1400000000000023,1.0394766107940212},{3.1600000000000024,1.0342798719052912},{3.1800000000000024,1.0294465450684056},{3.2000000000000024,1.0257763261195},{3.2200000000000024,1.0210756063498267},{3.2400000000000024,1.017046342727618},{3.2600000000000025,1.0128237643503708},{3.2800000000000025,1.0094455739751589},{3.3000000000000025,1.00630831610804},{3.3200000000000025,1.0039162588872967},{3.3400000000000025,1.0017257544242528},{3.3600000000000025,0.9999224925308678},{3.3800000000000026,0.9978717188690752},{3.4000000000000026,0.9954899861055577},{3.4200000000000026,0.9917866943273778},{3.4400000000000026,0.986314715005162},{3.4600000000000026,0.9773961755166156},{3.4800000000000026,0.962649379696579},{3.5000000000000027,0.9373310302257535},{3.5200000000000027,0.8933864947181106},{3.5400000000000027,0.8163062918814887},{3.5600000000000027,0.6806372166983498},{3.5800000000000027,0.4412698139123765},{3.6000000000000028,0.0}};
-	//public static final double[][] headingsTO_CUBE = {{0.0,0.0},{0.02,-0.0561592134882892},{0.04,-0.05796177771679514},{0.06,-0.06049706934970878},{0.08,-0.06461009242258682},{0.1,-0.06957627072142931},{0.12000000000000001,-0.0770507316683953},{0.14,-0.08553369980405018},{0.16,-0.09785217644041735},{0.18,-0.1108959537235376},{0.19999999999999998,-0.12901174908529625},{0.21999999999999997,-0.14539461373849305},{0.23999999999999996,-0.16550497710703804},{0.25999999999999995,-0.18494820949867918},{0.27999999999999997,-0.21020377833235868},{0.3,-0.2366378918726042},{0.32,-0.2730571548142155},{0.34,-0.31224866003652857},{0.36000000000000004,-0.367264394623451},{0.38000000000000006,-0.4243573402043053},{0.4000000000000001,-0.5025367452985714},{0.4200000000000001,-0.572411358005912},{0.4400000000000001,-0.6572646949300964},{0.46000000000000013,-0.7384396758752801},{0.48000000000000015,-0.8429675248298258},{0.5000000000000001,-0.9516011437065591},{0.5200000000000001,-1.100469239645654},{0.5400000000000001,-1.2600052831988764},{0.5600000000000002,-1.4831801238778946},{0.5800000000000002,-1.714017309220148},{0.6000000000000002,-2.029075232908506},{0.6200000000000002,-2.3094769475398},{0.6400000000000002,-2.6485424403496394},{0.6600000000000003,-2.97136043816027},{0.6800000000000003,-3.385041899057665},{0.7000000000000003,-3.812678643578846},{0.7200000000000003,-4.395289284069457},{0.7400000000000003,-5.0152226382212906},{0.7600000000000003,-5.875198199140334},{0.7800000000000004,-6.754888263595229},{0.8000000000000004,-7.9400743806782},{0.8200000000000004,-8.975917880270766},{0.8400000000000004,-10.205038267409764},{0.8600000000000004,-11.350043983944703},{0.8800000000000004,-12.783744947604895},{0.9000000000000005,-14.226706942991145},{0.9200000000000005,-16.13322625837118},{0.9400000000000005,-18.08572332550545},{0.9600000000000005,-20.67211333994111},{0.9800000000000005,-23.163787092487354},{1.0000000000000004,-26.295840623179064},{1.0200000000000005,-28.793029947889895},{1.0400000000000005,-31.497658466345488},{1.0600000000000005,-33.776685425865445},{1.0800000000000005,-36.36057797503955},{1.1000000000000005,-38.69843217203111},{1.1200000000000006,-41.46985615652623},{1.1400000000000006,-43.979306506643496},{1.1600000000000006,-46.912492847858964},{1.1800000000000006,-49.338126422264686},{1.2000000000000006,-51.9894290818541},{1.2200000000000006,-53.67346152311328},{1.2400000000000007,-55.15404628780162},{1.2600000000000007,-56.11206462254458},{1.2800000000000007,-56.9502788879226},{1.3000000000000007,-57.529044319167994},{1.3200000000000007,-58.06801689666338},{1.3400000000000007,-58.47573004805486},{1.3600000000000008,-58.895584987660484},{1.3800000000000008,-59.234267644791416},{1.4000000000000008,-59.606701327435395},{1.4200000000000008,-59.869488087634195},{1.4400000000000008,-60.11669766889399},{1.4600000000000009,-60.28864645471473},{1.4800000000000009,-60.4459193926128},{1.5000000000000009,-60.558601844043174},{1.520000000000001,-60.665497020647635},{1.540000000000001,-60.74740714904378},{1.560000000000001,-60.832037573535175},{1.580000000000001,-60.90086298141132},{1.600000000000001,-60.97695108982758},{1.620000000000001,-61.03156973674086},{1.640000000000001,-61.08323354304199},{1.660000000000001,-61.11905246687268},{1.680000000000001,-61.151131027019275},{1.700000000000001,-61.17313036944051},{1.720000000000001,-61.19245015929853},{1.740000000000001,-61.205651148673205},{1.7600000000000011,-61.21715812264191},{1.7800000000000011,-61.224716514399105},{1.8000000000000012,-61.23085487594865},{1.8200000000000012,-61.23326634408891},{1.8400000000000012,-61.232756227027245},{1.8600000000000012,-61.229039942175106},{1.8800000000000012,-61.220868149571864},{1.9000000000000012,-61.20960565138309},{1.9200000000000013,-61.19146282380989},{1.9400000000000013,-61.170082938484114},{1.9600000000000013,-61.13824927306616},{1.9800000000000013,-61.1040088645051},{2.0000000000000013,-61.05577870325724},{2.0200000000000014,-61.01179603616494},{2.0400000000000014,-60.95732453923942},{2.0600000000000014,-60.90424977561757},{2.0800000000000014,-60.83465150159247},{2.1000000000000014,-60.76106827285732},{2.1200000000000014,-60.65827833995674},{2.1400000000000015,-60.54601426561527},{2.1600000000000015,-60.385051748846294},{2.1800000000000015,-60.21467292383952},{2.2000000000000015,-59.9745819282511},{2.2200000000000015,-59.75768209257961},{2.2400000000000015,-59.49067017605429},{2.2600000000000016,-59.23333682021634},{2.2800000000000016,-58.896092785363614},{2.3000000000000016,-58.53763105391865},{2.3200000000000016,-58.02510717120363},{2.3400000000000016,-57.448650123908585},{2.3600000000000017,-56.57637825536854},{2.3800000000000017,-55.61001772727451},{2.4000000000000017,-54.13914165362358},{2.4200000000000017,-52.84181886903683},{2.4400000000000017,-51.32671068189001},{2.4600000000000017,-50.07087964411284},{2.4800000000000018,-48.72084917910926},{2.5000000000000018,-47.607684696227984},{2.520000000000002,-46.40022805408909},{2.540000000000002,-45.3517323753549},{2.560000000000002,-44.12334172127819},{2.580000000000002,-43.000709955786036},{2.600000000000002,-41.60280645400383},{2.620000000000002,-40.4945949579706},{2.640000000000002,-39.34397321427096},{2.660000000000002,-38.47290112394897},{2.680000000000002,-37.618565809429526},{2.700000000000002,-36.96852293740361},{2.720000000000002,-36.31897484517028},{2.740000000000002,-35.7971308060976},{2.760000000000002,-35.23345762466837},{2.780000000000002,-34.75529028831683},{2.800000000000002,-34.20429671917841},{2.820000000000002,-33.792409503971314},{2.840000000000002,-33.38716050608172},{2.860000000000002,-33.09334241089153},{2.880000000000002,-32.81586203573985},{2.900000000000002,-32.61132582492505},{2.920000000000002,-32.41274435398751},{2.940000000000002,-32.25727573330353},{2.960000000000002,-32.09349450887753},{2.980000000000002,-31.95766469590078},{3.000000000000002,-31.804622384570756},{3.0200000000000022,-31.692200814030965},{3.0400000000000023,-31.583273738468232},{3.0600000000000023,-31.505262682206396},{3.0800000000000023,-31.432358042728374},{3.1000000000000023,-31.379089638105594},{3.1200000000000023,-31.32778020443733},{3.1400000000000023,-31.28789700163506},{3.1600000000000024,-31.2461718033356},{3.1800000000000024,-31.21178535659171},{3.2000000000000024,-31.173283175967043},{3.2200000000000024,-31.145146457139617},{3.2400000000000024,-31.11801795930769},{3.2600000000000025,-31.098683161491046},{3.2800000000000025,-31.08070907056994},{3.3000000000000025,-31.067658766486353},{3.3200000000000025,-31.05518698260957},{3.3400000000000025,-31.045583250632404},{3.3600000000000025,-31.035647965722656},{3.3800000000000026,-31.027552679347018},{3.4000000000000026,-31.018599498231904},{3.4200000000000026,-31.012151970719266},{3.4400000000000026,-31.006062160043353},{3.4600000000000026,-31.00186803641827},{3.4800000000000026,-30.998172231952456},{3.5000000000000027,-30.995716510841117},{3.5200000000000027,-30.993682572831535},{3.5400000000000027,-30.992428800782882},{3.5600000000000027,-30.99153736660358},{3.5800000000000027,-30.991155313701768},{3.6000000000000028,-30.991155313701768}};
-	public static final double[][] leftVelocitiesTO_CUBE = {{0.0,0.0},{0.02,0.25898922351391956},{0.04,0.39272782755836216},{0.06,0.47126615610210937},{0.08,0.5194370987581909},{0.1,0.5503718906556028},{0.12000000000000001,0.5729148570057785},{0.14,0.5900673318668764},{0.16,0.6061281974666788},{0.18,0.6200055149191175},{0.19999999999999998,0.6365302151182193},{0.21999999999999997,0.6543023981806342},{0.23999999999999996,0.6779736914581789},{0.25999999999999995,0.7043142571227488},{0.2799999999999999,0.7387268424983688},{0.29999999999999993,0.7746132938676132},{0.31999999999999995,0.8198034418600952},{0.33999999999999997,0.8631221749117648},{0.36,0.9214940011439436},{0.38,0.9868287490946569},{0.4,1.0769958453488344},{0.42000000000000004,1.1776305154330935},{0.44000000000000006,1.3096167641297156},{0.4600000000000001,1.4448420627509755},{0.4800000000000001,1.6130271476126639},{0.5,1.7666713184125364},{0.52,1.9700367340863423},{0.54,2.1862329527374627},{0.56,2.4774380477136098},{0.5800000000000001,2.7775158022546687},{0.6000000000000001,3.150312536734743},{0.6200000000000001,3.472782349646462},{0.6400000000000001,3.8298084047478933},{0.6600000000000001,4.036623674063246},{0.6800000000000002,4.283864757983925},{0.7000000000000002,4.438187637679516},{0.7200000000000002,4.645036913596855},{0.7400000000000002,4.726274059704887},{0.7600000000000002,4.8169752048997845},{0.7800000000000002,4.717523870444793},{0.8000000000000003,4.6102525863110815},{0.8200000000000003,4.327005856706754},{0.8400000000000003,4.128280459814586},{0.8600000000000003,3.931116293691165},{0.8800000000000003,3.846971969699963},{0.9000000000000004,3.7798723768077065},{0.9200000000000004,3.795647606594654},{0.9400000000000004,3.804783850806032},{0.9600000000000004,3.8663634857348854},{0.9800000000000004,3.9011537636360574},{1.0000000000000004,3.977127576722171},{1.0200000000000005,4.063128245207161},{1.0400000000000005,4.172537867243553},{1.0600000000000005,4.28575384478757},{1.0800000000000005,4.406540212572316},{1.1000000000000005,4.523108471837367},{1.1200000000000006,4.637437809460761},{1.1400000000000006,4.739098987695772},{1.1600000000000006,4.830965140560063},{1.1800000000000006,4.909895521405759},{1.2000000000000006,4.978912180215999},{1.2200000000000006,5.037761804556156},{1.2400000000000007,5.089060059576201},{1.2600000000000007,5.132995920843441},{1.2800000000000007,5.171098084463064},{1.3000000000000007,5.20271472771084},{1.3200000000000007,5.228575606450955},{1.3400000000000007,5.248746118834274},{1.3600000000000008,5.263850328320882},{1.3800000000000008,5.274361572313825},{1.4000000000000008,5.280588761398577},{1.4200000000000008,5.283138596079403},{1.4400000000000008,5.281782878459544},{1.4600000000000009,5.277170739214886},{1.4800000000000009,5.268108514571414},{1.5000000000000009,5.254852444633255},{1.520000000000001,5.235756348163744},{1.540000000000001,5.211334713535154},{1.560000000000001,5.179416119075705},{1.580000000000001,5.141499226732477},{1.600000000000001,5.094621836431217},{1.620000000000001,5.041933254085895},{1.640000000000001,4.977275444139724},{1.660000000000001,4.901574733172072},{1.680000000000001,4.806837465915721},{1.700000000000001,4.694974316123827},{1.720000000000001,4.55610812007711},{1.740000000000001,4.397353406465032},{1.7600000000000011,4.206173517776294},{1.7800000000000011,3.99990487100562},{1.8000000000000012,3.750882157915767},{1.8200000000000012,3.466590308756619},{1.8400000000000012,3.112447265457476},{1.8600000000000012,2.7072021656826517},{1.8800000000000012,2.2166693564147226},{1.9000000000000012,1.7171729404995866},{1.9200000000000013,1.1971601517421036},{1.9400000000000013,0.8932612784204188},{1.9600000000000013,0.7455185084384724},{1.9800000000000013,0.6958596004677127},{2.0000000000000013,0.7756312876548992},{2.0200000000000014,0.8312109007225513},{2.0400000000000014,0.955642375928393},{2.0600000000000014,1.010446819860656},{2.0800000000000014,1.0837943495547473},{2.1000000000000014,0.9826145528526327},{2.1200000000000014,0.8741205262579738},{2.1400000000000015,0.6767060944349776},{2.1600000000000015,0.5270722215204179},{2.1800000000000015,0.3753492891691041},{2.2000000000000015,0.3189753777064501},{2.2200000000000015,0.32677407961699195},{2.2400000000000015,0.36363455202054973},{2.2600000000000016,0.4741692794929685},{2.2800000000000016,0.5796395379423518},{2.3000000000000016,0.704179707969696},{2.3200000000000016,0.8039018225312752},{2.3400000000000016,0.9000400833531956},{2.3600000000000017,0.9705736517684527},{2.3800000000000017,1.0365197594783238},{2.4000000000000017,1.0858003535863168},{2.4200000000000017,1.1399939508530235},{2.4400000000000017,1.1834020769593498},{2.4600000000000017,1.2259770832498424},{2.4800000000000018,1.2583416971283137},{2.5000000000000018,1.2874366254145142},{2.520000000000002,1.3084147635963548},{2.540000000000002,1.3272074472825517},{2.560000000000002,1.34105781585896},{2.580000000000002,1.3555937040128596},{2.600000000000002,1.3670048913722639},{2.620000000000002,1.3778242418237638},{2.640000000000002,1.3856798054452866},{2.660000000000002,1.3921270565760087},{2.680000000000002,1.3956332100449176},{2.700000000000002,1.3969861648106912},{2.720000000000002,1.3943515984437715},{2.740000000000002,1.386954532701669},{2.760000000000002,1.3701873387038424},{2.780000000000002,1.3380053785399582},{2.800000000000002,1.2781783924739252},{2.820000000000002,1.1702824196188355},{2.840000000000002,0.9773755889828941},{2.860000000000002,0.6347079212893711},{2.880000000000002,0.0}};
-	public static final double[][] rightVelocitiesTO_CUBE = {{0.0,0.0},{0.02,0.24795184582551988},{0.04,0.3700818983742494},{0.06,0.4362949461133421},{0.08,0.47001171726473007},{0.1,0.48540127206697004},{0.12000000000000001,0.4890677779462791},{0.14,0.4867546900689189},{0.16,0.4791217940815827},{0.18,0.4700835585931571},{0.19999999999999998,0.4564404442199801},{0.21999999999999997,0.4405705008694694},{0.23999999999999996,0.41847863972492033},{0.25999999999999995,0.3939435755032008},{0.2799999999999999,0.3621934573134332},{0.29999999999999993,0.3307430162277398},{0.31999999999999995,0.29327805657604056},{0.33999999999999997,0.26358247725349704},{0.36,0.22931135707377168},{0.38,0.20661423031828408},{0.4,0.19185404225870067},{0.42000000000000004,0.2244892956043032},{0.44000000000000006,0.31757160023763026},{0.4600000000000001,0.4301540407053581},{0.4800000000000001,0.5845699487476413},{0.5,0.7289773009484061},{0.52,0.9250646800511846},{0.54,1.1341524885266492},{0.56,1.4171285456107594},{0.5800000000000001,1.7064720638528916},{0.6000000000000001,2.0647726432390265},{0.6200000000000001,2.3671414878510966},{0.6400000000000001,2.6969656179217005},{0.6600000000000001,2.866945567521805},{0.6800000000000002,3.066519412670571},{0.7000000000000002,3.1587114957087707},{0.7200000000000002,3.286517036581195},{0.7400000000000002,3.2661690478486336},{0.7600000000000002,3.2302225464077283},{0.7800000000000002,2.9731190960818443},{0.8000000000000003,2.6797444347152894},{0.8200000000000003,2.1809509086029055},{0.8400000000000003,1.7541814574022883},{0.8600000000000003,1.3249132177208092},{0.8800000000000003,1.0352386909026585},{0.9000000000000004,0.8275853739448198},{0.9200000000000004,0.8608823296785778},{0.9400000000000004,1.142228845902807},{0.9600000000000004,1.5128954934551706},{0.9800000000000004,2.0005020308301904},{1.0000000000000004,2.4533734265932394},{1.0200000000000005,2.8813183114375245},{1.0400000000000005,3.2395595180519305},{1.0600000000000005,3.5530745193896234},{1.0800000000000005,3.8120449625400292},{1.1000000000000005,4.040960596202455},{1.1200000000000006,4.235623466122809},{1.1400000000000006,4.414907313897979},{1.1600000000000006,4.5663612066720525},{1.1800000000000006,4.698983713234209},{1.2000000000000006,4.807934111638307},{1.2200000000000006,4.900861626583493},{1.2400000000000007,4.976925529734885},{1.2600000000000007,5.042398486461825},{1.2800000000000007,5.097059462154547},{1.3000000000000007,5.145449746698601},{1.3200000000000007,5.185597944599434},{1.3400000000000007,5.2197390892499005},{1.3600000000000008,5.247291813056785},{1.3800000000000008,5.269797280561394},{1.4000000000000008,5.287536607600517},{1.4200000000000008,5.301284365772648},{1.4400000000000008,5.311699212892157},{1.4600000000000009,5.3186637848841025},{1.4800000000000009,5.32335254006841},{1.5000000000000009,5.32518491877522},{1.520000000000001,5.325446970103269},{1.540000000000001,5.322526712076131},{1.560000000000001,5.318120646083413},{1.580000000000001,5.309041657926702},{1.600000000000001,5.298257640512598},{1.620000000000001,5.280644932678744},{1.640000000000001,5.263491837512155},{1.660000000000001,5.242476024502825},{1.680000000000001,5.22448871404773},{1.700000000000001,5.201975669197658},{1.720000000000001,5.183375212323044},{1.740000000000001,5.155209421767022},{1.7600000000000011,5.131935364251863},{1.7800000000000011,5.091472272074226},{1.8000000000000012,5.070639695042459},{1.8200000000000012,5.0555313864736595},{1.8400000000000012,5.0843464035903425},{1.8600000000000012,5.129891965933688},{1.8800000000000012,5.236106694679361},{1.9000000000000012,5.329344012543738},{1.9200000000000013,5.460451836101077},{1.9400000000000013,5.42985936959756},{1.9600000000000013,5.402218816959038},{1.9800000000000013,5.259962526467396},{2.0000000000000013,5.161877771193487},{2.0200000000000014,5.006542822976118},{2.0400000000000014,4.92275474672742},{2.0600000000000014,4.779993591955254},{2.0800000000000014,4.675889200590459},{2.1000000000000014,4.415253992771058},{2.1200000000000014,4.169517437318258},{2.1400000000000015,3.8498745690213934},{2.1600000000000015,3.586236762302636},{2.1800000000000015,3.3131551485709214},{2.2000000000000015,3.1082973622523236},{2.2200000000000015,2.9037323516149347},{2.2400000000000015,2.7459359747812777},{2.2600000000000016,2.558484859950372},{2.2800000000000016,2.403467218913467},{2.3000000000000016,2.245952824940785},{2.3200000000000016,2.123925454792863},{2.3400000000000016,2.0121220263622352},{2.3600000000000017,1.930362550028214},{2.3800000000000017,1.856006937315499},{2.4000000000000017,1.8003115899610058},{2.4200000000000017,1.7410289095057951},{2.4400000000000017,1.6936297879645903},{2.4600000000000017,1.6478546487865104},{2.4800000000000018,1.6129528290577304},{2.5000000000000018,1.5817917949263813},{2.520000000000002,1.5591265679033643},{2.540000000000002,1.5388937291429965},{2.560000000000002,1.5237811783616797},{2.580000000000002,1.5080516164251698},{2.600000000000002,1.4954339957078167},{2.620000000000002,1.4832181449798187},{2.640000000000002,1.473519792098801},{2.660000000000002,1.464316711441658},{2.680000000000002,1.4563585972270576},{2.700000000000002,1.4474716061394548},{2.720000000000002,1.4370721960758703},{2.740000000000002,1.421661086376631},{2.760000000000002,1.398314057714488},{2.780000000000002,1.3597538771420041},{2.800000000000002,1.2946748752618937},{2.820000000000002,1.1818956148464055},{2.840000000000002,0.9848246456409445},{2.860000000000002,0.6382348444177262},{2.880000000000002,0.0}};
-	public static final double[][] headingsTO_CUBE = {{0.0,0.0},{0.02,-0.19996743393218705},{0.04,-0.21162398781735198},{0.06,-0.2279150809145525},{0.08,-0.2542716948838031},{0.1,-0.28568452661879645},{0.12000000000000001,-0.3326261361463502},{0.14,-0.38446554708094605},{0.16,-0.458485877653765},{0.18,-0.5318324906453102},{0.19999999999999998,-0.6289578326560302},{0.21999999999999997,-0.7304960897920544},{0.23999999999999996,-0.8703016078677407},{0.25999999999999995,-1.021767909388203},{0.27999999999999997,-1.2354012738964886},{0.3,-1.4633041739722572},{0.32,-1.7814677863867066},{0.34,-2.0911548778311815},{0.36000000000000004,-2.495591033022391},{0.38000000000000006,-2.9134997037121124},{0.4000000000000001,-3.4841228300279496},{0.4200000000000001,-4.098227388128408},{0.4400000000000001,-4.960117314889356},{0.46000000000000013,-5.874518649346575},{0.48000000000000015,-7.144530044969109},{0.5000000000000001,-8.368816540445},{0.5200000000000001,-9.951891662907299},{0.5400000000000001,-11.567104497514707},{0.5600000000000002,-13.741108429192698},{0.5800000000000002,-16.035519421287653},{0.6000000000000002,-19.175214208669598},{0.6200000000000002,-22.38370402896657},{0.6400000000000002,-26.62579771224752},{0.6600000000000003,-30.430211663504313},{0.6800000000000003,-34.95573804894048},{0.7000000000000003,-39.126458757030456},{0.7200000000000003,-44.11161862577205},{0.7400000000000003,-48.67126561157281},{0.7600000000000003,-53.95936383466457},{0.7800000000000004,-58.41120360877696},{0.8000000000000004,-63.21350368980803},{0.8200000000000004,-66.6421800759132},{0.8400000000000004,-69.98306810795609},{0.8600000000000004,-72.52886763195046},{0.8800000000000004,-75.12426348068324},{0.9000000000000005,-77.17261059737189},{0.9200000000000005,-79.29611990237795},{0.9400000000000005,-80.88525091682322},{0.9600000000000005,-82.48092817953463},{0.9800000000000005,-83.43938788410499},{1.0000000000000004,-84.25229597394805},{1.0200000000000005,-84.76929482772164},{1.0400000000000005,-85.22034877740623},{1.0600000000000005,-85.53329029896834},{1.0800000000000005,-85.82941565218209},{1.1000000000000005,-86.05055220558066},{1.1200000000000006,-86.27602917966016},{1.1400000000000006,-86.43069111441883},{1.1600000000000006,-86.57207769076153},{1.1800000000000006,-86.66918573844599},{1.2000000000000006,-86.75699688711845},{1.2200000000000006,-86.81934171758755},{1.2400000000000007,-86.87795396699613},{1.2600000000000007,-86.92121879766655},{1.2800000000000007,-86.96392243041738},{1.3000000000000007,-86.99237253429698},{1.3200000000000007,-87.01636593471662},{1.3400000000000007,-87.03028276817403},{1.3600000000000008,-87.03890258748275},{1.3800000000000008,-87.04060244689062},{1.4000000000000008,-87.03599488594215},{1.4200000000000008,-87.02649577979582},{1.4400000000000008,-87.00893512894457},{1.4600000000000009,-86.98881201289805},{1.4800000000000009,-86.95937181196297},{1.5000000000000009,-86.92632669894576},{1.520000000000001,-86.87853504740254},{1.540000000000001,-86.82507248259171},{1.560000000000001,-86.74779212894283},{1.580000000000001,-86.66418194656264},{1.600000000000001,-86.54567154768351},{1.620000000000001,-86.43017671372024},{1.640000000000001,-86.27844180772517},{1.660000000000001,-86.12095995970137},{1.680000000000001,-85.90323431726456},{1.700000000000001,-85.66579668224054},{1.720000000000001,-85.3240546890166},{1.740000000000001,-84.95388899736838},{1.7600000000000011,-84.41976199159816},{1.7800000000000011,-83.90147738092148},{1.8000000000000012,-83.21567124535589},{1.8200000000000012,-82.50073357295973},{1.8400000000000012,-81.48737286832177},{1.8600000000000012,-80.34999009807677},{1.8800000000000012,-78.61268843317659},{1.9000000000000012,-76.64285723423926},{1.9200000000000013,-73.54647852949617},{1.9400000000000013,-70.67994681756548},{1.9600000000000013,-67.16475210169622},{1.9800000000000013,-64.08626429492925},{2.0000000000000013,-60.57701237735683},{2.0200000000000014,-57.506195298240556},{2.0400000000000014,-53.948976365929944},{2.0600000000000014,-50.761515299113874},{2.0800000000000014,-46.92384982484834},{2.1000000000000014,-43.87581728320689},{2.1200000000000014,-40.73771564649927},{2.1400000000000015,-38.35441110669693},{2.1600000000000015,-36.00963500871241},{2.1800000000000015,-34.21144698518277},{2.2000000000000015,-32.39151627824831},{2.2200000000000015,-30.94490670235122},{2.2400000000000015,-29.401275432270403},{2.2600000000000016,-28.27129738569357},{2.2800000000000016,-27.18906325707787},{2.3000000000000016,-26.409233136585726},{2.3200000000000016,-25.67653878113016},{2.3400000000000016,-25.13492027574891},{2.3600000000000017,-24.605518466818378},{2.3800000000000017,-24.196617150625897},{2.4000000000000017,-23.772530637167403},{2.4200000000000017,-23.467040034361307},{2.4400000000000017,-23.17883664951405},{2.4600000000000017,-22.973271751917444},{2.4800000000000018,-22.782057650923967},{2.5000000000000018,-22.6418727304714},{2.520000000000002,-22.50607616519085},{2.540000000000002,-22.401998501439337},{2.560000000000002,-22.29498013723303},{2.580000000000002,-22.2182615216038},{2.600000000000002,-22.14629828951388},{2.620000000000002,-22.0952470177129},{2.640000000000002,-22.0481037874961},{2.660000000000002,-22.013850833303064},{2.680000000000002,-21.98107556097572},{2.700000000000002,-21.956317279503924},{2.720000000000002,-21.931325194821376},{2.740000000000002,-21.913818387482625},{2.760000000000002,-21.897962872948895},{2.780000000000002,-21.887351063353865},{2.800000000000002,-21.878446431225928},{2.820000000000002,-21.872942045639867},{2.840000000000002,-21.869003385636912},{2.860000000000002,-21.867315360220594},{2.880000000000002,-21.867315360220594}};
-
-	
-	public static final double[][] leftVelocitiesTO_NULL = {{0.0,0.0},{0.02,0.4997885196109639},{0.04,0.7570600444574055},{0.06,0.903240312044685},{0.08,0.9867615143173063},{0.1,1.0348307278885116},{0.12000000000000001,1.063140341540144},{0.14,1.0801459942253875},{0.16,1.0911815130533142},{0.18,1.0985207387250604},{0.19999999999999998,1.1046013162550292},{0.21999999999999997,1.109933856270839},{0.23999999999999996,1.1159585090543986},{0.25999999999999995,1.1222583437700109},{0.2799999999999999,1.1301232782579667},{0.29999999999999993,1.1382532367320037},{0.31999999999999995,1.1483449064129758},{0.33999999999999997,1.1580815339365302},{0.36,1.1710308355542547},{0.38,1.1855240972400314},{0.4,1.2053248455932413},{0.42000000000000004,1.2274788351193435},{0.44000000000000006,1.2563931729335716},{0.4600000000000001,1.2863232538440603},{0.4800000000000001,1.323574224244303},{0.5,1.35856355609674},{0.52,1.4049220258246629},{0.54,1.4556750501029092},{0.56,1.5245945345355243},{0.5800000000000001,1.5994893931392258},{0.6000000000000001,1.6956286359488184},{0.6200000000000001,1.7899470671413995},{0.6400000000000001,1.903540285069753},{0.6600000000000001,1.9992823577365098},{0.6800000000000002,2.1231356110206323},{0.7000000000000002,2.2478313874845663},{0.7200000000000002,2.414270770339004},{0.7400000000000002,2.5773732492490176},{0.7600000000000002,2.7769247375229735},{0.7800000000000002,2.937163678156355},{0.8000000000000003,3.111393447700078},{0.8200000000000003,3.1963436477364335},{0.8400000000000003,3.3085669674826814},{0.8600000000000003,3.386537488278254},{0.8800000000000003,3.5102703867043696},{0.9000000000000004,3.594895644656378},{0.9200000000000004,3.7034629670052865},{0.9400000000000004,3.7247241099348476},{0.9600000000000004,3.73596688607356},{0.9800000000000004,3.6192851502788925},{1.0000000000000004,3.521148255274594},{1.0200000000000005,3.408472993402873},{1.0400000000000005,3.339090160601855},{1.0600000000000005,3.2826479839030713},{1.0800000000000005,3.260331560425977},{1.1000000000000005,3.244404529976286},{1.1200000000000006,3.2452973271767873},{1.1400000000000006,3.2364697543048537},{1.1600000000000006,3.2342949410888866},{1.1800000000000006,3.2281918876786775},{1.2000000000000006,3.227509735286867},{1.2200000000000006,3.225831473319788},{1.2400000000000007,3.227943378655101},{1.2600000000000007,3.2287917023269586},{1.2800000000000007,3.2308303225680994},{1.3000000000000007,3.2291966135008425},{1.3200000000000007,3.226659038176739},{1.3400000000000007,3.221320736695123},{1.3600000000000008,3.2144426540955946},{1.3800000000000008,3.2053150765045983},{1.4000000000000008,3.1938843457358064},{1.4200000000000008,3.1804107367396104},{1.4400000000000008,3.1636436185900134},{1.4600000000000009,3.1448787248645917},{1.4800000000000009,3.1207071304594813},{1.5000000000000009,3.0920810095966647},{1.520000000000001,3.0546307712141534},{1.540000000000001,3.0107108933397604},{1.560000000000001,2.9545861033332637},{1.580000000000001,2.891957883794069},{1.600000000000001,2.8144703612467823},{1.620000000000001,2.7330103847069145},{1.640000000000001,2.6293172002391993},{1.660000000000001,2.5100316607151174},{1.680000000000001,2.354643228872996},{1.700000000000001,2.1773234058602577},{1.720000000000001,1.95643928066914},{1.740000000000001,1.7315897440270795},{1.7600000000000011,1.4852227563717986},{1.7800000000000011,1.3187169737965085},{1.8000000000000012,1.211312582920266},{1.8200000000000012,1.3333700489345686},{1.8400000000000012,1.813117206154797},{1.8600000000000012,2.5858651332298663},{1.8800000000000012,3.696167354629355},{1.9000000000000012,4.778216807200626},{1.9200000000000013,5.846152279470743},{1.9400000000000013,6.038729051289633},{1.9600000000000013,5.876223675259314},{1.9800000000000013,5.119832147170066},{2.0000000000000013,4.343589744013914},{2.0200000000000014,3.4476395164229623},{2.0400000000000014,2.734540829593428},{2.0600000000000014,2.0526120013823785},{2.0800000000000014,1.5554834628252932},{2.1000000000000014,1.0904967395867164},{2.1200000000000014,0.8667391036015815},{2.1400000000000015,0.8955706383388048},{2.1600000000000015,1.00069960082889},{2.1800000000000015,1.1597345241574024},{2.2000000000000015,1.2988435334905313},{2.2200000000000015,1.4405893509066687},{2.2400000000000015,1.5556919558285736},{2.2600000000000016,1.6780919182482374},{2.2800000000000016,1.7782230363493958},{2.3000000000000016,1.872404648814301},{2.3200000000000016,1.9452751541283426},{2.3400000000000016,2.0089926238716505},{2.3600000000000017,2.0564583368466134},{2.3800000000000017,2.098014767634782},{2.4000000000000017,2.1297692462113442},{2.4200000000000017,2.1611501222714185},{2.4400000000000017,2.1862499016332597},{2.4600000000000017,2.2094396752719403},{2.4800000000000018,2.227307667223772},{2.5000000000000018,2.2428876911058633},{2.520000000000002,2.2544945803294576},{2.540000000000002,2.2646317898705157},{2.560000000000002,2.272331740317846},{2.580000000000002,2.27984047841626},{2.600000000000002,2.2856724621533075},{2.620000000000002,2.290781009862623},{2.640000000000002,2.2941402161890574},{2.660000000000002,2.296133215507627},{2.680000000000002,2.295730555286542},{2.700000000000002,2.2924306062010493},{2.720000000000002,2.284061257564493},{2.740000000000002,2.2677099036605726},{2.760000000000002,2.2369600097487017},{2.780000000000002,2.1812769913749865},{2.800000000000002,2.0814336281019035},{2.820000000000002,1.903899528954928},{2.840000000000002,1.5890731335375254},{2.860000000000002,1.0318089839322466},{2.880000000000002,0.0}};
-	public static final double[][] rightVelocitiesTO_NULL = {{0.0,0.0},{0.02,0.4974564770102648},{0.04,0.7522622660811312},{0.06,0.8958249315118821},{0.08,0.9762768461044383},{0.1,1.0210456987482845},{0.12000000000000001,1.045348004915913},{0.14,1.0582211871565053},{0.16,1.0642248989332026},{0.18,1.0666919929556349},{0.19999999999999998,1.0663492558673906},{0.21999999999999997,1.064495257846282},{0.23999999999999996,1.060712334341337},{0.25999999999999995,1.0560213276053372},{0.2799999999999999,1.0494711148352178},{0.29999999999999993,1.04258588646561},{0.31999999999999995,1.0337815426618122},{0.33999999999999997,1.025481018839594},{0.36,1.0141437536107054},{0.38,1.0015354558791463},{0.4,0.9839445668920695},{0.42000000000000004,0.9644648238936867},{0.44000000000000006,0.9387625161637995},{0.4600000000000001,0.9127689334626369},{0.4800000000000001,0.8802437302562953},{0.5,0.8510121477305295},{0.52,0.8114951820632689},{0.54,0.7691274157463781},{0.56,0.7105460436150467},{0.5800000000000001,0.6489119734530707},{0.6000000000000001,0.5699705761557147},{0.6200000000000001,0.4988180471057487},{0.6400000000000001,0.41681927853262557},{0.6600000000000001,0.3659490607787357},{0.6800000000000002,0.30719967281201555},{0.7000000000000002,0.28164271127945956},{0.7200000000000002,0.27113711714258015},{0.7400000000000002,0.30875564442799747},{0.7600000000000002,0.40727373055446986},{0.7800000000000002,0.47374320438966766},{0.8000000000000003,0.5535020525651506},{0.8200000000000003,0.5368656146344037},{0.8400000000000003,0.542251686684398},{0.8600000000000003,0.506442861711018},{0.8800000000000003,0.514995837434613},{0.9000000000000004,0.4882357959831666},{0.9200000000000004,0.5103703998206389},{0.9400000000000004,0.5024319099603198},{0.9600000000000004,0.6149281240634805},{0.9800000000000004,0.8490875468791297},{1.0000000000000004,1.1183603248413012},{1.0200000000000005,1.4248913877061282},{1.0400000000000005,1.6843677715616765},{1.0600000000000005,1.9223588489407033},{1.0800000000000005,2.1107143509919255},{1.1000000000000005,2.2804983675052024},{1.1200000000000006,2.418801991537985},{1.1400000000000006,2.555162153110275},{1.1600000000000006,2.6682547783894153},{1.1800000000000006,2.7710049860025134},{1.2000000000000006,2.8529943675436105},{1.2200000000000006,2.923885587352203},{1.2400000000000007,2.9796067242750452},{1.2600000000000007,3.0280953888218622},{1.2800000000000007,3.0674568230743726},{1.3000000000000007,3.104269138432635},{1.3200000000000007,3.1351829571140963},{1.3400000000000007,3.1630437131764646},{1.3600000000000008,3.1865508633380544},{1.3800000000000008,3.2071637936562625},{1.4000000000000008,3.2251283402757682},{1.4200000000000008,3.240591423603554},{1.4400000000000008,3.254971311770722},{1.4600000000000009,3.2669649700459167},{1.4800000000000009,3.280058335547389},{1.5000000000000009,3.292751238799712},{1.520000000000001,3.3091038940736377},{1.540000000000001,3.3256256245991938},{1.560000000000001,3.347670468405217},{1.580000000000001,3.3680825998902892},{1.600000000000001,3.3954947587290034},{1.620000000000001,3.4177736820516285},{1.640000000000001,3.455115647885867},{1.660000000000001,3.499572096315103},{1.680000000000001,3.573573030009564},{1.700000000000001,3.6631095040732737},{1.720000000000001,3.797289381978903},{1.740000000000001,3.9463616953698892},{1.7600000000000011,4.1560711866195446},{1.7800000000000011,4.367690822053475},{1.8000000000000012,4.691173939643503},{1.8200000000000012,5.0942702189052005},{1.8400000000000012,5.703350162644523},{1.8600000000000012,6.432800509183946},{1.8800000000000012,7.4068724076539505},{1.9000000000000012,8.30493351092096},{1.9200000000000013,9.18868717930635},{1.9400000000000013,9.227124177714966},{1.9600000000000013,8.969934890325124},{1.9800000000000013,8.179041045505372},{2.0000000000000013,7.416683779817482},{2.0200000000000014,6.568080136223718},{2.0400000000000014,5.9156096020513305},{2.0600000000000014,5.290955103205563},{2.0800000000000014,4.820574959495844},{2.1000000000000014,4.318532964539965},{2.1200000000000014,3.9308427294343713},{2.1400000000000015,3.5772257293275334},{2.1600000000000015,3.323231204565426},{2.1800000000000015,3.1114602426282065},{2.2000000000000015,2.9688846550771038},{2.2200000000000015,2.8495530117529735},{2.2400000000000015,2.7679211092318594},{2.2600000000000016,2.683609794601518},{2.2800000000000016,2.62022176528956},{2.3000000000000016,2.5600903200978893},{2.3200000000000016,2.5169520472951046},{2.3400000000000016,2.479234117032188},{2.3600000000000017,2.4539561900329367},{2.3800000000000017,2.431715808805348},{2.4000000000000017,2.4165406002486405},{2.4200000000000017,2.3996637061840715},{2.4400000000000017,2.386784951947907},{2.4600000000000017,2.373976523494416},{2.4800000000000018,2.3646869582413323},{2.5000000000000018,2.3563006131766895},{2.520000000000002,2.3506301434671024},{2.540000000000002,2.3454866635862546},{2.560000000000002,2.3418903900471344},{2.580000000000002,2.3377278655083416},{2.600000000000002,2.334329937232584},{2.620000000000002,2.3306442013726554},{2.640000000000002,2.3273168754384557},{2.660000000000002,2.323369672914835},{2.680000000000002,2.3186212578912975},{2.700000000000002,2.3114498102846857},{2.720000000000002,2.300148092497352},{2.740000000000002,2.280777933457126},{2.760000000000002,2.2475521727534993},{2.780000000000002,2.189472466113076},{2.800000000000002,2.087657008898245},{2.820000000000002,1.9082906833517002},{2.840000000000002,1.591902594920383},{2.860000000000002,1.0331680687174243},{2.880000000000002,0.0}};
-	public static final double[][] headingsTO_NULL = {{0.0,0.0},{0.02,-0.04251333629508448},{0.04,-0.044989998332287555},{0.06,-0.04845108492544828},{0.08,-0.05404994854023157},{0.1,-0.06072181386299568},{0.12000000000000001,-0.07068970977325048},{0.14,-0.08169463053492623},{0.16,-0.09740287221043564},{0.18,-0.11296189091848863},{0.19999999999999998,-0.133555600900961},{0.21999999999999997,-0.1550735455902843},{0.23999999999999996,-0.1846821683818518},{0.25999999999999995,-0.21673601477818522},{0.27999999999999997,-0.2619036912673589},{0.3,-0.31003517955269533},{0.32,-0.37714022064698427},{0.34,-0.44236155762701},{0.36000000000000004,-0.5274014276757578},{0.38000000000000006,-0.615120625085194},{0.4000000000000001,-0.7346594218938278},{0.4200000000000001,-0.8630282518262035},{0.4400000000000001,-1.0427596908080505},{0.46000000000000013,-1.23296897249352},{0.48000000000000015,-1.4965171624473512},{0.5000000000000001,-1.7500909504090605},{0.5200000000000001,-2.0776363024523463},{0.5400000000000001,-2.4118949273863093},{0.5600000000000002,-2.8627862201913734},{0.5800000000000002,-3.341156528198832},{0.6000000000000002,-4.002636811679794},{0.6200000000000002,-4.690635786812015},{0.6400000000000002,-5.626723810807798},{0.6600000000000003,-6.500737703785287},{0.6800000000000003,-7.596990467374482},{0.7000000000000003,-8.677814092327472},{0.7200000000000003,-10.085956766421615},{0.7400000000000003,-11.518696888575743},{0.7600000000000003,-13.412774205172159},{0.7800000000000004,-15.267139530342227},{0.8000000000000004,-17.633187025064345},{0.8200000000000004,-19.63432060382518},{0.8400000000000004,-21.917306546352464},{0.8600000000000004,-23.939593430576455},{0.8800000000000004,-26.320630170772606},{0.9000000000000005,-28.481276591484633},{0.9200000000000005,-31.043965660753823},{0.9400000000000005,-33.21971412757767},{0.9600000000000005,-35.668191838463784},{0.9800000000000005,-37.284210567890746},{1.0000000000000004,-38.750145309929806},{1.0200000000000005,-39.73140072601951},{1.0400000000000005,-40.62034029115361},{1.0600000000000005,-41.25575571147951},{1.0800000000000005,-41.87153427353874},{1.1000000000000005,-42.340783973118114},{1.1200000000000006,-42.82769317880146},{1.1400000000000006,-43.166615248594695},{1.1600000000000006,-43.47989756115438},{1.1800000000000006,-43.69683258265372},{1.2000000000000006,-43.89403909979313},{1.2200000000000006,-44.03443999587561},{1.2400000000000007,-44.16645554282138},{1.2600000000000007,-44.26370035965137},{1.2800000000000007,-44.359225955380445},{1.3000000000000007,-44.42220777613255},{1.3200000000000007,-44.47417475708788},{1.3400000000000007,-44.502717199103024},{1.3600000000000008,-44.517578592279385},{1.3800000000000008,-44.51591472237537},{1.4000000000000008,-44.497213756892464},{1.4200000000000008,-44.46652078666706},{1.4400000000000008,-44.41351493695069},{1.4600000000000009,-44.35473712793366},{1.4800000000000009,-44.2703927816408},{1.5000000000000009,-44.176864135835935},{1.520000000000001,-44.04246154036438},{1.540000000000001,-43.89248952758224},{1.560000000000001,-43.67562918160389},{1.580000000000001,-43.44039135073654},{1.600000000000001,-43.1054805152379},{1.620000000000001,-42.77723454999838},{1.640000000000001,-42.34310164625035},{1.660000000000001,-41.88896022971565},{1.680000000000001,-41.254941290805306},{1.700000000000001,-40.55523721275517},{1.720000000000001,-39.53285202746505},{1.740000000000001,-38.40500239042924},{1.7600000000000011,-36.74041032357412},{1.7800000000000011,-35.083843497167244},{1.8000000000000012,-32.831065712925444},{1.8200000000000012,-30.412180146913464},{1.8400000000000012,-26.870080643232082},{1.8600000000000012,-22.756675074190387},{1.8800000000000012,-16.26658073064493},{1.9000000000000012,-8.770348611729478},{1.9200000000000013,2.7667067840549664},{1.9400000000000013,12.589956455320321},{1.9600000000000013,22.994717457556288},{1.9800000000000013,30.55131303759729},{2.0000000000000013,37.594269924304065},{2.0200000000000014,42.6295690234025},{2.0400000000000014,47.432243658812915},{2.0600000000000014,51.00405920821042},{2.0800000000000014,54.60346965727974},{2.1000000000000014,57.03737728144489},{2.1200000000000014,59.23429889107619},{2.1400000000000015,60.73097125738586},{2.1600000000000015,62.08195304764125},{2.1800000000000015,63.04708540791499},{2.2000000000000015,63.96858380515282},{2.2200000000000015,64.66529272237729},{2.2400000000000015,65.3770285030058},{2.2600000000000016,65.87892386175072},{2.2800000000000016,66.34554602128729},{2.3000000000000016,66.6737337248447},{2.3200000000000016,66.97624331231053},{2.3400000000000016,67.19636610938514},{2.3600000000000017,67.40874885351599},{2.3800000000000017,67.570964457802},{2.4000000000000017,67.73756660878844},{2.4200000000000017,67.85656743184991},{2.4400000000000017,67.96807290987095},{2.4600000000000017,68.04716088202987},{2.4800000000000018,68.12039941563532},{2.5000000000000018,68.17389390650239},{2.520000000000002,68.22555473838595},{2.540000000000002,68.26504360681294},{2.560000000000002,68.30555365147102},{2.580000000000002,68.33453553650729},{2.600000000000002,68.36167665371944},{2.620000000000002,68.38090484938294},{2.640000000000002,68.39864205420055},{2.660000000000002,68.41151796864466},{2.680000000000002,68.42382941486929},{2.700000000000002,68.43312359757438},{2.720000000000002,68.44250047325933},{2.740000000000002,68.44906588592605},{2.760000000000002,68.4550098755428},{2.780000000000002,68.45898693762263},{2.800000000000002,68.46232348212263},{2.820000000000002,68.46438563992672},{2.840000000000002,68.4658610645898},{2.860000000000002,68.46649336141647},{2.880000000000002,68.46649336141647}};
-
-
+	//the path tables themselves are packed in PathResources
 	
 	//Computation
 	public static final double driveEncoderToInches = 1 / 6.0 * Math.PI / 4096.0 ;
@@ -176,10 +103,15 @@ public class Constants {
 	//TalonSRX
 	public static final int kTimeoutMs = 10;
 	public static final int kVelocitySlotId = 0;
+	public static final int kMotionProfileSlotId = 1;
+	public static final int kMotionProfileFramePeriodMs = 5;
+	public static final double kMotionProfileServicePeriod = 0.005; //seconds, twice as often as the shortest point
+	public static final int kMotionProfileMinPoints = 10; //points waiting in each Talon before the profile is enabled
 	/**
 	 * Converts from Ft/Sec to NativeUnits/100Ms 
 	 */
 	public static final double kVeloctiyUnitConversion = 260.767149451;
+	public static final double kDriveTicksPerFoot = kVeloctiyUnitConversion * 10;
 	
 	//Cyclone PIDF
 	//public static final double kVelocitykF = 0.2960069444;
@@ -193,6 +125,12 @@ public class Constants {
 	public static final double kVelocitykI = 0.0005;
 	public static final double kVelocitykD = 15;
 	
+	//Tempest Motion Profile PIDF
+	public static final double kMotionProfilekF = kVelocitykF;
+	public static final double kMotionProfilekP = .8;
+	public static final double kMotionProfilekI = 0;
+	public static final double kMotionProfilekD = 15;
+	
 	//Climber
 	public static final int leftClimber = 2491; //TODO change this to an actual value
 	public static final int rightClimber = 2491; //TODO change this to an actual value
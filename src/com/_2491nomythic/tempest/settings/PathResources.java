@@ -0,0 +1,60 @@
+package com._2491nomythic.tempest.settings;
+
+/**
+ * The stored autonomous paths, each packed by {@link com._2491nomythic.util.PathCodec#encode} from its left velocities, right velocities and headings
+ * <p>
+ * Kept as string constants rather than array literals so they stay out of the static initializer. Pathing only decodes a path when something asks for it.
+ * To add a path, encode the three tables FalconPathPlanner prints and add the string here along with its name.
+ */
+public class PathResources {
+	public static final String[] kNames = {"SCALE", "SWITCH", "OPPOSITE_SCALE", "LEFT_SWITCH", "RIGHT_SWITCH", "CROSS_LINE", "BUMP_COUNTER", "MAX", "CUBE", "NULL", "BACKUP", "LEFT_PYRAMID"};
+	
+	/**
+	 * 
+	 * @param name The path's name
+	 * @return The packed path, or null if there is no path with that name
+	 */
+	public static String get(String name) {
+		switch(name) {
+		case "SCALE":
+			return SCALE;
+		case "SWITCH":
+			return SWITCH;
+		case "OPPOSITE_SCALE":
+			return OPPOSITE_SCALE;
+		case "LEFT_SWITCH":
+			return LEFT_SWITCH;
+		case "RIGHT_SWITCH":
+			return RIGHT_SWITCH;
+		case "CROSS_LINE":
+			return CROSS_LINE;
+		case "BUMP_COUNTER":
+			return BUMP_COUNTER;
+		case "MAX":
+			return MAX;
+		case "CUBE":
+			return CUBE;
+		case "NULL":
+			return NULL;
+		case "BACKUP":
+			return BACKUP;
+		case "LEFT_PYRAMID":
+			return LEFT_PYRAMID;
+		default:
+			return null;
+		}
+	}
+	
+	private static final String SCALE = "eNrtV3k01fu7fr57YzvCVqFEKlSGRKkoc6b0M0SZm6MRRSpTyBDNpiadVDiFIlHSJFHi6EicRIOTUEgDxaHJfbe+df+7/9671m2vtdden/kdnvd5n21nu2ARAIa+XPom0JcD9mOcHNxslSsdAm12Qqw075yGWBnGsL8SLYFNuvuawZtQ4a8Qq4zwhX/3Gto7QTjB003W4jC4m57qSpT5QTIpo2OOXRKEL3h7yN65AE58hprY3BNQlN/ZXOQrDWaeo3TMBGtwGgo196xsAM+6NuD45HlginwFO8CpyJ+yR6kCfI/63hsbXcEInptQAa7g+ZZAiFTmex+bVAHG1VkmZoUruBU9BgeUK2BU5PA6RvEqkP5IzHBTBpjWIEWrhC6ArC/NywDXs3GWbVIomOsb5cu7M4DW2ZJm8V3g5bwObrpM+wVuJCwGBG5sagV3yI1zYIbc8AQEbsRfB39Q8Gllx/+9/n3/U/b8j/u8f97//b0vP9//bo/3T/u+2/sU4xar9pYeWAkI3ClyBobc6wGG3F0KRuB+ZT4wFI56YCg8/uAKwuWRCwyFrxYYCudWMILwWtN4KNzFgCD88xzBG/Kj7+f4+3ouu7+HPe/M3pfP3t/0870f7/+0Z8g+X9beWvBzpQlRhawfjuz8N3afI3uukL2nlr3Xl30nn323nrXDn7WribUzn7XbmfWjhx3nsuuO7P4+9rwje18xe/+P97b+fP+7Pbmsff6svfXhg0N+XAYEaVmsBQjS1BoEaAxVCCBIo2cjIEjr9W2AIM2tamAEac95Aghg4LkOEMDiqTEggElGByCAjbcHIIBRhhq4Q378y47d2HUNdv8Ae16Lvc+Nvf81+95s9n0X1p4O1j591t514AnKIv0f1g81dj6E3afGnnvE3hPE3qvBvtPIvruRtWM2a9dr1k431m5d1o8OduzBrqux+wfZ82rsfR7s/R0/eMiEG5Mw9l7UVUg6Vb9bc8EeCkxZKmeWMzinX+78pqQC3vApzgedsoE9z2/PjokC82j8+gNvlgCLPzf8ywkH5O4PfIubDHSXDH+nRfmX03pgrBdDhLY49VlWHWBgIOX4RBUQPmnWTDwD7vilO/yoDiWsLmlIET6F9sVHu9F+Bd7EmPjnNE7eXyNEXCl21MJ7nhgQtjNX6RTxgajqpmejyQ7Fu3llt18Bw0Svp2bS+ox7e215MsDwLYGuacLg9p3IF9HsBjTniKYmJgGjGw5vEv9IuLyYmV9sQ/OG64UWRFD8IXfQNJVwmROmsrIQTP0o0bAMWcD0RZrw3OlAJWfyxSUUzw2KLarHjoGf3tu3x4Tq86vD5jQtQzDRyV7bHxFOut9dFSmwA7fYginQfwzG6Uk/v4b4p2KJXkXeE/AmFVmtTu8FI9rzYezYteBKRFUdmpkIRqlmmlBKJ4w3qPBl9saDiYuu3XzqLyDSqVll1zGyK+hDScBDcFM0Ej58ugU82SjrqisMJqdzxLgWirOdlorLSU2g1PfOqjVUB9Z5dh4vnMBrOl63/VoRoH+mOPXtKMCz6t09T+LpiUXvClLo3KBqkGL2MoqDqIyxF9XfiBnnJWdQ3P11F2UI1VBeNpwfCFCiuJn4NOZSfCWUzr6/S/zIcdQ5trcE4LVH23ZmUj5jjP+ytAbEOTztmxMB+YGG1Zd6KW+HF2TpXgc2945cmviO8iLStmicMOEz7X6a72ZgIHnMp6lbgPHnKv3+Wg+stK2axhC/GIXnPL9mC16NUffyZnHAqjxC8vNXoOqP1dPbe8BkbeW3jrsPLLPI1g1aDcSvi87ktYPbbb7ywRc74IuaTE7xAJh99dtzi6gPXWg4ZdJ7G0aJ59tsnJrBCbjFXZCyA7x9q6QK7b3ASZy/zKXtMJD2qK6gie7PtTy+O34FmH7PWI35N8heq3fZ4SOA/6Q0+OhQn/nosWI8/SAs9ihH7Tdwv8X0zVc8CSRtGVy6K5j8GJQaFu0E5iKjFxlWCbRNL209dRS8rOHczULpVGnBQhm1ykCZVdrUreXA1PAViQPqgK28jOUkUzBvJE8dDF0FuIRV7Dw5DFCWf6lmT3rhRV9+ZOxUQPaPtEwZPUArdUv8EnPAL3GHursUwE8ws9ebA4zMunRkbjPVA196WHwy1aF2K1eEcC4qHWFv8YbydkfVyX0WuJ/6n9/0J5xxw/a5BSdSfpN6lO550frb0fkdKjSv6OXSS/jndHVUixKOhMYHbvyWC+6/cQ+32BJvjFA4uvW1LjApy9LkIvGXR+2yXCmK06XI/To6LmBsQ9SdLbaC5zfD1+nVTHBrtj6SLOmFeODs+8FGc6HoURmVYbDBRKwzoHmijO0vXfRLF/3SRb900f9BXbRCS3hKHyTnJ5ludOmGgmLh4SSDKHDOXHmyyjwZvJGOqQOWpcAu//rqTzPBPFwkeeI++bn4rPtcd0Xqh/qfpBuJn3viz7+qoT4ol8gX/2hGfB3uNmKJE/FtYsc5TeqjhovaHysQn3IzXLevpX4g4rCoNP0aUeJpk6JKQ+LneZnWR7/QfhP1uG3UpxW8lvnKbqdxgrxM7EVa16vOK7oLBO9cyQsgHhbti3LkEW7kd3iVPSPdwM/sqF9O53Wt/CSvzyf+vh6y3MUB3J66NCv9U4B0gr2D9O/E56FtXW/zCKfrVVtC5gHqsY4LDKk/P97aVT2GcO7XKOYvSvqjYZxcltgh8lNtsd82A9I/haJh5f+Cf2qYe0cJ+eN34mKyM63HVauvI9wx296brsizBbdIJ0hO7CDQUNC6/HIqGM3KqQe85cFbf+GQYR0XzAgllcTzfHBXFG1/GBcJo9pzEXFzSIdk94WubWsBE59ipqpIfWxHe+ay5aXgJtXLjr/8kPjv2Jt75woAr5AN1weegnnQ59T1mPqJnWtI/BHqc7f+0c/ZQ/1tnoXPzWNNhL9HIhVMLLC2SUv9OP0vn1RknWhP/r1a+exBAekLNa8Eva98it+dmn0KhK/NR+2lJMcAUl43ZEZHAzqqyu4zHGhdvC4ik/o/37ny8UEfMIPR4ZUhl4DfkhZ8Eyf9I5Rw0yeFdPLYpuxAf9KnwmuXvpYjXcrfY/OojXhCuP/NXGfSLdwNMs5/Uh6MPVvvmpL+ZCKXVipb0th04eeIKoLiDHOXAcoDNze75UAc6elFqXq7BfhID/qkeZbyHZw27gzhQEQrrTNpA+HsfFaOwS5gnIG2jZM0vWN9w8CddBmcE2rNqa+vbyxVvk/1NaJzSlAW4UbzP402vX8QnkZ+cs97QQ1XbIzTDNIhYa98LC9agfldbtb2PyXBW7Vivd/X90DUo+wm9U4wRzMuDZMNIH1Z3hwyiuo0+4WyttV+0gmGRp4C3XDmbedGbXrXcVunpf5dMF3i4a2D1O9N7d8Vt46k/qTl/81gPxBgHuo4/w8YP9ugGXVkLmDx8YtO5U6gpHFx3g6qoxlGa+pTSK8uObQ8vaAbzOc1/qOryG6louy/+64A4avH2FhQHLX61Fp7iUekSgZ9+4nf+6L7O0QJF7IaEsIvSUfqvG+xOGtK/gW1nbMhu+T42Qd1qC5/W1p2sZ7qJZinL+9KvCJ8+UbIodWCOq1AM+VP6FqyufcEYEx6/uNqeUBSr7jQmvzQi2rmTN1H9ef/57FGRXBfj6hTlaN4TDnOd42k+Nt2Se8OrAYuZ7nWWPPAmJnGnuy6AN6mgNuyOwvArbXf3n5BB+LhOpLJHfJQXOYzcvSJsyZiXXvTc+Q0/pd10bxfuuh/1EWrfumiX7ro/6Uukn2Y+FrMm/gZzbLdaTz61dcbVWtCv/MVHQLIfibHwbRkOY1/Twm87UN9JeWCxNhQmrepnfiS3kP5wn6rNOpnnLtzjlPemBkDwk/pf6piobKLP/Vp7oX+hVsIh7x7pytWbSIKdI8yziH9InH142V16ss87cudt6mvhXfsONxOfCsU3JaRQP+LxVyHqSUQTyteW+IUSHj77V7w7n7iG+OazFlHSFfJyDh5PySdJe4fFyF7AvjQrnfkylrqF4dDpndTP1Kf80BvPuEx8OnUhTNpfoLtizdixF8vLFZFxFGfmOYUNE2H+vAiobLnSXeAqo/5oQ8e0/7Heav1Z4Ppf79FhSF9Z9NafqqA+vFNGX1zo6fgtS1UH/w8CdhjffmqZAOYvbwDKwYJ77uEBmQOqIC7X2n0lIukB9t8JucZnwBz0TQh7KMOxrlGhTaWC+p3vGng5OXgJIgUSOwgPtbQ1jh0R4p0lcmtTVLUj666nfcw/ATuwu7iRS/LwOx/g4I1t4HoKgUh+afgp2t3jvCIIX0keWtFKM3fOzX8WkEN6aP5/paGK8F0JB+ffUCI4hT/nreB8h/w3De0firF6+v0v+wIn0LL1vYcIF3DMx2b636a+qC42P0+0k+hPfV2bS9JP5xfd7faDEyfyNh/dIh3Hc4s+IBsio/l59g1VF8OnXUR656Df+hKl/l90kEfdr/WvUlx6PLPiTMjnVNc2nJrWC24U2afDInYDcZL3j+5uAo827H5e2+bgpN5bbn5yINQXCCid2Ub4fKVhOzziSLgPGwd3jON8L/Na1RpZT94aUtjQveqgGPXojxwKAv83d5XrM57g/Nc7u9YITsIOYycM7NrH4y+yTA1vl3gVK9L0IrsgohT4gkViXxIiEwPCVe2gFCrwRq5gnIoGJRrV8yKBMdqlJ3KJFPwmhTNn3zWgUTUepHJQsrgdB3OsyaYi0hrZyWm+YGj+2BBc/I6hGUtFP7TOYT63z2X8YK6rduQnyr9AdzFhSXPqmLBFNSeCKzdDextTjjzoRG8m+q340b2A6tO66mWUL+p9Kka134DsHolviZbBUzl1MhCHuXF7bpl72HS830Hf3f9RDra7aD+ePUj9H9ge15DNfGPRl/EpAfDwf26dM8t3mFg1NR9I5wJr7Ni++rMiI+H81aOrimjurG21tlIOl9s4tVjPqT35Cw1x/xNeB1m/VB2OullYw2bekPKt3D54ivhx6helmkIxxB+hcsMesq2kK68oMC/RbqGE6061oH0v4j1NF4/6SFOk/WtFsIZv8+t/wvpVkZreufsj1TPmlmSHhNp/Ly98fw0wpHnfo62O/FA/hezkzdp/tTWkhmkP2H/dvch4n3c145WofqASt0LV9K7GDXmaZPtD/75L2DOCCU=";
+	private static final String SWITCH = "eNrtV2lQVFcW/t579MJi9xiNEqAQlD0jyKZBVBB3RSSyGRFXUAER0YjbCC6UI7YEGAhGgoigMGwSsUEWjSwqLg0irYIKQTZBjUC7kqaFubYPq8LfVKVqqjxVt16dc7977jnv3vO981wWu7oDoMhgyHAmgwYrDsXHP0gitrAGrawPchZq7NOOnWeslQKOh1IgHFTKJ31oXne9UkAr12eDp4QNsHoWBOw8xfql2X0+4uSsnh4+oIT5A5IPchvU0D5K3CtW9wFPue0UFlfN2t1Y3BtWXwWhEmfL4qSsfTGLezfMnzWLu8falwzz54ZxSthUQBlnAPAxblBsHmDzYtg8weYN9j1Q7HsZ0ofmeUN4dv2f/aV/2u+j3+Rh/p6wegmL2wzhn/wNxfeM1X8d5i+dtSeyuO5h/obiy2LtycP8DcW3+9P96ru0ykPLThLeL+YXLkq6Cc6Vue7BjlcgMLo14WnJbtC9m1K+i70JNNzZ+rosEFRz1fjs0ZMAb7N/njjcBnzx3S0P9z8AzvSQSPkqICg5vjUhCtC3mnli5X5QvX4HzBMfAHNP3nCY5QMMOFJx8gYw51s1YzuKgV9j65+Nfg5KXlhyt7gFwnG6mqZ0DKgJ8hGDAzpg6jA+qF0MrsyjXGVMKGh3nYSk+5fDB4zFp6bzoqAy+coYWbIuaOnhoMKe+xC4tVjrdAWDehg+62RFKFAZNS0vrQ/ovpYn+WETqFM9b5KvVkFoxjXR8fQGmnctO6JfA2rRoU2KiEgwxeai2aFNQPTqnIAAEn9eKROy3BhYmDbTysIPGFu1X7JHDHzpZnqsqIHklZ3g1mQD6vQmhrkTBGSarxixtITU21Uj35H1oLTmt1RP8YPgycoKydKvwdRv75g25itwv4j+0iffB0xM/AK7GfbQdqzsueEswggdr/lBgf1QEVe08HqEcMh/yzfQk4MjscnfaT0X6pXOSXarFKBn3+y6J7kMykeu89JFAarTRtR3sRiM+Yxt5YvXgjJvX5F82w28owM1auWpoBWF3hu3DICSLTmk7doHocfZB3aOMlBce/+4OQfBuF+orBREgWoUhBr2PgIyFsgVXJKPwfS89zZOQNidrWelfFDuasJKaSmYsp9in1vJoFH0ZHz9w25oJaYesLns73D763UWNT4Rn3nsM4/9vTxWGcxc7RgV3l8dm7XVuh2cRzYumk+9IJgY8bomfDTou7JZSXIz4O2PbZLt1qAeN5bVplSQulZYPZZvBPoLTP/471Zg1LF5vsVu5Or22egv7gVGiM1fOgkBTdnETj01QOOpLtMWCMjmnV06n+immKN4Qc5FK9RguxZZ5/tcK1gzA5iwdua954QvO6sb4wusALcVhT/qLwCmTiryS4sGHn+v3u2mApj0LjNrLgOT9q/f1DsJb77oS5hjuwSCNlpkw80B5fVmMMuyGcz4rvbogjGgRh7/j68gD7y3asFV26aAeuVe9sBrEIyVf+/RSAGQfiom53ovqMim713CyD7Rk15tTzMKH/TbVziheyyo1JcvCyaT+yQq3BLZbQdG9EyzWnoBuJjAvdwxCVT8oEemiMQfNTP6ouFa8A7O31GacwY4UmGW7NUCKrcj6tYv3xI+jbCY3bAbTKrLcVvHDFC7uOPOWNQBV9ze10nHQmhbtrrO3BN0/9SkvT5VoDz/MW9nyCHwHASjOQ47yXlW4huriWAcYxPlPbHQfWfJyzzaDPpo1zmL8+fB9b4gNYgUguYv5DbVeEOwgm8ibsoF3ZZ7xvnkIKjfdecantYHb88paZB+GKiwRz/XLHMCU+5628dQHdSG3yv0g44BvxSlN+ZPh8O1e/o/NXEJ/2W1ni/TAF2cuz9Y2xjcVMdpLb5yaLRticn3fw5unJ73EkGLQy2n/+xEvXV/M49l/UUe2/iZx/7PeeyUrKu+drInOGt2LPT0+Dc01gR6vTfwBW9Nvl6gqBraivc/GG/cCoHlrZjGyIPYM/dF632uGnh+Ux6KdVKgHvVkw96WFOgKxNrCjkSoXmq4nZasAfuQ3EX2/pngiUaaiesl4Hdu2FI7vxZawkGnF3Qr6U9MnO1LTMP7b9K2IfXZpP7opTOvrQHfiG9f15kD7UdR+zhVDRCKnbx33qzD1KTI7JZ5U8GdLT1uvL8E/B2U46AoAlrvOvoHnPUgzNU9wR99BRxNJL11/xZhgTyXe+W1oC37bngI08DdY+T0uiQAdG7BJGmRCELTlJG5SZ6kHzut/ttBXdLXXL+07m4rmDibUX3TwoCEtSOyXVcCHhM7Uy3J31JZ0ABfVgss1yk4UkqqUVZ8YM3CfqIn1h+/Q87BJGUVHbOQ8KST7447iwn/Lt8rOUz4uiKs8asABbAsv90j6S4oRWOY9ljCd4ek0W3e18Fcd07RNd4MSnVZe9eEDowz6jYPaSV9YrpD+WaFCuGV5nPrR+WBKSqZTGfOAGr3RbqYEH5bp9IjyakCL941+c2ObCBRx7DRhXw/1sefLjJ8ASrDXvVGexxQVR0fl0v65AVxt+qPkD7L9OdtV88VkXpRrR1fRv4D7bdlvD/sAgTKQznXngJCyjagMZP0m7t0OrNHAt/0TH4QTvpZ9fbTq2WlAG9RQOuzVGCcgarryS5CVeaWXkp2ejxdLE0aulf/AyIn9xk=";
+	private static final String OPPOSITE_SCALE = "eNrtVmlQVFcW/l43vQF2C42ggCxKaIQRMKhAi6ACQVtbWnAZYBCCxgjIEhsr2CggEUFxaaUgsogi0kITcQthcWGikaVEwDCMiBgXMiogiCLSiso829epCn9TlV+eqluvzjnf++6595771V0ulqwEQJCDTo5l5KCBMo/qnA+Wi1gqYKz8YOXQpr6uVJ7upDYwVqkNvDG1/eFr8mYb1Aaa+v8ysNSw95SvBJfKExQvjZrnI+4N5SuS3qth4UDTB2sBoZlHjRui/GCw1NM6U7gbVNyfwg1Tfgh4atwcCtdGxcUUbmQcnxOFa6fivuP4/GGuhgkBdZ0RwMe6QVDrALUuOrVOUOsGtQ8EtS8aX5NnafDU/3/mU/wx30fegnF8jyi/hsJFg/cnPk19vZR/eRyfgornUriBcXya+pRUvGAcn6Y+maa/FrA+Ox7TFVULw8NBRht2JEEr1bs+de9i0CblKZl8U/CiU7+eVe8IHM64NXFGGogh1dUq2g7gS+tZllFkV7LiJ3EkWkBsYp3qEomzsF/aYvk9iMF3zSLuXMAroLtjjwAYjT8i6CsEbz//abRvGbDPIPQb5nwSd1vhNMwBPdyhODBUFwTD5gjfVR+suNLBE8+kIPQKlGxlA+j8t7I860yg9v7bEKdqEA+KLsjuWIIQR1/MW/cDaB0H+TnVbWA2bAp51nkEE5S5CmFmFmi2XJWvkwWY+h5L4byfrN/olHtWEWg5DHvnyFR4bLbJnpWyBSh3MQnLnQJEz5gmsvQH0dlomM4TAwklkTw5GXekSeNMHAC3CfBqbgcme88tKa8F/tWr6I4g+7OFa1MjTQNK9hV2legBcWL51kJ/uKvEq7cFrQA99J/KpuOeIOSmHe4pBmD6qp7nR/eB5tw/sY/wBPeO+4/6fYOgxcTVfXa5Gaz98twyyUsQkrYnC3/bB7pL97lXAVkgIgZfD7YqYfbFr8kypQ8YU1PbU1b7gC4S5VXYngV31blRPQc70ITpwzrEOTCfJbUeyNAHfZP9rVGLXSAWH5VgiQTIvyozuUueS0xaR2zFzqSxcJftp7RugUg3NF+QHQKk/nat2CoBdEV7Z/zoThDOtwLXXmCBtVHU22slBe1GZSY7+Dh0hXc5TlaVmLzS5sLWcws8+ueZ82t+6vqkY5907G/VMeauSrbbxmoY1YkOtIQeB+N3h+AHeTNBs2Oe9Q7pBmGrKBIWBoL3OPCFfXI90HFypMKC5Fvd+9/ujCuA1T8mMDZbAuYCYeelHoC9ZDefywXxtinyoIsOoJM9TcpwAZjBAQNBYYBJ1JmQ714A2nUltzlmgF3Ur/3cOmBj/332nkjgenGwpMIX2PxtaGjMEHmPZvktPOYJ7JKHlVmQfaZsDT76xBusRW+1L5m9BN5cl2fUDYA40DYkkJ0DLh26Keg3AP2b1TMd2A4gGpilFYoheCyZf6+oIwdYl3HzoUE8cNGnyyRbQOqV8Cu3dG1gTVBhZ8EMwIa1XiqoBJ78PKepMREwfNPFFEeTdQdU6TY/BFTFUVuq8gGh99hlrjmwsDnj8+Wk7lUdvSxeOpHU59igjiI/eCQc45SZWoGmSn9ysu8smBsy+9/93AmaZE+D57fLwFssEVxlzwOjiqMvmL0Sps92WkYX3QXr7NQVOnE8cAIytu2tW5n0Wu/GmfW7AsExvPi1waF0TFVlsUfkfWCUel1aV3oUyP5PTXjbebDkRk+n5apgfjd2mtTOBQwbuV+NRyLoCQObCsskmFCqJ7JLIXVwODhXmusCZkrDyXvbjUHvmu54Je09iK7mA6PJtkljW5SzZWv7AdfiGNN55LvK1GPTiVePksaaxG6cp0IQgSMPrXMiQbv5v+FWs13QEnmyakSRYC/TsZyzge8xGNOts3yvF9lazn+jjin/oo5t/KRj43WMOrda/7jSYz35kMWWf1F6gQud869GZN5iTJ7xOHG/dzici7dtKRCLwf53emjBd4EwPi21WLT4Gbg+7UG7m8yTVD3batMfA5MeLK48RiSC7Zj7HAMr4Nr03OiHBiHYNjtLJV7vYDJzr8Gk00qwDRMK4sx6EF87f3pS41fQ9uybeJCvC0a9h25CbgRMB1/GZczzAj2ZiLzW3w/C/bZf2h5rsN7ubnnwcC2w26DQ7cpJss+fThmQkPqzXdp5IoDcD8H9U1qNZP7FotdGMvLeGPtU/u5OvouMp7PW8EmdfpGS5XaZzFufunY2m1z/1jN36IowED0Ms9uPSL3bI7KPWk/eM7NX9m6pYtBSUv3DF06BWX6q3Kc1DUwvv9GLusvB5nDe/yLrgVTLvK/vzAAsw8rvCYa3JhMH3zU5Zttj9ukpomj6DrAz1xR0m+jBdKT1YGMH+a6ZGzV23ZXsg3nTdm+2/x702UX2P0rkpO5V55+vfw1ERMQcOtwB4v2XRTMnXgWm92fl2ZL6mbgqZO9P9zXn9X9mckNC";
+	private static final String LEFT_SWITCH = "eNrtU2lQU2cUPe89soAEKVWCGolWQHFNQSVgNSi4jBA1JaIoAoIFQQWxUnCB0FK1IilixQhIAQtq41JBwWqDsUoZ3BoQtAJDDZVFYxElJeICNsRHf/i3M+1Mp2fmzpt773l3m/MtEi+RAiCMRhltstFI0BCdz+pHNjbSgeHKfpyCBf11p/OUqwlgLDUBg1+b8Jc/kLcPNwGk6f/jYJlofbSvhBWdJ+i6JN3nDe8F7R+R9ZlokcCNfmhADPQx8fS0vwosU1s3mneTjvvRvG7aD8ZgE28azaul42Ka9+yteq407zYdX/xWPT/wTTQPwDRnFPBmbhD0HqD3oug9B+7debh9/6TJ02H3KkAdfWwWLKcsc7hHCsB8yrtXLdOBanpyqnm2EBilm1TDyQeW+PvJdHpQJdHnAueUAfs3d1unXwOhaiuKLMwFVu66JErIBPlql+BC3WBZn8RTnWmRAjL8aVNwDBfMvKj6TtdSULETrrbMkIIzZJjieu84sOJ2/6Saa4mRJ/yTvNJVQJdFxpEP5CCCD3Qpc4xzpB7e/fHeDMDbx7JgQTdgLz5eevI+4NBzSl2xCliYUFOv9QRV3vFA0zAEKNdJyoskIGQZ3t2rt4Mv0RS2JO0EGcb1drHpApMV6fXFMy+j8tI8LnuMhxXjxqOgBjeQIuvebcZyzOfyaPVOA4hDZvVBCfUgc3pq64LekfU5JnkIXcaCvCrIHbq+EMzIu+H6iS7gBKzfsDl3Isy2neXWVJZg+OvzZTk7KkUPf/QIOQ3b/3X+L+v8SbKgQPTzeLClK5e2lfSCQfn5yrvjZL1BKe3bl1aAeL99xLU1BaDMpj2YN/1bEFSLfNnFIrDCasZW2e0DeYX/e+otZxAK4cini+fC6lCv24nRcaCKom3uW6eA2dNQuudMM4iMdQYncSzI3RE+Q9N44BPSxtiXVYDKd/UlM3cQmZS2pJYPKNZZB/LcQSl7ps756gbgstyz1WUGYLjGu5xk1H9jl92EOzwg2CnvwJehxveSoHUsDgFxK8smZkgi+Ol5Nk/SPwP1oXn1tK/DwXBOs19T0QrL4u9OH7L5BaxNAf6yyhxZr4Y8n3DFBQw1i/G4IBWcWRGbZpblg9A7Zc1XaEGt8MnXeJ4wvqeu2jHcNuP9O8M+f9EOzA4IHR8dA3BG32l9LAd2OhdZZleDiH/16Hn8fjCWCCL3LhgJ22NSy8D4YFG71ilmYYDvP6xz5d/U+dr/nM6bV39ad5DtDmaCUGcY5wZuYuEnt0+/B1a5d3dYcrbMsPxg7l3pRbCdzRuPLurCCKHAq4HjDDaPtzU5VAXhWHtpxAo/DBr9Ot0Q1gS7PRHV+jUSmOm28PPEHbB6FF8s0AZjG9zyBzUWgJwT7SPPmgKi8OxNsUoI5sNi16ipRv106H617WoCtS/qKLu6xaj/OoVF2g4QGiWDrJoF8EObUucZ9c7cJ+i0dwTRFlLF3nES8ErWGVodgdaZ6fP/uAeq3aJUmbQVRES8clFEIlj++sbYgw4gHQMVsXdTIItDTfj3WrCcfnuZJK4AZ9iZH+w6FDDTuHKP7yVgx7205czaczAvWzFmI18C9/Wj+poctsL8gkqk9o2DrfzY5ZdeErCyitWJIZkyw9TyVBt9JYZVXM/P2BAGtn9mZXbzR6C+icysejdj4M5/AqH+eVs=";
+	private static final String RIGHT_SWITCH = "eNrtVHtMU3cU/u690EJbHlVU0EEXQAEDiigwRURnQBAKgyoYnPiY1vKY7wxrJtWhjMgkWkihjIcSRYGJOjbDLCuKHWLlMSoCwgaIoqIoKD6AMdilXvaH/y6ZybIvObk553z39zvn5Du/YOEnqwAQtFG0zaGNBAOfn5TjyMIOJjC9aBwl4DDfhUyemq8HDFfrAbMxPf72J/I2Yj1A6v8vBltPG2X8IpgyeYI5l2TuecsbZvwC2aieFg3UjKMexMQ9et4A468DW3+tJ8OrZeIihveK8dfDTM9zZ3i3mLiQ4b1557z5DO82Ew955zwRBHraIkBfZwzwtm4QTB9g+qKYPifm3V8/SZZesBTG7XaVrs1jMOizzfBpuSz7c2ek6rrkGxB2Ql7hgQBQ7nOrz6n/APFA/ki0jA82a09H8o4vQDxdXxtZXQzKTzO9OiQWpvecLLYpz4CQTx384OJMkN+nxMxbHgv2VknB123hIG683HvUbRiUJLv3di0XhOF1lv3+RggO75H/clAAPGzc/JrdBSzN0/klJILoEhhFv4ylS/2Y6zQrh+4n6HRVXA6wm+/gkknPWd04KE1QwOZKSFLWtFZQA/xTIYrJYL94bD7gdQNkRWi4yTojmHSyStae3g5WRwF5XukA0trROoadCSKqc7N2NVc2mpwX3yO6C2pZQIubswIIk9clbKgEPrdp75jCBWaTLz+9nwRqxIKzwI0EVTLX6o5TGQgB+WSLuh0s/tkVupxS8CbP3uffagfLgDhx+iq+z7PBGqqBU/6/zt+3zhev7PPbFgn2A4OFNedOgdvGM46ZIwTpVCWIUA2D4HQpwiNEgO8mldgrCljDVwXVp4Horq62WnMVuKC5mKtyAoKi1I+WzQbiCjlnBppAbFDqLheTsrGC0O2LT6tB5mX9LNloDJa3JvyNsQXI49d5B+Jvwuze6ykjA/4gsy/FSxUWtF4q9qWGBdJzT6T6d2VDMKPuS6kDCyiNvXK/lO6/nhR0Z9gCdrzg7Cv3AJnjC45hLrBJK/H9fQiE9pC6yasIkHotqD8bTNfnUCvukUNADquveYeCTHafNU9M71eRmdpqoAcsv1tcFYxA1jk+/Mj5LEzjen5U9heCSgmf0nuC3oPAayLV3jSwbWu4NRt/pV9nvqqy7jkok/YGEyTJRjUXzOs+pPcr3smwdWYyuEtP9k0e19mzclNfl5k+/dN0fmHmT/5lnRf9Q51L/ms6r/gt9cjqOn9XLNmTX8XxOQ8ji4ALJrE/wEpaNuTtXQIz0cr4JVcjZEMN29eGdFSBm/bV3czMW5gR+liUmigD18KlVteSCK/GxaIi1wgY2333nBAQsNlfrxXrLsNgxGWX5jgLJrkt1zQjYTDYesmxobgTCZ/FVjinzQG1pVJuL7UGsV74apYXrdtkV6FPuxKIFh01MtSB3fDg8JNJdHxSx+GMLRrAeq5Wvfsg2M0nx7SafCB0b3qQxAo48K0ysOw5iBWBJR1JZ0B5eNxcWHMQCXmlpp69b2AgtW3qjtoMXp+QX3jIH4bl+WVxQU8hKB/2PJ9rCW5UV3T3Cl+wHPs8U93c4dEWkczLIMDqO6FYlyLC1AjlTvPqebJBe/HyO2Hp4Oi6go4Vl8Hy5hGBwqYTRpJjvce14Vjk3CwfigTYWVVLWCdyJ+b8F0w8cA4=";
+	private static final String CROSS_LINE = "eNrz8w0IYWBgYARiZiAWBmImBiiw3zkTBGYxFEAFpFaBwDoGLihtCZVnNgYDBtZQMGDg/w8GcD5MXi4NDBiYwPpXMbCDlf2D8/mg8oxQc5mg9kDU/YK5y4Ht16bZZnd+MHD6XPn9ZK8ag+xTG9bP2VEMjK/vHPoYl8XAbukg92qVGwND8Utf75cBDIx3Rc145hswMCRVXTjAMoGBQZpxh2hcBph+ev0dSPzyi08bQOqMHtzVAelzmayzBWSOYHPdCpC5R997fQDZY2u4IxZk7/EwywCQO2be3bx4NNyGd7gNNgAAvZ4xxA==";
+	private static final String BUMP_COUNTER = "eNrz8w0IYWBgYARiZiDmBmImBiiw3zkTBGYxFEAFpFaBwDoGLihtCZVnNgYDBtZQMGDg/w8GcD5UHm4e9cGou7G4m4FGAAAwamLN";
+	private static final String MAX = "eNrdk/svlQEcxp/3PTf3VzWOgymkJLmki3XwnpAKhUITc+siMyotkunV5ZRGLlPLkJbkKLE6YqpFknVxJO1UThii4bSTJHWyduq01Z/gl57t88P3p2f7PPtu3RIcCoDQwtIi0ELSF8/J7Lq+v4HDz2m9vOPmSFStyA9bPwLXx8VXwyvOgu/lxzwPsoSRS/TQ9JIRRp3kreK5eYAKl8uzouNgLs00ljQAvBvbFtUfPAzDRRIfuc8OsAX2T5pIb3idmc84mlmDMygbuhDcDULFd/KAA8gN/S1WvUIYTb58MOxZAdb5Ay0lkioQTtUZT/JE4K3durTNOhDEldIf8YXDQJ1AGcXvBJx8r+uElYGlHlYsDUjE39ADB2nn9Yc74fLnIh8yKk3etdfNL6FvUtKkuKmB2dOjAUEFo9AX97sPyGTg5vom7BbxQdd11hy4xQfHu1I11XgGrAaFa8+XWlBxt6ln7jXQlxpsHq26B+7GNstkzwKwhFE+9nIdcD75fC57nwLSOCeC2m8KIjL9x+L2j/DYFXwqycAI+l3jXi++vgWnvHeM6TOFxXJJS/ovNjMTlyesfFUEizG/mgWME2ys8u2UJ0zojty9oo4YvznfRfhYZ2Kw2BYsmW2kgK8Ct3nq0GzMZRjm1J6OPVKuVRdi1ioWg+vQpJnK6AORcXWPXut5kL3VoZmj2cBg8UQh+yQWSuvtJtR7gFXqfarxdmBGVBHEiwAsU01Hu6VzvgvH3iJhdo0G3KESqef96yA/1KXvdPPX6nNxPfVhHqhldHKAZxXYDqk/la9HQBtJ5ld9vQW9gNjA2z254CaMU0HMJAR+jmmsNT3MdF/9OBmugOXppgiN7nbYKJdsujZtS3eIqwtK+1P+t3+Zq4iEaZWPkuTxyNKNVkT20DAQUR25EgoWort32i8Eg+2fox5KNAFr0rmoQVAEQtm4uiGcA0K28m32Ox7gb51tJs4B3KOOTZDrAGqw6PuYVhjR+01n9pK2wviIaci8f32/AX1fsVA=";
+	private static final String CUBE = "eNrtV3k0levbvt79bnamvZMh40aKTCXVkYg0IWkgs4qTNEmi0Vg5msjYgCYZGo2RZCiUktIpSTppUFSihAyp+J6t9/T99/37/db6tdfaa6/7fZ/nvq97vvZCm8VLAVDkS5NvLPmywHzMDgU0WWRJB0KfeSBakZOhI3oDCsyvxJvtLwwPNoGjVuWntFcdoXZ1PTMW2UMo1tNZdu5R0L6NhhI3NoEbn9Y6fWE8hHK9XWUrc8GKSdMSnXUKfMU9TYU+0qAsbaXD1azAaijQi/izARyr2s0nNC1BFfoIToBVdUk3YkwVeK71PaUbnUAJzKlVgRaYf7MdwncueR/TqALl5CAT7uEEuqrLJFq9CqaFS9rC+UVA6hPRGb5poJp38C1i2wGCviInDbTn0z9s4oNAlWxUvNWZBjQbcWfHtIOT2Rbw4go5L3Aj1g0QuOHbDHrYjQxQw254AgI3YkrAGxJ8mhn5f9//PN/I3P9Xn/cv/T/tff9l/yce71/4fuJthIrb+J6K6D8BgTuFDsCwe13AsLvLQQncv3MJGA5HPTAcHj/QgnC5ZgHD4asFhsO5FZQgvFZEHg73NUAQfktbcIb96P0l/3yfxZzvYu47MPouMfpf/LL3r/1feIbx+TB4a8HLkiYVVcD4Ycs8H2TO2TL3Chg9tYxeH8bOJcZuPYPDj8H1gsF5icHtwPjRxchZzHtb5nwvc9+W0XeN0f+vva2/7P/Ek8Xg82Pw1ocODftxBRCkxW0iIEhT8w5AZ7hDAEEaPZ8CgrSWbAMEaW7WAiVIe+YzQFAGnmsBQVk0mgGCMklrBQRl4+0KCMooTQv0sB99jOzMvNdhzn9l7k9k9Dkz+tsYe0aMfUcGTyuDz5jBuxYcQVukvmT80GKeBzLntJh7Txg9Oxi9Ooydp4zdjQwOIwZXG4PTmcFtyPjRysiuzHst5vwQc1+L0efK6G/9NYcexFvsnxn1FCK5U7zTvfrBEZu/skN8HkwLaNEWsz5Q9Cku77Yq6DtfxDT9B4D88PXLU6eC+uuSdE7QY5Jn/2nSHwrA2e9hpxF8DsgKHaEpMQ2U+eA2w3Qy+aZZd4Q/SgKlLbd5/EAkeOs451R5c8Hq2lLyzdEDVLrXCOuztyD82jbxxwV3sN5/5VsulQI/e56SU8w90O333ua9LIKwemqmjlMg6A9jcLmhF9wH76bxox0hdKDkvPL4TNDl4vL9jy6EDvaPiboVHwNWRsbVmoeBEGqNNfXV/gKe2EHjZfWeYH07LNUSshtC6/UPiK/RAH9Pl3FbZR0ojl6j8wZT4LX85JbgBtBL9e+NHlkC+Ot/PMYh+FPV5nXfiQOVpFNgokTqOMvpJPuMNmhTk7hZSaNA1ezyDmlph0pnwYdTUnag8jePZe0+BHzL39vvfhhwX3JzpwnpI72FP/rujgVOBu9YIt4F6tnLV7LZpA6bC53bIoKhEhvZvVvvJPBZZPORQTLvDk1amVFO+umvB/mm5smgr7RknDBwB47JlI2w+QBsXzdm0rOFoM6YPmv90AB02qk6xpE8WTXaxq3+BM69e90xD/lAcOK+VM/XwCNWkoUkmbua7NmmmXUEV/I4WozsqXHHqpdXSgPShV9MXp8B9TnxwFXdz4Bs40BpBcHDST60VZ30sWlpSVT5W7LWPNMdM8j2MnaWyfYg80DEOeOMLpFl/elnm/aB6omTLazMIXXJMplmu5zU+YNvKy9UE7vL+vJeyBL/qLPZ+iTe86WF+zeNBadi/tq680Svf2Rkv28ycFqo8/ViMld+HCqXk3wPDD7S/0TySGcfPRve5wNq7vdWje0VUNF9KBxjOgvUIE4bR3AhVLTMgH+TzPtlT/2diuUhsVDK9aj/RrClmq8vfesUOlBhuOnT8fkYsVzRwDv3B1QuiVTzys9AbOFD8aI3e0GdMvj2j38xuIfDPh2q0wDL8vqEuGuZYEs03C25Gwz+NXv5yTvGgQru6s3PbwBfIyNzwdXrYO9fEU1rhIK7wknWgFsMoQB7BdvzapjWEHpkjL0SxDdmXS7VsADCqlcfmWoBOkOat3HeZIgo02U6t/xgUpeiu6TpAtjsu49dnCLAmzT5UmLQHAhtzon8zj4L+saD9C+r90Dl2KrbL21tQFW3RM9+Xw/6T4VgVrMkULvMUnXMaFB+mWrWOYngXM+p0BgsB4qDKxp2WgJbpTZPKEsA9WhH7uuTJC+WNz/QH0lcbwaIz/l4i+TnRpjlrXzQdQ/bBlpJvlUn9j9OvAxsSIxfYHQTGJW2XW4u2Q/cg44j4tcDMjaXRQ1JH4Tmp1p+2g668VpecPNHUqeTGr/O4IFSlAqy0voE4WpJNcckGspDj8ZprkmDmMjEJ27hE8yaF+35HuW19Dcv+s2LfvOi37zoP44X/V3yut7riT7kpPZrf57wA+KztVdclLsMof6P6em0Hih20I50V3nAzSDmPvnBOpW7Bp2kbqOlljw1zAZKDHWLru4Crb4vpVSO8Au2ipdOWAuEB6RNGlRmgh4UKilBKbhyfusmBp4Bi32nYEBjAzgdPXEfzWTAUkxwibqSAOW/kpQCl6qBM35eY0xKH1jfv8bv/OcT2AYlrd/yZSHXwfEyMbYAry5PiFs0BKPJa57eTjwLoXfsGa/MnCB6p1VUSloRKtfdtPkWwmRPdXdMWT0aEk3Gy24dvRr67c4o9VMHnMFaP3OV8+7n4ASF2zc9/wg66M2JZhVzcFcXBeknkLlYM6lx8oIm0LwbX7vWHwTW19n4uxwE3bvySfm8d+CqRJpPLx0LVmGHf1imGdisiCLfd/WhP1YWfL56uh0i6v3JWX8fgFBKlHnNI28otFWobmdHgOqrsWZN14J8dVWDT/FyiPrN1Mi1Gh/aP7W+tnJvAejT4aIT54qDneGXorm0Hdy3PnluZmcgtEc30O69EFhSqdOiH54E3+HVYHeiL9BQUKf/0h6Uc9KktDY90G1aFrk3NYB9f9hVJBwlvCZ2a4Iqyf/p8d6iFytJ/421fV3TCc6NqefKnLeQvSgiHtzUA/TFWwVW3Ae0f6QFaakDK7g6J1tI3SsZOVEBJB6toZlp5xIBA+1ZClxzsh/blU7J5QJimX2xsmTO7vBoiK6IAiTs1IwXkP3Jabr4MimM8KaSayInu4kstH+qpzXAC1fYcHoEOZ9PFb9TIOdV5PvzSX9MEJPszFlE9OZmB4/0J3zq2Eafy3mA8sXv8ufIfNcxaFO/TPzdIk0neBG+N05r12MnMlflezRjwqqAf3L6J6QTfigzpPdlCuFZvvt+dJv9TeZQ2MuRbXGEB7rtkpHPBzbfjnOorASVPBBwXFgT2HNdTevKDNJ/mSlukbqAepeB4k7S97HtKYZl6aCyP9ftOkz6MtXX3XSKLjgF9lfOrrxH+PDiGROPrgZ14UJHvHoPaOWxilU9oaTuMzOVtsuD78Hvlrt6G6yg0R3dyxQhPOlu0g3JP8ByOx68Ko4G750UR6msG6yaLeb67XNA7VyfVXG6AhybiPZtkXrk+Tc5beMjoEQDSpPZ+4EWlft6SYdCBwdGXj0wSPppcV9YLZJBBWnWytv/CY6M7dmM43eBCpdMB0nCl+bsdQnq6QQdb7x1hnYKsCvV6r0kmY+l2i7dqmRebfDIb9xL4jmo6XRSm+TPPK5ZI68cvJqC/c+fkng5cMuP8AmfGn83ymoTqZvB5WqBGi6EJ7V+5nmJAqtaF+/a0gOq/v2RtxPKyH3VZ6WRZK++8jC14twEfbL7dqHVMVDbfC0P3rOB8Ipe90cdhlBel544sDsAYh2VYUt9RcyavdcHDKpL/z/zIsvfvOj/5EUrf/Oi37zov5EXXb+TsG/dzsAhsKJ6bzcWO0N4uu57I4uXUF6bFSk5Rx4sCVeR2zvNwaHkXsf+FQCJ2guz27Y1QehemcXctZNgYjcy/+Z6RwiNPX/dr7MS9Ez77dU67hC/WnyIb6YKxZ0Xo2ceVwR9QtnnTfs9sDPDw3Y8fwOxVvvBFL/o0O/TrafyrvSCXuAo3DRqBNiFqjuL3upCPDZ1bPy2mVAs/uRn1roJdF7pPLVZ5H/7ufMT7c8XQaw9JMSYzYXJRG3ts561oF0jnh9+/APsSqHnKzbdh7izlsz4MSlQ9Fu1zPPwD9DjahSTqzdAaOGr4qFbPRCv4GobVwyAfV9WeZWcMkKlt1XW32wA60OAnSZFeM1JL0uZrW3guqZHdn51AytbdbXhjJ3g3Pcxrch3J3KvhXrIMqgY2HjnXzgH6kl3u4jDNtArDDxexZ0F3urIL8rWBxU59GbXfZK/xKHMy3kfwfmw1C5ueilwxn3LgUMhwKyna5IvEt50z9h3xfI1gJr8NbcbZB+FakieOP8K0DV2cw8h/8NHT7Es33gC6NVSMHAke2TUESvFy3yyOKZzTPjJZKOIJ915Y0j+zy9SrDMne17htN0Og04Q4lasy3YHxGcGtxXPJyuo0mVVDyG4nLkN7NJIIk/uSM0l9kKidVL3kb7Fd/aRsWQr0Qfnrdr1kMjNLvNWfCK/dXtC+WTe0ENnxsaSuqdUQ4esCS8O/ac+4guP6JnQpjX6CyA8oaBMmfAXehP7iRepd/Evo8uWSQGKshOXvn4HCLloBsxRBUZsKEmbSPww8rTOe0jqVtR5MLSI8CdZ78nmswkfHfR3Togn96RsB4eWEB5jqqaxuJHwkrW5d6MnER6n+bBFxJvMzzfe2VZV44EpQTPbZD3I3i8/MPpcBjA0Q17Hh8xTK0c1jUck7rmLt9jvJn5HjXqmGsEHZf1c6tr8ctB3gq+VSiuB8uD53588E/ibK3t3QSX4C5Y/GOHvBdb+kRGWxZUQNsrjLdnzN+gEyvV9chW4o43euJ2YD9Yel031s91AZW3L2dUaAY6/vupeMgYpXa+Ooy3HQSvoiMTkPgKlJRE+f+NxhNzot7MZvxb0Ubdjs6R3g1KvnmVjTubFFpmaGgllsmfTu5NlRoGu7Br3NXg2EF28t2FPNqir+933dpP4nHeoCHxRDF5frOR03ikyZ61D6qwJL3SxqI0NUgBV92q9r5cMMEmpcP5jkkfvVTp2LwkvHPfys50DDbxbvS4u5DKgty6q+tlVIMhN764amZujMgxys/8AZkg+ru4aBUgbHF/Dsid89tmM+1JKoPszQnrm5BC5t1PERZjUV5HXqlQyfznH7A6K+pM8j2zx/vSc5P/OYY8Akj+6KvOzNeHJZgnfb04h/UBxVcvMWkgdhbqnKBr9O3/+B35kQe4=";
+	private static final String NULL = "eNrtV3s0lenbvt79bns7S6FCzgmpFI1MYZJCopBTdBKTwk6lksppchhSKB2IUnSSahQp1CRE1AiJlJIz5dCEiuF7tt7p++/79/ut9Wuvtddez/vez3287vu+trXVqtUAKPKlyTeOfFlgPsbHAprMrkntgw7zQLjwxtWZwg8hy/yKNfs36sc0gatcukM+QhVBdjUDhivtIRDn7iyz9ARo31f6Yg+3Q/xoWufP1kch8Ie3i0zxH2DFpmkKm5yBglx4Uy5PCpS5rVSYsgVYdTmzot3qwLWo8kueYQ4ql8eXAKs0SztapRQSLrUDBducQPHNKZeC5ptv9genLMs7Sb0UlJODdNhGJ9ClHxcdUS2FUa5Nd5jCXeD8C2FD3zRQLXsVzOLeA8T7whtpoN3rf7I6uh9U/ja5kv40oMVAfEnse3AzuwMabxN5fhhxrgA/DN8W0ONhXAU1HoY7wA8jNh8SY/xPC3P+3/ff5F8x9//V5/1d/zd7I9/tf/PH+7t/3/x9BUVXjYHCI24AP5xcB2A8vI/AeLjrQPHDL8sCxtNRC4ynZwdofrpcrgHj6asCxtO5GxQ/vRbkPJ7uewA//ea24I7HMfj9/O39NUb+I3PfgdGXxehv/G7vX/vf/Rn3j8f4WwWJa1IEUTlMHLbM81FGzpa5l8PoqWL08hg7WYzdWsaPHYxfjYyfWYzfDkwcH5nzNea9LSM/yNy3ZfTdY/T/a2/3d/vf/LnG+LeD8bc2aGw8jtsAvyyucwB+mVr2AjPHOwTgl9G9HuCXNX8PwC9ziyYoftkzGwA+DNy3AHxYvDIG+DBJ6wT4sPF2AfgwStMEPR7HEHN2Zt7PZOS/MPfnMPqcGf3djD0Dxr4j408n499Cxt8t4PLb4vwbJg5N5vk+Rk6TufeC0bOX0TuTsVPP2N3G+GHA+NXN+OnM+K3PxNHJnF2Y95qM/BhzX5PR58Lo7/w+h96MRI5ctrKDfvFaaIysA7sxpuRYQhNov5o6kUmhUJymbr7inTWoQ/PrxMzEgeV1To3zkwBDw4TIcwNAW1+Rx7NKoumz9Nbpz0n9F/Aqt5PnUwpWnnhK+nD2PA963gzQbw0kyncuBVSyVbXNSFxbXvQs4h0D6hQ8F508ASwUXt2XbwpYupX1m2SAutd1WcvmPtBV6O0yXAHunV63M2Zkfh7uEAmaXQLqTlLSmkoFMlb7hf4sdANdonJRWN4PlM7otr3zydyYXVFbvkEP1N/GYlEnDoGVU2Ydln0f3NCaIf13OWC92Kv8y/BBUL93vtApTQoao5S/ZjrdB8VNDdbV+gxWxjs9O9ZdcJ9Oea+VdwCsyzaHzgqbknnq9bUgKQASST7Hqo8S+d1GqQuOyoBu/eBFPaJBbbBhGci7g8u6tPrwzQjgxSqO1r3loNw6jw2bSQPeMTLrbysDcwLzVS7JgpostO7wz5+BN2xavjMS3G2FefVJpM8/fknqKdEFPl2SKnW8DDh+Mr0kFgq66VyXRoMsWSU1syxeknk2UUqnfpDUd+FpszCFAkA02ET2mB95f6FhxxCpi6KvWrj6ZEDebvGMslCAs8R02lAbkZs1R5gnCIjVnSrdRvpEwDHhZAm5L73dztZYhfQrb19qdw8wyeZwicJ8gq9t3N3H1YARz0mr2BcAo/VWIYFPgM3xK7/oXwL15reNB6v+IPVLzZv5kvRz9e4cuXRSvwCxWgPpakjclkxZlCAEBJvWr5mnCOrCzfrHKRtAOxuGcTfsBJ43f041pEDJu4rvU5kCTmHR8oYUP9AFm3PLekKCRtXzntbeDgT7C1tvOHUEont6k1dnSYP1Unzye89d4PiPZefPngyO3seTx4xPQtBxpHVqoWjQl8y1xnLmDyFkJGtc0LgbCjFqH5ZO3gl2YNymNzsfQ2Lpa43kxyaQuNBhU6tuDXp4IFgnOhEC0zfcVfXrgmy55HD+ZhmI+8UPpQjpQSC6U13io03Q58h/9vQ4S0Aorkday3srZJ+OTYj6ZA+uVKW7c3kM5K+sWz3k1QLWoZOugTPegrPMvmk4cx3oottLAq/EQKLj7uo3ujpgGXrVlsgvBudKr0yngSCo8EfeU5ftAqsr3PTm9WVBY2JZvOClUsDGxzUGxQQPeXKJjafJvH0QFCqoSebckie/qhqTvtffG9YyheDkWYrqPzILgAOecp/fbgCUOm9d/jAV9GcXnp0AqZfUw7nlY48AHUtOqw3ZqxNSTZbeFgX8JqW3Xp8FyEatuV5EcCv07tnXYA+APW1BveZXQmFevfcYJv0vYqJ0q4LgZJKarnTeDeLXwbF4LYL/B+JrtTqcgOPCk8q8SV89jxjYsGBt0GjlqcEbSzTBlY28LOrqCKGe5Ert/GvGfaHLVeXs3v/gRT940Q9e9IMX/efxolq7GyM2NtAvanirPqwOdq6ki+qtQdAn5g6bnOBB0ev03xyJjUBv1IvXNkS/46PQQ0dqQHVuaWsxJXiSWTgn1J/gRKH3vOUmkn9uh+Q8ZVLfvhDbmgMED9MamnKXVBMeUHPx5TTCf9wrbpwxJftTTUdYesUp4B0s1R3iCW5vsGV5IcSjtBLjdA4UA3TX6EQTvJ89LeCeSPZ8bVbr1cds0MY6IZ9iI0EpHn0x6qMPruTv8xsLPoJVcccn0S4ElNeui07H30BcKWCywzM5sII02FGlruCMPmsd3BcKw2exnjmjoxBYHLmk9sJ1iJWccdoqEQV2YbIV5/coUNfNhkIHSF5dlZx09u8E62TH7s3+FISq3BpDEqrAXixcpRsmBOP28O5zeQTXJy1U213ryF5R+pKjRPgar/104p1iwFpxelOKA4yXnqodOJwAY69sKfn4csBsikt2jDHoe3EZvlqnIRheJMdrmQDZv/x43hZW4GqcUMm83AxR4+178oNmgj2vsuhdtlPQqOpS3tGrbmC9Kq83jHYDtfnBTzaKWuBqrqCk4xxBafhol0oIgt4Zt96rjvwP/9KleMB+LaicvuO7rO1JP6poXxkJhURvjuLpBoL7m1cbS/KHgfWZD11SjMietXkYSngBnHUlm4RfA7rtBbdrCH5rLeULHv0CeNh7vVtMeI1yhtrk0DzQbQmrvezIXNaIbTox7Ev419x7htPMga2sv9KNSZ/PDg82HST1bu760PyQ7Ffbtt430SME51VGsukVoOq0fbKrCT8M3JB85lAQ8HeUzKpGwqddREVCXh8Hd0tWtd2yMiKXOqfZxRP07OeyHjOPEr44Zj8opA1FsSG9E91DoNptnzlEVYDO+6UjO1AFnPOWyy48lgXrxk1ntQAtSHiJCHZZrgJb7uiM2JRDMFz02+TqK6lgjeSlN83ZT3hClUCbSQDog1WVx/7wBpWhI1xkHg/DfvamqD0rwe2d2h1OVUHsvaprXcgUsII9suZeEAVn461ejZtKYIlvWWHklAgFPd9ZSpEqoN/v0sxo44EjUpUrUswCa/v9vW4KiyGhRr9OkSP4EknrkrpKkX6ySU1+/zvBWV5eh34zqMNGBRbzyByMUd8tGmhF6nBxk/+bWnCH/top986S4Ks8YPZsCcIfj5070r+E1EHPga78h/DSuMbNiYTnap11fKcfDaq1uOqn42QvTuaeyuURed3Vr4yC5pLzeYk+H23Cg09d02WRuRh0/+DWL54gBD/zyiiZ74qK4c4JrYQPJbf2dpI6LvQNn+GbCQjKnjoOYke2PCnlDeHj/as07ocRe3I+vNbPpH7O+dGmxfNBF39SOTDdgtRzMKTh0h1Q+kcu+pvfDxpd2Gjp+OAsuH3zpQ0jlCE0lt2+npI37otoMLyQ2P7/zIvMf/Ci/5MXbfrBi37wov9GXnQ/vcj6pcQo2bcV50U/i1pBomSv3+mFIqDdhvsK4yPBvhua8WStHaaJ2wc+emwBTr95f3npLYhyEnxLVN3AZu8RS3FQwoG/LVMWdCWA9UDrrnd7MdgB9UFlypEQnZYxg+MeD7kDnKKIJRdASyX6KwhNhMinmD3OaS/B9s7xuPKCh0XXG7VzPBRBr9wSEZPuC/aspSKzrj2EqOIdab/MMcjNK0u/u+82aOmpHqaFKWBbhjvcuqwKkf6WtDsONkEjKWeP+yaS+899nf040RDI3NnuYzcFoq4rdFQWfIVsLh3k9ziH+Bdm5B/cArbJQGu3tDZEQ1jBUVdkwN4UK7tJ8iqMF7gIl/9kCYE9gp8ufqgBPT12OgouQ+xlcXD4YimwXeLOlqusg6JWo6C5XweZ6AHrbu2PAsc8Z2Xdrz+DJbs2Y0zZHmLnkt9am0eCo6mkNGAfSeb1rjT9Gh6CTqwrrFYivM7iZF1t22vQ29tW+PSfB1Xk8eBLbDNQkGgp1J8EbvyXkv1zY8j+bHje+zPhJSvnDQit8idyE86av54GmGyTyakg+2TkXFAKn79oGPUcPK5IeKdrRGvvPIKzdRO6GynQg1wnqeBkQFL9Q/VlaUDv8MF7lAkguvBvy5U+ZL/1fzVaZUYWUN70a7xfgf0d5ZkRZ8iqmiq87XUPgYjFgewtZcCBzCcTvQmvYU80W5HJ36dOX7PPkPkyNVwQr9eQ8yfD3COTiX7jX7ryCY+dVCFbafAW9JDt3n/aowkPXiYf17qezIfpd3UHlwHzG1/VPya8qWdEyGxbBWB+/MqfarGgXqrerG4tJXPM86SnIdmO7Tc7Gyf5gfub+oFjvYRXDjVviJHsAOUz8XX+7njQNYGpTyI+gXrbYGT2sA6BdMvYjLZ9YN82MMhNvkPwI9j7uLQNnLDoFw5h4ZB8ah/sLmMVPOOSq2BolTHmiBr0rrFiQ7EyQ3DzuVAI7oyQsj5rg/2LdSsTL1iCe/rgvb+Gz4LVXrJLxfIpxPVrH4RTnWA9yTsQaDcGbtngHYOLyqCmzl/2rEkc9J8+gw06v4By/DAlo8ofOLQv6uuCCSR/I56vSgSh+Ix35Sff82QeZssV55M5qbRx1+A/JH89a9We2W8FDOmpVM45QNr9Dz0LwkN2dIdPTCfzQebOzYZRsm+Nzq3bXqMHiNxrkYwOI/lvW37R909yVu9QSic8crTPjLufPGff0Kl2JngQTTikEXgdELDmVfiQvapwim3TSupD+1vEN5K5zGnXX6PeR+q9IstzgNiXWCrC20R4MdXcblWfTeSeywSrEV5L7V6ucI/Mb/JHYKMNwRu3MzWyS5Sc3x910CP8izp/ZiufPyOwm6VN9hgG74dtIPsGs8tzBjjk17Nmo95T8ityVXrE/N/58z+4hFDW";
+	private static final String BACKUP = "eNrtVX9MlHUY/7z3CkfED7UDzaMjwAzsrHD8MBB1VAqmpAeeEOiS2GqN8GB08UOjzWEIOA4hYUvU6W0thwwOdxEDSkx3NF3G2EmObuPuJgG3lhRG9sPe7/N+Of/r39q67/bus+d9n+/zfJ7n+/m+T9bOXTkABOkRpeeA9CjA1+bWqsltXapqPM9fBA53dz4TeAWrOAa7KhzJxyehjLKVRXwYg5rssfm0V/fAr7koL/zlNoiGieTgK6UIaTFPp2S1wK+nOD/8ag8UJnNcYPoZaNRHJ/tKVBAydKraqEwoxq3rGgrHocwcLe94OgNCXwnzgMJm0TZE2xCab58fPJgLgaWLskFk6V0V8B+xFH+8xgYhVx9WeyAXom1uY1OMDZv6ds/WavqB87cC0wxmCO5KzbZmDyCxH+42Qyz6LmlnyyEIAwfV1+6aAfcLIS+aPFBenK1yfCb5szKaCwBWhsENkcrohEBlFAGsDNMAQh+w5eb2w++y/wTfvxiv2BtfzveHN7/Mp9jLT+Y7gciC2PnhpkKAldOnB6i8OYDK3Q+BlT9iAagddoDaUwaRtSu/C6D2jQLUTiME1t5MyaZ2DwGs/Rk6KKmOe15b/t7F/ef4fj2PZ+HxHd58i/m9fIhfCec7itAulaQoK69Dx9//xf10fJ+VxxnlcUt4HgvPa+c8yjgvB+dp4bz1vI45bnfx7zruf4/v1/F4Qzz+Yj7jw/z8HjyoVr1d/t7pmoWTM+8u//RnPHr4F5f9+9chfgHTiSATIqvyVqbEqYGPpo7c9kg6SPtSHV+mheD8ZMDZ2w5o2wYud94BgqE2JxiAqpTp9KY6IOiwIbHCX7pyig037nZL1/DJo0ud9VJK91hqrcRf6d5XurJRssuvb02U+oQ1Vod9l4Q/LQRFOCUMadhbGiBh5P031eESKtWr1kezO2zvLYiVMHRDapuV1XBp7zkju+c3z32wg9nZKzadZDj9Q/yPDJed7XmWYUBUA9lLZtrpPyCefkxLPaj7Kp2hULOaUDxWuZGa85J2C+H0iW7CtQk2QlXOHULlIw7CoGXDhP6p1wnFoVhCwZojd/lCAUHN1xOyHaOS0eiRcQnHSv7+ibdk/5Htst0xLsfz3CdUvKMn9IsrIgy+XC9vO+XkPzd5v/umhnBLUh3RmptNoTDrt54lN8NFqkM0GvqJRUf/KepT/G/7GS7fUx/BcKansI/6uvs5Vq9w6xUX9adx7Klr7BwCfnczXorbvc1MV8rHX1OZ6dyufvs+O8fjN45E0Lm6Pg9i59w73dpO574jCaSDzmMa0sWv0Q6mk/rohNVMN8lR2kukoz9bM5iuptYZ1zKdhR36pojpbjBRo2I6HNw+dYHpMszTvsB02rh5hYp0Oxm7j3RcnZVHum5bKus8VMzmum/2zQXfXPDNBd9c8M0F31z4D82FDN9c+Me58IZvLvw7c8G3fOv/vP4G65MPXg==";
+	private static final String LEFT_PYRAMID = "eNrtWXk4Vvnb/5znPDwlPGNL1hZ7lDJtaoQ2TKgQWshIKltqUkJMSo2kLDPRXiilMkho0SKEBmUkZuxRhDT9sjQp7/3oTO9/77/ve11vz3Wd61zfc77f+/7c++dcj63NcgcADF0sXbF08cD9TH8JarFIlw/GNO6BREHGFX2JB1Dm7lLPAxtnR7dAMLFkm+oBDYTZV/eZLFsJsViPVWMXJ4D1r58t9WArpONTOufaxkMs02fN2KJM8GJS9CQWnIG6yv6WPD95MJZ28hETrcCrzZkS5V4LgVXV9lM6lmDy/EQ7wCvJMoiaVALhmpq+/C3OYETqJpaAFal/Hgjx0iyfE9olYJwdFSJ+cAZb8va7IxolmJ+3oitC/SaQ/EzCxD8FTNsudYvYboDQF2SkgPWom2UTHwLm9haV4r9TgDZj6YUx3RBc7QpqzKX9IjNi1wIiM/zbwI6YcQXMiBkegMiMmNsQDot+bdz6v99/3l/Pnf9Xns8X+Z/1DX3R/xmPzxd8n/HWY/xa3b6CI+6AyJw8R2DEvLfAiLmuYETml2YBI+6oAUbcsw2syF1r0oER91UBI+7cAUbkXitaj7j7DiByv6UdBCN29H9Zf36fzu1/y5135ORlcfIbv+j7V/8XPCP4/Di8VRCmy1NG5XB22HHPP3H77LhzOZycKk6uH6cni9Nbw+HYxuFq5HBmcbgdOTvecut07r0dt7+fO2/HybvDyf9X344v+j/jSefwbePw1oQNj9iRC4jCstYQEIWpbRegP1IhgCiMHnWAKKy3dwKiMLfpgRGF/epfgCgNPDYDorSoNwVEaZLSCYjSxmcNIEqjFD2wI3YMcOtV3Ht9bv977rwhJ28VJ7+L02fM6Xfi8HRy+OZxeDdDICqL5CbODj3ueTC3T48794yTs4uTq8/pqeP0buFwGHO4ujicqzjcszk7Orn1Gu69Hrd/mDuvx8lbw8nv/NKHev+0qpOrfAXFQX5ItjAT/K4H19ZcbASbumrwsb9C2PBYj4lWe6YDMYU12x3EwBSE7jmxrxcIvL+0V47y1XS1Pc9BEej9MDvAMgSQSVodem47MLNm0q3DpEF9Oz9B3wbYWbbsrnI5oC3XU+H+HGz7U92wtlQ6v7hzwoMNwErVhKWaecAHdpLcq9+BoNNBLR/bwdRvEI+1onxK+Nba3jMcgn32Y+qsXYDWSN7At25gzv9+w/ob6rCTdFvj9xuD+dFu6/BAPIQLD11Qrz5OeB2qjv6aD16vwrDV2lMQ9F/qMQ/2BW9ImONoMw/MvgXdx/SHMF4sNHK5zFUwOS1PHNMbgAO6GyaE/E1t29m3uN0AzJFjuY9iNgLDZgm3z9pDPTFb47r3OPDM2yUXzXSC4K6CzpxyWqefqkrZkAEmrfRljOdBCHd1OuZnh4NRRsKw8Qmwsi7V/i9eggnuGV5s2k950prmfEUA7FOY7JV2GkzkrMSCalXqay5FUkbfkZ+TvF2C5oHtcVp/ve1XypOrHw3vU5zDrN4cdaN6VpOb2qEdBYwv1Ovzo7u/5LaJ3tSXDXIktB4dIT8fGGxzoxlkIXfw+BRXoNBkWkdaKxB62u3GBvJf0pieUnHKp73fz0kNaIegy03pWjnFYajv1P5zmeQfhZdLx5Hes11G47fMAZusaT3qtBZQ3T582ZfyMumVZnCxAOybqNZyfyOgYK5uzkkjMBsHE1e/uAHBx4+qA6a2wOkrshr1A2BM8uQNqyleF2Ik/3j8EIyf8N2ZT5eBPfxD5o+CwoZ/9hpdLnYJuNqRHPrtITD/1EaWvHsKxIV8fJ0fDLZFeCvejurmx21x8wepXuedMeW1UN3N/PDTpt+OAe6XxzXXvgH71OHHNe6E2/uXJ1Uy1mC2R0x9HJ8BZCeEyR8NDRt+G66Qtq0ZOJhiXn3MF0xcgKWEB/kt/6Bey9A7sOYHvXmXtcE0zMm5sfo1BNr3atEgmjNNK9RaIsAq/2eO2Qppmu7dkxcaekH4Q6NkZ2o9mKnTvJx1JcB2njxTVWMDRjU3Vfy4GgTqYyp0ndeRPf6h1+sfg9Xarq8wtBLMEk1zmQLiB7XxL/a9vIrx7/0q9637A/g+/9kYDXmKl/D6uqlzAYeJ0yPMNoB511P3cdAC0ImOyzOk/uBWWXQylOpQ+4eetHNqQN9rODTnA7L3TJLkVACjn7qrd8gB8nx95yzqv0FBbbYKK4FRFdPVkqm/K09bfzqW+iA/7rajjA4gObB3yJP6O+vkMT1chu4zn4ZIUN5Ihp7qbT9J9ayftzhkkPwvvzcp+09gyjx/65x3wL1Pdcvsl4DJOPY0+iHN2cGDZ5pM3aHmYX42TKIUYi2Gb11c14UN7PQe8Mv43XS4d3C5IPfoV170lRd95UVfedH/PV5ULFaswChB8VFU7LKlOuCntPm17EgC22FV43JgY9iwSoDFtCW7geOfhFcsX5E8+STpgi1g2hUd928KB4SFbaGFP9Pn35m63ntEUEYrSV2sJj6h1t45y3Y6mE+H5jUVniO7FaLSfCm/3HfPaYi7RX4RaA7YaAAf7/22uZTisMidmT20Nmy4P1JMuIjWf6t8mCeg/mE5cdUUZ2Ww8zLLHle3Uv23XX99xgziAxc1D/lMAfvxh26rkyykAzuUgy+kgefuNiOHMYfAtSjl3WhjqJXrWMeqVEBcTHVv2ujNkKzPDtm2YCP48wvuyxxzIdj79new6uCXRU5yTp4KXkHF3KZ3VyAZsdFEapUOpMae11q/1gxs+YTfv4u4AX6mr3bpmErMv5Q62qe8GqYSh/Oa7WUgpuXzg13Dekifar6QqPoJYirZswuCkqHmfRAvDudAXN13hU+bAXjzTaYauJSBiToU/c2ECEiHP7vTmDYN7HNDS/9/1MGoHP11U+I+yp/KzbkZJcCFliD2pgmYc+nK8Rn3gQqVlT9VvgEmbejbHb0cUPrw5lAc+WtORnzFJuKLDYHx+uwKMNkJ7yp/PQ8cto8rT4qBoP7smxglfzDrym28QizAzr1/pHmxFpgw++lSo+ZAGNM03SxaAby62kXJ863ANBVUBhjEQTxF8tq5yyrgTZupsCfdFOr/sRxSGRhD9irKGAopTye4Da/+jfpKpdJNiTW+EL9k/fcZ82ywl/6cVXZgP9QbJU+WS8iCWc3f26ClBHZyqcGyX4n/KcrMmlrkAYH8gudZ8ZOIL3WcYlSJH9cYtL9wJH/ckM3Z9TYejO/s8D+qHhKPs53h7HWGxujymuzexRA22LdnHqF5Y7VnU0GoP/G0+J78HZTvW2+OOaJ1heb1m5z2gDgwzaOEGVrU97/1tFhXR3Xtpujb6RcNqGzP86yhfjG8q7j+HZ1fkO9dEXcDbE7rDVNX4hd7yhNmSD0As/v7O8kuCyGQnC9dVPEEvPCOs5d/vgXmlcBBd8qosOH5KVUPWmaD15ykozH6GZjN50+3foiEILro58ioaPBs+g8g9yWk625f1++jfn/SPV0pRBK8RLv04IStFOds1bKTCmB2lSX7rXUCy74usk6dAcY7s6Br0UqMP9Ln6hrwnL4bVuj9c/gx8LC/W24J1ZntWXH7/dXUd2UWtFTTekPiDddgN4pHqkPpUAXZN3Nt6h3q0z2GA7fmB1LdmreUeMUAY8cERtQQjxEaDb2oOg4Ez9Kotic/Svx1J+vBBKpbv3r3BNonNrTS007EWwpz77YU0DpNkj+d+rqS8u5f5lG97z5uHpRwkfhY2rWdNw8RrpDjj+QciBdpur/3Jj7/3m6486wr1DYEanucK4FYb0Pg4XUXwwYCM2cP3r5OvAgHNrup/i/zIsuvvOh/5EXrv/Kir7zo/yMvupt455VcoM4csC9nhE4P7INYSrKjsaIJvou2zSjTKINgj2ph66MtkG5oMVldaAMVh6gu7wBx8Lt5YuutmiB11/zv1EP9EO/1fdzkPoQQK8XDUz7+iDEuKZqW3q8hfndwS9WbtVBb6uP5oqsV/OV2ni9bByHR/U3NS0kZmGZnjbkVYAH+E7auK8EHEm9zc+so39X2X+ePK7IB/7H/xlrfPyE89ir0fFhv2D8xvOiLhQ7g6+8ejB0nDsk7HlMeOlGf8th+3Wy1PlSfPFsRHhkCfrLCkJfVBUhd6Z624KkS5gYaL/F28YSYSdClddmrIOm08JZsoyH4RR+Oj70yGmoRSt+1qm0Crzp6fciRseCvZeRkI5dC6i8zrZTjHyEQnl/xfbYWeH8ejr0YOhdhzpnPNsrS3NVonHlsuIr6i0ThedOTYJ4XejqUlgLnvYweLbwNQXzoHM9i+m6/PLOgv+8h1cmxpddOEy8MKfA+PaWM5vKn0gjvWTT3in9qztgImLguN5k2EWzbjHRWZhSguS5x+g6aEuvnL77vbEbxLL6l+yETGPesQuGZNtClFxjQTHPcWOWSwU+TgU36tYpbXgATy0JP2b4n/pqX+FqJ5qLewXcz8pYBga5li6FA/MN2UX8bzVNj7UB9u/EQZvJilsgaAA5n9f44QnOt/Vyw1S2a1ycanSTVZwCRmo+bT50Dm7j2xMVgmpd1ubLexlvBxHbYTnhI/GaD8qemC2RP5FWLnLFBNP+DrxVfsqb5uflKae894GLnWL3hCrCfji3cG0y4nYQdQ9kiOX3vHbqoDgO2JNhedgTzV0JVrvpEwmtx930T9Rl3r6jHuvTdqrPPy8iA/NZlqenpfo3m8w7bu+OuAzNC6upGkR1+WrWLNWjGKobhQ2kr2dUx+Wb6RozvjlKvPD8TkE4y211E80JhQc4Jc+oLsyt59WeormQOuz10tAJ8Htk8e1dJz9vHmvX3AC/W++pp6pKeKrfxExYQ34hL71Sh+e27I6DAlHiBTnxjgnU7mKGpbteilWmiX9fWXGVLPCPRnT1AfWNC+U3vvYSja8W+g+ESgHzgg5jub4GZqRn3xWneCOe92eusRPKt7NJ//w+w0+TCj1uJjwiuZex6LkaEwL5B8ijVs+qsyfKaEcRLHjipXboKsDstkmuGAKnUe9/0mAPiRtssjKhvMemKNlHi9H57QW8v9R3GyDb8VC3hWpO/vnsKrf+aan+Wvk8QISdRx6d9UY5Sr8gfqM+SlBa9z2/c9r2Io8w3nOpP/Q9OS29m0jzC0N3QF4voPrE4ZxrlD3YY+F3qoLvqolt7aS7DSFOtoJruar+4LxD9Lzbql+WCSLLjvWztfuJzkHR70kdzHvwWq7R+0f9nu1oX//xv//kvSO9NOw==";
+}
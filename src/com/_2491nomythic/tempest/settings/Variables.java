@@ -23,6 +23,10 @@ public class Variables {
 	
 	public static double autoDelay;
 	public static boolean useGyroPID;
+	public static boolean useTimedPathPlayback = true; //follow paths by the FPGA clock instead of counting scheduler runs
+	public static boolean usePathFollowerThread = true; //follow paths on the PathFollower thread instead of in DrivePath
+	public static boolean usePathFeedback = false; //add encoder position feedback to the PathFollower's velocities, once its gains are tuned
+	public static boolean useMotionProfile = false; //stream paths into the Talons' motion profile buffers instead, once its gains are tuned
 	
 	//Intake
 	public static double rollerReverseCoefficient = 1;
@@ -23,6 +23,7 @@ import edu.wpi.first.wpilibj.command.PIDSubsystem;
  */
 public class Drivetrain extends PIDSubsystem {
 	private TalonSRX leftMaster, leftSlave, rightMaster, rightSlave;
+	private MotionProfileController leftProfile, rightProfile;
 	private AHRS gyro;
 	private NetworkTable limeLight;
 	private NetworkTableEntry tx, ty, ta, tv;
@@ -105,6 +106,12 @@ public class Drivetrain extends PIDSubsystem {
 		
 		setTalonF(Constants.kVelocitykF);
 		
+		/* Configures FPID constants for Talon's MotionProfile mode */
+		setTalonProfilePIDF(Constants.kMotionProfilekP, Constants.kMotionProfilekI, Constants.kMotionProfilekD, Constants.kMotionProfilekF);
+		
+		leftProfile = new TalonProfileController(leftMaster);
+		rightProfile = new TalonProfileController(rightMaster);
+		
 		/* Configures Limelight */
 		limeLight = NetworkTableInstance.getDefault().getTable("limelight");
 		limeLight.getEntry("ledMode").setNumber(0);
@@ -187,6 +194,20 @@ public class Drivetrain extends PIDSubsystem {
 		rightMaster.set(ControlMode.Velocity, speed);
 	}
 	
+	/**
+	 * Streams a path into the master Talons' motion profile buffers and runs it
+	 * @param path The path to drive
+	 * @param reverseDirection 1, or -1 to drive the path backwards
+	 * @param reversed Play the path from its end back to its start
+	 * @return The started streamer, for watching or stopping the path
+	 */
+	public MotionProfileStreamer followProfile(PathHandle path, int reverseDirection, boolean reversed) {
+		MotionProfileStreamer streamer = new MotionProfileStreamer(leftProfile, rightProfile, path, reverseDirection, reversed);
+		
+		streamer.start();
+		return streamer;
+	}
+	
 	/**
 	 * Stops all drive motion
 	 */
@@ -447,6 +468,20 @@ public class Drivetrain extends PIDSubsystem {
 		rightMaster.config_kF(Constants.kVelocitySlotId, feedForward, Constants.kTimeoutMs);
 	}
 	
+	public void setTalonProfilePIDF(double proportional, double iterative, double derivative, double feedForward) {
+		leftMaster.config_kP(Constants.kMotionProfileSlotId, proportional, Constants.kTimeoutMs);
+		rightMaster.config_kP(Constants.kMotionProfileSlotId, proportional, Constants.kTimeoutMs);
+
+		leftMaster.config_kI(Constants.kMotionProfileSlotId, iterative, Constants.kTimeoutMs); 
+		rightMaster.config_kI(Constants.kMotionProfileSlotId, iterative, Constants.kTimeoutMs);
+
+		leftMaster.config_kD(Constants.kMotionProfileSlotId, derivative, Constants.kTimeoutMs); 
+		rightMaster.config_kD(Constants.kMotionProfileSlotId, derivative, Constants.kTimeoutMs);
+		
+		leftMaster.config_kF(Constants.kMotionProfileSlotId, feedForward, Constants.kTimeoutMs);
+		rightMaster.config_kF(Constants.kMotionProfileSlotId, feedForward, Constants.kTimeoutMs);
+	}
+	
 	//Limelight
 	public double getX() {
 		return tx.getDouble(0);
@@ -0,0 +1,188 @@
+package com._2491nomythic.tempest.subsystems;
+
+import java.util.ArrayDeque;
+import java.util.function.DoubleSupplier;
+
+/**
+ * An in-memory stand in for a TalonSRX running a motion profile, for trying out profile streaming on a desktop
+ * <p>
+ * Models a 2048 point top buffer, a 128 point bottom buffer that {@link #processBuffer()} fills one point per call, and a controller that runs each point for its duration by the given clock once enabled.
+ * If the bottom buffer is empty when a point runs out the controller underruns and holds until more points arrive, like a Talon does.
+ * It also checks that each point's position follows from the one before at the point's velocity for as long as it really runs.
+ */
+public class FakeProfileController implements MotionProfileController {
+	public static final int kTopBufferSize = 2048;
+	public static final int kBottomBufferSize = 128;
+	private static final int[] kDurationsMs = {0, 5, 10, 20, 30, 40, 50, 100};
+
+	private final DoubleSupplier mClock;
+	private final ArrayDeque<Point> mTop = new ArrayDeque<Point>();
+	private final ArrayDeque<Point> mBottom = new ArrayDeque<Point>();
+	private Output mOutput = Output.DISABLE;
+	private Point mActive;
+	private double mActiveEnd;
+	private boolean mIsUnderrun, mHasUnderrun;
+	private int mExecutedPoints, mUnderruns;
+	private double mLastPushedPosition, mMaxPositionDrift;
+
+	private static class Point {
+		final double position, velocity;
+		final int durationMs;
+		final boolean last;
+
+		Point(double position, double velocity, int durationMs, boolean last) {
+			this.position = position;
+			this.velocity = velocity;
+			this.durationMs = durationMs;
+			this.last = last;
+		}
+	}
+
+	/**
+	 *
+	 * @param clock The time in seconds
+	 */
+	public FakeProfileController(DoubleSupplier clock) {
+		mClock = clock;
+	}
+
+	public synchronized boolean pushPoint(double position, double velocity, int durationMs, boolean zeroPosition, boolean last) {
+		if(mTop.size() >= kTopBufferSize) {
+			return false;
+		}
+		Point point = new Point(position, velocity, roundDuration(durationMs), last);
+		double expected = (zeroPosition ? 0 : mLastPushedPosition) + velocity * point.durationMs / 100;
+
+		mMaxPositionDrift = Math.max(mMaxPositionDrift, Math.abs(position - expected));
+		mLastPushedPosition = position;
+		mTop.add(point);
+		return true;
+	}
+
+	public synchronized void processBuffer() {
+		advance();
+
+		if(!mTop.isEmpty() && mBottom.size() < kBottomBufferSize) {
+			mBottom.add(mTop.poll());
+		}
+		advance();
+	}
+
+	public synchronized void getStatus(Status status) {
+		advance();
+
+		status.topBufferRem = kTopBufferSize - mTop.size();
+		status.topBufferCnt = mTop.size();
+		status.btmBufferCnt = mBottom.size();
+		status.hasUnderrun = mHasUnderrun;
+		status.isUnderrun = mIsUnderrun;
+		status.activePointValid = mActive != null;
+		status.isLast = mActive != null && mActive.last;
+	}
+
+	public synchronized void clearUnderrun() {
+		mHasUnderrun = false;
+	}
+
+	public synchronized void clearProfile() {
+		mTop.clear();
+		mBottom.clear();
+		mActive = null;
+		mIsUnderrun = false;
+	}
+
+	public synchronized void setOutput(Output output) {
+		advance();
+
+		if(output == Output.ENABLE && mOutput != Output.ENABLE && mActive != null) {
+			//carry on from the point that was held
+			mActiveEnd = mClock.getAsDouble() + mActive.durationMs / 1000.0;
+		}
+		mOutput = output;
+		advance();
+	}
+
+	/**
+	 * Runs points until the controller catches up with the clock
+	 */
+	private void advance() {
+		if(mOutput != Output.ENABLE) {
+			return;
+		}
+		double now = mClock.getAsDouble();
+
+		while(mActive == null || (!mActive.last && now >= mActiveEnd)) {
+			Point next = mBottom.poll();
+
+			if(next == null) {
+				if(mActive != null && !mIsUnderrun) {
+					mIsUnderrun = true;
+					mHasUnderrun = true;
+					mUnderruns++;
+				}
+				return;
+			}
+			double start = mActive == null || mIsUnderrun ? now : mActiveEnd;
+
+			mIsUnderrun = false;
+			mActive = next;
+			mActiveEnd = start + next.durationMs / 1000.0;
+			mExecutedPoints++;
+		}
+	}
+
+	private static int roundDuration(int durationMs) {
+		int closest = kDurationsMs[0];
+
+		for(int duration : kDurationsMs) {
+			if(Math.abs(duration - durationMs) < Math.abs(closest - durationMs)) {
+				closest = duration;
+			}
+		}
+		return closest;
+	}
+
+	/**
+	 *
+	 * @return How many points the controller has started running
+	 */
+	public synchronized int getExecutedPoints() {
+		advance();
+		return mExecutedPoints;
+	}
+
+	/**
+	 *
+	 * @return How many times the controller has run out of points in the middle of the profile
+	 */
+	public synchronized int getUnderruns() {
+		advance();
+		return mUnderruns;
+	}
+
+	/**
+	 *
+	 * @return The largest difference between a pushed point's position and the previous point's position plus its velocity for the duration the controller runs it, in native units
+	 */
+	public synchronized double getMaxPositionDrift() {
+		return mMaxPositionDrift;
+	}
+
+	/**
+	 *
+	 * @return The position of the point being run, in native units
+	 */
+	public synchronized double getActivePosition() {
+		advance();
+		return mActive == null ? 0 : mActive.position;
+	}
+
+	/**
+	 *
+	 * @return The velocity of the point being run, in NativeUnitsPer100Ms
+	 */
+	public synchronized double getActiveVelocity() {
+		advance();
+		return mActive == null ? 0 : mActive.velocity;
+	}
+}
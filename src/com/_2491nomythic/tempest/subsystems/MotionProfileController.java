@@ -0,0 +1,96 @@
+package com._2491nomythic.tempest.subsystems;
+
+/**
+ * A motor controller that runs motion profiles out of its own buffer, like a TalonSRX in MotionProfile mode
+ * <p>
+ * Points are pushed into a top buffer on the roboRIO, moved one at a time into the controller's bottom buffer by {@link #processBuffer()}, and then run by the controller at its own rate once the output is enabled.
+ * {@link TalonProfileController} drives a real TalonSRX and {@link FakeProfileController} models one in memory so streaming can be tried out on a desktop.
+ */
+public interface MotionProfileController {
+
+	/**
+	 * What the controller does with its profile
+	 */
+	public static enum Output {
+		DISABLE, ENABLE, HOLD
+	}
+
+	/**
+	 * Point durations a TalonSRX can run besides 0ms, which would run for the base trajectory period instead
+	 */
+	public static final int[] kDurationsMs = {5, 10, 20, 30, 40, 50, 100};
+
+	/**
+	 *
+	 * @param durationMs A duration in ms
+	 * @return The closest of {@link #kDurationsMs}
+	 */
+	public static int closestDuration(double durationMs) {
+		int closest = kDurationsMs[0];
+
+		for(int duration : kDurationsMs) {
+			if(Math.abs(duration - durationMs) < Math.abs(closest - durationMs)) {
+				closest = duration;
+			}
+		}
+		return closest;
+	}
+
+	/**
+	 * The state of a controller's profile buffers, filled in by {@link MotionProfileController#getStatus(Status)}
+	 */
+	public static class Status {
+		/** Points that can still be pushed into the top buffer */
+		public int topBufferRem;
+		/** Points waiting in the top buffer */
+		public int topBufferCnt;
+		/** Points waiting in the controller */
+		public int btmBufferCnt;
+		/** Whether the controller has run out of points since the flag was last cleared */
+		public boolean hasUnderrun;
+		/** Whether the controller is out of points right now */
+		public boolean isUnderrun;
+		/** Whether the controller is running a point */
+		public boolean activePointValid;
+		/** Whether the point being run is the last one */
+		public boolean isLast;
+	}
+
+	/**
+	 * Adds a point to the end of the top buffer
+	 * @param position Sensor position in native units
+	 * @param velocity Sensor velocity in NativeUnitsPer100Ms
+	 * @param durationMs How long the controller runs the point, one of {@link #kDurationsMs}
+	 * @param zeroPosition Whether the controller should zero its sensor position before running the point
+	 * @param last Whether this is the last point of the profile
+	 * @return Whether the point fit
+	 */
+	public boolean pushPoint(double position, double velocity, int durationMs, boolean zeroPosition, boolean last);
+
+	/**
+	 * Moves a point from the top buffer into the controller. Should be called at least twice per point duration.
+	 */
+	public void processBuffer();
+
+	/**
+	 * Fills in the state of the profile buffers
+	 * @param status The status to fill in
+	 */
+	public void getStatus(Status status);
+
+	/**
+	 * Clears the {@link Status#hasUnderrun} flag
+	 */
+	public void clearUnderrun();
+
+	/**
+	 * Empties both buffers
+	 */
+	public void clearProfile();
+
+	/**
+	 * Puts the controller into motion profile mode
+	 * @param output What to do with the profile
+	 */
+	public void setOutput(Output output);
+}
@@ -0,0 +1,259 @@
+package com._2491nomythic.tempest.subsystems;
+
+import com._2491nomythic.tempest.settings.Constants;
+import com._2491nomythic.tempest.subsystems.MotionProfileController.Output;
+import com._2491nomythic.tempest.subsystems.MotionProfileController.Status;
+
+import edu.wpi.first.wpilibj.Notifier;
+
+/**
+ * Streams a path into the motion profile buffers of both drive rails and lets the motor controllers run it
+ * <p>
+ * Every {@link Constants#kMotionProfileServicePeriod} it tops up the top buffers, moves a point into each controller and checks on them.
+ * The profile is enabled once {@link Constants#kMotionProfileMinPoints} points are waiting in both controllers, so a slow roboRIO loop after that doesn't change how the path is driven.
+ * The controllers run the points on their own, so there is no gyro heading correction in this mode.
+ * They only run a few point durations, so each point gets the supported duration that keeps the profile closest to the path's own time, and its position is integrated over that duration. Steps longer than the longest duration are split into several points.
+ * <p>
+ * The Notifier is only made by {@link #start()}, so on a desktop the streamer can be driven with {@link FakeProfileController}s by calling {@link #reset()} and then {@link #service()} from a simulated clock.
+ */
+public class MotionProfileStreamer {
+	private final MotionProfileController mLeft, mRight;
+	private final Status mLeftStatus = new Status();
+	private final Status mRightStatus = new Status();
+	private final double[] mLeftPositions, mRightPositions, mLeftVelocities, mRightVelocities;
+	private final int[] mSteps, mDurations;
+	private Notifier mNotifier;
+	private int mLeftPushed, mRightPushed;
+	private boolean mEnabled, mWasUnderrun;
+
+	private volatile int mStep, mUnderruns;
+	private volatile boolean mFinished, mStopped;
+
+	/**
+	 *
+	 * @param left The left drive rail's controller
+	 * @param right The right drive rail's controller
+	 * @param path The path to stream
+	 * @param reverseDirection 1, or -1 to drive the path backwards
+	 * @param reversed Play the path from its end back to its start
+	 */
+	public MotionProfileStreamer(MotionProfileController left, MotionProfileController right, PathHandle path, int reverseDirection, boolean reversed) {
+		mLeft = left;
+		mRight = right;
+
+		int length = path.length();
+		double[] stepDurations = new double[length];
+		double pathTime = 0, profileTime = 0;
+		int points = 0;
+
+		//work out how long each step is in playback order and how many points it takes
+		for(int i = 0; i < length; i++) {
+			int step = reversed ? length - 1 - i : i;
+
+			if(length == 1) {
+				stepDurations[i] = Constants.kPathTimeStep;
+			}
+			else if(reversed) {
+				stepDurations[i] = step > 0 ? path.getTime(step) - path.getTime(step - 1) : path.getTime(1) - path.getTime(0);
+			}
+			else {
+				stepDurations[i] = step < length - 1 ? path.getTime(step + 1) - path.getTime(step) : path.getTime(step) - path.getTime(step - 1);
+			}
+			pathTime += stepDurations[i];
+
+			do {
+				profileTime += MotionProfileController.closestDuration((pathTime - profileTime) * 1000) / 1000.0;
+				points++;
+			} while(isBehind(pathTime, profileTime));
+		}
+		mLeftPositions = new double[points];
+		mRightPositions = new double[points];
+		mLeftVelocities = new double[points];
+		mRightVelocities = new double[points];
+		mSteps = new int[points];
+		mDurations = new int[points];
+
+		double leftPosition = 0, rightPosition = 0;
+		int point = 0;
+
+		pathTime = 0;
+		profileTime = 0;
+		for(int i = 0; i < length; i++) {
+			int step = reversed ? length - 1 - i : i;
+			double leftVelocity = reverseDirection * path.getLeftVelocity(step) * Constants.kVeloctiyUnitConversion;
+			double rightVelocity = reverseDirection * path.getRightVelocity(step) * Constants.kVeloctiyUnitConversion;
+
+			//steps longer than the longest duration are split into points at the same velocity, and the rounding carries over to the next point so the profile stays within half a duration of the path
+			pathTime += stepDurations[i];
+
+			do {
+				int durationMs = MotionProfileController.closestDuration((pathTime - profileTime) * 1000);
+				profileTime += durationMs / 1000.0;
+
+				//NativeUnitsPer100Ms for as many tenths of a second as the controller runs the point
+				leftPosition += leftVelocity * durationMs / 100;
+				rightPosition += rightVelocity * durationMs / 100;
+
+				mLeftPositions[point] = leftPosition;
+				mRightPositions[point] = rightPosition;
+				mLeftVelocities[point] = leftVelocity;
+				mRightVelocities[point] = rightVelocity;
+				mSteps[point] = step;
+				mDurations[point] = durationMs;
+				point++;
+			} while(isBehind(pathTime, profileTime));
+		}
+		mStep = points > 0 ? mSteps[0] : 0;
+		mFinished = points == 0;
+	}
+
+	/**
+	 *
+	 * @return Whether the path is far enough ahead of the points so far to need another one
+	 */
+	private static boolean isBehind(double pathTime, double profileTime) {
+		return pathTime - profileTime >= MotionProfileController.kDurationsMs[0] / 2000.0;
+	}
+
+	/**
+	 * Clears both controllers and starts streaming the path into them on a Notifier
+	 */
+	public synchronized void start() {
+		reset();
+
+		if(mNotifier == null) {
+			mNotifier = new Notifier(this::service);
+		}
+		mNotifier.startPeriodic(Constants.kMotionProfileServicePeriod);
+	}
+
+	/**
+	 * Clears both controllers so the path can be streamed into them by calling {@link #service()}
+	 */
+	public synchronized void reset() {
+		mLeft.clearProfile();
+		mRight.clearProfile();
+		mLeft.clearUnderrun();
+		mRight.clearUnderrun();
+		mLeft.setOutput(Output.DISABLE);
+		mRight.setOutput(Output.DISABLE);
+	}
+
+	/**
+	 * Tops up and checks on both controllers. Called by the Notifier started in {@link #start()}, or by hand after {@link #reset()}.
+	 */
+	public synchronized void service() {
+		if(mStopped || mFinished) {
+			return;
+		}
+		int length = mDurations.length;
+
+		mLeftPushed = fill(mLeft, mLeftPositions, mLeftVelocities, mLeftPushed);
+		mRightPushed = fill(mRight, mRightPositions, mRightVelocities, mRightPushed);
+
+		mLeft.processBuffer();
+		mRight.processBuffer();
+		mLeft.getStatus(mLeftStatus);
+		mRight.getStatus(mRightStatus);
+
+		if(!mEnabled) {
+			boolean primed = mLeftStatus.btmBufferCnt >= Constants.kMotionProfileMinPoints && mRightStatus.btmBufferCnt >= Constants.kMotionProfileMinPoints;
+			boolean loaded = mLeftPushed == length && mRightPushed == length && mLeftStatus.topBufferCnt == 0 && mRightStatus.topBufferCnt == 0;
+
+			if(primed || loaded) {
+				mLeft.setOutput(Output.ENABLE);
+				mRight.setOutput(Output.ENABLE);
+				mEnabled = true;
+			}
+			return;
+		}
+
+		boolean underrun = mLeftStatus.isUnderrun || mRightStatus.isUnderrun || mLeftStatus.hasUnderrun || mRightStatus.hasUnderrun;
+
+		if(underrun && !mWasUnderrun) {
+			mUnderruns++;
+		}
+		mWasUnderrun = mLeftStatus.isUnderrun || mRightStatus.isUnderrun;
+
+		if(mLeftStatus.hasUnderrun) {
+			mLeft.clearUnderrun();
+		}
+		if(mRightStatus.hasUnderrun) {
+			mRight.clearUnderrun();
+		}
+
+		//points pushed, less the ones still waiting and the one being run
+		int running = mLeftPushed - mLeftStatus.topBufferCnt - mLeftStatus.btmBufferCnt - 1;
+		mStep = mSteps[Math.max(0, Math.min(length - 1, running))];
+
+		if(mLeftStatus.activePointValid && mLeftStatus.isLast && mRightStatus.activePointValid && mRightStatus.isLast) {
+			mLeft.setOutput(Output.HOLD);
+			mRight.setOutput(Output.HOLD);
+			mFinished = true;
+
+			//freed by stop(), the Notifier can't free itself from its own thread
+			if(mNotifier != null) {
+				mNotifier.stop();
+			}
+		}
+	}
+
+	/**
+	 * Pushes as many of the remaining points as fit into a controller's top buffer
+	 * @return How many points have been pushed into the controller
+	 */
+	private int fill(MotionProfileController controller, double[] positions, double[] velocities, int pushed) {
+		int length = mDurations.length;
+
+		while(pushed < length && controller.pushPoint(positions[pushed], velocities[pushed], mDurations[pushed], pushed == 0, pushed == length - 1)) {
+			pushed++;
+		}
+		return pushed;
+	}
+
+	/**
+	 * Stops streaming, frees the Notifier and disables both controllers
+	 */
+	public void stop() {
+		Notifier notifier;
+
+		synchronized(this) {
+			mStopped = true;
+			notifier = mNotifier;
+			mNotifier = null;
+
+			mLeft.setOutput(Output.DISABLE);
+			mRight.setOutput(Output.DISABLE);
+			mLeft.clearProfile();
+			mRight.clearProfile();
+		}
+		//outside the lock, free() waits for a service() that may be waiting for it
+		if(notifier != null) {
+			notifier.free();
+		}
+	}
+
+	/**
+	 *
+	 * @return The path step the controllers are running, going by how many points have left their buffers
+	 */
+	public int getStep() {
+		return mStep;
+	}
+
+	/**
+	 *
+	 * @return Whether both controllers have reached the last point and are holding it
+	 */
+	public boolean isFinished() {
+		return mFinished;
+	}
+
+	/**
+	 *
+	 * @return How many times a controller has run out of points in the middle of the path
+	 */
+	public int getUnderruns() {
+		return mUnderruns;
+	}
+}
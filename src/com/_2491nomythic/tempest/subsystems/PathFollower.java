@@ -0,0 +1,339 @@
+package com._2491nomythic.tempest.subsystems;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import com._2491nomythic.tempest.commands.drivetrain.PathPlayback;
+import com._2491nomythic.tempest.lib.cheezy.trajectory.TrajectoryFollower;
+import com._2491nomythic.tempest.settings.Constants;
+import com._2491nomythic.tempest.settings.Variables;
+
+import edu.wpi.first.wpilibj.Notifier;
+import edu.wpi.first.wpilibj.Threads;
+import edu.wpi.first.wpilibj.Timer;
+
+/**
+ * Follows paths on its own Notifier thread, separate from the Scheduler
+ * <p>
+ * Every {@link Constants#kPathFollowerPeriod} it reads the gyro and encoders, works out where the path should be by the FPGA clock and sends the velocities to the Drivetrain.
+ * When {@link Variables#usePathFeedback} is set each drive rail also has a TrajectoryFollower that adds position feedback from its encoder on top of the path's velocity.
+ * Commands hand it paths through an AtomicReference and watch each {@link Job} through volatile fields. The only waiting is in {@link Job#cancelAndWait(double)}, so a command's last stop can't land after the next command's output.
+ * The Notifier thread runs at real-time priority {@link Constants#kPathFollowerThreadPriority}; a plain Java thread priority does nothing on the roboRIO.
+ */
+public class PathFollower {
+	private static PathFollower instance;
+
+	private final Drivetrain drivetrain;
+	private final Notifier mNotifier;
+	private final AtomicReference<Job> mPending = new AtomicReference<Job>();
+	private Job mJob;
+	private boolean mStarted, mPrioritySet;
+
+	public static synchronized PathFollower getInstance() {
+		if(instance == null) {
+			instance = new PathFollower();
+		}
+		return instance;
+	}
+
+	private PathFollower() {
+		drivetrain = Drivetrain.getInstance();
+		mNotifier = new Notifier(this::run);
+	}
+
+	/**
+	 * Starts following a path, replacing whatever path was being followed
+	 * @param path The path to follow
+	 * @param swaped 1, or -1 if the path's drive rails were swapped
+	 * @param reverseDirection 1, or -1 to drive the path backwards
+	 * @param reversed Play the path from its end back to its start
+	 * @return The job, for watching or cancelling the path
+	 */
+	public synchronized Job follow(PathHandle path, int swaped, int reverseDirection, boolean reversed) {
+		Job job = new Job(path, swaped, reverseDirection, reversed);
+		Job replaced = mPending.getAndSet(job);
+
+		if(replaced != null) {
+			replaced.mFinished = true;
+		}
+		if(!mStarted) {
+			mNotifier.startPeriodic(Constants.kPathFollowerPeriod);
+			mStarted = true;
+		}
+		return job;
+	}
+
+	private void run() {
+		if(!mPrioritySet) {
+			Threads.setCurrentThreadPriority(true, Constants.kPathFollowerThreadPriority);
+			mPrioritySet = true;
+		}
+
+		double now = Timer.getFPGATimestamp();
+		Job next = mPending.getAndSet(null);
+
+		if(next != null) {
+			if(mJob != null) {
+				mJob.mFinished = true;
+			}
+			mJob = next;
+			mJob.start(now, drivetrain.getRawGyroAngle());
+		}
+
+		if(mJob == null) {
+			return;
+		}
+
+		if(mJob.mCancelled || !mJob.update(now)) {
+			drivetrain.stop();
+			mJob.mFinished = true;
+			mJob = null;
+		}
+	}
+
+	/**
+	 * One path handed to the follower
+	 * <p>
+	 * Only the follower thread changes it. The step, tracking errors and finished flag can be read at any time; the playback metrics, RMS errors and per step position errors are complete once the job is finished.
+	 * Everything it needs while following is allocated when it is created.
+	 */
+	public class Job {
+		private final PathHandle mPath;
+		private final PathPlayback mPlayback;
+		private final TrajectoryFollower mLeftFollower, mRightFollower;
+		private final double[] mLeftPositionErrors, mRightPositionErrors;
+		private final int mSwaped, mReverseDirection;
+		private final boolean mReversed, mFeedback;
+		private double mInitialHeading, mTrackingErrorSquares, mPositionErrorSquares, mLeftStart, mRightStart, mLastTime;
+		private int mTrackingSamples, mPositionSamples;
+
+		private volatile int mStep, mWorstPositionErrorStep;
+		private volatile double mMaxTrackingError, mMaxPositionError, mPathTime;
+		private volatile boolean mFinished, mCancelled;
+
+		private Job(PathHandle path, int swaped, int reverseDirection, boolean reversed) {
+			mPath = path;
+			mSwaped = swaped;
+			mReverseDirection = reverseDirection;
+			mReversed = reversed;
+			mPlayback = new PathPlayback(path, Constants.kPathFollowerPeriod, reversed);
+			mFeedback = Variables.usePathFeedback;
+			mLeftPositionErrors = new double[path.length()];
+			mRightPositionErrors = new double[path.length()];
+
+			if(mFeedback) {
+				mLeftFollower = new TrajectoryFollower();
+				mRightFollower = new TrajectoryFollower();
+				mLeftFollower.configure(Constants.kPathFollowerkP, 0, Constants.kPathFollowerkD, Constants.kPathFollowerkV, Constants.kPathFollowerkA);
+				mRightFollower.configure(Constants.kPathFollowerkP, 0, Constants.kPathFollowerkD, Constants.kPathFollowerkV, Constants.kPathFollowerkA);
+				mLeftFollower.setTrajectory(path.toTrajectory(true, reversed));
+				mRightFollower.setTrajectory(path.toTrajectory(false, reversed));
+			}
+			else {
+				mLeftFollower = null;
+				mRightFollower = null;
+			}
+		}
+
+		private void start(double now, double heading) {
+			mInitialHeading = heading;
+			mLastTime = now;
+			mPlayback.start(now);
+
+			if(mFeedback) {
+				mLeftStart = drivetrain.getLeftEncoderDistanceRaw();
+				mRightStart = drivetrain.getRightEncoderDistanceRaw();
+				mLeftFollower.reset();
+				mRightFollower.reset();
+			}
+		}
+
+		/**
+		 * Drives the path's velocities for the given time
+		 * @return Whether the path still has time left
+		 */
+		private boolean update(double now) {
+			mPlayback.update(now);
+
+			if(mPlayback.isFinished()) {
+				return false;
+			}
+			int step = mPlayback.getStep();
+			double fraction = mPlayback.getFraction();
+
+			double leftVelocity = mReverseDirection * mPath.getLeftVelocity(step, fraction);
+			double rightVelocity = mReverseDirection * mPath.getRightVelocity(step, fraction);
+			double headingDiffrence = mSwaped * mPath.getHeading(step, fraction) + drivetrain.getRawGyroAngle() - mInitialHeading;
+			double turnAdjustment = Constants.kVelocitykG * Constants.kVeloctiyUnitConversion * headingDiffrence;
+
+			if(mFeedback) {
+				followTrajectories(now, step, fraction, turnAdjustment);
+			}
+			else {
+				drivetrain.driveVelocity(leftVelocity * Constants.kVeloctiyUnitConversion - turnAdjustment, rightVelocity * Constants.kVeloctiyUnitConversion + turnAdjustment);
+			}
+
+			double leftError = leftVelocity - drivetrain.getLeftVelocity();
+			double rightError = rightVelocity - drivetrain.getRightVelocity();
+			double error = Math.max(Math.abs(leftError), Math.abs(rightError));
+
+			mTrackingErrorSquares += leftError * leftError + rightError * rightError;
+			mTrackingSamples += 2;
+			if(error > mMaxTrackingError) {
+				mMaxTrackingError = error;
+			}
+			mStep = step;
+			mPathTime = mPlayback.getPathTime();
+			return true;
+		}
+
+		/**
+		 * Drives each rail with its TrajectoryFollower's output, fed back from how far its encoder has gone, plus the gyro heading correction
+		 * @param turnAdjustment The gyro heading correction in NativeUnitsPer100Ms, worked out from the path's own headings
+		 */
+		private void followTrajectories(double now, int step, double fraction, double turnAdjustment) {
+			int last = mPath.length() - 1;
+			int segment = step;
+			double segmentFraction = fraction;
+			double dt = now - mLastTime;
+
+			//the trajectories are built in playback order, which counts down from the end of a reversed path
+			if(mReversed) {
+				segment = step < last ? last - step - 1 : 0;
+				segmentFraction = step < last ? 1 - fraction : 0;
+			}
+			mLastTime = now;
+
+			double leftDistance = mReverseDirection * (drivetrain.getLeftEncoderDistanceRaw() - mLeftStart) / Constants.kDriveTicksPerFoot;
+			double rightDistance = mReverseDirection * (drivetrain.getRightEncoderDistanceRaw() - mRightStart) / Constants.kDriveTicksPerFoot;
+			double leftOutput = mLeftFollower.calculate(leftDistance, segment, segmentFraction, dt);
+			double rightOutput = mRightFollower.calculate(rightDistance, segment, segmentFraction, dt);
+
+			drivetrain.driveVelocity(mReverseDirection * leftOutput * Constants.kVeloctiyUnitConversion - turnAdjustment, mReverseDirection * rightOutput * Constants.kVeloctiyUnitConversion + turnAdjustment);
+
+			double leftError = mLeftFollower.getError();
+			double rightError = mRightFollower.getError();
+			double error = Math.max(Math.abs(leftError), Math.abs(rightError));
+
+			mLeftPositionErrors[step] = leftError;
+			mRightPositionErrors[step] = rightError;
+			mPositionErrorSquares += leftError * leftError + rightError * rightError;
+			mPositionSamples += 2;
+			if(error > mMaxPositionError) {
+				mMaxPositionError = error;
+				mWorstPositionErrorStep = step;
+			}
+		}
+
+		/**
+		 * Stops the path. The follower stops the drivetrain within one period.
+		 */
+		public void cancel() {
+			mCancelled = true;
+		}
+
+		/**
+		 * Stops the path and waits for the follower to stop the drivetrain, so it can't overwrite whatever drives next
+		 * @param timeout The longest to wait in seconds
+		 * @return Whether the path finished in time
+		 */
+		public boolean cancelAndWait(double timeout) {
+			double end = Timer.getFPGATimestamp() + timeout;
+
+			mCancelled = true;
+			while(!mFinished && Timer.getFPGATimestamp() < end) {
+				Timer.delay(Constants.kPathFollowerPeriod / 5);
+			}
+			return mFinished;
+		}
+
+		/**
+		 *
+		 * @return Whether the path has run out, been cancelled or been replaced
+		 */
+		public boolean isFinished() {
+			return mFinished;
+		}
+
+		/**
+		 *
+		 * @return The step the path is on
+		 */
+		public int getStep() {
+			return mStep;
+		}
+
+		/**
+		 *
+		 * @return How many seconds of the path have been played
+		 */
+		public double getPathTime() {
+			return mPathTime;
+		}
+
+		/**
+		 *
+		 * @return The largest difference so far between a drive rail's path velocity and its encoder velocity in Ft per Sec
+		 */
+		public double getMaxTrackingError() {
+			return mMaxTrackingError;
+		}
+
+		/**
+		 *
+		 * @return The RMS difference between the drive rails' path velocities and encoder velocities in Ft per Sec
+		 */
+		public double getRmsTrackingError() {
+			return mTrackingSamples == 0 ? 0 : Math.sqrt(mTrackingErrorSquares / mTrackingSamples);
+		}
+
+		/**
+		 *
+		 * @return The largest position error so far of either drive rail in Ft, or 0 without {@link Variables#usePathFeedback}
+		 */
+		public double getMaxPositionError() {
+			return mMaxPositionError;
+		}
+
+		/**
+		 *
+		 * @return The step the largest position error happened on
+		 */
+		public int getWorstPositionErrorStep() {
+			return mWorstPositionErrorStep;
+		}
+
+		/**
+		 *
+		 * @return The RMS position error of both drive rails in Ft
+		 */
+		public double getRmsPositionError() {
+			return mPositionSamples == 0 ? 0 : Math.sqrt(mPositionErrorSquares / mPositionSamples);
+		}
+
+		/**
+		 *
+		 * @param step Desired time vector
+		 * @return How far the left drive rail was behind the path the last time the follower was on the step, in Ft
+		 */
+		public double getLeftPositionError(int step) {
+			return mLeftPositionErrors[step];
+		}
+
+		/**
+		 *
+		 * @param step Desired time vector
+		 * @return How far the right drive rail was behind the path the last time the follower was on the step, in Ft
+		 */
+		public double getRightPositionError(int step) {
+			return mRightPositionErrors[step];
+		}
+
+		/**
+		 *
+		 * @return The path's timing, measured at the follower's rate
+		 */
+		public PathPlayback getPlayback() {
+			return mPlayback;
+		}
+	}
+}
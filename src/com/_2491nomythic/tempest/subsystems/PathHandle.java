@@ -0,0 +1,184 @@
+package com._2491nomythic.tempest.subsystems;
+
+import com._2491nomythic.tempest.lib.cheezy.trajectory.PackedTrajectory;
+import com._2491nomythic.tempest.lib.cheezy.trajectory.Trajectory;
+
+/**
+ * One stored path, resolved from {@link Pathing#getPath(String)} when a command is built
+ * <p>
+ * Holds the step times, left velocities, right velocities and headings as plain arrays indexed by step, so reading a step is just an array read. Immutable.
+ */
+public final class PathHandle {
+	private final String mName;
+	private final double[] mTimes, mLeftVelocities, mRightVelocities, mHeadings;
+	private final int mLength;
+
+	/**
+	 *
+	 * @param name The path's name
+	 * @param leftVelocities {time, velocity} pairs for the left drive rail in Ft per Sec
+	 * @param rightVelocities {time, velocity} pairs for the right drive rail in Ft per Sec
+	 * @param headings {time, heading} pairs in degrees
+	 */
+	PathHandle(String name, double[][] leftVelocities, double[][] rightVelocities, double[][] headings) {
+		mName = name;
+
+		//the generated tables don't always line up, only the steps all three have can be driven
+		mLength = Math.min(headings.length, Math.min(leftVelocities.length, rightVelocities.length));
+
+		mTimes = column(leftVelocities, 0, mLength);
+		mLeftVelocities = column(leftVelocities, 1, mLength);
+		mRightVelocities = column(rightVelocities, 1, mLength);
+		mHeadings = column(headings, 1, mLength);
+	}
+
+	private PathHandle(PathHandle path) {
+		mName = path.mName;
+		mLength = path.mLength;
+		mTimes = path.mTimes;
+		mLeftVelocities = path.mRightVelocities;
+		mRightVelocities = path.mLeftVelocities;
+		mHeadings = path.mHeadings;
+	}
+
+	private static double[] column(double[][] table, int column, int length) {
+		double[] values = new double[length];
+
+		for(int i = 0; i < length; i++) {
+			values[i] = table[i][column];
+		}
+		return values;
+	}
+
+	private double interpolate(double[] values, int step, double fraction) {
+		if(fraction == 0 || step + 1 >= mLength) {
+			return values[step];
+		}
+		return values[step] + fraction * (values[step + 1] - values[step]);
+	}
+
+	/**
+	 *
+	 * @return The same path with the left and right drive rails swapped, for mirroring it to the other side of the ARCADE
+	 */
+	public PathHandle swapped() {
+		return new PathHandle(this);
+	}
+
+	/**
+	 * Builds one drive rail's trajectory in the order it will be played back, for following with a TrajectoryFollower
+	 * <p>
+	 * Positions are integrated from the velocities the same way they are interpolated between steps, and accelerations are the change in velocity to the next step.
+	 * Positions are in Ft, velocities in Ft per Sec, accelerations in Ft per Sec per Sec and headings in radians, like the rest of the trajectory library.
+	 * @param left Build the left drive rail's trajectory rather than the right's
+	 * @param reversed Build it from the path's end back to its start, the way reversed playback drives it
+	 * @return A new trajectory with one segment per step
+	 */
+	public PackedTrajectory toTrajectory(boolean left, boolean reversed) {
+		double[] velocities = left ? mLeftVelocities : mRightVelocities;
+		PackedTrajectory trajectory = new PackedTrajectory(mLength);
+		Trajectory.Segment segment = new Trajectory.Segment();
+		double position = 0;
+
+		for(int i = 0; i < mLength; i++) {
+			int step = reversed ? mLength - 1 - i : i;
+			int nextStep = reversed ? step - 1 : step + 1;
+			boolean hasNext = i + 1 < mLength;
+			double dt = hasNext ? Math.abs(mTimes[nextStep] - mTimes[step]) : 0;
+
+			segment.pos = position;
+			segment.vel = velocities[step];
+			segment.acc = hasNext && dt > 0 ? (velocities[nextStep] - velocities[step]) / dt : 0;
+			segment.heading = Math.toRadians(mHeadings[step]);
+			segment.dt = dt;
+			trajectory.setSegment(i, segment);
+
+			if(hasNext) {
+				position += (velocities[step] + velocities[nextStep]) / 2 * dt;
+			}
+		}
+		return trajectory;
+	}
+
+	/**
+	 *
+	 * @return The path's name
+	 */
+	public String getName() {
+		return mName;
+	}
+
+	/**
+	 *
+	 * @return The number of steps in the path
+	 */
+	public int length() {
+		return mLength;
+	}
+
+	/**
+	 *
+	 * @param step Desired time vector
+	 * @return Time of the step in seconds, as generated
+	 */
+	public double getTime(int step) {
+		return mTimes[step];
+	}
+
+	/**
+	 *
+	 * @param step Desired time vector
+	 * @return Left drive rail velocity in Ft per Sec
+	 */
+	public double getLeftVelocity(int step) {
+		return mLeftVelocities[step];
+	}
+
+	/**
+	 *
+	 * @param step Desired time vector
+	 * @return Right drive rail velocity in Ft per Sec
+	 */
+	public double getRightVelocity(int step) {
+		return mRightVelocities[step];
+	}
+
+	/**
+	 *
+	 * @param step Desired time vector
+	 * @return Heading angle in degrees
+	 */
+	public double getHeading(int step) {
+		return mHeadings[step];
+	}
+
+	/**
+	 *
+	 * @param step Desired time vector
+	 * @param fraction How far towards the next step to go, from 0 to 1
+	 * @return Left drive rail velocity in Ft per Sec, interpolated between steps
+	 */
+	public double getLeftVelocity(int step, double fraction) {
+		return interpolate(mLeftVelocities, step, fraction);
+	}
+
+	/**
+	 *
+	 * @param step Desired time vector
+	 * @param fraction How far towards the next step to go, from 0 to 1
+	 * @return Right drive rail velocity in Ft per Sec, interpolated between steps
+	 */
+	public double getRightVelocity(int step, double fraction) {
+		return interpolate(mRightVelocities, step, fraction);
+	}
+
+	/**
+	 *
+	 * @param step Desired time vector
+	 * @param fraction How far towards the next step to go, from 0 to 1
+	 * @return Heading angle in degrees, interpolated between steps
+	 */
+	public double getHeading(int step, double fraction) {
+		return interpolate(mHeadings, step, fraction);
+	}
+}
@@ -0,0 +1,163 @@
+package com._2491nomythic.tempest.subsystems;
+
+/**
+ * Samples a stored path by time instead of by step
+ * <p>
+ * Remembers the step it last found, so playing forwards or backwards only steps past the ones in between and jumping far is a binary search.
+ * Samples are written into a caller supplied {@link State} without allocating, so a follower can sample at whatever rate it runs.
+ * Times before the start or after the end of the path give its first or last step.
+ */
+public class PathSampler {
+	private static final int kMaxLinearSteps = 8;
+
+	private final PathHandle mPath;
+	private int mStep;
+	private double mFraction;
+
+	/**
+	 * Where a path is at a time, filled in by {@link PathSampler#sample(double, State)}
+	 */
+	public static class State {
+		/** The step at or before the time */
+		public int step;
+		/** How far from the step towards the next one, from 0 to 1 */
+		public double fraction;
+		/** Left drive rail velocity in Ft per Sec */
+		public double leftVelocity;
+		/** Right drive rail velocity in Ft per Sec */
+		public double rightVelocity;
+		/** Left drive rail acceleration in Ft per Sec per Sec, constant between steps */
+		public double leftAcceleration;
+		/** Right drive rail acceleration in Ft per Sec per Sec, constant between steps */
+		public double rightAcceleration;
+		/** Heading angle in degrees */
+		public double heading;
+	}
+
+	/**
+	 *
+	 * @param path The path to sample
+	 */
+	public PathSampler(PathHandle path) {
+		mPath = path;
+	}
+
+	/**
+	 *
+	 * @return How long the path is in seconds
+	 */
+	public double getDuration() {
+		return mPath.length() == 0 ? 0 : mPath.getTime(mPath.length() - 1) - mPath.getTime(0);
+	}
+
+	/**
+	 * Fills in where the path is at a time
+	 * @param time Seconds since the start of the path
+	 * @param state The state to fill in
+	 * @return state, for chaining
+	 */
+	public State sample(double time, State state) {
+		int last = mPath.length() - 1;
+
+		if(last < 0) {
+			state.step = 0;
+			state.fraction = 0;
+			state.leftVelocity = state.rightVelocity = state.leftAcceleration = state.rightAcceleration = state.heading = 0;
+			return state;
+		}
+		seekTo(time);
+
+		int step = mStep;
+		double fraction = mFraction;
+		double stepTime = step < last ? mPath.getTime(step + 1) - mPath.getTime(step) : 0;
+
+		state.step = step;
+		state.fraction = fraction;
+		state.leftVelocity = mPath.getLeftVelocity(step, fraction);
+		state.rightVelocity = mPath.getRightVelocity(step, fraction);
+		state.heading = mPath.getHeading(step, fraction);
+		state.leftAcceleration = stepTime > 0 ? (mPath.getLeftVelocity(step + 1) - mPath.getLeftVelocity(step)) / stepTime : 0;
+		state.rightAcceleration = stepTime > 0 ? (mPath.getRightVelocity(step + 1) - mPath.getRightVelocity(step)) / stepTime : 0;
+		return state;
+	}
+
+	/**
+	 * Finds the step at a time without sampling it, for callers that only need {@link #getStep()} and {@link #getFraction()}
+	 * @param time Seconds since the start of the path
+	 */
+	public void seekTo(double time) {
+		int last = mPath.length() - 1;
+
+		if(last < 0) {
+			return;
+		}
+		time += mPath.getTime(0);
+		seek(time, last);
+
+		double stepTime = mStep < last ? mPath.getTime(mStep + 1) - mPath.getTime(mStep) : 0;
+
+		mFraction = stepTime > 0 && time > mPath.getTime(mStep) ? Math.min(1, (time - mPath.getTime(mStep)) / stepTime) : 0;
+	}
+
+	/**
+	 *
+	 * @return The step at or before the last time sampled
+	 */
+	public int getStep() {
+		return mStep;
+	}
+
+	/**
+	 *
+	 * @return How far the last time sampled was from its step towards the next one, from 0 to 1
+	 */
+	public double getFraction() {
+		return mFraction;
+	}
+
+	private void seek(double time, int last) {
+		if(time <= mPath.getTime(0)) {
+			mStep = 0;
+			return;
+		}
+		if(time >= mPath.getTime(last)) {
+			mStep = last;
+			return;
+		}
+		int step = mStep;
+		int steps = 0;
+
+		while(step > 0 && mPath.getTime(step) > time) {
+			if(++steps > kMaxLinearSteps) {
+				mStep = search(time, last);
+				return;
+			}
+			step--;
+		}
+		while(step < last && mPath.getTime(step + 1) <= time) {
+			if(++steps > kMaxLinearSteps) {
+				mStep = search(time, last);
+				return;
+			}
+			step++;
+		}
+		mStep = step;
+	}
+
+	private int search(double time, int last) {
+		int low = 0;
+		int high = last;
+
+		while(high - low > 1) {
+			int mid = (low + high) >>> 1;
+
+			if(mPath.getTime(mid) <= time) {
+				low = mid;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+}
@@ -0,0 +1,97 @@
+package com._2491nomythic.tempest.subsystems;
+
+import com._2491nomythic.tempest.settings.Constants;
+import com.ctre.phoenix.ErrorCode;
+import com.ctre.phoenix.motion.MotionProfileStatus;
+import com.ctre.phoenix.motion.SetValueMotionProfile;
+import com.ctre.phoenix.motion.TrajectoryPoint;
+import com.ctre.phoenix.motion.TrajectoryPoint.TrajectoryDuration;
+import com.ctre.phoenix.motorcontrol.ControlMode;
+import com.ctre.phoenix.motorcontrol.can.TalonSRX;
+
+/**
+ * Streams motion profiles into a TalonSRX's motion profile buffer
+ */
+public class TalonProfileController implements MotionProfileController {
+	private final TalonSRX mTalon;
+	private final TrajectoryPoint mPoint = new TrajectoryPoint();
+	private final MotionProfileStatus mStatus = new MotionProfileStatus();
+
+	/**
+	 *
+	 * @param talon The master Talon of a drive rail. Its motion profile slot should already be configured.
+	 */
+	public TalonProfileController(TalonSRX talon) {
+		mTalon = talon;
+
+		/* Points carry their own duration and are sent as fast as the Talon runs them */
+		mTalon.configMotionProfileTrajectoryPeriod(0, Constants.kTimeoutMs);
+		mTalon.changeMotionControlFramePeriod(Constants.kMotionProfileFramePeriodMs);
+	}
+
+	public boolean pushPoint(double position, double velocity, int durationMs, boolean zeroPosition, boolean last) {
+		mPoint.position = position;
+		mPoint.velocity = velocity;
+		mPoint.headingDeg = 0;
+		mPoint.profileSlotSelect0 = Constants.kMotionProfileSlotId;
+		mPoint.profileSlotSelect1 = 0;
+		mPoint.timeDur = toDuration(durationMs);
+		mPoint.zeroPos = zeroPosition;
+		mPoint.isLastPoint = last;
+
+		return mTalon.pushMotionProfileTrajectory(mPoint) == ErrorCode.OK;
+	}
+
+	public void processBuffer() {
+		mTalon.processMotionProfileBuffer();
+	}
+
+	public void getStatus(Status status) {
+		mTalon.getMotionProfileStatus(mStatus);
+
+		status.topBufferRem = mStatus.topBufferRem;
+		status.topBufferCnt = mStatus.topBufferCnt;
+		status.btmBufferCnt = mStatus.btmBufferCnt;
+		status.hasUnderrun = mStatus.hasUnderrun;
+		status.isUnderrun = mStatus.isUnderrun;
+		status.activePointValid = mStatus.activePointValid;
+		status.isLast = mStatus.isLast;
+	}
+
+	public void clearUnderrun() {
+		/* Called from the 5ms service loop, so don't wait for the Talon to confirm */
+		mTalon.clearMotionProfileHasUnderrun(0);
+	}
+
+	public void clearProfile() {
+		mTalon.clearMotionProfileTrajectories();
+	}
+
+	public void setOutput(Output output) {
+		switch(output) {
+		case ENABLE:
+			mTalon.set(ControlMode.MotionProfile, SetValueMotionProfile.Enable.value);
+			break;
+		case HOLD:
+			mTalon.set(ControlMode.MotionProfile, SetValueMotionProfile.Hold.value);
+			break;
+		default:
+			mTalon.set(ControlMode.MotionProfile, SetValueMotionProfile.Disable.value);
+			break;
+		}
+	}
+
+	/**
+	 * The Talon only supports a few point durations, so use the closest one. The streamer only sends {@link MotionProfileController#kDurationsMs}.
+	 */
+	static TrajectoryDuration toDuration(int durationMs) {
+		TrajectoryDuration closest = TrajectoryDuration.Trajectory_Duration_0ms;
+
+		for(TrajectoryDuration duration : TrajectoryDuration.values()) {
+			if(Math.abs(duration.value - durationMs) < Math.abs(closest.value - durationMs)) {
+				closest = duration;
+			}
+		}
+		return closest;
+	}
+}
@@ -5,8 +5,8 @@ import java.awt.GraphicsEnvironment;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 
 
@@ -39,25 +39,26 @@ import java.util.List;
 public class FalconPathPlanner
 {
 
-	//Path Variables
-	public double[][] origPath;
-	public double[][] nodeOnlyPath;
-	public double[][] smoothPath;
-	public double[][] leftPath;
-	public double[][] rightPath;
+	//Path Variables, everything but origPath is filled in when its getter is first called after calculate(),
+	//so they are only read through the getters
+	private double[][] origPath;
+	private double[][] nodeOnlyPath;
+	private double[][] smoothPath;
+	private double[][] leftPath;
+	private double[][] rightPath;
 
 	//Orig Velocity
-	public double[][] origCenterVelocity;
-	public double[][] origRightVelocity;
-	public double[][] origLeftVelocity;
+	private double[][] origCenterVelocity;
+	private double[][] origRightVelocity;
+	private double[][] origLeftVelocity;
 
 	//smooth velocity
-	public double[][] smoothCenterVelocity;
-	public double[][] smoothRightVelocity;
-	public double[][] smoothLeftVelocity;
+	private double[][] smoothCenterVelocity;
+	private double[][] smoothRightVelocity;
+	private double[][] smoothLeftVelocity;
 
 	//accumulated heading
-	public double[][] heading;
+	private double[][] heading;
 
 	double totalTime;
 	double totalDistance;
@@ -71,8 +72,55 @@ public class FalconPathPlanner
 	double velocityBeta;
 	double velocityTolerance;
 	
+	SmootherMode smootherMode;
+	InjectionMode injectionMode;
+	double adaptiveTurn;
+
+	//metrics from the last call to calculate()
+	static final int MAX_VELOCITY_FIX_ITERATIONS = 10;
+	int velocityFixIterations;
+	long velocityFixTime;
+	long smootherTime;
+	long calculateTime;
+	int smoothedPoints;
+
+	FalconPathWorkspace workspace;
+	boolean calculated;
+
+	ForkJoinPool pool;
+
 	static StringBuilder _sb;
 
+	/**
+	 * How calculate() adds points between the waypoints.
+	 */
+	public enum InjectionMode
+	{
+		/** Original three stages of evenly spaced injection and smoothing. */
+		UNIFORM,
+		/**
+		 * Same first stage as UNIFORM, then points are only added where the path turns and the result is
+		 * resampled to the same points as UNIFORM. The later stages always solve directly, whatever the smoother
+		 * mode. Smoothing cost follows how curvy the path is rather than how long it takes.
+		 */
+		ADAPTIVE
+	}
+
+	/**
+	 * How smoother() finds the smooth path. Every interior point of a smooth path satisfies
+	 * weight_data*(path[i] - new[i]) + weight_smooth*(new[i-1] + new[i+1] - 2*new[i]) = 0, which is a
+	 * tridiagonal linear system for each coordinate with the end points held fixed.
+	 */
+	public enum SmootherMode
+	{
+		/** Original gradient descent sweeps until the change drops below the tolerance. */
+		ITERATIVE,
+		/** Solve the tridiagonal system exactly with the Thomas algorithm. Order N, no tolerance. */
+		DIRECT,
+		/** Conjugate gradient on the same system, stopping when the residual drops below the tolerance. */
+		CONJUGATE_GRADIENT
+	}
+
 
 	/**
 	 * Constructor, takes a Path of Way Points defined as a double array of column vectors representing the global
@@ -95,8 +143,22 @@ public class FalconPathPlanner
 	 * @param path
 	 */
 	public FalconPathPlanner(double[][] path)
+	{
+		this(path, new FalconPathWorkspace());
+	}
+
+	/**
+	 * Constructor that calculates into an existing workspace, so a new planner for a new set of waypoints
+	 * doesn't need new buffers. The paths from a planner have to be read before another planner
+	 * calculates into the same workspace.
+	 * 
+	 * @param path
+	 * @param workspace
+	 */
+	public FalconPathPlanner(double[][] path, FalconPathWorkspace workspace)
 	{
 		this.origPath = doubleArrayCopy(path);
+		this.workspace = workspace;
 
 		//default values DO NOT MODIFY;
 		pathAlpha = 0.7;
@@ -106,6 +168,10 @@ public class FalconPathPlanner
 		velocityAlpha = 0.1;
 		velocityBeta = 0.3;
 		velocityTolerance = 0.0000001;
+
+		smootherMode = SmootherMode.DIRECT;
+		injectionMode = InjectionMode.UNIFORM;
+		adaptiveTurn = Math.toRadians(2);
 	}
 	
 	 public static int[] answer(int[] data, int n) { 
@@ -223,93 +289,259 @@ public class FalconPathPlanner
 	 */
 	public double[][] inject(double[][] orig, int numToInject)
 	{
-		double morePoints[][];
+		double[] morePoints = new double[2 * (orig.length + ((numToInject)*(orig.length-1)))];
+
+		inject(FalconPathWorkspace.toFlat(orig), orig.length, numToInject, morePoints);
 
-		//create extended 2 Dimensional array to hold additional points
-		morePoints = new double[orig.length + ((numToInject)*(orig.length-1))][2];
+		return FalconPathWorkspace.toRows(morePoints, morePoints.length/2, 2);
+	}
 
+	/**
+	 * Flat version of inject(). Writes numPoints + numToInject*(numPoints-1) points into morePoints.
+	 */
+	static void inject(double[] orig, int numPoints, int numToInject, double[] morePoints)
+	{
 		int index=0;
 
 		//loop through original array
-		for(int i=0; i<orig.length-1; i++)
+		for(int i=0; i<numPoints-1; i++)
 		{
+			double x = orig[2*i];
+			double y = orig[2*i+1];
+			double nextX = orig[2*i+2];
+			double nextY = orig[2*i+3];
+
 			//copy first
-			morePoints[index][0] = orig[i][0];
-			morePoints[index][1] = orig[i][1];
-			index++;
+			morePoints[index++] = x;
+			morePoints[index++] = y;
 
 			for(int j=1; j<numToInject+1; j++)
 			{
 				//calculate intermediate x points between j and j+1 original points
-				morePoints[index][0] = j*((orig[i+1][0]-orig[i][0])/(numToInject+1))+orig[i][0];
+				morePoints[index++] = j*((nextX-x)/(numToInject+1))+x;
 
 				//calculate intermediate y points  between j and j+1 original points
-				morePoints[index][1] = j*((orig[i+1][1]-orig[i][1])/(numToInject+1))+orig[i][1];
-
-				index++;
+				morePoints[index++] = j*((nextY-y)/(numToInject+1))+y;
 			}
 		}
 
 		//copy last
-		morePoints[index][0] =orig[orig.length-1][0];
-		morePoints[index][1] =orig[orig.length-1][1];
-		index++;
-
-		return morePoints;
+		morePoints[index++] = orig[2*numPoints-2];
+		morePoints[index++] = orig[2*numPoints-1];
 	}
 
 
 	/**
 	 * Optimization algorithm, which optimizes the data points in path to create a smooth trajectory.
-	 * This optimization uses gradient descent. While unlikely, it is possible for this algorithm to never
-	 * converge. If this happens, try increasing the tolerance level.
+	 * The method used depends on the smoother mode, see setSmootherMode(). The direct and conjugate
+	 * gradient modes find the point the gradient descent converges towards without sweeping the path
+	 * over and over.
 	 * 
-	 * BigO: N^x, where X is the number of of times the while loop iterates before tolerance is met. 
+	 * BigO: Order N for DIRECT, at most N^2 for CONJUGATE_GRADIENT, N^x for ITERATIVE
 	 * 
 	 * @param path
 	 * @param weight_data
 	 * @param weight_smooth
-	 * @param tolerance
+	 * @param tolerance - only used by the ITERATIVE and CONJUGATE_GRADIENT modes
 	 * @return
 	 */
 	public double[][] smoother(double[][] path, double weight_data, double weight_smooth, double tolerance)
+	{
+		int columns = path[0].length;
+		double[] newPath = FalconPathWorkspace.toFlat(path);
+
+		FalconPathWorkspace.Scratch scratch = new FalconPathWorkspace.Scratch();
+		scratch.ensureCapacity(newPath.length);
+
+		smoother(newPath, path.length, columns, weight_data, weight_smooth, tolerance, scratch);
+
+		return FalconPathWorkspace.toRows(newPath, path.length, columns);
+	}
+
+	/**
+	 * Flat version of smoother(). Smooths every column of path in place and adds the time taken to scratch.
+	 */
+	void smoother(double[] path, int numPoints, int columns, double weight_data, double weight_smooth, double tolerance,
+			FalconPathWorkspace.Scratch scratch)
+	{
+		long start = System.nanoTime();
+
+		//nothing to solve for if there are no interior points or nothing pulls on them
+		if(numPoints >= 3 && (weight_data != 0 || weight_smooth != 0))
+		{
+			if(smootherMode == SmootherMode.DIRECT)
+				smootherDirect(path, numPoints, columns, weight_data, weight_smooth, scratch);
+			else if(smootherMode == SmootherMode.CONJUGATE_GRADIENT)
+				smootherConjugateGradient(path, numPoints, columns, weight_data, weight_smooth, tolerance, scratch);
+			else
+				smootherIterative(path, numPoints, columns, weight_data, weight_smooth, tolerance, scratch);
+		}
+
+		scratch.smootherTime += System.nanoTime() - start;
+	}
+
+	/**
+	 * Original smoother. This optimization uses gradient descent. While unlikely, it is possible for this
+	 * algorithm to never converge. If this happens, try increasing the tolerance level.
+	 * 
+	 * BigO: N^x, where X is the number of of times the while loop iterates before tolerance is met. 
+	 */
+	static void smootherIterative(double[] newPath, int numPoints, int columns, double weight_data, double weight_smooth,
+			double tolerance, FalconPathWorkspace.Scratch scratch)
 	{
 
 		//copy array
-		double[][] newPath = doubleArrayCopy(path);
+		double[] path = scratch.orig;
+		System.arraycopy(newPath, 0, path, 0, numPoints*columns);
 
 		double change = tolerance;
 		while(change >= tolerance)
 		{
 			change = 0.0;
-			for(int i=1; i<path.length-1; i++)
-				for(int j=0; j<path[i].length; j++)
+			for(int i=1; i<numPoints-1; i++)
+				for(int j=0; j<columns; j++)
 				{
-					double aux = newPath[i][j];
-					newPath[i][j] += weight_data * (path[i][j] - newPath[i][j]) + weight_smooth * (newPath[i-1][j] + newPath[i+1][j] - (2.0 * newPath[i][j]));
-					change += Math.abs(aux - newPath[i][j]);	
+					int k = i*columns + j;
+					double aux = newPath[k];
+					newPath[k] += weight_data * (path[k] - newPath[k]) + weight_smooth * (newPath[k-columns] + newPath[k+columns] - (2.0 * newPath[k]));
+					change += Math.abs(aux - newPath[k]);	
 				}					
 		}
 
-		return newPath;
+	}
+
+	/**
+	 * Solves for the smooth path directly with the Thomas algorithm. For each interior point
+	 * -weight_smooth*new[i-1] + (weight_data + 2*weight_smooth)*new[i] - weight_smooth*new[i+1] = weight_data*path[i]
+	 * 
+	 * BigO: Order N
+	 */
+	static void smootherDirect(double[] path, int numPoints, int columns, double weight_data, double weight_smooth,
+			FalconPathWorkspace.Scratch scratch)
+	{
+		int n = numPoints - 2;
+		double diag = weight_data + 2.0 * weight_smooth;
+		double[] upper = scratch.upper;
+		double[] rhs = scratch.rhs;
+
+		for(int j=0; j<columns; j++)
+		{
+			//forward sweep, the fixed end points move to the right hand side
+			for(int i=0; i<n; i++)
+			{
+				double b = weight_data * path[(i+1)*columns + j];
+				double denom = diag;
+
+				if(i == 0)
+					b += weight_smooth * path[j];
+				else
+				{
+					b += weight_smooth * rhs[i-1];
+					denom += weight_smooth * upper[i-1];
+				}
+
+				if(i == n-1)
+					b += weight_smooth * path[(n+1)*columns + j];
+
+				upper[i] = -weight_smooth / denom;
+				rhs[i] = b / denom;
+			}
+
+			//back substitution, safe to do in place now that the sweep has read the original path
+			path[n*columns + j] = rhs[n-1];
+			for(int i=n-2; i>=0; i--)
+				path[(i+1)*columns + j] = rhs[i] - upper[i] * path[(i+2)*columns + j];
+		}
+	}
+
+	/**
+	 * Solves for the smooth path with conjugate gradient, starting from the original path. The system is
+	 * symmetric positive definite so this converges in at most N steps, usually far fewer.
+	 * 
+	 * BigO: Order N per iteration
+	 */
+	static void smootherConjugateGradient(double[] path, int numPoints, int columns, double weight_data, double weight_smooth,
+			double tolerance, FalconPathWorkspace.Scratch scratch)
+	{
+		int n = numPoints - 2;
+		double diag = weight_data + 2.0 * weight_smooth;
+		double[] x = scratch.x;
+		double[] r = scratch.r;
+		double[] p = scratch.p;
+		double[] ap = scratch.ap;
+
+		for(int j=0; j<columns; j++)
+		{
+			//residual of the starting guess, which is the original path
+			double rr = 0;
+			for(int i=0; i<n; i++)
+			{
+				x[i] = path[(i+1)*columns + j];
+				r[i] = weight_smooth * (path[i*columns + j] + path[(i+2)*columns + j] - 2.0 * x[i]);
+				p[i] = r[i];
+				rr += r[i] * r[i];
+			}
+
+			for(int k=0; k<n && Math.sqrt(rr) >= tolerance; k++)
+			{
+				double pap = 0;
+				for(int i=0; i<n; i++)
+				{
+					ap[i] = diag * p[i];
+					if(i > 0)
+						ap[i] -= weight_smooth * p[i-1];
+					if(i < n-1)
+						ap[i] -= weight_smooth * p[i+1];
+					pap += p[i] * ap[i];
+				}
+
+				double alpha = rr / pap;
+				double rrNew = 0;
+				for(int i=0; i<n; i++)
+				{
+					x[i] += alpha * p[i];
+					r[i] -= alpha * ap[i];
+					rrNew += r[i] * r[i];
+				}
+
+				double beta = rrNew / rr;
+				for(int i=0; i<n; i++)
+					p[i] = r[i] + beta * p[i];
+				rr = rrNew;
+			}
 
+			for(int i=0; i<n; i++)
+				path[(i+1)*columns + j] = x[i];
+		}
 	}
 
 	/**
 	 * reduces the path into only nodes which change direction. This allows the algorithm to know at what points
 	 * the original WayPoint vector changes. 
 	 * 
-	 * BigO: Order N + Order M, Where N is length of original Path, and M is length of Nodes found in Path
+	 * BigO: Order N
 	 * @param path
 	 * @return
 	 */
 	public static double[][] nodeOnlyWayPoints(double[][] path)
 	{
+		double[] nodes = new double[2 * path.length];
+		int numNodes = nodeOnlyWayPoints(path, nodes);
 
-		List<double[]> li = new LinkedList<double[]>();
+		return FalconPathWorkspace.toRows(nodes, numNodes, 2);
+	}
+
+	/**
+	 * Flat version of nodeOnlyWayPoints(). nodes must have room for every point of path.
+	 * @return the number of nodes written
+	 */
+	static int nodeOnlyWayPoints(double[][] path, double[] nodes)
+	{
+		int index = 0;
 
 		//save first value
-		li.add(path[0]);
+		nodes[index++] = path[0][0];
+		nodes[index++] = path[0][1];
 
 		//find intermediate nodes
 		for(int i=1; i<path.length-1; i++)
@@ -320,22 +552,17 @@ public class FalconPathPlanner
 
 			//determine if both vectors have a change in direction
 			if(Math.abs(vector2-vector1)>=0.01)
-				li.add(path[i]);					
+			{
+				nodes[index++] = path[i][0];
+				nodes[index++] = path[i][1];
+			}
 		}
 
 		//save last
-		li.add(path[path.length-1]);
-
-		//re-write nodes into new 2D Array
-		double[][] temp = new double[li.size()][2];
+		nodes[index++] = path[path.length-1][0];
+		nodes[index++] = path[path.length-1][1];
 
-		for (int i = 0; i < li.size(); i++)
-		{
-			temp[i][0] = li.get(i)[0];
-			temp[i][1] = li.get(i)[1];
-		}	
-
-		return temp;
+		return index/2;
 	}
 
 
@@ -350,41 +577,46 @@ public class FalconPathPlanner
 	 */
 	double[][] velocity(double[][] smoothPath, double timeStep)
 	{
-		double[] dxdt = new double[smoothPath.length];
-		double[] dydt = new double[smoothPath.length];
-		double[][] velocity = new double[smoothPath.length][2];
+		double[] velocity = new double[2*smoothPath.length];
+
+		velocity(FalconPathWorkspace.toFlat(smoothPath), smoothPath.length, timeStep, velocity);
 
+		return FalconPathWorkspace.toRows(velocity, smoothPath.length, 2);
+	}
+
+	/**
+	 * Flat version of velocity(). Writes {time, velocity} pairs into velocity.
+	 */
+	static void velocity(double[] smoothPath, int numPoints, double timeStep, double[] velocity)
+	{
 		//set first instance to zero
-		dxdt[0]=0;
-		dydt[0]=0;
-		velocity[0][0]=0;
-		velocity[0][1]=0;
-		heading[0][1]=0;
+		velocity[0]=0;
+		velocity[1]=0;
 
-		for(int i=1; i<smoothPath.length; i++)
+		for(int i=1; i<numPoints; i++)
 		{
-			dxdt[i] = (smoothPath[i][0]-smoothPath[i-1][0])/timeStep;
-			dydt[i] = (smoothPath[i][1]-smoothPath[i-1][1])/timeStep;
+			double dxdt = (smoothPath[2*i]-smoothPath[2*i-2])/timeStep;
+			double dydt = (smoothPath[2*i+1]-smoothPath[2*i-1])/timeStep;
 
 			//create time vector
-			velocity[i][0]=velocity[i-1][0]+timeStep;
-			heading[i][0]=heading[i-1][0]+timeStep;
+			velocity[2*i]=velocity[2*i-2]+timeStep;
 
 			//calculate velocity
-			velocity[i][1] = Math.sqrt(Math.pow(dxdt[i],2) + Math.pow(dydt[i],2));
+			velocity[2*i+1] = Math.sqrt(Math.pow(dxdt,2) + Math.pow(dydt,2));
 		}
-
-
-		return velocity;
-
 	}
+
 	/**
 	 * optimize velocity by minimizing the error distance at the end of travel
 	 * when this function converges, the fixed velocity vector will be smooth, start
 	 * and end with 0 velocity, and travel the same final distance as the original
 	 * un-smoothed velocity profile
 	 * 
-	 * This Algorithm may never converge. If this happens, reduce tolerance. 
+	 * The distance error is linear in how far the interior velocities are shifted, so the shift is
+	 * solved for directly. The error is then measured again in case of round off, at most
+	 * MAX_VELOCITY_FIX_ITERATIONS times.
+	 * 
+	 * BigO: Order N
 	 * 
 	 * @param smoothVelocity
 	 * @param origVelocity
@@ -393,45 +625,44 @@ public class FalconPathPlanner
 	 */
 	double[][] velocityFix(double[][] smoothVelocity, double[][] origVelocity, double tolerance)
 	{
+		//copy smooth velocity into new Vector
+		double[] fixVel = FalconPathWorkspace.toFlat(smoothVelocity);
 
-		/*pseudo
-		 * 1. Find Error Between Original Velocity and Smooth Velocity
-		 * 2. Keep increasing the velocity between the first and last node of the smooth Velocity by a small amount
-		 * 3. Recalculate the difference, stop if threshold is met or repeat step 2 until the final threshold is met.
-		 * 3. Return the updated smoothVelocity
-		 */
+		velocityFix(fixVel, FalconPathWorkspace.toFlat(origVelocity), smoothVelocity.length, tolerance,
+				new FalconPathWorkspace.Scratch());
 
-		//calculate error difference
-		double[] difference = errorSum(origVelocity,smoothVelocity);
+		return FalconPathWorkspace.toRows(fixVel, smoothVelocity.length, 2);
+	}
 
+	/**
+	 * Flat version of velocityFix(). Fixes fixVel in place and adds its iterations and time to scratch.
+	 */
+	static void velocityFix(double[] fixVel, double[] origVelocity, int numPoints, double tolerance,
+			FalconPathWorkspace.Scratch scratch)
+	{
+		long start = System.nanoTime();
 
-		//copy smooth velocity into new Vector
-		double[][] fixVel = new double[smoothVelocity.length][2];
+		double timeStep = origVelocity[2]-origVelocity[0];
+		int interior = numPoints-2;
 
-		for (int i=0; i<smoothVelocity.length; i++)
-		{
-			fixVel[i][0] = smoothVelocity[i][0];
-			fixVel[i][1] = smoothVelocity[i][1];
-		}
+		//calculate error difference
+		double difference = errorSum(origVelocity, fixVel, numPoints, timeStep);
 
-		//optimize velocity by minimizing the error distance at the end of travel
-		//when this converges, the fixed velocity vector will be smooth, start
-		//and end with 0 velocity, and travel the same final distance as the original
-		//un-smoothed velocity profile
-		double increase = 0.0;
-		while (Math.abs(difference[difference.length-1]) > tolerance)
+		//shifting every interior velocity down by x changes the final distance by -x*interior*timeStep
+		int iterations = 0;
+		while (interior > 0 && Math.abs(difference) > tolerance && iterations < MAX_VELOCITY_FIX_ITERATIONS)
 		{
-			increase = difference[difference.length-1]/1/50;
+			double increase = difference/(interior*timeStep);
 
-			for(int i=1;i<fixVel.length-1; i++)
-				fixVel[i][1] = fixVel[i][1] - increase;
+			for(int i=1;i<numPoints-1; i++)
+				fixVel[2*i+1] = fixVel[2*i+1] - increase;
 
-			difference = errorSum(origVelocity,fixVel);
+			difference = errorSum(origVelocity, fixVel, numPoints, timeStep);
+			iterations++;
 		}
 
-		//fixVel =  smoother(fixVel, 0.001, 0.001, 0.0000001);
-		return fixVel;
-
+		scratch.velocityFixIterations += iterations;
+		scratch.velocityFixTime += System.nanoTime() - start;
 	}
 
 
@@ -444,34 +675,22 @@ public class FalconPathPlanner
 	 * BigO: Order N
 	 * @param origVelocity
 	 * @param smoothVelocity
-	 * @return
+	 * @param numPoints
+	 * @param timeStep
+	 * @return the difference in distance travelled at the end of the path
 	 */
-	private double[] errorSum(double[][] origVelocity, double[][] smoothVelocity)
+	private static double errorSum(double[] origVelocity, double[] smoothVelocity, int numPoints, double timeStep)
 	{
-		//copy vectors
-		double[] tempOrigDist = new double[origVelocity.length];
-		double[] tempSmoothDist = new double[smoothVelocity.length];
-		double[] difference = new double[smoothVelocity.length];
+		double origDist = origVelocity[1];
+		double smoothDist = smoothVelocity[1];
 
-
-		double timeStep = origVelocity[1][0]-origVelocity[0][0];
-
-		//copy first elements
-		tempOrigDist[0] = origVelocity[0][1];
-		tempSmoothDist[0] = smoothVelocity[0][1];
-
-
-		//calculate difference
-		for (int i=1; i<origVelocity.length; i++)
+		for (int i=1; i<numPoints; i++)
 		{
-			tempOrigDist[i] = origVelocity[i][1]*timeStep + tempOrigDist[i-1];
-			tempSmoothDist[i] = smoothVelocity[i][1]*timeStep + tempSmoothDist[i-1];
-
-			difference[i] = tempSmoothDist[i]-tempOrigDist[i];
-
+			origDist = origVelocity[2*i+1]*timeStep + origDist;
+			smoothDist = smoothVelocity[2*i+1]*timeStep + smoothDist;
 		}
 
-		return difference;
+		return smoothDist-origDist;
 	}
 	/**
 	 * This method calculates the optimal parameters for determining what amount of nodes to inject into the path
@@ -485,6 +704,16 @@ public class FalconPathPlanner
 	 * @param timeStep
 	 */
 	public int[] injectionCounter2Steps(double numNodeOnlyPoints, double maxTimeToComplete, double timeStep)
+	{
+		int[] ret = new int[3];
+		injectionCounter2Steps(numNodeOnlyPoints, maxTimeToComplete, timeStep, ret);
+		return ret;
+	}
+
+	/**
+	 * Version of injectionCounter2Steps() that writes the injection counts into ret.
+	 */
+	void injectionCounter2Steps(double numNodeOnlyPoints, double maxTimeToComplete, double timeStep, int[] ret)
 	{
 		int first = 0;
 		int second = 0;
@@ -494,8 +723,6 @@ public class FalconPathPlanner
 
 		numFinalPoints  = 0;
 
-		int[] ret = null;
-
 		double totalPoints = maxTimeToComplete/timeStep;
 
 		if (totalPoints < 100)
@@ -519,7 +746,6 @@ public class FalconPathPlanner
 					}
 				}
 
-			ret = new int[] {first, second, third};
 		}
 		else
 		{
@@ -545,11 +771,11 @@ public class FalconPathPlanner
 						}
 					}
 
-			ret = new int[] {first, second, third};
 		}
 
-
-		return ret;
+		ret[0] = first;
+		ret[1] = second;
+		ret[2] = third;
 	}
 /**
  * Calculates the left and right wheel paths based on robot track width
@@ -561,47 +787,54 @@ public class FalconPathPlanner
  */
 	public void leftRight(double[][] smoothPath, double robotTrackWidth)
 	{
+		int length = 2 * smoothPath.length;
+		double[] leftPath = new double[length];
+		double[] rightPath = new double[length];
+		double[] gradient = new double[length];
 
-		double[][] leftPath = new double[smoothPath.length][2];
-		double[][] rightPath = new double[smoothPath.length][2];
-
-		double[][] gradient = new double[smoothPath.length][2];
+		leftRight(FalconPathWorkspace.toFlat(smoothPath), smoothPath.length, robotTrackWidth, leftPath, rightPath, gradient);
 
-		for(int i = 0; i<smoothPath.length-1; i++)
-			gradient[i][1] = Math.atan2(smoothPath[i+1][1] - smoothPath[i][1],smoothPath[i+1][0] - smoothPath[i][0]);
-
-		gradient[gradient.length-1][1] = gradient[gradient.length-2][1];
+		this.heading = FalconPathWorkspace.toRows(gradient, smoothPath.length, 2);
+		this.leftPath = FalconPathWorkspace.toRows(leftPath, smoothPath.length, 2);
+		this.rightPath = FalconPathWorkspace.toRows(rightPath, smoothPath.length, 2);
+	}
 
+	/**
+	 * Flat version of leftRight(). The heading in degrees goes in the second column of gradient, the first
+	 * column is left at zero.
+	 */
+	static void leftRight(double[] smoothPath, int numPoints, double robotTrackWidth, double[] leftPath, double[] rightPath,
+			double[] gradient)
+	{
+		double angle = 0;
 
-		for (int i=0; i<gradient.length; i++)
+		for (int i=0; i<numPoints; i++)
 		{
-			leftPath[i][0] = (robotTrackWidth/2 * Math.cos(gradient[i][1] + Math.PI/2)) + smoothPath[i][0];
-			leftPath[i][1] = (robotTrackWidth/2 * Math.sin(gradient[i][1] + Math.PI/2)) + smoothPath[i][1];
+			//the last point keeps the direction of the one before it
+			if(i < numPoints-1)
+				angle = Math.atan2(smoothPath[2*i+3] - smoothPath[2*i+1],smoothPath[2*i+2] - smoothPath[2*i]);
+
+			leftPath[2*i] = (robotTrackWidth/2 * Math.cos(angle + Math.PI/2)) + smoothPath[2*i];
+			leftPath[2*i+1] = (robotTrackWidth/2 * Math.sin(angle + Math.PI/2)) + smoothPath[2*i+1];
 
-			rightPath[i][0] = robotTrackWidth/2 * Math.cos(gradient[i][1] - Math.PI/2) + smoothPath[i][0];
-			rightPath[i][1] = robotTrackWidth/2 * Math.sin(gradient[i][1] - Math.PI/2) + smoothPath[i][1];
+			rightPath[2*i] = robotTrackWidth/2 * Math.cos(angle - Math.PI/2) + smoothPath[2*i];
+			rightPath[2*i+1] = robotTrackWidth/2 * Math.sin(angle - Math.PI/2) + smoothPath[2*i+1];
 
 			//convert to degrees 0 to 360 where 0 degrees is +X - axis, accumulated to aline with WPI sensor
-			double deg = Math.toDegrees(gradient[i][1]);
+			double deg = Math.toDegrees(angle);
 
-			gradient[i][1] = deg;
+			gradient[2*i] = 0;
+			gradient[2*i+1] = deg;
 
 			if(i>0)
 			{
-				if((deg-gradient[i-1][1])>180)
-					gradient[i][1] = -360+deg;
+				if((deg-gradient[2*i-1])>180)
+					gradient[2*i+1] = -360+deg;
 
-				if((deg-gradient[i-1][1])<-180)
-					gradient[i][1] = 360+deg;
+				if((deg-gradient[2*i-1])<-180)
+					gradient[2*i+1] = 360+deg;
 			}
-
-
-
 		}
-
-		this.heading = gradient;
-		this.leftPath = leftPath;
-		this.rightPath = rightPath;
 	}
 	
 	/**
@@ -663,10 +896,51 @@ public class FalconPathPlanner
 	}
 
 	/**
-	 * This code will calculate a smooth path based on the program parameters. If the user doesn't set any parameters, the will use the defaults optimized for most cases. The results will be saved into the corresponding
-	 * class members. The user can then access .smoothPath, .leftPath, .rightPath, .smoothCenterVelocity, .smoothRightVelocity, .smoothLeftVelocity as needed.
+	 * Chooses how smoother() solves for the smooth path. Defaults to DIRECT.
+	 * @param mode
+	 */
+	public void setSmootherMode(SmootherMode mode)
+	{
+		smootherMode = mode;
+	}
+
+	/**
+	 * Chooses how calculate() adds points between the waypoints. Defaults to UNIFORM.
+	 * @param mode
+	 */
+	public void setInjectionMode(InjectionMode mode)
+	{
+		injectionMode = mode;
+	}
+
+	/**
+	 * How far the heading can turn between two points before ADAPTIVE injection adds more. Defaults to 2 degrees.
+	 * @param degrees
+	 */
+	public void setAdaptiveTurn(double degrees)
+	{
+		adaptiveTurn = Math.toRadians(degrees);
+	}
+
+	/**
+	 * Lets calculate() work out the left and right velocity profiles on the given pool while the calling thread
+	 * does the center one. The results are the same as without a pool. Pass null to do everything on the calling
+	 * thread, which is the default. Using a pool costs a couple of small task allocations per calculate().
+	 * @param pool
+	 */
+	public void setPool(ForkJoinPool pool)
+	{
+		this.pool = pool;
+	}
+
+	/**
+	 * This code will calculate a smooth path based on the program parameters. If the user doesn't set any parameters, the will use the defaults optimized for most cases. The results will be saved into the
+	 * planner's workspace. The user can then call getSmoothPath(), getLeftPath(), getRightPath(), getSmoothCenterVelocity(), getSmoothRightVelocity(), getSmoothLeftVelocity() as needed, which
+	 * also fill in the corresponding class members.
+	 * 
+	 * After calling this method, the user only needs to pass getSmoothRightVelocity()[1], getSmoothLeftVelocity()[1] to the corresponding speed controllers on the Robot, and step through each setPoint.
 	 * 
-	 * After calling this method, the user only needs to pass .smoothRightVelocity[1], .smoothLeftVelocity[1] to the corresponding speed controllers on the Robot, and step through each setPoint.
+	 * Calculating again allocates nothing once the workspace is big enough for the path.
 	 * 
 	 * @param totalTime - time the user wishes to complete the path in seconds. (this is the maximum amount of time the robot is allowed to take to traverse the path.)
 	 * @param timeStep - the frequency at which the robot controller is running on the robot. 
@@ -684,54 +958,483 @@ public class FalconPathPlanner
 		 * 4. Calculate left and right wheel paths by calculating parallel points at each datapoint 
 		 */
 
+		long start = System.nanoTime();
+
+		//drop the views of the last result, the getters rebuild them from the workspace
+		calculated = false;
+		nodeOnlyPath = null;
+		smoothPath = null;
+		leftPath = null;
+		rightPath = null;
+		heading = null;
+		origCenterVelocity = null;
+		origLeftVelocity = null;
+		origRightVelocity = null;
+		smoothCenterVelocity = null;
+		smoothLeftVelocity = null;
+		smoothRightVelocity = null;
+
+		FalconPathWorkspace ws = workspace;
+		ws.resetMetrics();
 
 		//first find only direction changing nodes
-		nodeOnlyPath = nodeOnlyWayPoints(origPath);
+		ws.nodes = FalconPathWorkspace.grow(ws.nodes, 2 * origPath.length);
+		ws.numNodes = nodeOnlyWayPoints(origPath, ws.nodes);
 
 		//Figure out how many nodes to inject
-		int[] inject = injectionCounter2Steps(nodeOnlyPath.length, totalTime, timeStep);
+		int[] inject = ws.inject;
+		injectionCounter2Steps(ws.numNodes, totalTime, timeStep, inject);
 
-		//iteratively inject and smooth the path
+		int numPoints = ws.numNodes;
 		for(int i=0; i<inject.length; i++)
+			numPoints += inject[i] * (numPoints-1);
+		ws.ensureCapacity(numPoints);
+
+		double[] path;
+		if(injectionMode == InjectionMode.ADAPTIVE)
+			path = injectAdaptive(ws, inject, numPoints);
+		else
 		{
-			if(i==0)
+			smoothedPoints = numPoints;
+
+			//iteratively inject and smooth the path
+			path = ws.nodes;
+			numPoints = ws.numNodes;
+			for(int i=0; i<inject.length; i++)
 			{
-				smoothPath = inject(nodeOnlyPath,inject[0]);
-				smoothPath = smoother(smoothPath, pathAlpha, pathBeta, pathTolerance);	
+				double[] morePoints = path == ws.pathA ? ws.pathB : ws.pathA;
+				inject(path, numPoints, inject[i], morePoints);
+				numPoints += inject[i] * (numPoints-1);
+				path = morePoints;
+
+				if(i==0)
+					smoother(path, numPoints, 2, pathAlpha, pathBeta, pathTolerance, ws.pathScratch);
+				else
+					smoother(path, numPoints, 2, 0.1, 0.3, 0.0000001, ws.pathScratch);
 			}
-			else
+		}
+		ws.smoothPath = path;
+		ws.numPoints = numPoints;
+
+		//calculate left and right path based on center path
+		leftRight(path, numPoints, robotTrackWidth, ws.leftPath, ws.rightPath, ws.heading);
+
+		//heading shares the velocity time vector, and starts at zero
+		ws.heading[1] = 0;
+		for(int i=1; i<numPoints; i++)
+			ws.heading[2*i] = ws.heading[2*i-2] + timeStep;
+
+		//the three profiles only share the read only paths, so they can be worked out at the same time
+		if(pool != null)
+		{
+			final int points = numPoints;
+			ForkJoinTask<?> left = pool.submit(() -> velocityProfile(ws.leftPath, points, timeStep, ws.origLeftVelocity,
+					ws.smoothLeftVelocity, ws.leftScratch));
+			ForkJoinTask<?> right = pool.submit(() -> velocityProfile(ws.rightPath, points, timeStep, ws.origRightVelocity,
+					ws.smoothRightVelocity, ws.rightScratch));
+
+			velocityProfile(ws.smoothPath, numPoints, timeStep, ws.origCenterVelocity, ws.smoothCenterVelocity, ws.centerScratch);
+
+			left.join();
+			right.join();
+		}
+		else
+		{
+			velocityProfile(ws.smoothPath, numPoints, timeStep, ws.origCenterVelocity, ws.smoothCenterVelocity, ws.centerScratch);
+			velocityProfile(ws.leftPath, numPoints, timeStep, ws.origLeftVelocity, ws.smoothLeftVelocity, ws.leftScratch);
+			velocityProfile(ws.rightPath, numPoints, timeStep, ws.origRightVelocity, ws.smoothRightVelocity, ws.rightScratch);
+		}
+
+		velocityFixIterations = ws.centerScratch.velocityFixIterations + ws.leftScratch.velocityFixIterations
+				+ ws.rightScratch.velocityFixIterations;
+		velocityFixTime = ws.centerScratch.velocityFixTime + ws.leftScratch.velocityFixTime + ws.rightScratch.velocityFixTime;
+		smootherTime = ws.pathScratch.smootherTime + ws.centerScratch.smootherTime + ws.leftScratch.smootherTime
+				+ ws.rightScratch.smootherTime;
+
+		calculated = true;
+		calculateTime = System.nanoTime() - start;
+	}
+
+	/**
+	 * Adaptive version of the inject and smooth stages in calculate().
+	 * 
+	 * 1. Inject and smooth the nodes the same as the first UNIFORM stage
+	 * 2. Between each pair of points, inject one point for every adaptiveTurn radians the path turns at either end,
+	 *    up to as many as the later UNIFORM stages would add
+	 * 3. Smooth twice with the later UNIFORM stages' weights, using smootherSpaced() so points spread out along
+	 *    straights are smoothed as if they were as close together as UNIFORM puts them
+	 * 4. Resample to numFinalPoints points spaced evenly along the node segments, which is where the UNIFORM
+	 *    stages put their points, using a cubic through the adaptive points
+	 * 
+	 * BigO: Order numFinalPoints
+	 * 
+	 * @return the buffer holding the final path
+	 */
+	double[] injectAdaptive(FalconPathWorkspace ws, int[] inject, int numFinalPoints)
+	{
+		//same first stage as UNIFORM, remembering where along the node path each point is, in segments
+		double[] path = ws.pathA;
+		double[] param = ws.paramA;
+		inject(ws.nodes, ws.numNodes, inject[0], path);
+		int numPoints = ws.numNodes + inject[0] * (ws.numNodes-1);
+		for(int i=0; i<numPoints; i++)
+			param[i] = (double) i / (inject[0]+1);
+
+		smoother(path, numPoints, 2, pathAlpha, pathBeta, pathTolerance, ws.pathScratch);
+
+		//only inject where the path turns
+		int maxInject = (inject[1]+1) * (inject[2]+1) - 1;
+		double[] morePoints = ws.pathB;
+		double[] moreParam = ws.paramB;
+		int index = 0;
+
+		for(int i=0; i<numPoints-1; i++)
+		{
+			morePoints[2*index] = path[2*i];
+			morePoints[2*index+1] = path[2*i+1];
+			moreParam[index++] = param[i];
+
+			double turn = turnAngle(path, numPoints, i) + turnAngle(path, numPoints, i+1);
+			int count = Math.min(maxInject, (int) Math.ceil(turn / adaptiveTurn));
+
+			for(int j=1; j<=count; j++)
 			{
-				smoothPath = inject(smoothPath,inject[i]);
-				smoothPath = smoother(smoothPath, 0.1, 0.3, 0.0000001);	
+				double t = (double) j / (count+1);
+				morePoints[2*index] = t*(path[2*i+2]-path[2*i])+path[2*i];
+				morePoints[2*index+1] = t*(path[2*i+3]-path[2*i+1])+path[2*i+1];
+				moreParam[index++] = t*(param[i+1]-param[i])+param[i];
 			}
 		}
+		morePoints[2*index] = path[2*numPoints-2];
+		morePoints[2*index+1] = path[2*numPoints-1];
+		moreParam[index++] = param[numPoints-1];
+		numPoints = index;
+		smoothedPoints = numPoints;
+
+		//the spacing UNIFORM smooths at in its second and third stages
+		double spacing = 1.0 / ((inject[0]+1) * (inject[1]+1));
+		smootherSpaced(morePoints, moreParam, numPoints, 0.1, 0.3, spacing, ws.pathScratch);
+		smootherSpaced(morePoints, moreParam, numPoints, 0.1, 0.3, spacing / (inject[2]+1), ws.pathScratch);
+
+		//resample evenly along the node path
+		double[] tangents = ws.tangents;
+		hermiteTangents(morePoints, moreParam, numPoints, tangents);
+		double end = moreParam[numPoints-1];
+		int segment = 0;
+		for(int i=0; i<numFinalPoints; i++)
+		{
+			double s = end * i / (numFinalPoints-1);
+			while(segment < numPoints-2 && moreParam[segment+1] < s)
+				segment++;
 
-		//calculate left and right path based on center path
-		leftRight(smoothPath, robotTrackWidth);
+			double t = (s - moreParam[segment]) / (moreParam[segment+1] - moreParam[segment]);
+			hermite(morePoints, moreParam, tangents, segment, t, path, i);
+		}
+
+		return path;
+	}
+
+	/**
+	 * @return how far the path turns at point i in radians, zero at the ends
+	 */
+	static double turnAngle(double[] path, int numPoints, int i)
+	{
+		if(i == 0 || i == numPoints-1)
+			return 0;
+
+		double ax = path[2*i]-path[2*i-2];
+		double ay = path[2*i+1]-path[2*i-1];
+		double bx = path[2*i+2]-path[2*i];
+		double by = path[2*i+3]-path[2*i+1];
+
+		return Math.abs(Math.atan2(ax*by - ay*bx, ax*bx + ay*by));
+	}
+
+	/**
+	 * Direct smoother for points that aren't evenly spaced. param is how far along the path each point is, and
+	 * spacing is the param distance between points that the weights are meant for. The smoothing term is scaled
+	 * by the actual spacing around each point, so the result doesn't depend on how many points there are. For
+	 * points exactly spacing apart this solves the same system as smootherDirect().
+	 * 
+	 * BigO: Order N
+	 */
+	void smootherSpaced(double[] path, double[] param, int numPoints, double weight_data, double weight_smooth,
+			double spacing, FalconPathWorkspace.Scratch scratch)
+	{
+		long start = System.nanoTime();
 
-		origCenterVelocity = velocity(smoothPath, timeStep);
-		origLeftVelocity = velocity(leftPath, timeStep);
-		origRightVelocity = velocity(rightPath, timeStep);
+		int n = numPoints - 2;
+		double[] upper = scratch.upper;
+		double[] rhs = scratch.rhs;
+		double smooth = weight_smooth * spacing * spacing;
+
+		for(int j=0; j<2 && n>0; j++)
+		{
+			//forward sweep, the fixed end points move to the right hand side
+			for(int i=0; i<n; i++)
+			{
+				double before = param[i+1] - param[i];
+				double after = param[i+2] - param[i+1];
+				double lower = 2.0 * smooth / ((before + after) * before);
+				double higher = 2.0 * smooth / ((before + after) * after);
+
+				double b = weight_data * path[2*(i+1) + j];
+				double denom = weight_data + lower + higher;
+
+				if(i == 0)
+					b += lower * path[j];
+				else
+				{
+					b += lower * rhs[i-1];
+					denom += lower * upper[i-1];
+				}
+
+				if(i == n-1)
+					b += higher * path[2*(n+1) + j];
+
+				upper[i] = -higher / denom;
+				rhs[i] = b / denom;
+			}
+
+			//back substitution
+			path[2*n + j] = rhs[n-1];
+			for(int i=n-2; i>=0; i--)
+				path[2*(i+1) + j] = rhs[i] - upper[i] * path[2*(i+2) + j];
+		}
+
+		scratch.smootherTime += System.nanoTime() - start;
+	}
+
+	/**
+	 * Finite difference tangents of a path with respect to param, one sided at the ends.
+	 */
+	static void hermiteTangents(double[] path, double[] param, int numPoints, double[] tangents)
+	{
+		for(int i=0; i<numPoints; i++)
+		{
+			int before = Math.max(i-1, 0);
+			int after = Math.min(i+1, numPoints-1);
+			double ds = param[after] - param[before];
+
+			tangents[2*i] = (path[2*after] - path[2*before]) / ds;
+			tangents[2*i+1] = (path[2*after+1] - path[2*before+1]) / ds;
+		}
+	}
+
+	/**
+	 * Evaluates the cubic Hermite between points i and i+1 at t from 0 to 1 and writes it to point index of out.
+	 */
+	static void hermite(double[] path, double[] param, double[] tangents, int i, double t, double[] out, int index)
+	{
+		double h = param[i+1] - param[i];
+		double t2 = t * t;
+		double t3 = t2 * t;
+		double h00 = 2*t3 - 3*t2 + 1;
+		double h10 = t3 - 2*t2 + t;
+		double h01 = -2*t3 + 3*t2;
+		double h11 = t3 - t2;
+
+		for(int j=0; j<2; j++)
+			out[2*index+j] = h00*path[2*i+j] + h10*h*tangents[2*i+j] + h01*path[2*i+2+j] + h11*h*tangents[2*i+2+j];
+	}
+
+	/**
+	 * Calculates the velocity along a path, then smooths it with zero final velocity and fixes the distance
+	 * error that introduces.
+	 */
+	void velocityProfile(double[] path, int numPoints, double timeStep, double[] origVelocity, double[] smoothVelocity,
+			FalconPathWorkspace.Scratch scratch)
+	{
+		velocity(path, numPoints, timeStep, origVelocity);
 
 		//copy smooth velocities into fix Velocities
-		smoothCenterVelocity =  doubleArrayCopy(origCenterVelocity);
-		smoothLeftVelocity =  doubleArrayCopy(origLeftVelocity);
-		smoothRightVelocity =  doubleArrayCopy(origRightVelocity);
+		System.arraycopy(origVelocity, 0, smoothVelocity, 0, 2 * numPoints);
 
 		//set final vel to zero
-		smoothCenterVelocity[smoothCenterVelocity.length-1][1] = 0.0;
-		smoothLeftVelocity[smoothLeftVelocity.length-1][1] = 0.0;
-		smoothRightVelocity[smoothRightVelocity.length-1][1] = 0.0;
+		smoothVelocity[2*numPoints-1] = 0.0;
 
 		//Smooth velocity with zero final V
-		smoothCenterVelocity = smoother(smoothCenterVelocity, velocityAlpha, velocityBeta, velocityTolerance);
-		smoothLeftVelocity = smoother(smoothLeftVelocity, velocityAlpha, velocityBeta, velocityTolerance);
-		smoothRightVelocity = smoother(smoothRightVelocity,velocityAlpha, velocityBeta, velocityTolerance);
+		smoother(smoothVelocity, numPoints, 2, velocityAlpha, velocityBeta, velocityTolerance, scratch);
 
 		//fix velocity distance error
-		smoothCenterVelocity = velocityFix(smoothCenterVelocity, origCenterVelocity, 0.0000001);
-		smoothLeftVelocity = velocityFix(smoothLeftVelocity, origLeftVelocity, 0.0000001);
-		smoothRightVelocity = velocityFix(smoothRightVelocity, origRightVelocity, 0.0000001);
+		velocityFix(smoothVelocity, origVelocity, numPoints, 0.0000001, scratch);
+	}
+
+	/**
+	 * @return the waypoints the planner was made with, as {x, y} rows
+	 */
+	public double[][] getOrigPath()
+	{
+		return origPath;
+	}
+
+	/**
+	 * @return waypoints from the last calculate() where the path changes direction, as {x, y} rows
+	 */
+	public double[][] getNodeOnlyPath()
+	{
+		if(nodeOnlyPath == null && calculated)
+			nodeOnlyPath = FalconPathWorkspace.toRows(workspace.nodes, workspace.numNodes, 2);
+
+		return nodeOnlyPath;
+	}
+
+	/**
+	 * @return center path from the last calculate(), as {x, y} rows
+	 */
+	public double[][] getSmoothPath()
+	{
+		if(smoothPath == null && calculated)
+			smoothPath = FalconPathWorkspace.toRows(workspace.smoothPath, workspace.numPoints, 2);
+
+		return smoothPath;
+	}
+
+	/**
+	 * @return left wheel path from the last calculate(), as {x, y} rows
+	 */
+	public double[][] getLeftPath()
+	{
+		if(leftPath == null && calculated)
+			leftPath = FalconPathWorkspace.toRows(workspace.leftPath, workspace.numPoints, 2);
+
+		return leftPath;
+	}
+
+	/**
+	 * @return right wheel path from the last calculate(), as {x, y} rows
+	 */
+	public double[][] getRightPath()
+	{
+		if(rightPath == null && calculated)
+			rightPath = FalconPathWorkspace.toRows(workspace.rightPath, workspace.numPoints, 2);
+
+		return rightPath;
+	}
+
+	/**
+	 * @return accumulated heading from the last calculate(), as {time, degrees} rows
+	 */
+	public double[][] getHeading()
+	{
+		if(heading == null && calculated)
+			heading = FalconPathWorkspace.toRows(workspace.heading, workspace.numPoints, 2);
+
+		return heading;
+	}
+
+	/**
+	 * @return unsmoothed center velocity from the last calculate(), as {time, velocity} rows
+	 */
+	public double[][] getOrigCenterVelocity()
+	{
+		if(origCenterVelocity == null && calculated)
+			origCenterVelocity = FalconPathWorkspace.toRows(workspace.origCenterVelocity, workspace.numPoints, 2);
+
+		return origCenterVelocity;
+	}
+
+	/**
+	 * @return unsmoothed left wheel velocity from the last calculate(), as {time, velocity} rows
+	 */
+	public double[][] getOrigLeftVelocity()
+	{
+		if(origLeftVelocity == null && calculated)
+			origLeftVelocity = FalconPathWorkspace.toRows(workspace.origLeftVelocity, workspace.numPoints, 2);
+
+		return origLeftVelocity;
+	}
+
+	/**
+	 * @return unsmoothed right wheel velocity from the last calculate(), as {time, velocity} rows
+	 */
+	public double[][] getOrigRightVelocity()
+	{
+		if(origRightVelocity == null && calculated)
+			origRightVelocity = FalconPathWorkspace.toRows(workspace.origRightVelocity, workspace.numPoints, 2);
+
+		return origRightVelocity;
+	}
+
+	/**
+	 * @return center velocity from the last calculate(), as {time, velocity} rows
+	 */
+	public double[][] getSmoothCenterVelocity()
+	{
+		if(smoothCenterVelocity == null && calculated)
+			smoothCenterVelocity = FalconPathWorkspace.toRows(workspace.smoothCenterVelocity, workspace.numPoints, 2);
+
+		return smoothCenterVelocity;
+	}
+
+	/**
+	 * @return left wheel velocity from the last calculate(), as {time, velocity} rows
+	 */
+	public double[][] getSmoothLeftVelocity()
+	{
+		if(smoothLeftVelocity == null && calculated)
+			smoothLeftVelocity = FalconPathWorkspace.toRows(workspace.smoothLeftVelocity, workspace.numPoints, 2);
+
+		return smoothLeftVelocity;
+	}
+
+	/**
+	 * @return right wheel velocity from the last calculate(), as {time, velocity} rows
+	 */
+	public double[][] getSmoothRightVelocity()
+	{
+		if(smoothRightVelocity == null && calculated)
+			smoothRightVelocity = FalconPathWorkspace.toRows(workspace.smoothRightVelocity, workspace.numPoints, 2);
+
+		return smoothRightVelocity;
+	}
+
+	/**
+	 * @return the workspace holding the last result of calculate()
+	 */
+	public FalconPathWorkspace getWorkspace()
+	{
+		return workspace;
+	}
+
+	/**
+	 * @return total number of corrections made by velocityFix during the last calculate()
+	 */
+	public int getVelocityFixIterations()
+	{
+		return velocityFixIterations;
+	}
+
+	/**
+	 * @return time spent in velocityFix during the last calculate(), in milliseconds, summed over all threads
+	 */
+	public double getVelocityFixTimeMs()
+	{
+		return velocityFixTime / 1e6;
+	}
+
+	/**
+	 * @return time spent in smoother during the last calculate(), in milliseconds, summed over all threads
+	 */
+	public double getSmootherTimeMs()
+	{
+		return smootherTime / 1e6;
+	}
+
+	/**
+	 * @return number of points the last calculate() smoothed in its later inject and smooth stages
+	 */
+	public int getSmoothedPoints()
+	{
+		return smoothedPoints;
+	}
+
+	/**
+	 * @return total time taken by the last calculate(), in milliseconds
+	 */
+	public double getCalculateTimeMs()
+	{
+		return calculateTime / 1e6;
 	}
 
 	//main program
@@ -874,10 +1577,13 @@ public class FalconPathPlanner
 		path.calculate(totalTime, timeStep, robotTrackWidth);
 
 		System.out.println("Time in ms: " + (System.currentTimeMillis()-start));
+		System.out.println("calculate() in ms: " + path.getCalculateTimeMs() + " (smoother " + path.getSmootherTimeMs()
+				+ " over " + path.getSmoothedPoints() + " points, velocityFix " + path.getVelocityFixTimeMs() + " over "
+				+ path.getVelocityFixIterations() + " iterations)");
 		
-		FalconPathPlanner.print(path.smoothLeftVelocity, "LEFTV");
-		FalconPathPlanner.print(path.smoothRightVelocity, "RIGHTV");
-		FalconPathPlanner.print(path.heading, "HEADING");
+		FalconPathPlanner.print(path.getSmoothLeftVelocity(), "LEFTV");
+		FalconPathPlanner.print(path.getSmoothRightVelocity(), "RIGHTV");
+		FalconPathPlanner.print(path.getHeading(), "HEADING");
 
 		if(!GraphicsEnvironment.isHeadless())
 		{
@@ -962,22 +1668,22 @@ public class FalconPathPlanner
 			fig1.addData(cubeLine, Color.yellow);
 
 			/* Waypoint path */
-			fig1.addData(path.nodeOnlyPath,Color.blue,Color.green);
+			fig1.addData(path.getNodeOnlyPath(),Color.blue,Color.green);
 
 			/* Add all other paths */
-			fig1.addData(path.smoothPath, Color.red, Color.blue);
-			fig1.addData(path.leftPath, Color.magenta);
-			fig1.addData(path.rightPath, Color.magenta);
+			fig1.addData(path.getSmoothPath(), Color.red, Color.blue);
+			fig1.addData(path.getLeftPath(), Color.magenta);
+			fig1.addData(path.getRightPath(), Color.magenta);
 			
 			/* Velocity Paths */
-			FalconLinePlot fig2 = new FalconLinePlot(path.smoothCenterVelocity,null,Color.blue);
+			FalconLinePlot fig2 = new FalconLinePlot(path.getSmoothCenterVelocity(),null,Color.blue);
 			fig2.yGridOn();
 			fig2.xGridOn();
 			fig2.setYLabel("Velocity (ft/sec)");
 			fig2.setXLabel("time (seconds)");
 			fig2.setTitle("Velocity Profile for Left and Right Wheels \n Left = Cyan, Right = Magenta");
-			fig2.addData(path.smoothRightVelocity, Color.magenta);
-			fig2.addData(path.smoothLeftVelocity, Color.cyan);
+			fig2.addData(path.getSmoothRightVelocity(), Color.magenta);
+			fig2.addData(path.getSmoothLeftVelocity(), Color.cyan);
 			
 			//example on printing useful path information
 			//System.out.println(path.numFinalPoints);
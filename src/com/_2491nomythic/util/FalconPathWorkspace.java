@@ -0,0 +1,154 @@
+package com._2491nomythic.util;
+
+/**
+ * Buffers used by FalconPathPlanner.calculate(). Paths and velocity profiles are stored as flat
+ * interleaved arrays, {x0, y0, x1, y1, ...} or {t0, v0, t1, v1, ...}, and only grow. Once a planner
+ * has calculated its longest path, calculating again allocates nothing.
+ *
+ * A workspace is not thread safe. Give each planner that runs at the same time its own. Within one
+ * calculate() the center, left and right profiles only touch their own buffers and scratch.
+ */
+public class FalconPathWorkspace
+{
+	//direction changing nodes of the waypoints
+	double[] nodes;
+	int numNodes;
+
+	//inject and smooth alternate between these, smoothPath ends up pointing at one of them
+	double[] pathA;
+	double[] pathB;
+	double[] smoothPath;
+	int numPoints;
+
+	//adaptive injection: how far along the node path each point is, in segments, and the tangent there
+	double[] paramA;
+	double[] paramB;
+	double[] tangents;
+
+	double[] leftPath;
+	double[] rightPath;
+	double[] heading;
+
+	double[] origCenterVelocity;
+	double[] origLeftVelocity;
+	double[] origRightVelocity;
+	double[] smoothCenterVelocity;
+	double[] smoothLeftVelocity;
+	double[] smoothRightVelocity;
+
+	final int[] inject = new int[3];
+
+	//solver scratch for the path and for each of the three velocity profiles
+	final Scratch pathScratch = new Scratch();
+	final Scratch centerScratch = new Scratch();
+	final Scratch leftScratch = new Scratch();
+	final Scratch rightScratch = new Scratch();
+
+	void resetMetrics()
+	{
+		pathScratch.resetMetrics();
+		centerScratch.resetMetrics();
+		leftScratch.resetMetrics();
+		rightScratch.resetMetrics();
+	}
+
+	/**
+	 * Make sure every per point buffer can hold the given number of points.
+	 * @param points
+	 */
+	void ensureCapacity(int points)
+	{
+		int length = 2 * points;
+		pathA = grow(pathA, length);
+		pathB = grow(pathB, length);
+		paramA = grow(paramA, points);
+		paramB = grow(paramB, points);
+		tangents = grow(tangents, length);
+		leftPath = grow(leftPath, length);
+		rightPath = grow(rightPath, length);
+		heading = grow(heading, length);
+		origCenterVelocity = grow(origCenterVelocity, length);
+		origLeftVelocity = grow(origLeftVelocity, length);
+		origRightVelocity = grow(origRightVelocity, length);
+		smoothCenterVelocity = grow(smoothCenterVelocity, length);
+		smoothLeftVelocity = grow(smoothLeftVelocity, length);
+		smoothRightVelocity = grow(smoothRightVelocity, length);
+		pathScratch.ensureCapacity(length);
+		centerScratch.ensureCapacity(length);
+		leftScratch.ensureCapacity(length);
+		rightScratch.ensureCapacity(length);
+	}
+
+	static double[] grow(double[] buffer, int length)
+	{
+		if(buffer != null && buffer.length >= length)
+			return buffer;
+
+		return new double[length];
+	}
+
+	/**
+	 * Copies a flat buffer out into rows of the given width.
+	 */
+	static double[][] toRows(double[] buffer, int rows, int columns)
+	{
+		double[][] temp = new double[rows][columns];
+
+		for(int i=0; i<rows; i++)
+			System.arraycopy(buffer, i*columns, temp[i], 0, columns);
+
+		return temp;
+	}
+
+	/**
+	 * Copies rows of equal width into a flat buffer.
+	 */
+	static double[] toFlat(double[][] rows)
+	{
+		int columns = rows[0].length;
+		double[] temp = new double[rows.length * columns];
+
+		for(int i=0; i<rows.length; i++)
+			System.arraycopy(rows[i], 0, temp, i*columns, columns);
+
+		return temp;
+	}
+
+	/**
+	 * Working arrays for the smoother, and what the smoother and velocityFix cost while using them. Only the
+	 * arrays the current smoother mode needs get used. Each velocity profile has its own so they can be
+	 * calculated at the same time.
+	 */
+	static class Scratch
+	{
+		long smootherTime;
+		long velocityFixTime;
+		int velocityFixIterations;
+
+		double[] orig;
+		double[] upper;
+		double[] rhs;
+		double[] x;
+		double[] r;
+		double[] p;
+		double[] ap;
+
+		void ensureCapacity(int length)
+		{
+			orig = grow(orig, length);
+			upper = grow(upper, length);
+			rhs = grow(rhs, length);
+			x = grow(x, length);
+			r = grow(r, length);
+			p = grow(p, length);
+			ap = grow(ap, length);
+		}
+
+		void resetMetrics()
+		{
+			smootherTime = 0;
+			velocityFixTime = 0;
+			velocityFixIterations = 0;
+		}
+	}
+}
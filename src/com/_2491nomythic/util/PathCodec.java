@@ -0,0 +1,130 @@
+package com._2491nomythic.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Packs path tables, like the {time, value} arrays FalconPathPlanner prints, into a compact string and back.
+ *
+ * Each column is delta encoded by XORing the bits of every value with the bits of the one before it, so values that
+ * change slowly turn into mostly zero bytes. The result is deflated and then Base64 encoded so it can live in a Java
+ * string constant. Nothing is rounded; decode returns exactly the tables that were encoded.
+ *
+ * Format, before deflating:
+ *   int    magic ("NMPT")
+ *   int    version
+ *   int    number of tables
+ *   For each table:
+ *     int    rows
+ *     int    columns
+ *     For each column, one long per row: the value's bits XOR the previous row's bits
+ */
+public class PathCodec
+{
+	private static final int MAGIC = 0x4E4D5054;
+	private static final int VERSION = 1;
+
+	/**
+	 * @param tables - rectangular tables of values
+	 * @return the tables packed into a string
+	 */
+	public static String encode(double[][]... tables)
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try
+		{
+			DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, new Deflater(Deflater.BEST_COMPRESSION)));
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(tables.length);
+
+			for(double[][] table : tables)
+			{
+				int columns = table.length == 0 ? 0 : table[0].length;
+				out.writeInt(table.length);
+				out.writeInt(columns);
+
+				for(int j=0; j<columns; j++)
+				{
+					long previous = 0;
+
+					for(int i=0; i<table.length; i++)
+					{
+						long bits = Double.doubleToRawLongBits(table[i][j]);
+						out.writeLong(bits ^ previous);
+						previous = bits;
+					}
+				}
+			}
+
+			out.close();
+		}
+		catch(IOException e)
+		{
+			//only thrown by the underlying stream, which is in memory
+			throw new IllegalStateException(e);
+		}
+
+		return Base64.getEncoder().encodeToString(bytes.toByteArray());
+	}
+
+	/**
+	 * @param encoded - a string returned by encode
+	 * @return the tables, in the order they were encoded
+	 * @throws IllegalArgumentException if the string isn't valid path data
+	 */
+	public static double[][][] decode(String encoded)
+	{
+		try
+		{
+			DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(encoded))));
+
+			if(in.readInt() != MAGIC)
+				throw new IllegalArgumentException("Not path data");
+
+			int version = in.readInt();
+			if(version != VERSION)
+				throw new IllegalArgumentException("Unsupported path data version " + version);
+
+			double[][][] tables = new double[in.readInt()][][];
+
+			for(int t=0; t<tables.length; t++)
+			{
+				int rows = in.readInt();
+				int columns = in.readInt();
+
+				if(rows < 0 || columns < 0)
+					throw new IllegalArgumentException("Malformed path data");
+
+				double[][] table = new double[rows][columns];
+
+				for(int j=0; j<columns; j++)
+				{
+					long previous = 0;
+
+					for(int i=0; i<table.length; i++)
+					{
+						previous ^= in.readLong();
+						table[i][j] = Double.longBitsToDouble(previous);
+					}
+				}
+
+				tables[t] = table;
+			}
+
+			return tables;
+		}
+		catch(IOException e)
+		{
+			throw new IllegalArgumentException("Malformed path data", e);
+		}
+	}
+}
@@ -0,0 +1,373 @@
+package com._2491nomythic.util;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Plans paths on a low priority background thread while the robot is running. Each request is a start and goal
+ * pose. The replanner searches for the shortest path time the drivetrain can keep up with, publishing the best
+ * plan found so far until the time budget runs out or a newer request comes in. Followers call getPlan() to pick
+ * up the latest plan; a plan never changes once published.
+ *
+ * Poses are in feet, with headings in degrees counterclockwise from the +X axis, the same as FalconPathPlanner.
+ */
+public class PathReplanner
+{
+	private final double timeStep;
+	private final double trackWidth;
+	private final double maxVelocity;
+
+	private volatile double budgetMs;
+	private volatile double leadDistance;
+
+	private final AtomicReference<Plan> plan = new AtomicReference<Plan>();
+
+	private Request pending;
+	private int requestCount;
+	private Thread thread;
+
+	/**
+	 * @param timeStep - period the plans are played back at, in seconds
+	 * @param trackWidth - distance between the left and right wheels, in feet
+	 * @param maxVelocity - fastest either side of the drivetrain may be asked to go, in feet per second
+	 */
+	public PathReplanner(double timeStep, double trackWidth, double maxVelocity)
+	{
+		this.timeStep = timeStep;
+		this.trackWidth = trackWidth;
+		this.maxVelocity = maxVelocity;
+
+		budgetMs = 50;
+		leadDistance = 2;
+	}
+
+	/**
+	 * Starts the background thread. Does nothing if it's already running. request() calls this itself.
+	 */
+	public synchronized void start()
+	{
+		if(thread != null)
+			return;
+
+		thread = new Thread(this::run, "PathReplanner");
+		thread.setDaemon(true);
+		thread.setPriority(Thread.MIN_PRIORITY);
+		thread.start();
+	}
+
+	/**
+	 * Stops the background thread once it finishes its current calculation. Pending requests are dropped.
+	 */
+	public synchronized void stop()
+	{
+		if(thread == null)
+			return;
+
+		thread.interrupt();
+		thread = null;
+		pending = null;
+	}
+
+	/**
+	 * Asks for a new plan, replacing any request that hasn't finished yet. Starts the background thread if it isn't
+	 * running, so nothing runs until the first request.
+	 *
+	 * @param startX
+	 * @param startY
+	 * @param startHeading - degrees
+	 * @param goalX
+	 * @param goalY
+	 * @param goalHeading - degrees
+	 * @return the id that the plans for this request will have
+	 */
+	public synchronized int request(double startX, double startY, double startHeading, double goalX, double goalY,
+			double goalHeading)
+	{
+		start();
+		pending = new Request(++requestCount, startX, startY, startHeading, goalX, goalY, goalHeading);
+		notifyAll();
+		return requestCount;
+	}
+
+	/**
+	 * @return the most recently published plan, or null if nothing has been planned yet
+	 */
+	public Plan getPlan()
+	{
+		return plan.get();
+	}
+
+	/**
+	 * @param requestId - id returned by request()
+	 * @return the best plan published so far for that request, or null if there isn't one yet
+	 */
+	public Plan getPlan(int requestId)
+	{
+		Plan latest = plan.get();
+
+		if(latest == null || latest.requestId != requestId)
+			return null;
+
+		return latest;
+	}
+
+	/**
+	 * @param budgetMs - how long to keep improving a plan for, in milliseconds. Defaults to 50.
+	 */
+	public void setBudgetMs(double budgetMs)
+	{
+		this.budgetMs = budgetMs;
+	}
+
+	/**
+	 * @param leadDistance - how far the path runs straight out of the start pose and into the goal pose, in feet.
+	 * Defaults to 2.
+	 */
+	public void setLeadDistance(double leadDistance)
+	{
+		this.leadDistance = leadDistance;
+	}
+
+	private void run()
+	{
+		FalconPathWorkspace workspace = new FalconPathWorkspace();
+
+		while(true)
+		{
+			Request request;
+
+			synchronized(this)
+			{
+				while(pending == null && thread == Thread.currentThread())
+				{
+					try
+					{
+						wait();
+					}
+					catch(InterruptedException e)
+					{
+						return;
+					}
+				}
+
+				if(thread != Thread.currentThread())
+					return;
+
+				request = pending;
+				pending = null;
+			}
+
+			search(request, workspace);
+		}
+	}
+
+	/**
+	 * Finds the shortest feasible path time by doubling until a plan is feasible and then bisecting, publishing every
+	 * improvement. Stops when the budget runs out, a newer request arrives, or the bracket is within one time step.
+	 */
+	private void search(Request request, FalconPathWorkspace workspace)
+	{
+		long deadline = System.nanoTime() + (long) (budgetMs * 1e6);
+		double[][] waypoints = request.waypoints(leadDistance);
+
+		double length = 0;
+		for(int i=1; i<waypoints.length; i++)
+			length += Math.hypot(waypoints[i][0] - waypoints[i-1][0], waypoints[i][1] - waypoints[i-1][1]);
+
+		//nothing can cover the path faster than top speed, so start with some margin above that
+		double fastest = length / maxVelocity;
+		double slowest = 2 * fastest + 10 * timeStep;
+		boolean found = false;
+
+		while(!found && System.nanoTime() < deadline && !superseded())
+		{
+			found = calculate(request, workspace, waypoints, slowest, false);
+
+			if(!found)
+			{
+				fastest = slowest;
+				slowest *= 2;
+			}
+		}
+
+		while(found && slowest - fastest > timeStep && System.nanoTime() < deadline && !superseded())
+		{
+			double middle = (fastest + slowest) / 2;
+
+			if(calculate(request, workspace, waypoints, middle, false))
+				slowest = middle;
+			else
+				fastest = middle;
+		}
+
+		//mark the final plan as complete if the search got all the way there
+		if(found && slowest - fastest <= timeStep && !superseded())
+			calculate(request, workspace, waypoints, slowest, true);
+	}
+
+	/**
+	 * Plans the path in totalTime and publishes it if no wheel has to go faster than maxVelocity.
+	 * @return whether the plan was feasible
+	 */
+	private boolean calculate(Request request, FalconPathWorkspace workspace, double[][] waypoints, double totalTime,
+			boolean complete)
+	{
+		FalconPathPlanner planner = new FalconPathPlanner(waypoints, workspace);
+		planner.calculate(totalTime, timeStep, trackWidth);
+
+		FalconPathWorkspace ws = planner.getWorkspace();
+		int numPoints = ws.numPoints;
+		for(int i=0; i<numPoints; i++)
+		{
+			if(Math.abs(ws.smoothLeftVelocity[2*i+1]) > maxVelocity || Math.abs(ws.smoothRightVelocity[2*i+1]) > maxVelocity)
+				return false;
+		}
+
+		plan.set(new Plan(request.id, totalTime, timeStep, complete, ws));
+		return true;
+	}
+
+	private synchronized boolean superseded()
+	{
+		return pending != null || thread != Thread.currentThread();
+	}
+
+	/**
+	 * A start and goal pose waiting to be planned.
+	 */
+	private static class Request
+	{
+		final int id;
+		final double startX, startY, startHeading;
+		final double goalX, goalY, goalHeading;
+
+		Request(int id, double startX, double startY, double startHeading, double goalX, double goalY, double goalHeading)
+		{
+			this.id = id;
+			this.startX = startX;
+			this.startY = startY;
+			this.startHeading = startHeading;
+			this.goalX = goalX;
+			this.goalY = goalY;
+			this.goalHeading = goalHeading;
+		}
+
+		/**
+		 * Waypoints that leave the start and reach the goal along their headings, the same way the hand made
+		 * autonomous paths start with a short straight.
+		 */
+		double[][] waypoints(double leadDistance)
+		{
+			double lead = Math.min(leadDistance, Math.hypot(goalX - startX, goalY - startY) / 3);
+			double start = Math.toRadians(startHeading);
+			double goal = Math.toRadians(goalHeading);
+
+			return new double[][] {
+				{startX, startY},
+				{startX + lead * Math.cos(start), startY + lead * Math.sin(start)},
+				{goalX - lead * Math.cos(goal), goalY - lead * Math.sin(goal)},
+				{goalX, goalY}
+			};
+		}
+	}
+
+	/**
+	 * A planned path, with one velocity for each side and a heading for each time step. Immutable.
+	 */
+	public static class Plan
+	{
+		private final int requestId;
+		private final double totalTime;
+		private final double timeStep;
+		private final boolean complete;
+		private final double[] leftVelocities;
+		private final double[] rightVelocities;
+		private final double[] headings;
+
+		Plan(int requestId, double totalTime, double timeStep, boolean complete, FalconPathWorkspace ws)
+		{
+			this.requestId = requestId;
+			this.totalTime = totalTime;
+			this.timeStep = timeStep;
+			this.complete = complete;
+
+			int numPoints = ws.numPoints;
+			leftVelocities = new double[numPoints];
+			rightVelocities = new double[numPoints];
+			headings = new double[numPoints];
+
+			for(int i=0; i<numPoints; i++)
+			{
+				leftVelocities[i] = ws.smoothLeftVelocity[2*i+1];
+				rightVelocities[i] = ws.smoothRightVelocity[2*i+1];
+				headings[i] = ws.heading[2*i+1];
+			}
+		}
+
+		/**
+		 * @return id of the request this plan is for
+		 */
+		public int getRequestId()
+		{
+			return requestId;
+		}
+
+		/**
+		 * @return whether the search finished, rather than running out of time or being replaced
+		 */
+		public boolean isComplete()
+		{
+			return complete;
+		}
+
+		/**
+		 * @return the path time the plan was calculated for, in seconds. The plan itself can be a little shorter.
+		 */
+		public double getTotalTime()
+		{
+			return totalTime;
+		}
+
+		/**
+		 * @return seconds between steps
+		 */
+		public double getTimeStep()
+		{
+			return timeStep;
+		}
+
+		/**
+		 * @return number of steps
+		 */
+		public int length()
+		{
+			return headings.length;
+		}
+
+		/**
+		 * @param step
+		 * @return left side velocity in feet per second
+		 */
+		public double getLeftVelocity(int step)
+		{
+			return leftVelocities[step];
+		}
+
+		/**
+		 * @param step
+		 * @return right side velocity in feet per second
+		 */
+		public double getRightVelocity(int step)
+		{
+			return rightVelocities[step];
+		}
+
+		/**
+		 * @param step
+		 * @return accumulated heading in degrees
+		 */
+		public double getHeading(int step)
+		{
+			return headings[step];
+		}
+	}
+}
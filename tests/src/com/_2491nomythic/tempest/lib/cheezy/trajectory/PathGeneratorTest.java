@@ -0,0 +1,91 @@
+package com._2491nomythic.tempest.lib.cheezy.trajectory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Checks the time optimal planner's sampling against paths with a known
+ * answer.
+ */
+public class PathGeneratorTest {
+
+  private static final double kWheelbaseWidth = 2.1;
+
+  @Test
+  public void veryShortPathIsPlanned() {
+    TrajectoryGenerator.Config config = config(.02);
+    Trajectory traj = PathGenerator.generateTimeOptimalFromPath(
+            straight(0.05), config, kWheelbaseWidth);
+
+    assertNotNull(traj);
+    assertTrue(traj.getNumSegments() > 0);
+    checkSegments(traj, config.dt);
+    assertEquals(0.05, traj.getSegment(traj.getNumSegments() - 1).pos,
+            1E-9);
+  }
+
+  @Test
+  public void straightPathTakesItsTriangleTime() {
+    // Straight from stopped to stopped without reaching max_vel, so the
+    // fastest move accelerates for half the distance and brakes for the rest.
+    TrajectoryGenerator.Config config = config(.02);
+    for (double distance : new double[] {9, 10, 3.3}) {
+      Trajectory traj = PathGenerator.generateTimeOptimalFromPath(
+              straight(distance), config, kWheelbaseWidth);
+
+      assertNotNull(traj);
+      checkSegments(traj, config.dt);
+      assertEquals(2 * Math.sqrt(distance / config.max_acc),
+              PathGenerator.durationOf(traj), 1E-4);
+    }
+  }
+
+  @Test
+  public void lastSegmentCoversItsTime() {
+    TrajectoryGenerator.Config config = config(.02);
+    Trajectory traj = PathGenerator.generateTimeOptimalFromPath(straight(9),
+            config, kWheelbaseWidth);
+    Trajectory.Pair wheels = PathGenerator.makeLeftAndRightTrajectories(traj,
+            kWheelbaseWidth);
+
+    // The last step brakes steadily to a stop, so each wheel's speed worked
+    // out from it is half the speed it starts at.
+    int last = traj.getNumSegments() - 1;
+    for (Trajectory wheel : new Trajectory[] {wheels.left, wheels.right}) {
+      assertEquals(traj.getSegment(last - 1).vel / 2,
+              wheel.getSegment(last).vel, 1E-3);
+    }
+  }
+
+  // Every segment but the last lasts dt, and the last only what's left.
+  private static void checkSegments(Trajectory traj, double dt) {
+    int last = traj.getNumSegments() - 1;
+    for (int i = 0; i < last; ++i) {
+      Trajectory.Segment segment = traj.getSegment(i);
+      assertEquals("segment " + i, dt, segment.dt, 0);
+      assertTrue("segment " + i, Double.isFinite(segment.pos)
+              && Double.isFinite(segment.vel));
+    }
+    assertTrue(traj.getSegment(last).dt > 0);
+    assertTrue(traj.getSegment(last).dt <= dt + 1E-9);
+  }
+
+  private static TrajectoryGenerator.Config config(double dt) {
+    TrajectoryGenerator.Config config = new TrajectoryGenerator.Config();
+    config.dt = dt;
+    config.max_vel = 12.0;
+    config.max_acc = 10.0;
+    config.max_jerk = 60.0;
+    return config;
+  }
+
+  private static WaypointSequence straight(double distance) {
+    WaypointSequence waypoints = new WaypointSequence(2);
+    waypoints.addWaypoint(new WaypointSequence.Waypoint(0, 0, 0));
+    waypoints.addWaypoint(new WaypointSequence.Waypoint(distance, 0, 0));
+    return waypoints;
+  }
+}
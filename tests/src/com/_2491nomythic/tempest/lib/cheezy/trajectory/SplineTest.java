@@ -0,0 +1,89 @@
+package com._2491nomythic.tempest.lib.cheezy.trajectory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Checks the adaptive arc length against the 100,000 sample trapezoid rule
+ * calculateLength used to run.
+ */
+public class SplineTest {
+
+  // x, y, theta of the start and goal of each spline
+  private static final double[][] kWaypointPairs = {
+    {0, 0, 0, 10, 0, 0},
+    {0, 0, 0, 10, 5, 0},
+    {0, 0, Math.PI / 6, 8, 3, -Math.PI / 6},
+    {1, 2, Math.PI / 4, 6, 9, Math.PI / 3},
+    {0, 0, -0.3, 23.5 / 12, -26.0 / 12, -1.1},
+  };
+
+  // Relative error allowed against the old sampler, which is itself only
+  // good to about 2E-10.
+  private static final double kTolerance = 1E-9;
+
+  @Test
+  public void quinticLengthMatchesSampler() {
+    checkLengths(Spline.QuinticHermite);
+  }
+
+  @Test
+  public void cubicLengthMatchesSampler() {
+    checkLengths(Spline.CubicHermite);
+  }
+
+  @Test
+  public void lengthToleranceIsConfigurable() {
+    double old_tolerance = Spline.getLengthTolerance();
+    try {
+      Spline.setLengthTolerance(1E-4);
+      Spline coarse = fit(kWaypointPairs[3], Spline.QuinticHermite);
+      double expected = samplerLength(coarse);
+      assertEquals(expected, coarse.calculateLength(), 1E-4 * expected);
+    } finally {
+      Spline.setLengthTolerance(old_tolerance);
+    }
+  }
+
+  private static void checkLengths(Spline.Type type) {
+    for (double[] pair : kWaypointPairs) {
+      Spline spline = fit(pair, type);
+      double expected = samplerLength(spline);
+      double error = Math.abs(spline.calculateLength() - expected) / expected;
+      assertTrue(type + " from (" + pair[0] + ", " + pair[1] + ") to ("
+              + pair[3] + ", " + pair[4] + "): relative error " + error,
+              error < kTolerance);
+    }
+  }
+
+  private static Spline fit(double[] pair, Spline.Type type) {
+    Spline spline = new Spline();
+    assertTrue(Spline.reticulateSplines(pair[0], pair[1], pair[2], pair[3],
+            pair[4], pair[5], spline, type));
+    return spline;
+  }
+
+  // The fixed 100,000 sample trapezoid rule calculateLength used to run.
+  private static double samplerLength(Spline spline) {
+    final int kNumSamples = 100000;
+    double arc_length = 0;
+    double last_integrand = integrand(spline, 0) / kNumSamples;
+    for (int i = 1; i <= kNumSamples; ++i) {
+      double integrand = integrand(spline, ((double) i) / kNumSamples)
+              / kNumSamples;
+      arc_length += (integrand + last_integrand) / 2;
+      last_integrand = integrand;
+    }
+    return spline.knot_distance_ * arc_length;
+  }
+
+  private static double integrand(Spline spline, double percentage) {
+    double x_hat = percentage * spline.knot_distance_;
+    double dydt = (5 * spline.a_ * x_hat + 4 * spline.b_) * x_hat * x_hat
+            * x_hat + 3 * spline.c_ * x_hat * x_hat + 2 * spline.d_ * x_hat
+            + spline.e_;
+    return Math.sqrt(1 + dydt * dydt);
+  }
+}
@@ -0,0 +1,276 @@
+package com._2491nomythic.tempest.lib.cheezy.trajectory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Checks that streamed trajectories are identical to the batch generator
+ * they replaced, and that generate and generateStream agree.
+ */
+public class TrajectoryGeneratorTest {
+
+  // dt, max_vel, max_acc, max_jerk
+  private static final double[][] kConfigs = {
+    {.01, 12.421, 15.0, 50.0},
+    {.02, 10.0, 8.0, 60.0},
+    {.1, 15.0, 10.0, 60.0},
+  };
+
+  // start_vel, goal_pos, goal_vel
+  private static final double[][] kPointToPoint = {
+    {0, 5, 0},
+    {0, 20, 0},
+    {0, 37.5, 0},
+    {0, 0.75, 0},
+  };
+
+  private static final double[][] kMoving = {
+    {2, 20, 0},
+    {0, 20, 3},
+    {4, 30, 4},
+  };
+
+  @Test
+  public void stepMatchesBatch() {
+    checkAgainstBatch(TrajectoryGenerator.StepStrategy, kPointToPoint);
+  }
+
+  @Test
+  public void trapezoidalMatchesBatch() {
+    checkAgainstBatch(TrajectoryGenerator.TrapezoidalStrategy,
+            kPointToPoint);
+    checkAgainstBatch(TrajectoryGenerator.TrapezoidalStrategy, kMoving);
+  }
+
+  @Test
+  public void sCurvesMatchBatch() {
+    checkAgainstBatch(TrajectoryGenerator.SCurvesStrategy, kPointToPoint);
+  }
+
+  @Test
+  public void movingSCurvesStreamLikeGenerate() {
+    for (double[] c : kConfigs) {
+      for (double[] move : kMoving) {
+        TrajectoryGenerator.Config config = config(c);
+        Trajectory batch = TrajectoryGenerator.generate(config,
+                TrajectoryGenerator.SCurvesStrategy, move[0], 0.5, move[1],
+                move[2], 1.0);
+        assertNotNull(batch);
+        assertSame(batch, drain(TrajectoryGenerator.generateStream(config,
+                TrajectoryGenerator.SCurvesStrategy, move[0], 0.5, move[1],
+                move[2], 1.0)));
+      }
+    }
+  }
+
+  @Test
+  public void movingSCurvesEndOnTime() {
+    double[][] moves = {kMoving[0], kMoving[1], kMoving[2], {0, 20, 6}};
+    for (double[] c : kConfigs) {
+      for (double[] move : moves) {
+        TrajectoryGenerator.Config config = config(c);
+        Trajectory traj = TrajectoryGenerator.generate(config,
+                TrajectoryGenerator.SCurvesStrategy, move[0], 0.5, move[1],
+                move[2], 1.0);
+        double duration = TrajectoryGenerator.JerkLimitedProfile.plan(config,
+                move[0], move[1], move[2]).getDuration();
+
+        double time = 0;
+        for (int i = 0; i < traj.getNumSegments(); ++i) {
+          time += traj.getSegment(i).dt;
+        }
+        assertEquals(duration, time, 1E-9);
+
+        // The distance covered by the clamped last segment has to match the
+        // time it claims, or the wheel velocities derived from it dip.
+        Trajectory.Segment last = traj.getSegment(traj.getNumSegments() - 1);
+        Trajectory.Segment before = traj.getSegment(traj.getNumSegments() - 2);
+        double vel = (last.pos - before.pos) / last.dt;
+        assertTrue(vel > Math.min(before.vel, last.vel) - 1E-6);
+        assertTrue(vel < Math.max(before.vel, last.vel) + 1E-6);
+      }
+    }
+  }
+
+  private static void checkAgainstBatch(TrajectoryGenerator.Strategy strategy,
+          double[][] moves) {
+    for (double[] c : kConfigs) {
+      for (double[] move : moves) {
+        TrajectoryGenerator.Config config = config(c);
+        Trajectory expected = batchGenerate(config, strategy, move[0], 0.5,
+                move[1], move[2], 1.0);
+        Trajectory batch = TrajectoryGenerator.generate(config, strategy,
+                move[0], 0.5, move[1], move[2], 1.0);
+        TrajectoryGenerator.SegmentStream stream
+                = TrajectoryGenerator.generateStream(config, strategy,
+                        move[0], 0.5, move[1], move[2], 1.0);
+        if (expected == null) {
+          // Too short for a single segment
+          assertNull(batch);
+          assertNull(stream);
+        } else {
+          assertSame(expected, batch);
+          assertSame(expected, drain(stream));
+        }
+      }
+    }
+  }
+
+  private static TrajectoryGenerator.Config config(double[] c) {
+    TrajectoryGenerator.Config config = new TrajectoryGenerator.Config();
+    config.dt = c[0];
+    config.max_vel = c[1];
+    config.max_acc = c[2];
+    config.max_jerk = c[3];
+    return config;
+  }
+
+  private static Trajectory drain(TrajectoryGenerator.SegmentStream stream) {
+    assertNotNull(stream);
+    Trajectory traj = new Trajectory(stream.getNumSegments());
+    for (int i = 0; i < traj.getNumSegments(); ++i) {
+      assertTrue(stream.hasNext());
+      stream.next(traj.getSegment(i));
+    }
+    assertFalse(stream.hasNext());
+    return traj;
+  }
+
+  private static void assertSame(Trajectory expected, Trajectory actual) {
+    assertNotNull(actual);
+    assertEquals(expected.getNumSegments(), actual.getNumSegments());
+    for (int i = 0; i < expected.getNumSegments(); ++i) {
+      Trajectory.Segment e = expected.getSegment(i);
+      Trajectory.Segment a = actual.getSegment(i);
+      String at = "segment " + i;
+      assertEquals(at, e.pos, a.pos, 0);
+      assertEquals(at, e.vel, a.vel, 0);
+      assertEquals(at, e.acc, a.acc, 0);
+      assertEquals(at, e.jerk, a.jerk, 0);
+      assertEquals(at, e.heading, a.heading, 0);
+      assertEquals(at, e.dt, a.dt, 0);
+      assertEquals(at, e.x, a.x, 0);
+      assertEquals(at, e.y, a.y, 0);
+    }
+  }
+
+  // The batch generator generate used to run, with its full length f1
+  // buffer. It returned null or threw when the move was too short for a
+  // segment; this returns null.
+  private static Trajectory batchGenerate(TrajectoryGenerator.Config config,
+          TrajectoryGenerator.Strategy strategy, double start_vel,
+          double start_heading, double goal_pos, double goal_vel,
+          double goal_heading) {
+    Trajectory traj;
+    if (strategy == TrajectoryGenerator.StepStrategy) {
+      double impulse = (goal_pos / config.max_vel) / config.dt;
+      int time = (int) (Math.floor(impulse));
+      traj = batchFilter(1, 1, config.dt, config.max_vel, config.max_vel,
+              impulse, time);
+    } else if (strategy == TrajectoryGenerator.TrapezoidalStrategy) {
+      double start_discount = .5 * start_vel * start_vel / config.max_acc;
+      double end_discount = .5 * goal_vel * goal_vel / config.max_acc;
+      double adjusted_max_vel = Math.min(config.max_vel,
+              Math.sqrt(config.max_acc * goal_pos - start_discount
+                      - end_discount));
+      double t_rampup = (adjusted_max_vel - start_vel) / config.max_acc;
+      double x_rampup = start_vel * t_rampup + .5 * config.max_acc
+              * t_rampup * t_rampup;
+      double t_rampdown = (adjusted_max_vel - goal_vel) / config.max_acc;
+      double x_rampdown = adjusted_max_vel * t_rampdown - .5
+              * config.max_acc * t_rampdown * t_rampdown;
+      double x_cruise = goal_pos - x_rampdown - x_rampup;
+      int time = (int) ((t_rampup + t_rampdown + x_cruise
+              / adjusted_max_vel) / config.dt + .5);
+      int f1_length = (int) Math.ceil((adjusted_max_vel
+              / config.max_acc) / config.dt);
+      double impulse = (goal_pos / adjusted_max_vel) / config.dt
+              - start_vel / config.max_acc / config.dt
+              + start_discount + end_discount;
+      traj = batchFilter(f1_length, 1, config.dt, start_vel,
+              adjusted_max_vel, impulse, time);
+    } else {
+      double adjusted_max_vel = Math.min(config.max_vel,
+              (-config.max_acc * config.max_acc + Math.sqrt(config.max_acc
+                      * config.max_acc * config.max_acc * config.max_acc
+                      + 4 * config.max_jerk * config.max_jerk * config.max_acc
+                      * goal_pos)) / (2 * config.max_jerk));
+      int f1_length = (int) Math.ceil((adjusted_max_vel
+              / config.max_acc) / config.dt);
+      int f2_length = (int) Math.ceil((config.max_acc
+              / config.max_jerk) / config.dt);
+      double impulse = (goal_pos / adjusted_max_vel) / config.dt;
+      int time = (int) (Math.ceil(f1_length + f2_length + impulse));
+      traj = batchFilter(f1_length, f2_length, config.dt, 0,
+              adjusted_max_vel, impulse, time);
+    }
+    if (traj == null) {
+      return null;
+    }
+
+    double total_heading_change = goal_heading - start_heading;
+    for (int i = 0; i < traj.getNumSegments(); ++i) {
+      traj.segments_[i].heading = start_heading + total_heading_change
+              * (traj.segments_[i].pos)
+              / traj.segments_[traj.getNumSegments() - 1].pos;
+    }
+    return traj;
+  }
+
+  private static Trajectory batchFilter(int f1_length, int f2_length,
+          double dt, double start_vel, double max_vel, double total_impulse,
+          int length) {
+    if (length <= 0) {
+      return null;
+    }
+    Trajectory traj = new Trajectory(length);
+    Trajectory.Segment last = new Trajectory.Segment();
+    last.pos = 0;
+    last.vel = start_vel;
+    last.acc = 0;
+    last.jerk = 0;
+    last.dt = dt;
+
+    double[] f1 = new double[length];
+    f1[0] = (start_vel / max_vel) * f1_length;
+    double f2;
+    for (int i = 0; i < length; ++i) {
+      double input = Math.min(total_impulse, 1);
+      if (input < 1) {
+        input -= 1;
+        total_impulse = 0;
+      } else {
+        total_impulse -= input;
+      }
+
+      double f1_last = i > 0 ? f1[i - 1] : f1[0];
+      f1[i] = Math.max(0.0, Math.min(f1_length, f1_last + input));
+
+      f2 = 0;
+      for (int j = 0; j < f2_length; ++j) {
+        if (i - j < 0) {
+          break;
+        }
+        f2 += f1[i - j];
+      }
+      f2 = f2 / f1_length;
+
+      traj.segments_[i].vel = f2 / f2_length * max_vel;
+      traj.segments_[i].pos = (last.vel + traj.segments_[i].vel) / 2.0 * dt
+              + last.pos;
+      traj.segments_[i].x = traj.segments_[i].pos;
+      traj.segments_[i].y = 0;
+      traj.segments_[i].acc = (traj.segments_[i].vel - last.vel) / dt;
+      traj.segments_[i].jerk = (traj.segments_[i].acc - last.acc) / dt;
+      traj.segments_[i].dt = dt;
+
+      last = traj.segments_[i];
+    }
+    return traj;
+  }
+}
@@ -0,0 +1,108 @@
+package com._2491nomythic.tempest.lib.cheezytrajectory.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com._2491nomythic.tempest.lib.cheezy.trajectory.Path;
+import com._2491nomythic.tempest.lib.cheezy.trajectory.Trajectory;
+
+/**
+ * Checks that BinaryBundleDeserializer reads back a bundle and rejects
+ * corrupt ones with an IOException.
+ */
+public class BinaryBundleDeserializerTest {
+
+  // Offset of the first index entry's name length.
+  private static final int kFirstEntry = BinaryBundleSerializer.kHeaderBytes;
+
+  @Test
+  public void bundleRoundTrips() throws IOException {
+    PathBundle bundle = new BinaryBundleDeserializer().deserialize(
+            serialize());
+
+    assertEquals(2, bundle.getNumPaths());
+    assertEquals("First", bundle.getEntry(0).getName());
+    assertEquals("Second", bundle.getEntry(1).getName());
+    assertEquals(20, bundle.getEntry(1).getNumSegments());
+    assertEquals(19.0, bundle.getEntry(1).get(PathBundle.kRight,
+            PathBundle.kPos, 19), 0);
+  }
+
+  @Test
+  public void negativePathCountIsRejected() {
+    ByteBuffer buffer = serialize();
+    buffer.putInt(kFirstEntry - 4, -1);
+    checkRejected(buffer);
+  }
+
+  @Test
+  public void hugePathCountIsRejected() {
+    ByteBuffer buffer = serialize();
+    buffer.putInt(kFirstEntry - 4, Integer.MAX_VALUE);
+    checkRejected(buffer);
+  }
+
+  @Test
+  public void negativeNameLengthIsRejected() {
+    ByteBuffer buffer = serialize();
+    buffer.putInt(kFirstEntry, -1);
+    checkRejected(buffer);
+  }
+
+  @Test
+  public void hugeNameLengthIsRejected() {
+    ByteBuffer buffer = serialize();
+    buffer.putInt(kFirstEntry, Integer.MAX_VALUE);
+    checkRejected(buffer);
+  }
+
+  @Test
+  public void truncatedIndexIsRejected() {
+    ByteBuffer buffer = serialize();
+    for (int length = 0; length < indexBytes(); ++length) {
+      ByteBuffer truncated = ByteBuffer.wrap(
+              Arrays.copyOf(buffer.array(), length));
+      checkRejected(truncated);
+    }
+  }
+
+  private static void checkRejected(ByteBuffer buffer) {
+    try {
+      new BinaryBundleDeserializer().deserialize(buffer);
+      fail("Read a corrupt bundle of " + buffer.limit() + " bytes");
+    } catch (IOException e) {
+      // Expected
+    }
+  }
+
+  private static int indexBytes() {
+    return kFirstEntry + 2 * BinaryBundleSerializer.kIndexEntryBytes
+            + "First".length() + "Second".length();
+  }
+
+  private static ByteBuffer serialize() {
+    ByteBuffer buffer = new BinaryBundleSerializer(false).serialize(
+            Arrays.asList(path("First", 10), path("Second", 20)));
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    return buffer;
+  }
+
+  private static Path path(String name, int num_segments) {
+    Trajectory left = new Trajectory(num_segments);
+    Trajectory right = new Trajectory(num_segments);
+    for (int i = 0; i < num_segments; ++i) {
+      left.getSegment(i).pos = i;
+      right.getSegment(i).pos = i;
+      left.getSegment(i).dt = .01;
+      right.getSegment(i).dt = .01;
+    }
+    return new Path(name, new Trajectory.Pair(left, right));
+  }
+}
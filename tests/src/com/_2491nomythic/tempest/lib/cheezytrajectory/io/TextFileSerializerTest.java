@@ -0,0 +1,137 @@
+package com._2491nomythic.tempest.lib.cheezytrajectory.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com._2491nomythic.tempest.lib.cheezy.trajectory.Path;
+import com._2491nomythic.tempest.lib.cheezy.trajectory.PathGenerator;
+import com._2491nomythic.tempest.lib.cheezy.trajectory.Trajectory;
+import com._2491nomythic.tempest.lib.cheezy.trajectory.TrajectoryGenerator;
+import com._2491nomythic.tempest.lib.cheezy.trajectory.WaypointSequence;
+
+/**
+ * Checks that TextFileDeserializer reads back exactly what
+ * TextFileSerializer writes.
+ */
+public class TextFileSerializerTest {
+
+  @Test
+  public void generatedPathRoundTrips() throws IOException {
+    TrajectoryGenerator.Config config = new TrajectoryGenerator.Config();
+    config.dt = .01;
+    config.max_vel = 12.421;
+    config.max_acc = 15.0;
+    config.max_jerk = 50.0;
+    WaypointSequence waypoints = new WaypointSequence(3);
+    waypoints.addWaypoint(new WaypointSequence.Waypoint(0, 0, 0));
+    waypoints.addWaypoint(new WaypointSequence.Waypoint(14, 0, 0));
+    waypoints.addWaypoint(new WaypointSequence.Waypoint(22, -3, -0.5));
+    Path path = PathGenerator.makePath(waypoints, config, 2.1, "SideScale");
+
+    checkRoundTrip(path);
+  }
+
+  @Test
+  public void longRandomPathRoundTrips() throws IOException {
+    checkRoundTrip(randomPath("Random", 10000, new Random(2491)));
+  }
+
+  @Test
+  public void stringAndWriterAgree() throws IOException {
+    Path path = randomPath("Random", 100, new Random(17));
+    TextFileSerializer serializer = new TextFileSerializer();
+    StringWriter writer = new StringWriter();
+    serializer.serialize(path, writer);
+    assertEquals(serializer.serialize(path), writer.toString());
+  }
+
+  @Test
+  public void truncatedPathIsRejected() {
+    String serialized = new TextFileSerializer().serialize(
+            randomPath("Random", 10, new Random(1)));
+    checkRejected(serialized.substring(0, serialized.length() / 2));
+  }
+
+  @Test
+  public void negativeSegmentCountIsRejected() {
+    checkRejected(withSegmentCount(-1));
+  }
+
+  @Test
+  public void hugeSegmentCountIsRejected() {
+    checkRejected(withSegmentCount(Integer.MAX_VALUE));
+  }
+
+  // A serialized 10 segment path with its segment count replaced.
+  private static String withSegmentCount(int num_segments) {
+    String serialized = new TextFileSerializer().serialize(
+            randomPath("Random", 10, new Random(1)));
+    String[] lines = serialized.split("\n", 3);
+    return lines[0] + "\n" + num_segments + "\n" + lines[2];
+  }
+
+  private static void checkRejected(String serialized) {
+    try {
+      new TextFileDeserializer().deserialize(new StringReader(serialized));
+      fail("Read a corrupt path");
+    } catch (IOException e) {
+      // Expected
+    }
+  }
+
+  private static void checkRoundTrip(Path path) throws IOException {
+    StringWriter writer = new StringWriter();
+    new TextFileSerializer().serialize(path, writer);
+    Path read = new TextFileDeserializer().deserialize(
+            new StringReader(writer.toString()));
+
+    assertEquals(path.getName(), read.getName());
+    assertSame(path.getLeftWheelTrajectory(), read.getLeftWheelTrajectory());
+    assertSame(path.getRightWheelTrajectory(), read.getRightWheelTrajectory());
+  }
+
+  private static void assertSame(Trajectory expected, Trajectory actual) {
+    assertEquals(expected.getNumSegments(), actual.getNumSegments());
+    for (int i = 0; i < expected.getNumSegments(); ++i) {
+      Trajectory.Segment e = expected.getSegment(i);
+      Trajectory.Segment a = actual.getSegment(i);
+      String at = "segment " + i;
+      assertEquals(at, e.pos, a.pos, 0);
+      assertEquals(at, e.vel, a.vel, 0);
+      assertEquals(at, e.acc, a.acc, 0);
+      assertEquals(at, e.jerk, a.jerk, 0);
+      assertEquals(at, e.heading, a.heading, 0);
+      assertEquals(at, e.dt, a.dt, 0);
+      assertEquals(at, e.x, a.x, 0);
+      assertEquals(at, e.y, a.y, 0);
+    }
+  }
+
+  // Full precision values of every sign and size, which only round trip if
+  // no digits are dropped.
+  private static Path randomPath(String name, int num_segments, Random random) {
+    Trajectory left = new Trajectory(num_segments);
+    Trajectory right = new Trajectory(num_segments);
+    for (Trajectory trajectory : new Trajectory[] {left, right}) {
+      for (int i = 0; i < num_segments; ++i) {
+        Trajectory.Segment segment = trajectory.getSegment(i);
+        segment.pos = random.nextDouble() * 40;
+        segment.vel = random.nextGaussian() * 12;
+        segment.acc = random.nextGaussian() * 1E3;
+        segment.jerk = random.nextGaussian() * 1E-7;
+        segment.heading = random.nextDouble() * 2 * Math.PI;
+        segment.dt = .01;
+        segment.x = random.nextGaussian() * 1E5;
+        segment.y = -random.nextDouble();
+      }
+    }
+    return new Path(name, new Trajectory.Pair(left, right));
+  }
+}